@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+/**
+ * Hand-written {@code if/throw} checks which serve as baseline for the checks of Quality-Check. They throw the plain
+ * exceptions of the JDK with a constant message, so that the benchmarks show what a minimal check costs.
+ * 
+ * @author André Rouél
+ */
+final class Baseline {
+
+	static <T extends Collection<?>> T notEmpty(final T collection, final String name) {
+		if (collection == null) {
+			throw new IllegalArgumentException(name);
+		}
+		if (collection.isEmpty()) {
+			throw new IllegalArgumentException(name);
+		}
+		return collection;
+	}
+
+	static <T extends CharSequence> T notEmpty(final T chars, final String name) {
+		if (chars == null) {
+			throw new IllegalArgumentException(name);
+		}
+		if (chars.length() == 0) {
+			throw new IllegalArgumentException(name);
+		}
+		return chars;
+	}
+
+	static <T> T[] notEmpty(final T[] array, final String name) {
+		if (array == null) {
+			throw new IllegalArgumentException(name);
+		}
+		if (array.length == 0) {
+			throw new IllegalArgumentException(name);
+		}
+		return array;
+	}
+
+	static <T> T notNull(final T reference, final String name) {
+		if (reference == null) {
+			throw new IllegalArgumentException(name);
+		}
+		return reference;
+	}
+
+	static <T extends Iterable<?>> T noNullElements(final T iterable, final String name) {
+		for (final Object element : iterable) {
+			if (element == null) {
+				throw new IllegalArgumentException(name);
+			}
+		}
+		return iterable;
+	}
+
+	static <T> T[] noNullElements(final T[] array, final String name) {
+		for (final Object element : array) {
+			if (element == null) {
+				throw new IllegalArgumentException(name);
+			}
+		}
+		return array;
+	}
+
+	static <T extends CharSequence> T isNumeric(final T chars, final String name) {
+		final int length = chars.length();
+		if (length == 0) {
+			throw new IllegalArgumentException(name);
+		}
+		for (int i = 0; i < length; i++) {
+			final char c = chars.charAt(i);
+			if (c < '0' || c > '9') {
+				throw new IllegalArgumentException(name);
+			}
+		}
+		return chars;
+	}
+
+	static <T extends CharSequence> T matchesPattern(final Pattern pattern, final T chars, final String name) {
+		if (!pattern.matcher(chars).matches()) {
+			throw new IllegalArgumentException(name);
+		}
+		return chars;
+	}
+
+	static int fromIndexSize(final long fromIndex, final long size, final ByteBuffer buffer) {
+		if (fromIndex < 0 || size < 0 || fromIndex > buffer.limit() - size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return (int) fromIndex;
+	}
+
+	static int positionIndex(final int index, final int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return index;
+	}
+
+	static long positionIndex(final long index, final long size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return index;
+	}
+
+	static void range(final int start, final int end, final int size) {
+		if (start < 0 || start > end || end > size) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	static void stateIsTrue(final boolean expression, final String description) {
+		if (!expression) {
+			throw new IllegalStateException(description);
+		}
+	}
+
+	private Baseline() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.CheckMode;
+import net.sf.qualitycheck.ConditionalCheck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the same work with and without checks in every {@link CheckMode}. The mode is fixed per JVM, so every mode
+ * runs in its own fork. In mode {@link CheckMode#DISABLED} the {@code checked} benchmarks must cost as much as their
+ * {@code unchecked} counterparts, which shows that the JIT compiler removes the disabled checks completely.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class CheckModeBenchmark {
+
+	private static final int INPUTS = 1024;
+
+	@Fork(value = 1, jvmArgsAppend = "-D" + CheckMode.PROPERTY + "=DISABLED")
+	public static class Disabled extends CheckModeBenchmark {
+	}
+
+	@Fork(value = 1, jvmArgsAppend = "-D" + CheckMode.PROPERTY + "=ENABLED")
+	public static class Enabled extends CheckModeBenchmark {
+	}
+
+	@Fork(value = 1, jvmArgsAppend = "-D" + CheckMode.PROPERTY + "=NULLS_ONLY")
+	public static class NullsOnly extends CheckModeBenchmark {
+	}
+
+	private boolean condition = true;
+
+	private int index;
+
+	private final Object[] references = new Object[INPUTS];
+
+	private final double[] values = new double[INPUTS];
+
+	private int next() {
+		index = index + 1 & INPUTS - 1;
+		return index;
+	}
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		for (int i = 0; i < INPUTS; i++) {
+			references[i] = new Object();
+			values[i] = random.nextDouble();
+		}
+	}
+
+	@Benchmark
+	public int checked_arguments() {
+		final int i = next();
+		Check.notNull(references[i], "reference");
+		Check.notNegative(i, "index");
+		Check.positionIndex(i, INPUTS);
+		Check.range(0, i, INPUTS);
+		Check.stateIsTrue(i < INPUTS, "index must be lesser than the number of inputs");
+		return i;
+	}
+
+	@Benchmark
+	public double[] checked_array() {
+		return Check.inRange(0.0, 1.0, values, "values");
+	}
+
+	@Benchmark
+	public int conditionalChecked_arguments() {
+		final int i = next();
+		ConditionalCheck.notNull(condition, references[i], "reference");
+		ConditionalCheck.notNegative(condition, i, "index");
+		ConditionalCheck.positionIndex(condition, i, INPUTS);
+		ConditionalCheck.range(condition, 0, i, INPUTS);
+		ConditionalCheck.stateIsTrue(condition, i < INPUTS, "index must be lesser than the number of inputs");
+		return i;
+	}
+
+	@Benchmark
+	public int unchecked_arguments() {
+		return next();
+	}
+
+	@Benchmark
+	public double[] unchecked_array() {
+		return values;
+	}
+
+}
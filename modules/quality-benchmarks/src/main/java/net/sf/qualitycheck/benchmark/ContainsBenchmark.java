@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.AllowedValues;
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Check#contains(java.util.Collection, Object, String)} on a list of allowed codes against
+ * {@link Check#contains(AllowedValues, Object, String)} on the same codes. The needle is a copy of a code from the
+ * middle of the list, so that it is not found by identity.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainsBenchmark {
+
+	@Param({ "10", "1000", "5000" })
+	private int size;
+
+	private List<String> list;
+
+	private AllowedValues<String> allowedValues;
+
+	private List<Integer> intList;
+
+	private AllowedValues<Integer> allowedInts;
+
+	private String needle;
+
+	private Integer intNeedle;
+
+	@Setup
+	public void setUp() {
+		list = new ArrayList<String>(size);
+		intList = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++) {
+			list.add("CODE-" + i);
+			intList.add(Integer.valueOf(1000 + 7 * i));
+		}
+		allowedValues = AllowedValues.of(list);
+		allowedInts = AllowedValues.of(intList);
+		needle = new String(list.get(size / 2));
+		intNeedle = new Integer(intList.get(size / 2).intValue());
+	}
+
+	@Benchmark
+	public Object allowedValues_check_pass() {
+		return Check.contains(allowedValues, needle, "code");
+	}
+
+	@Benchmark
+	public Object allowedValues_ints_check_pass() {
+		return Check.contains(allowedInts, intNeedle, "code");
+	}
+
+	@Benchmark
+	public Object list_check_pass() {
+		return Check.contains(list, needle, "code");
+	}
+
+	@Benchmark
+	public Object list_ints_check_pass() {
+		return Check.contains(intList, intNeedle, "code");
+	}
+
+}
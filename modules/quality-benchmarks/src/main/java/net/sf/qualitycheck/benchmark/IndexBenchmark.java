@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ConditionalCheck;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Check#positionIndex(int, int)} and {@link Check#range(int, int, int)} as well as their counterparts
+ * in {@link ConditionalCheck} against hand-written bounds checks. The {@code long} variants are measured with indexes
+ * beyond {@code Integer.MAX_VALUE}, like they occur in memory-mapped files.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+
+	private int size = 1024;
+
+	private int index = 512;
+
+	private int invalidIndex = 1024;
+
+	private int start = 128;
+
+	private int end = 768;
+
+	private boolean condition = true;
+
+	private ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+
+	private long offset = 2048;
+
+	private long longSize = 6L * Integer.MAX_VALUE;
+
+	private long longIndex = 5L * Integer.MAX_VALUE;
+
+	@Benchmark
+	public long fromIndexSize_byteBuffer_check_pass() {
+		return buffer.getLong(Check.fromIndexSize(offset, 8, buffer));
+	}
+
+	@Benchmark
+	public long fromIndexSize_byteBuffer_handWritten_pass() {
+		return buffer.getLong(Baseline.fromIndexSize(offset, 8, buffer));
+	}
+
+	@Benchmark
+	public Object positionIndex_check_fail() {
+		try {
+			return Check.positionIndex(invalidIndex, size);
+		} catch (final IllegalPositionIndexException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int positionIndex_check_pass() {
+		return Check.positionIndex(index, size);
+	}
+
+	@Benchmark
+	public int positionIndex_conditionalCheck_pass() {
+		ConditionalCheck.positionIndex(condition, index, size);
+		return index;
+	}
+
+	@Benchmark
+	public Object positionIndex_handWritten_fail() {
+		try {
+			return Baseline.positionIndex(invalidIndex, size);
+		} catch (final IndexOutOfBoundsException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int positionIndex_handWritten_pass() {
+		return Baseline.positionIndex(index, size);
+	}
+
+	@Benchmark
+	public long positionIndex_long_check_pass() {
+		return Check.positionIndex(longIndex, longSize);
+	}
+
+	@Benchmark
+	public long positionIndex_long_handWritten_pass() {
+		return Baseline.positionIndex(longIndex, longSize);
+	}
+
+	@Benchmark
+	public Object range_check_fail() {
+		try {
+			Check.range(end, start, size);
+			return null;
+		} catch (final IllegalRangeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int range_check_pass() {
+		Check.range(start, end, size);
+		return end;
+	}
+
+	@Benchmark
+	public int range_conditionalCheck_pass() {
+		ConditionalCheck.range(condition, start, end, size);
+		return end;
+	}
+
+	@Benchmark
+	public Object range_handWritten_fail() {
+		try {
+			Baseline.range(end, start, size);
+			return null;
+		} catch (final IndexOutOfBoundsException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int range_handWritten_pass() {
+		Baseline.range(start, end, size);
+		return end;
+	}
+
+}
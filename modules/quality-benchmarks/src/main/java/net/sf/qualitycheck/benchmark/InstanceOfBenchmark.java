@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Check#instanceOf(Class, Object, String)} and {@link Check#hasAnnotation(Class, Class)}, which check
+ * a message class against two interfaces in turn and against an annotation, against the uncached reflective calls.
+ * The types are read from fields, so that the JIT compiler cannot fold them into constants.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceOfBenchmark {
+
+	public interface Auditable {
+	}
+
+	public interface Routable {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Plugin {
+	}
+
+	@Plugin
+	public static final class Message implements Routable, Auditable {
+	}
+
+	private Class<?> auditable = Auditable.class;
+
+	private Class<?> routable = Routable.class;
+
+	private Class<? extends Annotation> plugin = Plugin.class;
+
+	private Object message = new Message();
+
+	@Benchmark
+	public Object hasAnnotation_check_pass() {
+		return Check.hasAnnotation(message.getClass(), plugin);
+	}
+
+	@Benchmark
+	public Object hasAnnotation_reflection_pass() {
+		final Class<?> clazz = message.getClass();
+		if (!clazz.isAnnotationPresent(plugin)) {
+			throw new IllegalArgumentException();
+		}
+		return clazz.getAnnotation(plugin);
+	}
+
+	@Benchmark
+	public Object instanceOf_check_pass() {
+		Check.instanceOf(routable, message, "message");
+		return Check.instanceOf(auditable, message, "message");
+	}
+
+	@Benchmark
+	public Object instanceOf_reflection_pass() {
+		if (!routable.isInstance(message) || !auditable.isInstance(message)) {
+			throw new IllegalArgumentException();
+		}
+		return message;
+	}
+
+}
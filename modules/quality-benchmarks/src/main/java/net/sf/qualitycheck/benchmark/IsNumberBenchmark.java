@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ConditionalCheck;
+import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Check#isNumber(String, String, Class)} and {@link ConditionalCheck#isNumber(boolean, String, String)}
+ * for different target types against the parse methods of the JDK.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsNumberBenchmark {
+
+	private String integer = "1234567";
+
+	private String longNumber = "1234567890123";
+
+	private String decimal = "12345.678";
+
+	private String malformed = "12a45";
+
+	private String outOfRange = "9876543210";
+
+	private boolean condition = true;
+
+	@Benchmark
+	public Object bigDecimal_check_pass() {
+		return Check.isNumber(decimal, "decimal", BigDecimal.class);
+	}
+
+	@Benchmark
+	public Object double_check_pass() {
+		return Check.isNumber(decimal, "decimal", Double.class);
+	}
+
+	@Benchmark
+	public double double_parseDouble_pass() {
+		return Double.parseDouble(decimal);
+	}
+
+	@Benchmark
+	public Object integer_check_fail() {
+		try {
+			return Check.isNumber(malformed, "integer", Integer.class);
+		} catch (final IllegalNumberArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object integer_check_outOfRange() {
+		try {
+			return Check.isNumber(outOfRange, "integer", Integer.class);
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int integer_check_pass() {
+		return Check.isNumber(integer, "integer");
+	}
+
+	@Benchmark
+	public Object integer_conditionalCheck_fail() {
+		try {
+			ConditionalCheck.isNumber(condition, malformed, "integer");
+			return null;
+		} catch (final IllegalNumberArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object integer_conditionalCheck_pass() {
+		ConditionalCheck.isNumber(condition, integer, "integer");
+		return integer;
+	}
+
+	@Benchmark
+	public Object integer_parseInt_fail() {
+		try {
+			return Integer.parseInt(malformed);
+		} catch (final NumberFormatException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int integer_parseInt_pass() {
+		return Integer.parseInt(integer);
+	}
+
+	@Benchmark
+	public Object long_check_pass() {
+		return Check.isNumber(longNumber, "long", Long.class);
+	}
+
+	@Benchmark
+	public long long_parseLong_pass() {
+		return Long.parseLong(longNumber);
+	}
+
+}
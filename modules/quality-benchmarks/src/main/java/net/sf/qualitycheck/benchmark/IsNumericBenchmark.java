@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ConditionalCheck;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Check#isNumeric(CharSequence, String)} and
+ * {@link ConditionalCheck#isNumeric(boolean, CharSequence, String)} for short and long inputs against a hand-written
+ * loop.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsNumericBenchmark {
+
+	@Param({ "8", "256" })
+	private int length;
+
+	private String numeric;
+
+	private String notNumeric;
+
+	private boolean condition = true;
+
+	@Setup
+	public void setUp() {
+		final StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append((char) ('0' + i % 10));
+		}
+		numeric = builder.toString();
+		builder.setCharAt(length - 1, 'x');
+		notNumeric = builder.toString();
+	}
+
+	@Benchmark
+	public Object check_fail() {
+		try {
+			return Check.isNumeric(notNumeric, "numeric");
+		} catch (final IllegalNumericArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object check_pass() {
+		return Check.isNumeric(numeric, "numeric");
+	}
+
+	@Benchmark
+	public Object conditionalCheck_pass() {
+		ConditionalCheck.isNumeric(condition, numeric, "numeric");
+		return numeric;
+	}
+
+	@Benchmark
+	public Object handWritten_fail() {
+		try {
+			return Baseline.isNumeric(notNumeric, "numeric");
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object handWritten_pass() {
+		return Baseline.isNumeric(numeric, "numeric");
+	}
+
+}
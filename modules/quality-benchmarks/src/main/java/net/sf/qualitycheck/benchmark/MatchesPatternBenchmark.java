@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ConditionalCheck;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Check#matchesPattern(Pattern, CharSequence, String)} and
+ * {@link ConditionalCheck#matchesPattern(boolean, Pattern, CharSequence, String)} against a direct use of
+ * {@link java.util.regex.Matcher}. The {@code regex} benchmarks compare the overload which takes an expression as
+ * string with compiling the expression on every call. The {@code pathological} benchmarks match an expression which
+ * makes {@link java.util.regex.Matcher} backtrack exponentially, while the check matches it in linear time.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchesPatternBenchmark {
+
+	private final String regex = "[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,6}";
+
+	private final Pattern pattern = Pattern.compile(regex);
+
+	private String matching = "quality.check@example.org";
+
+	private String notMatching = "quality.check(at)example.org";
+
+	private boolean condition = true;
+
+	private final Pattern pathologicalPattern = Pattern.compile("(a+)+b");
+
+	private String pathological = "aaaaaaaaaaaaaaaaaaaaaac";
+
+	@Benchmark
+	public Object check_fail() {
+		try {
+			return Check.matchesPattern(pattern, notMatching, "email");
+		} catch (final IllegalPatternArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object check_pass() {
+		return Check.matchesPattern(pattern, matching, "email");
+	}
+
+	@Benchmark
+	public Object conditionalCheck_pass() {
+		ConditionalCheck.matchesPattern(condition, pattern, matching, "email");
+		return matching;
+	}
+
+	@Benchmark
+	public Object handWritten_fail() {
+		try {
+			return Baseline.matchesPattern(pattern, notMatching, "email");
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object handWritten_pass() {
+		return Baseline.matchesPattern(pattern, matching, "email");
+	}
+
+	@Benchmark
+	public Object pathological_check_fail() {
+		try {
+			return Check.matchesPattern(pathologicalPattern, pathological, "value");
+		} catch (final IllegalPatternArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object pathological_handWritten_fail() {
+		try {
+			return Baseline.matchesPattern(pathologicalPattern, pathological, "value");
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object regex_check_pass() {
+		return Check.matchesPattern(regex, matching, "email");
+	}
+
+	@Benchmark
+	public Object regex_handWritten_pass() {
+		return Baseline.matchesPattern(Pattern.compile(regex), matching, "email");
+	}
+
+}
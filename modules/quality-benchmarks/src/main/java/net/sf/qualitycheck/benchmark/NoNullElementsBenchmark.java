@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ConditionalCheck;
+import net.sf.qualitycheck.ParallelCheck;
+import net.sf.qualitycheck.SampledCheck;
+import net.sf.qualitycheck.SamplingPolicy;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Check#noNullElements(Iterable, String)}, {@link Check#noNullElements(Object[], String)} and
+ * {@link ConditionalCheck#noNullElements(boolean, Iterable, String)} for different sizes against a hand-written loop,
+ * the parallel scan of {@link ParallelCheck} and the sampled scan of {@link SampledCheck}, which validates
+ * {@value #SAMPLES} random elements per call. The failing inputs contain a single {@code null} as last element, so that
+ * the whole input has to be scanned.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoNullElementsBenchmark {
+
+	private static final int SAMPLES = 64;
+
+	@Param({ "10", "1000", "100000", "1000000" })
+	private int size;
+
+	private List<Integer> list;
+
+	private List<Integer> listWithNull;
+
+	private Integer[] array;
+
+	private Integer[] arrayWithNull;
+
+	private boolean condition = true;
+
+	@Setup
+	public void setUp() {
+		list = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(Integer.valueOf(i));
+		}
+		listWithNull = new ArrayList<Integer>(list);
+		listWithNull.set(size - 1, null);
+		array = list.toArray(new Integer[size]);
+		arrayWithNull = listWithNull.toArray(new Integer[size]);
+		SampledCheck.setPolicy(SampledCheck.Kind.NO_NULL_ELEMENTS, SamplingPolicy.randomElements(SAMPLES));
+	}
+
+	@Benchmark
+	public Object array_check_fail() {
+		try {
+			return Check.noNullElements(arrayWithNull, "array");
+		} catch (final IllegalNullElementsException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object array_check_pass() {
+		return Check.noNullElements(array, "array");
+	}
+
+	@Benchmark
+	public Object array_handWritten_pass() {
+		return Baseline.noNullElements(array, "array");
+	}
+
+	@Benchmark
+	public Object array_parallelCheck_pass() {
+		return ParallelCheck.noNullElements(array, "array");
+	}
+
+	@Benchmark
+	public Object array_sampledCheck_pass() {
+		return SampledCheck.noNullElements(array, "array");
+	}
+
+	@Benchmark
+	public Object list_check_fail() {
+		try {
+			return Check.noNullElements(listWithNull, "list");
+		} catch (final IllegalNullElementsException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object list_check_pass() {
+		return Check.noNullElements(list, "list");
+	}
+
+	@Benchmark
+	public Object list_conditionalCheck_pass() {
+		ConditionalCheck.noNullElements(condition, list, "list");
+		return list;
+	}
+
+	@Benchmark
+	public Object list_handWritten_fail() {
+		try {
+			return Baseline.noNullElements(listWithNull, "list");
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object list_handWritten_pass() {
+		return Baseline.noNullElements(list, "list");
+	}
+
+	@Benchmark
+	public Object list_parallelCheck_pass() {
+		return ParallelCheck.noNullElements(list, "list");
+	}
+
+	@Benchmark
+	public Object list_sampledCheck_pass() {
+		return SampledCheck.noNullElements(list, "list");
+	}
+
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ConditionalCheck;
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@code notEmpty} checks for character sequences, collections and arrays of {@link Check} and
+ * {@link ConditionalCheck} against a hand-written check.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotEmptyBenchmark {
+
+	private String chars = "quality";
+
+	private String emptyChars = "";
+
+	private List<String> collection = new ArrayList<String>(Arrays.asList("a", "b", "c"));
+
+	private List<String> emptyCollection = new ArrayList<String>();
+
+	private String[] array = { "a", "b", "c" };
+
+	private String[] emptyArray = {};
+
+	private boolean condition = true;
+
+	@Benchmark
+	public Object array_check_fail() {
+		try {
+			return Check.notEmpty(emptyArray, "array");
+		} catch (final IllegalEmptyArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object array_check_pass() {
+		return Check.notEmpty(array, "array");
+	}
+
+	@Benchmark
+	public Object array_handWritten_pass() {
+		return Baseline.notEmpty(array, "array");
+	}
+
+	@Benchmark
+	public Object chars_check_fail() {
+		try {
+			return Check.notEmpty(emptyChars, "chars");
+		} catch (final IllegalEmptyArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object chars_check_pass() {
+		return Check.notEmpty(chars, "chars");
+	}
+
+	@Benchmark
+	public Object chars_conditionalCheck_fail() {
+		try {
+			ConditionalCheck.notEmpty(condition, emptyChars, "chars");
+			return null;
+		} catch (final IllegalEmptyArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object chars_conditionalCheck_pass() {
+		ConditionalCheck.notEmpty(condition, chars, "chars");
+		return chars;
+	}
+
+	@Benchmark
+	public Object chars_handWritten_fail() {
+		try {
+			return Baseline.notEmpty(emptyChars, "chars");
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object chars_handWritten_pass() {
+		return Baseline.notEmpty(chars, "chars");
+	}
+
+	@Benchmark
+	public Object collection_check_fail() {
+		try {
+			return Check.notEmpty(emptyCollection, "collection");
+		} catch (final IllegalEmptyArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object collection_check_pass() {
+		return Check.notEmpty(collection, "collection");
+	}
+
+	@Benchmark
+	public Object collection_conditionalCheck_pass() {
+		ConditionalCheck.notEmpty(condition, collection, "collection");
+		return collection;
+	}
+
+	@Benchmark
+	public Object collection_handWritten_fail() {
+		try {
+			return Baseline.notEmpty(emptyCollection, "collection");
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object collection_handWritten_pass() {
+		return Baseline.notEmpty(collection, "collection");
+	}
+
+}
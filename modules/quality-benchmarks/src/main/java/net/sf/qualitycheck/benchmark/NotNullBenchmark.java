@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ConditionalCheck;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Check#notNull(Object, String)} and {@link ConditionalCheck#notNull(boolean, Object, String)} against
+ * {@link Objects#requireNonNull(Object, String)} and a hand-written check.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotNullBenchmark {
+
+	private Object reference = new Object();
+
+	private Object nullReference = null;
+
+	private boolean condition = true;
+
+	@Benchmark
+	public Object check_fail() {
+		try {
+			return Check.notNull(nullReference, "reference");
+		} catch (final IllegalNullArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object check_pass() {
+		return Check.notNull(reference, "reference");
+	}
+
+	@Benchmark
+	public Object check_withoutName_pass() {
+		return Check.notNull(reference);
+	}
+
+	@Benchmark
+	public Object conditionalCheck_fail() {
+		try {
+			ConditionalCheck.notNull(condition, nullReference, "reference");
+			return null;
+		} catch (final IllegalNullArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object conditionalCheck_pass() {
+		ConditionalCheck.notNull(condition, reference, "reference");
+		return reference;
+	}
+
+	@Benchmark
+	public Object conditionalCheck_skipped() {
+		ConditionalCheck.notNull(!condition, nullReference, "reference");
+		return nullReference;
+	}
+
+	@Benchmark
+	public Object handWritten_fail() {
+		try {
+			return Baseline.notNull(nullReference, "reference");
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object handWritten_pass() {
+		return Baseline.notNull(reference, "reference");
+	}
+
+	@Benchmark
+	public Object requireNonNull_fail() {
+		try {
+			return Objects.requireNonNull(nullReference, "reference");
+		} catch (final NullPointerException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object requireNonNull_pass() {
+		return Objects.requireNonNull(reference, "reference");
+	}
+
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.NumberInRange;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link NumberInRange#isInRange(Number, BigInteger, BigInteger)},
+ * {@link NumberInRange#isInRange(Number, BigDecimal, BigDecimal)} and the {@code check*} methods for boxed primitives
+ * and big numbers against a hand-written comparison of primitive values.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberInRangeBenchmark {
+
+	private Number integer = Integer.valueOf(4711);
+
+	private Number longNumber = Long.valueOf(3000000000L);
+
+	private Number doubleNumber = Double.valueOf(4711.0815);
+
+	private Number bigInteger = new BigInteger("4711");
+
+	private Number bigDecimal = new BigDecimal("4711.0815");
+
+	private Number shortNumber = Short.valueOf((short) 4711);
+
+	private BigInteger min = BigInteger.valueOf(-10000);
+
+	private BigInteger max = BigInteger.valueOf(10000);
+
+	private BigDecimal decimalMin = BigDecimal.valueOf(-10000);
+
+	private BigDecimal decimalMax = BigDecimal.valueOf(10000);
+
+	@Benchmark
+	public int checkInteger_fail() {
+		try {
+			return NumberInRange.checkInteger(longNumber);
+		} catch (final IllegalNumberRangeException e) {
+			return -1;
+		}
+	}
+
+	@Benchmark
+	public int checkInteger_pass() {
+		return NumberInRange.checkInteger(integer);
+	}
+
+	@Benchmark
+	public short checkShort_pass() {
+		return NumberInRange.checkShort(shortNumber);
+	}
+
+	@Benchmark
+	public double checkDouble_pass() {
+		return NumberInRange.checkDouble(doubleNumber);
+	}
+
+	@Benchmark
+	public boolean handWritten_integer() {
+		final int value = integer.intValue();
+		return value >= -10000 && value <= 10000;
+	}
+
+	@Benchmark
+	public boolean isInRange_bigDecimal_decimalBounds() {
+		return NumberInRange.isInRange(bigDecimal, decimalMin, decimalMax);
+	}
+
+	@Benchmark
+	public boolean isInRange_bigInteger() {
+		return NumberInRange.isInRange(bigInteger, min, max);
+	}
+
+	@Benchmark
+	public boolean isInRange_double_decimalBounds() {
+		return NumberInRange.isInRange(doubleNumber, decimalMin, decimalMax);
+	}
+
+	@Benchmark
+	public boolean isInRange_integer() {
+		return NumberInRange.isInRange(integer, min, max);
+	}
+
+	@Benchmark
+	public boolean isInRange_integer_decimalBounds() {
+		return NumberInRange.isInRange(integer, decimalMin, decimalMax);
+	}
+
+	@Benchmark
+	public boolean isInRange_long() {
+		return NumberInRange.isInRange(longNumber, min, max);
+	}
+
+}
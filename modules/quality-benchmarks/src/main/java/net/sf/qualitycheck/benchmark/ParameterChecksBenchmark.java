@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.invoke.ParameterChecks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures calls of a method whose parameters are annotated with {@code Nonnull} and {@code Nonnegative}: checked by
+ * hand in the caller, through a handle of {@link ParameterChecks#checked(MethodHandles.Lookup, Method)}, through a
+ * proxy of {@link ParameterChecks#proxy(Class, Object)} and by reading the annotations with reflection on every call.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterChecksBenchmark {
+
+	public interface Pricing {
+
+		long price(@Nonnull String code, @Nonnegative int quantity);
+
+	}
+
+	public static final class SimplePricing implements Pricing {
+
+		public static long staticPrice(@Nonnull final String code, @Nonnegative final int quantity) {
+			return code.length() * (long) quantity;
+		}
+
+		@Override
+		public long price(final String code, final int quantity) {
+			return staticPrice(code, quantity);
+		}
+
+	}
+
+	private static final MethodHandle PRICE;
+
+	private static final Method PRICE_METHOD;
+
+	static {
+		try {
+			PRICE_METHOD = SimplePricing.class.getMethod("staticPrice", String.class, int.class);
+			PRICE = ParameterChecks.checked(MethodHandles.lookup(), PRICE_METHOD);
+		} catch (final ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private String code;
+
+	private int quantity;
+
+	private Pricing plain;
+
+	private Pricing proxy;
+
+	@Setup
+	public void setUp() {
+		code = "CODE-1";
+		quantity = 3;
+		plain = new SimplePricing();
+		proxy = ParameterChecks.proxy(Pricing.class, plain);
+	}
+
+	@Benchmark
+	public long checkedHandle_pass() throws Throwable {
+		return (long) PRICE.invokeExact(code, quantity);
+	}
+
+	@Benchmark
+	public long handWritten_pass() {
+		return SimplePricing.staticPrice(Check.notNull(code, "code"), Check.notNegative(quantity, "quantity"));
+	}
+
+	@Benchmark
+	public long proxy_pass() {
+		return proxy.price(code, quantity);
+	}
+
+	@Benchmark
+	public long reflection_pass() throws ReflectiveOperationException {
+		final Object[] args = { code, Integer.valueOf(quantity) };
+		final Annotation[][] annotations = PRICE_METHOD.getParameterAnnotations();
+		for (int i = 0; i < args.length; i++) {
+			for (final Annotation annotation : annotations[i]) {
+				if (annotation instanceof Nonnull) {
+					Check.notNull(args[i], "arg" + i);
+				} else if (annotation instanceof Nonnegative) {
+					Check.notNegative(((Integer) args[i]).intValue(), "arg" + i);
+				}
+			}
+		}
+		return ((Long) PRICE_METHOD.invoke(null, args)).longValue();
+	}
+
+	@Benchmark
+	public long unchecked() {
+		return plain.price(code, quantity);
+	}
+
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bulk checks for arrays and buffers of primitive numbers, e.g. {@link Check#notNegative(int[], String)},
+ * against a loop which calls the check for single values per element. All inputs pass, so that the whole input has to
+ * be scanned.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveArraysBenchmark {
+
+	@Param({ "16", "1024", "65536" })
+	private int size;
+
+	private int[] ints;
+
+	private double[] doubles;
+
+	private DoubleBuffer directDoubles;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		ints = new int[size];
+		doubles = new double[size];
+		directDoubles = ByteBuffer.allocateDirect(8 * size).asDoubleBuffer();
+		for (int i = 0; i < size; i++) {
+			ints[i] = random.nextInt(1000);
+			doubles[i] = random.nextDouble();
+			directDoubles.put(i, doubles[i]);
+		}
+	}
+
+	@Benchmark
+	public Object doubleArray_inRange_bulk() {
+		return Check.inRange(0.0, 1.0, doubles, "doubles");
+	}
+
+	@Benchmark
+	public Object doubleArray_notNaN_bulk() {
+		return Check.notNaN(doubles, "doubles");
+	}
+
+	@Benchmark
+	public Object doubleArray_notNaN_perElement() {
+		for (final double value : doubles) {
+			Check.notNaN(value, "doubles");
+		}
+		return doubles;
+	}
+
+	@Benchmark
+	public Object doubleBuffer_notNaN_bulk() {
+		return Check.notNaN(directDoubles, "doubles");
+	}
+
+	@Benchmark
+	public Object intArray_lesserThan_bulk() {
+		return Check.lesserThan(1000, ints, "ints");
+	}
+
+	@Benchmark
+	public Object intArray_notNegative_bulk() {
+		return Check.notNegative(ints, "ints");
+	}
+
+	@Benchmark
+	public Object intArray_notNegative_perElement() {
+		for (final int value : ints) {
+			Check.notNegative(value, "ints");
+		}
+		return ints;
+	}
+
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.NumberInRange;
+import net.sf.qualitycheck.exception.QualityCheckException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of checks which reject every second input, with and without the stackless mode of
+ * {@link QualityCheckException}. The failing inputs are distributed randomly, so that the branch predictor cannot learn
+ * them.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StacklessBenchmark {
+
+	private static final int INPUTS = 1024;
+
+	@Param({ "false", "true" })
+	private boolean stackless;
+
+	private final Object[] references = new Object[INPUTS];
+
+	private final String[] numbers = new String[INPUTS];
+
+	private final Long[] longs = new Long[INPUTS];
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		QualityCheckException.setStackless(stackless);
+		final Random random = new Random(42);
+		for (int i = 0; i < INPUTS; i++) {
+			final boolean fail = random.nextBoolean();
+			references[i] = fail ? null : new Object();
+			numbers[i] = fail ? "12a45" : "12345";
+			longs[i] = fail ? Long.valueOf(Long.MAX_VALUE) : Long.valueOf(12345);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		QualityCheckException.setStackless(false);
+	}
+
+	private int next() {
+		index = index + 1 & INPUTS - 1;
+		return index;
+	}
+
+	@Benchmark
+	public Object handWritten_notNull() {
+		try {
+			return Baseline.notNull(references[next()], "reference");
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object isNumber() {
+		try {
+			return Check.isNumber(numbers[next()], "number");
+		} catch (final QualityCheckException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object notNull() {
+		try {
+			return Check.notNull(references[next()], "reference");
+		} catch (final QualityCheckException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object numberInRange() {
+		try {
+			return NumberInRange.checkInteger(longs[next()]);
+		} catch (final QualityCheckException e) {
+			return e;
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ConditionalCheck;
+import net.sf.qualitycheck.ExceptionFactory;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overloads of {@link Check#stateIsTrue(boolean)} and {@link ConditionalCheck#stateIsTrue(boolean, boolean)}
+ * against a hand-written check. The variant with a description template shows the costs of the varargs array which is
+ * allocated on every call, also when the state is valid. The variant with an {@link ExceptionFactory} creates the
+ * exception of a failed check without reflection.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateIsTrueBenchmark {
+
+	private static final ExceptionFactory<IllegalStateException> FACTORY = IllegalStateException::new;
+
+	private boolean valid = true;
+
+	private boolean invalid = false;
+
+	private int count = 42;
+
+	private boolean condition = true;
+
+	@Benchmark
+	public Object check_fail() {
+		try {
+			Check.stateIsTrue(invalid, "state must be valid");
+			return null;
+		} catch (final IllegalStateOfArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public boolean check_pass() {
+		Check.stateIsTrue(valid, "state must be valid");
+		return valid;
+	}
+
+	@Benchmark
+	public Object check_withClass_fail() {
+		try {
+			Check.stateIsTrue(invalid, IllegalStateException.class);
+			return null;
+		} catch (final IllegalStateException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public boolean check_withClass_pass() {
+		Check.stateIsTrue(valid, IllegalStateException.class);
+		return valid;
+	}
+
+	@Benchmark
+	public Object check_withFactory_fail() {
+		try {
+			Check.stateIsTrue(invalid, FACTORY);
+			return null;
+		} catch (final IllegalStateException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public boolean check_withFactory_pass() {
+		Check.stateIsTrue(valid, FACTORY);
+		return valid;
+	}
+
+	@Benchmark
+	public Object check_withTemplate_fail() {
+		try {
+			Check.stateIsTrue(invalid, "count %d must be smaller than %d", count, 10);
+			return null;
+		} catch (final IllegalStateOfArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public boolean check_withTemplate_pass() {
+		Check.stateIsTrue(valid, "count %d must be smaller than %d", count, 10);
+		return valid;
+	}
+
+	@Benchmark
+	public boolean check_withoutDescription_pass() {
+		Check.stateIsTrue(valid);
+		return valid;
+	}
+
+	@Benchmark
+	public boolean conditionalCheck_pass() {
+		ConditionalCheck.stateIsTrue(condition, valid, "state must be valid");
+		return valid;
+	}
+
+	@Benchmark
+	public boolean conditionalCheck_withTemplate_pass() {
+		ConditionalCheck.stateIsTrue(condition, valid, "count %d must be smaller than %d", count, 10);
+		return valid;
+	}
+
+	@Benchmark
+	public Object handWritten_fail() {
+		try {
+			Baseline.stateIsTrue(invalid, "state must be valid");
+			return null;
+		} catch (final IllegalStateException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public boolean handWritten_pass() {
+		Baseline.stateIsTrue(valid, "state must be valid");
+		return valid;
+	}
+
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.Validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a {@link Validator} which ensures that a list is not empty, has at most 1000 elements and contains no
+ * {@code null}, against the same checks chained with {@link Check} and against hand-written code.
+ * 
+ * @author André Rouél
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+	private static final int MAX_SIZE = 1000;
+
+	private static final String MAX_SIZE_MESSAGE = "The passed argument 'codes' must not have more than 1000 elements.";
+
+	private static final Validator<List<String>> CODES = Validator.forCollection("codes").notEmpty().noNullElements()
+			.maxSize(MAX_SIZE).build();
+
+	@Param({ "10", "1000" })
+	private int size;
+
+	private List<String> codes;
+
+	@Setup
+	public void setUp() {
+		codes = new ArrayList<String>(size);
+		for (int i = 0; i < size; i++) {
+			codes.add("CODE-" + i);
+		}
+	}
+
+	@Benchmark
+	public Object chained_check_pass() {
+		Check.noNullElements(Check.notEmpty(codes, "codes"), "codes");
+		Check.lesserThan(MAX_SIZE + 1, codes.size(), MAX_SIZE_MESSAGE);
+		return codes;
+	}
+
+	@Benchmark
+	public Object handWritten_pass() {
+		if (codes == null) {
+			throw new IllegalArgumentException("codes");
+		}
+		final int size = codes.size();
+		if (size == 0 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("codes");
+		}
+		for (final String code : codes) {
+			if (code == null) {
+				throw new IllegalArgumentException("codes");
+			}
+		}
+		return codes;
+	}
+
+	@Benchmark
+	public Object validator_pass() {
+		return CODES.validate(codes);
+	}
+
+}
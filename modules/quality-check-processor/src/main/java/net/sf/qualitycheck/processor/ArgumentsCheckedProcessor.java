@@ -0,0 +1,428 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates the checks of the arguments of methods and constructors annotated with {@code ArgumentsChecked} from the
+ * JSR-305 annotations of their parameters.
+ * 
+ * <p>
+ * For every type with annotated methods or constructors the processor generates a package-private class in the same
+ * package, named after the type with the suffix {@value #SUFFIX}, e.g. {@code OrderChecks} for {@code Order} and
+ * {@code Order_ItemChecks} for the nested type {@code Order.Item}. It contains a static helper for every annotated method,
+ * named {@code check} and the name of the method, and for every annotated constructor, named {@code checkConstructor}.
+ * The helpers take the same parameters and call {@code Check} for every parameter that is annotated with
+ * <ul>
+ * <li>{@code Nonnull}, which is checked with {@code Check.notNull} on parameters of reference types</li>
+ * <li>{@code Nonnegative}, which is checked with {@code Check.notNegative} on parameters of number types, where
+ * {@code null} is accepted unless the parameter is also {@code Nonnull}</li>
+ * </ul>
+ * Annotations which do not apply always ({@code When.ALWAYS}) are ignored. A parameter which is {@code Nonnull} and
+ * {@code Nullable} or {@code CheckForNull} at once, and {@code Nonnegative} on a parameter which is not a number, are
+ * reported as errors.
+ * 
+ * <pre>
+ * &#064;ArgumentsChecked
+ * &#064;Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+ * public void send(&#064;Nonnull final String code, &#064;Nonnegative final int quantity) {
+ * 	OrderChecks.checkSend(code, quantity);
+ * 	...
+ * }
+ * </pre>
+ * 
+ * <p>
+ * The helpers are annotated with {@code Throws} and list exactly the exceptions of their checks. If the {@code Throws}
+ * annotation of an annotated method misses one of them, the processor reports a warning.
+ * 
+ * @author André Rouél
+ */
+@SupportedAnnotationTypes(ArgumentsCheckedProcessor.ARGUMENTS_CHECKED)
+public final class ArgumentsCheckedProcessor extends AbstractProcessor {
+
+	/**
+	 * Qualified name of the annotation which marks the methods and constructors to process
+	 */
+	static final String ARGUMENTS_CHECKED = "net.sf.qualitycheck.ArgumentsChecked";
+
+	private static final String CHECK_FOR_NULL = "javax.annotation.CheckForNull";
+
+	/**
+	 * Qualified names of the annotation which marks generated code, in the order they are looked up
+	 */
+	private static final String[] GENERATED = { "javax.annotation.Generated", "javax.annotation.processing.Generated" };
+
+	static final String ILLEGAL_NEGATIVE_ARGUMENT = "net.sf.qualitycheck.exception.IllegalNegativeArgumentException";
+
+	static final String ILLEGAL_NULL_ARGUMENT = "net.sf.qualitycheck.exception.IllegalNullArgumentException";
+
+	private static final String NONNEGATIVE = "javax.annotation.Nonnegative";
+
+	private static final String NONNULL = "javax.annotation.Nonnull";
+
+	private static final String NULLABLE = "javax.annotation.Nullable";
+
+	/**
+	 * Suffix of the names of the generated classes
+	 */
+	public static final String SUFFIX = "Checks";
+
+	private static final String THROWS = "net.sf.qualitycheck.Throws";
+
+	/**
+	 * Name of the attribute of the JSR-305 annotations which tells when they apply
+	 */
+	private static final String WHEN = "when";
+
+	/**
+	 * Returns the annotation of an element with the passed qualified name.
+	 * 
+	 * @return the annotation or {@code null} if the element is not annotated with it
+	 */
+	@Nullable
+	private static AnnotationMirror findAnnotation(@Nonnull final Element element, @Nonnull final String name) {
+		for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether an element has a JSR-305 annotation which applies always.
+	 */
+	private static boolean hasAlwaysAnnotation(@Nonnull final Element element, @Nonnull final String name) {
+		final AnnotationMirror annotation = findAnnotation(element, name);
+		if (annotation == null) {
+			return false;
+		}
+		for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(WHEN)) {
+				return ((VariableElement) entry.getValue().getValue()).getSimpleName().contentEquals("ALWAYS");
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether an element or one of its enclosing types is private, so that it cannot be referenced from the
+	 * generated class.
+	 */
+	private static boolean isPrivate(@Nonnull final Element element) {
+		for (Element e = element; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+			if (e.getModifiers().contains(Modifier.PRIVATE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the exceptions which are listed in the {@code Throws} annotation of a method.
+	 */
+	@Nonnull
+	private static Set<String> readThrows(@Nonnull final ExecutableElement method) {
+		final Set<String> result = new HashSet<String>();
+		final AnnotationMirror annotation = findAnnotation(method, THROWS);
+		if (annotation != null) {
+			for (final AnnotationValue value : annotation.getElementValues().values()) {
+				final Object list = value.getValue();
+				if (list instanceof List) {
+					for (final Object type : (List<?>) list) {
+						final TypeMirror exception = (TypeMirror) ((AnnotationValue) type).getValue();
+						result.add(((TypeElement) ((DeclaredType) exception).asElement()).getQualifiedName().toString());
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the simple name of a qualified class name.
+	 */
+	@Nonnull
+	static String simpleName(@Nonnull final String qualifiedName) {
+		return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+	}
+
+	/**
+	 * Returns the primitive type of a box type.
+	 * 
+	 * @return the primitive type or {@code null} if the type is no box type
+	 */
+	@Nullable
+	private static PrimitiveType unboxedType(@Nonnull final Types types, @Nonnull final TypeMirror type) {
+		try {
+			return types.unboxedType(type);
+		} catch (final IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the helper of an annotated method or constructor to the generated class of its type.
+	 * 
+	 * @return {@code true} if the helper was added, {@code false} if an error was reported
+	 */
+	private boolean addHelper(@Nonnull final ChecksSource source, @Nonnull final ExecutableElement executable) {
+		final boolean constructor = executable.getKind() == ElementKind.CONSTRUCTOR;
+		final String name = constructor ? "checkConstructor" : "check" + Character.toUpperCase(executable.getSimpleName().charAt(0))
+				+ executable.getSimpleName().subSequence(1, executable.getSimpleName().length());
+		final List<String> parameterTypes = new ArrayList<String>();
+		final List<String> parameterNames = new ArrayList<String>();
+		final List<String> statements = new ArrayList<String>();
+		final Set<String> exceptions = new TreeSet<String>();
+		boolean valid = true;
+		for (final VariableElement parameter : executable.getParameters()) {
+			final String parameterName = parameter.getSimpleName().toString();
+			parameterTypes.add(typeName(parameter.asType()));
+			parameterNames.add(parameterName);
+			final boolean nonnull = hasAlwaysAnnotation(parameter, NONNULL);
+			if (nonnull && (findAnnotation(parameter, NULLABLE) != null || findAnnotation(parameter, CHECK_FOR_NULL) != null)) {
+				error(parameter, "The parameter '%s' cannot be Nonnull and Nullable at once", parameterName);
+				valid = false;
+				continue;
+			}
+			if (nonnull && !parameter.asType().getKind().isPrimitive()) {
+				statements.add("Check.notNull(" + parameterName + ", \"" + parameterName + "\");");
+				exceptions.add(ILLEGAL_NULL_ARGUMENT);
+			}
+			if (hasAlwaysAnnotation(parameter, NONNEGATIVE)) {
+				final String value = nonNegativeValue(parameter);
+				if (value == null) {
+					valid = false;
+				} else if (value.length() > 0) {
+					final String statement = "Check.notNegative(" + value + ", \"" + parameterName + "\");";
+					final boolean guarded = !nonnull && !parameter.asType().getKind().isPrimitive();
+					statements.add(guarded ? "if (" + parameterName + " != null) {\n\t\t\t" + statement + "\n\t\t}" : statement);
+					exceptions.add(ILLEGAL_NEGATIVE_ARGUMENT);
+				}
+			}
+		}
+		if (valid && !source.addHelper(name, parameterTypes, parameterNames, statements, exceptions, link(executable))) {
+			error(executable, "The arguments of %s cannot be checked by a generated helper, because another helper has the same signature",
+					executable.getSimpleName());
+			valid = false;
+		}
+		if (valid && !constructor) {
+			final Set<String> missing = new TreeSet<String>(exceptions);
+			missing.removeAll(readThrows(executable));
+			if (!missing.isEmpty()) {
+				final List<String> names = new ArrayList<String>();
+				for (final String exception : missing) {
+					names.add(simpleName(exception));
+				}
+				processingEnv.getMessager().printMessage(Kind.WARNING,
+						String.format("The Throws annotation of %s does not declare %s", executable.getSimpleName(), names), executable);
+			}
+		}
+		return valid;
+	}
+
+	private void error(@Nonnull final Element element, @Nonnull final String template, @Nonnull final Object... arguments) {
+		processingEnv.getMessager().printMessage(Kind.ERROR, String.format(template, arguments), element);
+	}
+
+	/**
+	 * Returns the name of the annotation which marks generated code, if it is available.
+	 */
+	@Nullable
+	private String findGenerated() {
+		for (final String name : GENERATED) {
+			if (processingEnv.getElementUtils().getTypeElement(name) != null) {
+				return name;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * Returns a Javadoc link to a method or constructor.
+	 */
+	@Nonnull
+	private String link(@Nonnull final ExecutableElement executable) {
+		final TypeElement type = (TypeElement) executable.getEnclosingElement();
+		final StringBuilder link = new StringBuilder(type.getQualifiedName()).append('#');
+		link.append(executable.getKind() == ElementKind.CONSTRUCTOR ? type.getSimpleName() : executable.getSimpleName()).append('(');
+		for (int i = 0; i < executable.getParameters().size(); i++) {
+			link.append(i == 0 ? "" : ", ").append(processingEnv.getTypeUtils().erasure(executable.getParameters().get(i).asType()));
+		}
+		return link.append(')').toString();
+	}
+
+	/**
+	 * Returns the expression of the value of a {@code Nonnegative} parameter which is passed to
+	 * {@code Check.notNegative}.
+	 * 
+	 * @return the expression, an empty string if the parameter can never be negative or {@code null} if an error was
+	 *         reported
+	 */
+	@Nullable
+	private String nonNegativeValue(@Nonnull final VariableElement parameter) {
+		final String name = parameter.getSimpleName().toString();
+		final Types types = processingEnv.getTypeUtils();
+		final TypeMirror type = types.erasure(parameter.asType());
+		TypeKind kind = type.getKind();
+		String accessor = "";
+		if (kind == TypeKind.DECLARED) {
+			final TypeMirror number = processingEnv.getElementUtils().getTypeElement(Number.class.getName()).asType();
+			final PrimitiveType unboxed = unboxedType(types, type);
+			if (unboxed != null) {
+				kind = unboxed.getKind();
+				accessor = kind == TypeKind.BYTE || kind == TypeKind.SHORT ? ".intValue()" : "." + kind.name().toLowerCase(Locale.ENGLISH) + "Value()";
+			} else if (types.isAssignable(type, number)) {
+				kind = TypeKind.DOUBLE;
+				accessor = ".doubleValue()";
+			}
+		}
+		switch (kind) {
+		case BYTE:
+		case SHORT:
+		case INT:
+		case LONG:
+		case FLOAT:
+		case DOUBLE:
+			return name + accessor;
+		case CHAR:
+			return "";
+		default:
+			error(parameter, "Nonnegative is not applicable to the parameter '%s' of type %s", name, parameter.asType());
+			return null;
+		}
+	}
+
+	@Override
+	public boolean process(@Nonnull final Set<? extends TypeElement> annotations, @Nonnull final RoundEnvironment roundEnv) {
+		final Elements elements = processingEnv.getElementUtils();
+		final TypeElement argumentsChecked = elements.getTypeElement(ARGUMENTS_CHECKED);
+		if (argumentsChecked == null) {
+			return false;
+		}
+		final Map<TypeElement, ChecksSource> sources = new LinkedHashMap<TypeElement, ChecksSource>();
+		final Set<TypeElement> invalid = new HashSet<TypeElement>();
+		for (final Element element : roundEnv.getElementsAnnotatedWith(argumentsChecked)) {
+			final ExecutableElement executable = (ExecutableElement) element;
+			final TypeElement type = (TypeElement) executable.getEnclosingElement();
+			if (type.getNestingKind() == NestingKind.ANONYMOUS || type.getNestingKind() == NestingKind.LOCAL) {
+				processingEnv.getMessager().printMessage(Kind.NOTE,
+						"No checks are generated for methods of anonymous and local classes", executable);
+				continue;
+			}
+			ChecksSource source = sources.get(type);
+			if (source == null) {
+				source = new ChecksSource(elements.getPackageOf(type).getQualifiedName().toString(), sourceName(type), type
+						.getQualifiedName().toString(), findGenerated());
+				sources.put(type, source);
+			}
+			if (!addHelper(source, executable)) {
+				invalid.add(type);
+			}
+		}
+		for (final Map.Entry<TypeElement, ChecksSource> entry : sources.entrySet()) {
+			if (!invalid.contains(entry.getKey())) {
+				write(entry.getKey(), entry.getValue());
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the simple name of the generated class of a type.
+	 */
+	@Nonnull
+	private String sourceName(@Nonnull final TypeElement type) {
+		final StringBuilder name = new StringBuilder(SUFFIX);
+		for (Element e = type; !(e instanceof PackageElement); e = e.getEnclosingElement()) {
+			name.insert(0, e.getSimpleName()).insert(0, '_');
+		}
+		return name.substring(1);
+	}
+
+	/**
+	 * Returns the name of a parameter type in the generated source. Type variables are erased to their bounds and
+	 * private types, which cannot be referenced from the generated class, are replaced by {@code Object}.
+	 */
+	@Nonnull
+	private String typeName(@Nonnull final TypeMirror type) {
+		TypeMirror component = processingEnv.getTypeUtils().erasure(type);
+		final StringBuilder dimensions = new StringBuilder();
+		while (component.getKind() == TypeKind.ARRAY) {
+			component = ((ArrayType) component).getComponentType();
+			dimensions.append("[]");
+		}
+		final boolean hidden = component.getKind() == TypeKind.DECLARED && isPrivate(((DeclaredType) component).asElement());
+		return (hidden ? Object.class.getName() : component.toString()) + dimensions;
+	}
+
+	/**
+	 * Writes the generated class of a type.
+	 */
+	private void write(@Nonnull final TypeElement type, @Nonnull final ChecksSource source) {
+		try {
+			final Writer writer = processingEnv.getFiler().createSourceFile(source.getQualifiedName(), type).openWriter();
+			try {
+				writer.write(source.render());
+			} finally {
+				writer.close();
+			}
+		} catch (final IOException e) {
+			error(type, "The checks of %s cannot be written: %s", type.getQualifiedName(), e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Source of a generated class with the helpers which check the arguments of the annotated methods and constructors of
+ * one type.
+ * 
+ * @author André Rouél
+ */
+@NotThreadSafe
+final class ChecksSource {
+
+	/**
+	 * Qualified name of the annotation which marks the class as generated or {@code null} if it is not available
+	 */
+	@Nullable
+	private final String generated;
+
+	/**
+	 * Rendered helper methods
+	 */
+	@Nonnull
+	private final List<String> helpers = new ArrayList<String>();
+
+	/**
+	 * Name of the package of the class, which is empty for the unnamed package
+	 */
+	@Nonnull
+	private final String packageName;
+
+	/**
+	 * Names and erased parameter types of all helpers, to detect overloads with the same erasure
+	 */
+	@Nonnull
+	private final Set<String> signatures = new HashSet<String>();
+
+	/**
+	 * Simple name of the class
+	 */
+	@Nonnull
+	private final String simpleName;
+
+	/**
+	 * Qualified name of the type whose arguments are checked
+	 */
+	@Nonnull
+	private final String typeName;
+
+	ChecksSource(@Nonnull final String packageName, @Nonnull final String simpleName, @Nonnull final String typeName,
+			@Nullable final String generated) {
+		this.packageName = packageName;
+		this.simpleName = simpleName;
+		this.typeName = typeName;
+		this.generated = generated;
+	}
+
+	/**
+	 * Adds a helper which checks the arguments of a method or constructor.
+	 * 
+	 * @param name
+	 *            name of the helper
+	 * @param parameterTypes
+	 *            erased types of the parameters
+	 * @param parameterNames
+	 *            names of the parameters
+	 * @param statements
+	 *            the checks of the parameters
+	 * @param exceptions
+	 *            qualified names of the exceptions which are thrown by the checks
+	 * @param link
+	 *            Javadoc link to the method or constructor
+	 * @return {@code true} if the helper was added, {@code false} if there is already a helper with the same signature
+	 */
+	boolean addHelper(@Nonnull final String name, @Nonnull final List<String> parameterTypes, @Nonnull final List<String> parameterNames,
+			@Nonnull final List<String> statements, @Nonnull final Set<String> exceptions, @Nonnull final String link) {
+		if (!signatures.add(name + parameterTypes)) {
+			return false;
+		}
+		final StringBuilder helper = new StringBuilder();
+		helper.append("\t/**\n\t * Checks the arguments of {@link ").append(link).append("}.\n\t */\n");
+		if (!exceptions.isEmpty()) {
+			helper.append("\t@Throws({ ");
+			boolean first = true;
+			for (final String exception : exceptions) {
+				helper.append(first ? "" : ", ").append(exception).append(".class");
+				first = false;
+			}
+			helper.append(" })\n");
+		}
+		helper.append("\tstatic void ").append(name).append('(');
+		for (int i = 0; i < parameterTypes.size(); i++) {
+			helper.append(i == 0 ? "" : ", ").append("final ").append(parameterTypes.get(i)).append(' ').append(parameterNames.get(i));
+		}
+		helper.append(") {\n");
+		for (final String statement : statements) {
+			helper.append("\t\t").append(statement).append('\n');
+		}
+		helpers.add(helper.append("\t}\n").toString());
+		return true;
+	}
+
+	/**
+	 * Returns the qualified name of the generated class.
+	 * 
+	 * @return the qualified name
+	 */
+	@Nonnull
+	String getQualifiedName() {
+		return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+	}
+
+	/**
+	 * Renders the source of the generated class.
+	 * 
+	 * @return the source code
+	 */
+	@Nonnull
+	String render() {
+		final StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		if (generated != null) {
+			source.append("import ").append(generated).append(";\n\n");
+		}
+		source.append("import net.sf.qualitycheck.Check;\n");
+		source.append("import net.sf.qualitycheck.Throws;\n\n");
+		source.append("/**\n * Checks of the arguments of {@link ").append(typeName)
+				.append("}, which are generated from the annotations of their parameters.\n */\n");
+		if (generated != null) {
+			source.append("@").append(ArgumentsCheckedProcessor.simpleName(generated)).append("(\"")
+					.append(ArgumentsCheckedProcessor.class.getName()).append("\")\n");
+		}
+		source.append("final class ").append(simpleName).append(" {\n\n");
+		for (final String helper : helpers) {
+			source.append(helper).append('\n');
+		}
+		source.append("\tprivate ").append(simpleName).append("() {\n");
+		source.append("\t\t// This class is not intended to create objects from it.\n");
+		source.append("\t}\n\n}\n");
+		return source.toString();
+	}
+
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.processor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArgumentsCheckedProcessorTest {
+
+	private static final String IMPORTS = "import javax.annotation.*;\n" + "import net.sf.qualitycheck.*;\n"
+			+ "import net.sf.qualitycheck.exception.*;\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private DiagnosticCollector<JavaFileObject> diagnostics;
+
+	private File classes;
+
+	private void assertCompiled(final String className, final String source) throws IOException {
+		final boolean compiled = compile(className, source);
+		Assert.assertTrue(String.valueOf(diagnostics.getDiagnostics()), compiled);
+	}
+
+	private void assertDiagnostic(final Diagnostic.Kind kind, final String message) {
+		for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+			if (diagnostic.getKind() == kind && diagnostic.getMessage(Locale.ENGLISH).contains(message)) {
+				return;
+			}
+		}
+		Assert.fail("missing " + kind + " '" + message + "' in " + diagnostics.getDiagnostics());
+	}
+
+	private void assertNoWarnings() {
+		for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+			Assert.assertNotEquals(String.valueOf(diagnostic), Diagnostic.Kind.WARNING, diagnostic.getKind());
+		}
+	}
+
+	private boolean compile(final String className, final String source) throws IOException {
+		final File sources = folder.newFolder("sources");
+		final File file = new File(sources, className.replace('.', '/') + ".java");
+		file.getParentFile().mkdirs();
+		final Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(source);
+		} finally {
+			writer.close();
+		}
+		classes = folder.newFolder("classes");
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		diagnostics = new DiagnosticCollector<JavaFileObject>();
+		final StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ENGLISH, null);
+		try {
+			final List<String> options = Arrays.asList("-d", classes.getPath(), "-s", classes.getPath(), "-classpath",
+					System.getProperty("java.class.path"), "-encoding", "UTF-8", "-processor", ArgumentsCheckedProcessor.class.getName());
+			return compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjects(file)).call()
+					.booleanValue();
+		} finally {
+			fileManager.close();
+		}
+	}
+
+	private Throwable invoke(final Method method, final Object... args) throws Exception {
+		try {
+			method.invoke(null, args);
+			return null;
+		} catch (final InvocationTargetException e) {
+			return e.getCause();
+		}
+	}
+
+	private Class<?> load(final String className) throws Exception {
+		final ClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader());
+		return Class.forName(className, true, loader);
+	}
+
+	@Test
+	public void getSupportedSourceVersion() {
+		Assert.assertNotNull(new ArgumentsCheckedProcessor().getSupportedSourceVersion());
+	}
+
+	@Test
+	public void process_constructor() throws Exception {
+		final String source = "package shop;\n" + IMPORTS + "public class Order {\n" + "	@ArgumentsChecked\n"
+				+ "	public Order(@Nonnull final String code, @Nonnegative final int quantity, final Object unchecked) {\n"
+				+ "		OrderChecks.checkConstructor(code, quantity, unchecked);\n" + "	}\n" + "}\n";
+		assertCompiled("shop.Order", source);
+		assertNoWarnings();
+
+		final Method check = load("shop.OrderChecks").getDeclaredMethod("checkConstructor", String.class, int.class, Object.class);
+		check.setAccessible(true);
+		Assert.assertNull(invoke(check, "A-1", 0, null));
+		final Throwable nullCode = invoke(check, null, 1, null);
+		Assert.assertTrue(nullCode instanceof IllegalNullArgumentException);
+		Assert.assertEquals("Argument 'code' must not be null.", nullCode.getMessage());
+		Assert.assertTrue(invoke(check, "A-1", -1, null) instanceof IllegalNegativeArgumentException);
+
+		try {
+			load("shop.Order").getConstructor(String.class, int.class, Object.class).newInstance("A-1", -1, null);
+			Assert.fail();
+		} catch (final InvocationTargetException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalNegativeArgumentException);
+		}
+	}
+
+	@Test
+	public void process_boxedNumbers() throws Exception {
+		final String source = "package shop;\n" + IMPORTS + "public class Order {\n" + "	@ArgumentsChecked\n"
+				+ "	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })\n"
+				+ "	public void send(@Nullable @Nonnegative final Long amount, @Nonnull @Nonnegative final Integer count,\n"
+				+ "			@Nonnegative final java.math.BigDecimal price, @Nonnegative final char c, @Nonnegative final byte b) {\n"
+				+ "	}\n" + "}\n";
+		assertCompiled("shop.Order", source);
+		assertNoWarnings();
+
+		final Method check = load("shop.OrderChecks").getDeclaredMethod("checkSend", Long.class, Integer.class,
+				java.math.BigDecimal.class, char.class, byte.class);
+		check.setAccessible(true);
+		Assert.assertNull(invoke(check, null, 1, null, 'a', (byte) 0));
+		Assert.assertTrue(invoke(check, -1L, 1, null, 'a', (byte) 0) instanceof IllegalNegativeArgumentException);
+		Assert.assertTrue(invoke(check, 1L, null, null, 'a', (byte) 0) instanceof IllegalNullArgumentException);
+		Assert.assertTrue(invoke(check, 1L, -1, null, 'a', (byte) 0) instanceof IllegalNegativeArgumentException);
+		Assert.assertTrue(invoke(check, 1L, 1, java.math.BigDecimal.ONE.negate(), 'a', (byte) 0) instanceof IllegalNegativeArgumentException);
+		Assert.assertTrue(invoke(check, 1L, 1, null, 'a', (byte) -1) instanceof IllegalNegativeArgumentException);
+	}
+
+	@Test
+	public void process_generatedThrows() throws Exception {
+		final String source = "package shop;\n" + IMPORTS + "public class Order {\n" + "	@ArgumentsChecked\n"
+				+ "	@Throws(IllegalNullArgumentException.class)\n" + "	public void send(@Nonnull final String code) {\n" + "	}\n" + "}\n";
+		assertCompiled("shop.Order", source);
+		final Method check = load("shop.OrderChecks").getDeclaredMethod("checkSend", String.class);
+		Assert.assertArrayEquals(new Object[] { IllegalNullArgumentException.class },
+				check.getAnnotation(net.sf.qualitycheck.Throws.class).value());
+	}
+
+	@Test
+	public void process_ignoresMaybe() throws Exception {
+		final String source = "package shop;\n" + IMPORTS + "public class Order {\n" + "	@ArgumentsChecked\n"
+				+ "	public void send(@Nonnull(when = javax.annotation.meta.When.MAYBE) final String code) {\n" + "	}\n" + "}\n";
+		assertCompiled("shop.Order", source);
+		assertNoWarnings();
+		final Method check = load("shop.OrderChecks").getDeclaredMethod("checkSend", String.class);
+		check.setAccessible(true);
+		Assert.assertNull(invoke(check, (Object) null));
+	}
+
+	@Test
+	public void process_missingThrows() throws Exception {
+		final String source = "package shop;\n" + IMPORTS + "public class Order {\n" + "	@ArgumentsChecked\n"
+				+ "	public void send(@Nonnull final String code, @Nonnegative final int quantity) {\n" + "	}\n" + "}\n";
+		assertCompiled("shop.Order", source);
+		assertDiagnostic(Diagnostic.Kind.WARNING,
+				"The Throws annotation of send does not declare [IllegalNegativeArgumentException, IllegalNullArgumentException]");
+	}
+
+	@Test
+	public void process_nestedAndGenericTypes() throws Exception {
+		final String source = IMPORTS + "public class Outer {\n" + "	private static class Hidden {\n" + "	}\n"
+				+ "	public static class Inner<T extends Number> {\n" + "		@ArgumentsChecked\n"
+				+ "		@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })\n"
+				+ "		<E> void add(@Nonnull final Hidden hidden, @Nonnegative final T value, @Nonnull final E[] values) {\n"
+				+ "			Outer_InnerChecks.checkAdd(hidden, value, values);\n" + "		}\n" + "	}\n" + "}\n";
+		assertCompiled("Outer", source);
+		assertNoWarnings();
+		final Method check = load("Outer_InnerChecks").getDeclaredMethod("checkAdd", Object.class, Number.class, Object[].class);
+		check.setAccessible(true);
+		Assert.assertTrue(invoke(check, new Object(), -1, new Object[0]) instanceof IllegalNegativeArgumentException);
+		Assert.assertTrue(invoke(check, new Object(), 1, null) instanceof IllegalNullArgumentException);
+	}
+
+	@Test
+	public void process_nonnegativeOnString() throws Exception {
+		final String source = "package shop;\n" + IMPORTS + "public class Order {\n" + "	@ArgumentsChecked\n"
+				+ "	public void send(@Nonnegative final String code) {\n" + "	}\n" + "}\n";
+		Assert.assertFalse(compile("shop.Order", source));
+		assertDiagnostic(Diagnostic.Kind.ERROR, "Nonnegative is not applicable to the parameter 'code' of type java.lang.String");
+	}
+
+	@Test
+	public void process_nonnullAndNullable() throws Exception {
+		final String source = "package shop;\n" + IMPORTS + "public class Order {\n" + "	@ArgumentsChecked\n"
+				+ "	public void send(@Nonnull @Nullable final String code) {\n" + "	}\n" + "}\n";
+		Assert.assertFalse(compile("shop.Order", source));
+		assertDiagnostic(Diagnostic.Kind.ERROR, "The parameter 'code' cannot be Nonnull and Nullable at once");
+	}
+
+	@Test
+	public void process_sameHelperName() throws Exception {
+		final String source = "package shop;\n" + IMPORTS + "public class Order {\n" + "	@ArgumentsChecked\n"
+				+ "	public void send(final String code) {\n" + "	}\n" + "	@ArgumentsChecked\n"
+				+ "	public void Send(final String code) {\n" + "	}\n" + "}\n";
+		Assert.assertFalse(compile("shop.Order", source));
+		assertDiagnostic(Diagnostic.Kind.ERROR, "The arguments of Send cannot be checked by a generated helper");
+	}
+
+}
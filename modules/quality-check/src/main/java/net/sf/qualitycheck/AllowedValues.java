@@ -0,0 +1,377 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+/**
+ * An immutable set of allowed values, which is built once and used by {@link Check#contains(AllowedValues, Object)}
+ * to test membership repeatedly.
+ * 
+ * <p>
+ * {@link Check#contains(Collection, Object)} calls {@link Collection#contains(Object)} on every check, which scans
+ * lists element by element. An instance of this class instead picks the best representation for its values when it is
+ * built:
+ * <ul>
+ * <li>constants of one enum type are stored as bitmask of their ordinals</li>
+ * <li>{@code Integer} and {@code Long} values are stored unboxed in a sorted array, which is searched binary</li>
+ * <li>{@code String}s are stored in an open-addressing hash table, which uses the cached hash code of the needle</li>
+ * <li>all other values are stored in a {@code HashSet}</li>
+ * </ul>
+ * 
+ * <p>
+ * The membership is decided by {@link Object#equals(Object)} and {@link Object#hashCode()}, like for lists and hash
+ * sets. Sorted sets, whose comparator is not consistent with {@code equals}, cannot be replaced by this class.
+ * 
+ * @param <T>
+ *            type of the allowed values
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public abstract class AllowedValues<T> {
+
+	/**
+	 * Constants of one enum type, which are stored as bitmask of their ordinals
+	 */
+	@Immutable
+	static final class EnumValues<T> extends AllowedValues<T> {
+
+		@Nonnull
+		private final long[] bits;
+
+		@Nonnull
+		private final Class<?> type;
+
+		EnumValues(@Nonnull final Class<?> type, @Nonnull final Object[] values) {
+			this(type, bits(type, values));
+		}
+
+		private EnumValues(@Nonnull final Class<?> type, @Nonnull final long[] bits) {
+			super(count(bits));
+			this.type = type;
+			this.bits = bits;
+		}
+
+		private static long[] bits(@Nonnull final Class<?> type, @Nonnull final Object[] values) {
+			final long[] bits = new long[(type.getEnumConstants().length + Long.SIZE - 1) / Long.SIZE];
+			for (final Object value : values) {
+				final int ordinal = ((Enum<?>) value).ordinal();
+				bits[ordinal >>> 6] |= 1L << ordinal;
+			}
+			return bits;
+		}
+
+		private static int count(@Nonnull final long[] bits) {
+			int count = 0;
+			for (final long word : bits) {
+				count += Long.bitCount(word);
+			}
+			return count;
+		}
+
+		@Override
+		public boolean contains(@Nullable final Object needle) {
+			if (needle instanceof Enum && ((Enum<?>) needle).getDeclaringClass() == type) {
+				final int ordinal = ((Enum<?>) needle).ordinal();
+				return (bits[ordinal >>> 6] & 1L << ordinal) != 0;
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * Values of any type, which are stored in a {@code HashSet}
+	 */
+	@Immutable
+	static final class HashValues<T> extends AllowedValues<T> {
+
+		@Nonnull
+		private final Set<Object> values;
+
+		HashValues(@Nonnull final Object[] values) {
+			this(new HashSet<Object>(Arrays.asList(values)));
+		}
+
+		private HashValues(@Nonnull final Set<Object> values) {
+			super(values.size());
+			this.values = values;
+		}
+
+		@Override
+		public boolean contains(@Nullable final Object needle) {
+			return values.contains(needle);
+		}
+
+	}
+
+	/**
+	 * {@code Integer} values, which are stored unboxed in a sorted array
+	 */
+	@Immutable
+	static final class IntValues<T> extends AllowedValues<T> {
+
+		@Nonnull
+		private final int[] values;
+
+		IntValues(@Nonnull final Object[] values) {
+			this(sortedInts(values));
+		}
+
+		private IntValues(@Nonnull final int[] values) {
+			super(values.length);
+			this.values = values;
+		}
+
+		private static int[] sortedInts(@Nonnull final Object[] values) {
+			final int[] result = new int[values.length];
+			for (int i = 0; i < values.length; i++) {
+				result[i] = ((Integer) values[i]).intValue();
+			}
+			Arrays.sort(result);
+			int length = 0;
+			for (int i = 0; i < result.length; i++) {
+				if (length == 0 || result[length - 1] != result[i]) {
+					result[length++] = result[i];
+				}
+			}
+			return Arrays.copyOf(result, length);
+		}
+
+		@Override
+		public boolean contains(@Nullable final Object needle) {
+			return needle instanceof Integer && Arrays.binarySearch(values, ((Integer) needle).intValue()) >= 0;
+		}
+
+	}
+
+	/**
+	 * {@code Long} values, which are stored unboxed in a sorted array
+	 */
+	@Immutable
+	static final class LongValues<T> extends AllowedValues<T> {
+
+		@Nonnull
+		private final long[] values;
+
+		LongValues(@Nonnull final Object[] values) {
+			this(sortedLongs(values));
+		}
+
+		private LongValues(@Nonnull final long[] values) {
+			super(values.length);
+			this.values = values;
+		}
+
+		private static long[] sortedLongs(@Nonnull final Object[] values) {
+			final long[] result = new long[values.length];
+			for (int i = 0; i < values.length; i++) {
+				result[i] = ((Long) values[i]).longValue();
+			}
+			Arrays.sort(result);
+			int length = 0;
+			for (int i = 0; i < result.length; i++) {
+				if (length == 0 || result[length - 1] != result[i]) {
+					result[length++] = result[i];
+				}
+			}
+			return Arrays.copyOf(result, length);
+		}
+
+		@Override
+		public boolean contains(@Nullable final Object needle) {
+			return needle instanceof Long && Arrays.binarySearch(values, ((Long) needle).longValue()) >= 0;
+		}
+
+	}
+
+	/**
+	 * {@code String} values, which are stored in an open-addressing hash table with linear probing. The table is at
+	 * most half full, so that a miss ends after a few probes.
+	 */
+	@Immutable
+	static final class StringValues<T> extends AllowedValues<T> {
+
+		@Nonnull
+		private final String[] table;
+
+		StringValues(@Nonnull final Object[] values) {
+			this(table(values));
+		}
+
+		private StringValues(@Nonnull final String[] table) {
+			super(count(table));
+			this.table = table;
+		}
+
+		private static int count(@Nonnull final String[] table) {
+			int count = 0;
+			for (final String value : table) {
+				if (value != null) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		private static int spread(final int hash) {
+			return hash ^ hash >>> 16;
+		}
+
+		private static String[] table(@Nonnull final Object[] values) {
+			int capacity = 2;
+			while (capacity < 2 * values.length) {
+				capacity <<= 1;
+			}
+			final String[] table = new String[capacity];
+			for (final Object value : values) {
+				int index = spread(value.hashCode()) & capacity - 1;
+				while (table[index] != null && !table[index].equals(value)) {
+					index = index + 1 & capacity - 1;
+				}
+				table[index] = (String) value;
+			}
+			return table;
+		}
+
+		@Override
+		public boolean contains(@Nullable final Object needle) {
+			if (needle instanceof String) {
+				final int mask = table.length - 1;
+				for (int index = spread(needle.hashCode()) & mask;; index = index + 1 & mask) {
+					final String value = table[index];
+					if (value == null) {
+						return false;
+					}
+					if (value.equals(needle)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * Returns the enum type, if all values are constants of the same enum type.
+	 * 
+	 * @return the declaring class of the constants or {@code null}
+	 */
+	@Nullable
+	private static Class<?> commonEnumType(@Nonnull final Object[] values) {
+		final Class<?> type = ((Enum<?>) values[0]).getDeclaringClass();
+		for (final Object value : values) {
+			if (!(value instanceof Enum) || ((Enum<?>) value).getDeclaringClass() != type) {
+				return null;
+			}
+		}
+		return type;
+	}
+
+	/**
+	 * Checks whether all values are exact instances of the passed type.
+	 */
+	private static boolean isEveryValueOf(@Nonnull final Class<?> type, @Nonnull final Object[] values) {
+		for (final Object value : values) {
+			if (value.getClass() != type) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates a set of allowed values with the best representation for the passed values. The values are copied, so
+	 * later changes of the collection are not reflected.
+	 * 
+	 * @param values
+	 *            the allowed values
+	 * @return an immutable set of the allowed values
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code values} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	@Nonnull
+	public static <T> AllowedValues<T> of(@Nonnull final Collection<? extends T> values) {
+		final Object[] elements = Check.noNullElements(values, "values").toArray();
+		if (elements.length == 0) {
+			return new HashValues<T>(elements);
+		}
+		if (elements[0] instanceof Enum) {
+			final Class<?> type = commonEnumType(elements);
+			if (type != null) {
+				return new EnumValues<T>(type, elements);
+			}
+		} else if (isEveryValueOf(String.class, elements)) {
+			return new StringValues<T>(elements);
+		} else if (isEveryValueOf(Integer.class, elements)) {
+			return new IntValues<T>(elements);
+		} else if (isEveryValueOf(Long.class, elements)) {
+			return new LongValues<T>(elements);
+		}
+		return new HashValues<T>(elements);
+	}
+
+	/**
+	 * Number of distinct allowed values
+	 */
+	private final int size;
+
+	private AllowedValues(@Nonnegative final int size) {
+		this.size = size;
+	}
+
+	/**
+	 * Checks whether the passed object is an allowed value.
+	 * 
+	 * @param needle
+	 *            the object to look up
+	 * @return {@code true} if {@code needle} is equal to one of the allowed values, otherwise {@code false}
+	 */
+	public abstract boolean contains(@Nullable final Object needle);
+
+	/**
+	 * Returns the number of distinct allowed values.
+	 * 
+	 * @return the number of values
+	 */
+	@Nonnegative
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [size=" + size + "]";
+	}
+
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Classes of ASCII characters which can be tested without regular expressions.
+ * 
+ * <p>
+ * Every class is backed by a lookup table. Long strings are additionally tested four characters at a time: the
+ * characters are packed into the 16 bit lanes of a {@code long} and all lanes are compared against the bounds of the
+ * class with a few arithmetic operations (SWAR, SIMD within a register).
+ * 
+ * @author André Rouél
+ */
+enum CharacterClass {
+
+	/**
+	 * The characters 0-9, A-Z and a-z
+	 */
+	ALPHANUMERIC("09AZaz") {
+		@Override
+		boolean matchesAsciiWord(final long word) {
+			return (between(word, '0', '9') | between(word | CASE_BITS, 'a', 'z')) == FLAG_BITS;
+		}
+	},
+
+	/**
+	 * All characters of the 7 bit ASCII character set
+	 */
+	ASCII("\u0000\u007f") {
+		@Override
+		boolean matchesAsciiWord(final long word) {
+			return true;
+		}
+	},
+
+	/**
+	 * The characters 0-9, A-F and a-f
+	 */
+	HEXADECIMAL("09AFaf") {
+		@Override
+		boolean matchesAsciiWord(final long word) {
+			return (between(word, '0', '9') | between(word | CASE_BITS, 'a', 'f')) == FLAG_BITS;
+		}
+	},
+
+	/**
+	 * The characters 0-9
+	 */
+	NUMERIC("09") {
+		@Override
+		boolean matchesAsciiWord(final long word) {
+			return between(word, '0', '9') == FLAG_BITS;
+		}
+	};
+
+	/**
+	 * Bit which distinguishes upper case and lower case letters in every lane
+	 */
+	private static final long CASE_BITS = 0x0020002000200020L;
+
+	/**
+	 * Number of characters which are packed into one {@code long}
+	 */
+	private static final int CHARS_PER_WORD = 4;
+
+	/**
+	 * Highest bit of an ASCII character in every lane, which is used as result flag of the lane comparisons
+	 */
+	private static final long FLAG_BITS = 0x0080008000800080L;
+
+	/**
+	 * The value {@code 1} in every lane
+	 */
+	private static final long LANES = 0x0001000100010001L;
+
+	/**
+	 * Minimum length of a string which is tested word by word
+	 */
+	private static final int MIN_LENGTH_FOR_WORDS = 16;
+
+	/**
+	 * All bits of a lane which must not be set by an ASCII character
+	 */
+	private static final long NON_ASCII_BITS = 0xFF80FF80FF80FF80L;
+
+	/**
+	 * Compares all lanes of an ASCII word against the inclusive bounds {@code lower} and {@code upper}. Both additions
+	 * cannot overflow into the next lane, because every lane holds a value lower than {@code 0x80}.
+	 * 
+	 * @param word
+	 *            four ASCII characters
+	 * @param lower
+	 *            lowest character of the range
+	 * @param upper
+	 *            highest character of the range
+	 * @return the flag bit of each lane is set if the lane is within the range
+	 */
+	private static long between(final long word, final char lower, final char upper) {
+		final long notLower = word + (0x80 - lower) * LANES;
+		final long greaterThanUpper = word + (0x7f - upper) * LANES;
+		return notLower & ~greaterThanUpper & FLAG_BITS;
+	}
+
+	/**
+	 * Lookup table which contains {@code true} for every ASCII character of this class
+	 */
+	private final boolean[] table = new boolean[0x80];
+
+	/**
+	 * Creates a character class from pairs of inclusive bounds.
+	 * 
+	 * @param ranges
+	 *            pairs of lowest and highest character of all ranges of the class
+	 */
+	private CharacterClass(final String ranges) {
+		for (int i = 0; i < ranges.length(); i += 2) {
+			for (char c = ranges.charAt(i); c <= ranges.charAt(i + 1); c++) {
+				table[c] = true;
+			}
+		}
+	}
+
+	/**
+	 * Checks whether all characters of the passed sequence belong to this class. An empty sequence always matches.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values
+	 * @return {@code true} if all characters belong to this class, otherwise {@code false}
+	 */
+	boolean matches(@Nonnull final CharSequence value) {
+		final int length = value.length();
+		int i = 0;
+		if (length >= MIN_LENGTH_FOR_WORDS && value instanceof String) {
+			final String string = (String) value;
+			for (; i <= length - CHARS_PER_WORD; i += CHARS_PER_WORD) {
+				final long word = string.charAt(i) | (long) string.charAt(i + 1) << 16 | (long) string.charAt(i + 2) << 32
+						| (long) string.charAt(i + 3) << 48;
+				if ((word & NON_ASCII_BITS) != 0 || !matchesAsciiWord(word)) {
+					return false;
+				}
+			}
+		}
+		for (; i < length; i++) {
+			final char c = value.charAt(i);
+			if (c >= table.length || !table[c]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether all four characters in the lanes of the passed word belong to this class.
+	 * 
+	 * @param word
+	 *            four ASCII characters
+	 * @return {@code true} if all characters belong to this class, otherwise {@code false}
+	 */
+	abstract boolean matchesAsciiWord(final long word);
+
+	/**
+	 * Checks whether the passed sequence is not empty and all of its characters belong to this class.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values
+	 * @return {@code true} if the sequence is not empty and all characters belong to this class, otherwise {@code false}
+	 */
+	boolean matchesNonEmpty(@Nonnull final CharSequence value) {
+		return value.length() != 0 && matches(value);
+	}
+
+}
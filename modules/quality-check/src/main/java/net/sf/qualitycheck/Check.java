@@ -18,6 +18,10 @@ package net.sf.qualitycheck;
 import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.Collection;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -26,8 +30,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import net.sf.qualitycheck.exception.IllegalAlphanumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalAsciiArgumentException;
 import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
 import net.sf.qualitycheck.exception.IllegalEqualException;
+import net.sf.qualitycheck.exception.IllegalHexadecimalArgumentException;
 import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
 import net.sf.qualitycheck.exception.IllegalMissingAnnotationException;
 import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
@@ -40,6 +47,7 @@ import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
 import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
 import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
 import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
 import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
@@ -57,86 +65,218 @@ import net.sf.qualitycheck.exception.RuntimeInstantiationException;
  * should avoid throwing of {@code NullPointerException}s or {@code IndexOutOfBoundsException}s etc. that needs to be
  * analyzed deeply why they occur.
  * 
+ * <p>
+ * The checks can be switched off on startup for a whole JVM with the system property {@value CheckMode#PROPERTY} (see
+ * {@link CheckMode}). Checks which compute their result, like {@code isNumber} and {@code hasAnnotation}, are always
+ * performed.
+ * 
+ * <p>
+ * The invocations and failures of the checks can be counted with the system property {@value CheckMetrics#PROPERTY}
+ * (see {@link CheckMetrics}). Failed checks and expensive checks of long inputs are reported to an installed
+ * {@link CheckListener}.
+ * 
  * @author André Rouél
  * @author Dominik Seichter
  */
 public final class Check {
 
 	/**
-	 * Holder for the regular expression to determine numeric values. Using the holder pattern guarantees that the
-	 * regular expression is initialized before the first use (thread safe!) and that it is only initialized if it is
-	 * needed. So, we do not pay any performance bounty for regular expressions when using other checks.
+	 * Indicates whether all checks are performed, which is only the case in mode {@link CheckMode#ENABLED}. The flag is a
+	 * {@code static final} field, so the JIT compiler removes disabled checks completely.
 	 */
-	protected static final class NumericRegularExpressionHolder {
-
-		private static final Pattern NUMERIC_REGEX = Pattern.compile("[0-9]+");
-
-		@Nonnull
-		public static Pattern getPattern() {
-			return NUMERIC_REGEX;
-		}
-
-	}
+	private static final boolean CHECKS_ENABLED = CheckMode.current() == CheckMode.ENABLED;
 
 	/**
 	 * Representation of an empty argument name.
 	 */
 	private static final String EMPTY_ARGUMENT_NAME = "";
 
+	/**
+	 * Indicates whether the checks against {@code null} are performed, which is the case in all modes except
+	 * {@link CheckMode#DISABLED}
+	 */
+	private static final boolean NULL_CHECKS_ENABLED = CheckMode.current() != CheckMode.DISABLED;
+
+	/**
+	 * Ensures that two arguments are not {@code null}. This saves the bytecode of a second call, so that checks of two
+	 * arguments stay small enough to be inlined.
+	 * 
+	 * @param first
+	 *            first reference
+	 * @param firstName
+	 *            name of the first reference (in source code)
+	 * @param second
+	 *            second reference
+	 * @param secondName
+	 *            name of the second reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if one of the references is {@code null}
+	 */
+	private static void bothNotNull(@Nullable final Object first, @Nonnull final String firstName, @Nullable final Object second,
+			@Nonnull final String secondName) {
+		Check.notNull(first, firstName);
+		Check.notNull(second, secondName);
+	}
+
 	/**
 	 * Checks the passed {@code value} against the ranges of the given datatype.
 	 * 
+	 * <p>
+	 * Values of the primitive wrapper types are parsed by {@link NumberParser} without any intermediate objects. Only
+	 * values which are out of range or which cannot be handled by the parser are converted by
+	 * {@link #convertNumberInRange(String, Class)}.
+	 * 
 	 * @param value
 	 *            value which must be a number and in the range of the given datatype.
 	 * @param type
 	 *            requested return value type, must be a subclass of {@code Number}
-	 * @return a number
+	 * @return a number or {@code null} if the given value is no number
 	 * 
 	 * @throws NumberFormatException
 	 *             if the given value can not be parsed as a number
 	 */
-	private static <T> Number checkNumberInRange(final String value, final Class<T> type) {
-		final Number ret;
+	@Nullable
+	static <T> Number checkNumberInRange(final String value, final Class<T> type) {
+		Number ret = null;
+		NumberParser.Result result = NumberParser.Result.UNSUPPORTED;
 		if (type.equals(Byte.class)) {
-			final Number number = new BigInteger(value);
-			NumberInRange.checkByte(number);
-			ret = Byte.valueOf(number.byteValue());
+			result = NumberParser.checkIntegral(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+			if (result == NumberParser.Result.VALID) {
+				ret = Byte.valueOf((byte) NumberParser.parseIntegral(value));
+			}
 		} else if (type.equals(Double.class)) {
-			final Number number = new BigDecimal(value);
-			NumberInRange.checkDouble(number);
-			ret = Double.valueOf(number.doubleValue());
+			result = NumberParser.checkDecimal(value);
+			if (result == NumberParser.Result.VALID) {
+				final double number = NumberParser.parseDouble(value);
+				if (Math.abs(number) < Double.MAX_VALUE) {
+					ret = Double.valueOf(number);
+				}
+			}
 		} else if (type.equals(Float.class)) {
-			final Number number = new BigDecimal(value);
-			NumberInRange.checkFloat(number);
-			ret = Float.valueOf(number.floatValue());
+			result = NumberParser.checkDecimal(value);
+			if (result == NumberParser.Result.VALID) {
+				final float number = NumberParser.parseFloat(value);
+				if (Math.abs(number) < Float.MAX_VALUE) {
+					ret = Float.valueOf(number);
+				}
+			}
 		} else if (type.equals(Integer.class)) {
-			final Number number = new BigInteger(value);
-			NumberInRange.checkInteger(number);
-			ret = Integer.valueOf(number.intValue());
+			result = NumberParser.checkIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+			if (result == NumberParser.Result.VALID) {
+				ret = Integer.valueOf((int) NumberParser.parseIntegral(value));
+			}
 		} else if (type.equals(Long.class)) {
-			final Number number = new BigInteger(value);
-			NumberInRange.checkLong(number);
-			ret = Long.valueOf(number.longValue());
+			result = NumberParser.checkIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
+			if (result == NumberParser.Result.VALID) {
+				ret = Long.valueOf(NumberParser.parseIntegral(value));
+			}
 		} else if (type.equals(Short.class)) {
-			final Number number = new BigInteger(value);
-			NumberInRange.checkShort(number);
-			ret = Short.valueOf(number.shortValue());
-		} else if (type.equals(BigInteger.class)) {
-			ret = new BigInteger(value);
-		} else if (type.equals(BigDecimal.class)) {
-			ret = new BigDecimal(value);
-		} else {
-			throw new IllegalNumberArgumentException("Return value is no known subclass of 'java.lang.Number': " + type.getName());
+			result = NumberParser.checkIntegral(value, Short.MIN_VALUE, Short.MAX_VALUE);
+			if (result == NumberParser.Result.VALID) {
+				ret = Short.valueOf((short) NumberParser.parseIntegral(value));
+			}
+		}
+
+		// values which are out of range or too exotic for the parser take the exact but expensive way
+		if (ret == null && result != NumberParser.Result.MALFORMED) {
+			ret = convertNumberInRange(value, type);
 		}
 		return ret;
 	}
 
+	/**
+	 * Checks that a slice specified by {@code offset} and {@code length} is within an array of the passed size. The
+	 * comparison is written so that {@code offset + length} cannot overflow.
+	 * 
+	 * @param offset
+	 *            index of the first element of the slice
+	 * @param length
+	 *            number of elements of the slice
+	 * @param size
+	 *            length of the array
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the array
+	 */
+	private static void checkSlice(final int offset, final int length, final int size) {
+		if (offset < 0 || length < 0 || offset > size - length) {
+			throw Failures.illegalSlice(offset, length, size);
+		}
+	}
+
+	/**
+	 * Ensures that an element {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * Unlike {@link Check#contains(Collection, Object)} the lookup does not scan the values, because
+	 * {@link AllowedValues} stores them in a representation which is chosen for their type when it is built.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(AllowedValues, Object, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be one of the allowed values.
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code haystack} or {@code needle} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not one of the allowed values
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> T contains(@Nonnull final AllowedValues<T> haystack, @Nonnull final T needle) {
+		bothNotNull(haystack, "haystack", needle, "needle");
+
+		if (isEnabled(CheckMetrics.CONTAINS) && !haystack.contains(needle)) {
+			throw Failures.illegalNotContainedArgument(needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that an element {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * Unlike {@link Check#contains(Collection, Object, String)} the lookup does not scan the values, because
+	 * {@link AllowedValues} stores them in a representation which is chosen for their type when it is built.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be one of the allowed values.
+	 * @param name
+	 *            name of argument of {@code needle}
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code haystack} or {@code needle} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not one of the allowed values
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> T contains(@Nonnull final AllowedValues<T> haystack, @Nonnull final T needle,
+			@Nonnull final String name) {
+		bothNotNull(haystack, "haystack", needle, "needle");
+
+		if (isEnabled(CheckMetrics.CONTAINS) && !haystack.contains(needle)) {
+			throw Failures.illegalNotContainedArgument(name, needle);
+		}
+
+		return needle;
+	}
+
 	/**
 	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
 	 * 
 	 * <p>
 	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
-	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * check is implemented using {@link java.util.Collection#contains(Object)}, which scans lists element by element.
+	 * Large allow-lists which are checked often should be built once as {@link AllowedValues}.
 	 * 
 	 * <p>
 	 * We recommend to use the overloaded method {@link Check#contains(Collection, Object, String)} and pass as second
@@ -154,11 +294,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
 	public static <T extends Object> T contains(@Nonnull final Collection<T> haystack, @Nonnull final T needle) {
-		Check.notNull(haystack, "haystack");
-		Check.notNull(needle, "needle");
+		bothNotNull(haystack, "haystack", needle, "needle");
 
-		if (!haystack.contains(needle)) {
-			throw new IllegalNotContainedArgumentException(needle);
+		if (isEnabled(CheckMetrics.CONTAINS) && !isContained(haystack, needle)) {
+			throw Failures.illegalNotContainedArgument(needle);
 		}
 
 		return needle;
@@ -169,7 +308,8 @@ public final class Check {
 	 * 
 	 * <p>
 	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
-	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * check is implemented using {@link java.util.Collection#contains(Object)}, which scans lists element by element.
+	 * Large allow-lists which are checked often should be built once as {@link AllowedValues}.
 	 * 
 	 * @param haystack
 	 *            A collection which must contain {@code needle}
@@ -185,32 +325,62 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
 	public static <T extends Object> T contains(@Nonnull final Collection<T> haystack, @Nonnull final T needle, @Nonnull final String name) {
-		Check.notNull(haystack, "haystack");
-		Check.notNull(needle, "needle");
+		bothNotNull(haystack, "haystack", needle, "needle");
 
-		if (!haystack.contains(needle)) {
-			throw new IllegalNotContainedArgumentException(name, needle);
+		if (isEnabled(CheckMetrics.CONTAINS) && !isContained(haystack, needle)) {
+			throw Failures.illegalNotContainedArgument(name, needle);
 		}
 
 		return needle;
 	}
 
 	/**
-	 * Checks if the given array contains {@code null}.
+	 * Converts the passed {@code value} with the help of {@code BigInteger} or {@code BigDecimal} and checks it against
+	 * the ranges of the given datatype.
 	 * 
-	 * @param array
-	 *            reference to an array
-	 * @return {@code true} if the array contains {@code null}, otherwise {@code false}
-	 */
-	private static boolean containsNullElements(@Nonnull final Object[] array) {
-		boolean containsNull = false;
-		for (final Object o : array) {
-			if (o == null) {
-				containsNull = true;
-				break;
-			}
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}
+	 * @return a number
+	 * 
+	 * @throws NumberFormatException
+	 *             if the given value can not be parsed as a number
+	 */
+	private static <T> Number convertNumberInRange(final String value, final Class<T> type) {
+		final Number ret;
+		if (type.equals(Byte.class)) {
+			final Number number = new BigInteger(value);
+			NumberInRange.checkByte(number);
+			ret = Byte.valueOf(number.byteValue());
+		} else if (type.equals(Double.class)) {
+			final Number number = new BigDecimal(value);
+			NumberInRange.checkDouble(number);
+			ret = Double.valueOf(number.doubleValue());
+		} else if (type.equals(Float.class)) {
+			final Number number = new BigDecimal(value);
+			NumberInRange.checkFloat(number);
+			ret = Float.valueOf(number.floatValue());
+		} else if (type.equals(Integer.class)) {
+			final Number number = new BigInteger(value);
+			NumberInRange.checkInteger(number);
+			ret = Integer.valueOf(number.intValue());
+		} else if (type.equals(Long.class)) {
+			final Number number = new BigInteger(value);
+			NumberInRange.checkLong(number);
+			ret = Long.valueOf(number.longValue());
+		} else if (type.equals(Short.class)) {
+			final Number number = new BigInteger(value);
+			NumberInRange.checkShort(number);
+			ret = Short.valueOf(number.shortValue());
+		} else if (type.equals(BigInteger.class)) {
+			ret = new BigInteger(value);
+		} else if (type.equals(BigDecimal.class)) {
+			ret = new BigDecimal(value);
+		} else {
+			throw Failures.illegalNumberType(type);
 		}
-		return containsNull;
+		return ret;
 	}
 
 	/**
@@ -234,8 +404,8 @@ public final class Check {
 	public static boolean equals(final boolean expected, final boolean check) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(check);
 		}
 
 		return check;
@@ -261,8 +431,8 @@ public final class Check {
 	public static boolean equals(final boolean expected, final boolean check, @Nonnull final String message) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(message, check);
 		}
 
 		return check;
@@ -288,8 +458,8 @@ public final class Check {
 	public static byte equals(final byte expected, final byte check) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(check);
 		}
 
 		return check;
@@ -314,8 +484,8 @@ public final class Check {
 	public static byte equals(final byte expected, final byte check, @Nonnull final String message) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(message, check);
 		}
 
 		return check;
@@ -341,8 +511,8 @@ public final class Check {
 	public static char equals(final char expected, final char check) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(check);
 		}
 
 		return check;
@@ -367,8 +537,8 @@ public final class Check {
 	public static char equals(final char expected, final char check, @Nonnull final String message) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(message, check);
 		}
 
 		return check;
@@ -394,8 +564,8 @@ public final class Check {
 	public static int equals(final int expected, final int check) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(check);
 		}
 
 		return check;
@@ -420,8 +590,8 @@ public final class Check {
 	public static int equals(final int expected, final int check, @Nonnull final String message) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(message, check);
 		}
 
 		return check;
@@ -447,8 +617,8 @@ public final class Check {
 	public static long equals(final long expected, final long check) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(check);
 		}
 
 		return check;
@@ -473,8 +643,8 @@ public final class Check {
 	public static long equals(final long expected, final long check, @Nonnull final String message) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(message, check);
 		}
 
 		return check;
@@ -501,8 +671,8 @@ public final class Check {
 	public static short equals(final short expected, final short check) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(check);
 		}
 
 		return check;
@@ -528,8 +698,8 @@ public final class Check {
 	public static short equals(final short expected, final short check, @Nonnull final String message) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected != check) {
+			throw Failures.illegalNotEqual(message, check);
 		}
 
 		return check;
@@ -556,11 +726,10 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
 	public static <T extends Comparable<T>> T equals(@Nonnull final T expected, @Nonnull final T check) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) != 0) {
-			throw new IllegalNotEqualException(check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected.compareTo(check) != 0) {
+			throw Failures.illegalNotEqual(check);
 		}
 
 		return check;
@@ -588,11 +757,10 @@ public final class Check {
 	public static <T extends Object> T equals(@Nonnull final T expected, @Nonnull final T check) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (!expected.equals(check)) {
-			throw new IllegalNotEqualException(check);
+		if (isEnabled(CheckMetrics.EQUALS) && !expected.equals(check)) {
+			throw Failures.illegalNotEqual(check);
 		}
 
 		return check;
@@ -618,11 +786,10 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
 	public static <T extends Comparable<T>> T equals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) != 0) {
-			throw new IllegalNotEqualException(message, check);
+		if (isEnabled(CheckMetrics.EQUALS) && expected.compareTo(check) != 0) {
+			throw Failures.illegalNotEqual(message, check);
 		}
 
 		return check;
@@ -648,16 +815,122 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
 	public static <T extends Object> T equals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) { // NOSONAR
 		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (!expected.equals(check)) {
-			throw new IllegalNotEqualException(message, check);
+		if (isEnabled(CheckMetrics.EQUALS) && !expected.equals(check)) {
+			throw Failures.illegalNotEqual(message, check);
 		}
 
 		return check;
 	}
 
+	/**
+	 * Ensures that the sub-range from {@code fromIndex} (inclusive) to {@code fromIndex + size} (exclusive) is within
+	 * the bounds of the remaining part of a {@code ByteBuffer}, which ranges from {@code 0} to its limit. The absolute
+	 * index of the first byte is returned, so that a record can be read with a single expression like
+	 * {@code buffer.getLong(Check.fromIndexSize(offset, 8, buffer))}.
+	 * 
+	 * <p>
+	 * This check also covers a {@link java.nio.MappedByteBuffer} of a memory-mapped file.
+	 * 
+	 * @param fromIndex
+	 *            absolute index of the first byte of the sub-range
+	 * @param size
+	 *            number of bytes of the sub-range
+	 * @param buffer
+	 *            a buffer whose limit bounds the sub-range
+	 * @return the passed {@code fromIndex}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code buffer} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the sub-range is not within the bounds of the buffer
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class })
+	public static int fromIndexSize(final long fromIndex, final long size, @Nonnull final ByteBuffer buffer) {
+		Check.notNull(buffer, "buffer");
+		return (int) fromIndexSize(fromIndex, size, buffer.limit());
+	}
+
+	/**
+	 * Ensures that the sub-range from {@code fromIndex} (inclusive) to {@code fromIndex + size} (exclusive) is within
+	 * the bounds from {@code 0} (inclusive) to {@code length} (exclusive).
+	 * 
+	 * <p>
+	 * Unlike {@link #range(long, long, long)} this check cannot be fooled by an overflow of {@code fromIndex + size}.
+	 * The bounds are tested with a single comparison of the sign bit of all intermediate values, without any branch per
+	 * condition. To check an address/length pair against an off-heap region, pass the address relative to the base
+	 * address of the region as {@code fromIndex} and the length of the region as {@code length}.
+	 * 
+	 * @param fromIndex
+	 *            index of the first element of the sub-range
+	 * @param size
+	 *            number of elements of the sub-range
+	 * @param length
+	 *            upper bound (exclusive) of the whole range
+	 * @return the passed {@code fromIndex}
+	 * @throws IllegalRangeException
+	 *             if the sub-range is not within the bounds of the whole range
+	 */
+	@Throws(IllegalRangeException.class)
+	public static long fromIndexSize(final long fromIndex, final long size, final long length) {
+		if (isEnabled(CheckMetrics.FROM_INDEX_SIZE) && !isFromIndexSize(fromIndex, size, length)) {
+			throw Failures.illegalFromIndexSize(fromIndex, size, length);
+		}
+		return fromIndex;
+	}
+
+	/**
+	 * Ensures that the sub-range from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) is within the bounds
+	 * of the remaining part of a {@code ByteBuffer}, which ranges from {@code 0} to its limit. The absolute index of the
+	 * first byte is returned.
+	 * 
+	 * <p>
+	 * This check also covers a {@link java.nio.MappedByteBuffer} of a memory-mapped file.
+	 * 
+	 * @param fromIndex
+	 *            absolute index of the first byte of the sub-range
+	 * @param toIndex
+	 *            absolute index after the last byte of the sub-range
+	 * @param buffer
+	 *            a buffer whose limit bounds the sub-range
+	 * @return the passed {@code fromIndex}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code buffer} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the sub-range is not within the bounds of the buffer
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class })
+	public static int fromToIndex(final long fromIndex, final long toIndex, @Nonnull final ByteBuffer buffer) {
+		Check.notNull(buffer, "buffer");
+		return (int) fromToIndex(fromIndex, toIndex, buffer.limit());
+	}
+
+	/**
+	 * Ensures that the sub-range from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) is within the bounds
+	 * from {@code 0} (inclusive) to {@code length} (exclusive).
+	 * 
+	 * <p>
+	 * The conditions are the same as of {@link #range(long, long, long)}, but the index of the first element is
+	 * returned.
+	 * 
+	 * @param fromIndex
+	 *            index of the first element of the sub-range
+	 * @param toIndex
+	 *            index after the last element of the sub-range
+	 * @param length
+	 *            upper bound (exclusive) of the whole range
+	 * @return the passed {@code fromIndex}
+	 * @throws IllegalRangeException
+	 *             if the sub-range is not within the bounds of the whole range
+	 */
+	@Throws(IllegalRangeException.class)
+	public static long fromToIndex(final long fromIndex, final long toIndex, final long length) {
+		range(fromIndex, toIndex, length);
+		return fromIndex;
+	}
+
 	/**
 	 * Ensures that a passed {@code Comparable} is greater or equal compared to another {@code Comparable}. The
 	 * comparison is made using {@code expected.compareTo(check) > 0}.
@@ -675,11 +948,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
 	public static <T extends Comparable<T>> T greaterOrEqualThan(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) > 0) {
-			throw new IllegalNotGreaterOrEqualThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_OR_EQUAL_THAN) && expected.compareTo(check) > 0) {
+			throw Failures.illegalNotGreaterOrEqualThan(check);
 		}
 
 		return check;
@@ -706,11 +978,10 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
 	public static <T extends Comparable<T>> T greaterOrEqualThan(@Nonnull final T expected, @Nonnull final T check,
 			@Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) > 0) {
-			throw new IllegalNotGreaterOrEqualThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_OR_EQUAL_THAN) && expected.compareTo(check) > 0) {
+			throw Failures.illegalNotGreaterOrEqualThan(message, check);
 		}
 
 		return check;
@@ -731,8 +1002,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static byte greaterThan(final byte expected, final byte check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(check);
 		}
 
 		return check;
@@ -756,8 +1027,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static byte greaterThan(final byte expected, final byte check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(message, check);
 		}
 
 		return check;
@@ -778,8 +1049,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static char greaterThan(final char expected, final char check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(check);
 		}
 
 		return check;
@@ -803,8 +1074,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static char greaterThan(final char expected, final char check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(message, check);
 		}
 
 		return check;
@@ -825,8 +1096,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static double greaterThan(final double expected, final double check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(check);
 		}
 
 		return check;
@@ -850,8 +1121,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static double greaterThan(final double expected, final double check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(message, check);
 		}
 
 		return check;
@@ -872,8 +1143,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static float greaterThan(final float expected, final float check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(check);
 		}
 
 		return check;
@@ -897,8 +1168,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static float greaterThan(final float expected, final float check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(message, check);
 		}
 
 		return check;
@@ -919,8 +1190,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static int greaterThan(final int expected, final int check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(check);
 		}
 
 		return check;
@@ -944,8 +1215,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static int greaterThan(final int expected, final int check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(message, check);
 		}
 
 		return check;
@@ -966,8 +1237,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static long greaterThan(final long expected, final long check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(check);
 		}
 
 		return check;
@@ -991,8 +1262,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static long greaterThan(final long expected, final long check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(message, check);
 		}
 
 		return check;
@@ -1013,8 +1284,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static short greaterThan(final short expected, final short check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(check);
 		}
 
 		return check;
@@ -1038,8 +1309,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotGreaterThanException.class)
 	public static short greaterThan(final short expected, final short check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected >= check) {
+			throw Failures.illegalNotGreaterThan(message, check);
 		}
 
 		return check;
@@ -1062,11 +1333,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
 	public static <T extends Comparable<T>> T greaterThan(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) >= 0) {
-			throw new IllegalNotGreaterThanException(check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected.compareTo(check) >= 0) {
+			throw Failures.illegalNotGreaterThan(check);
 		}
 
 		return check;
@@ -1092,92 +1362,1124 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
 	public static <T extends Comparable<T>> T greaterThan(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) >= 0) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (isEnabled(CheckMetrics.GREATER_THAN) && expected.compareTo(check) >= 0) {
+			throw Failures.illegalNotGreaterThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed class has an annotation of a specific type
+	 * Ensures that all elements of a {@code double} array are greater than {@code expected}.
 	 * 
-	 * @param clazz
-	 *            the class that must have a required annotation
-	 * @param annotation
-	 *            the type of annotation that is required on the class
-	 * @return the given annotation which is present on the checked class
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
-	 * @throws IllegalMissingAnnotationException
-	 *             if the passed annotation is not annotated at the given class
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalMissingAnnotationException.class })
-	public static Annotation hasAnnotation(@Nonnull final Class<?> clazz, @Nonnull final Class<? extends Annotation> annotation) {
-		Check.notNull(clazz, "clazz");
-		Check.notNull(annotation, "annotation");
-		if (!clazz.isAnnotationPresent(annotation)) {
-			throw new IllegalMissingAnnotationException(annotation, clazz);
-		}
-
-		return clazz.getAnnotation(annotation);
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static double[] greaterThan(final double expected, @Nonnull final double[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return greaterThan(expected, values, 0, values.length, name);
 	}
 
 	/**
-	 * Ensures that a passed argument is a member of a specific type.
+	 * Ensures that all elements of the specified slice of a {@code double} array are greater than {@code expected}.
 	 * 
-	 * @param type
-	 *            class that the given object is a member of
-	 * @param obj
-	 *            the object reference that should be a member of a specific {@code type}
-	 * @return the given object cast to type
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
-	 * @throws IllegalInstanceOfArgumentException
-	 *             if the given argument {@code obj} is not a member of {@code type}
-	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
-	@SuppressWarnings("unchecked")
-	public static <T> T instanceOf(@Nonnull final Class<?> type, @Nonnull final Object obj) {
-		return (T) instanceOf(type, obj, EMPTY_ARGUMENT_NAME);
-	}
-
-	/**
-	 * Ensures that a passed argument is a member of a specific type.
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
-	 * @param type
-	 *            class that the given object is a member of
-	 * @param obj
-	 *            the object reference that should be a member of a specific {@code type}
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
 	 * @param name
-	 *            name of object reference (in source code)
-	 * @return the given object cast to type
-	 * 
-	 * @throws IllegalInstanceOfArgumentException
-	 *             if the given argument {@code obj} is not a member of {@code type}
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
-	@SuppressWarnings("unchecked")
-	public static <T> T instanceOf(@Nonnull final Class<?> type, @Nonnull final Object obj, @Nullable final String name) {
-		Check.notNull(type, "type");
-		Check.notNull(obj, "obj");
-		if (!type.isInstance(obj)) {
-			throw new IllegalInstanceOfArgumentException(name, type, obj.getClass());
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotGreaterThanException.class })
+	public static double[] greaterThan(final double expected, @Nonnull final double[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.GREATER_THAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minGreaterThan(expected),
+					PrimitiveArrays.maxGreaterThan(expected), values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotGreaterThanElement(expected, name, values, index);
+			}
 		}
-		return (T) obj;
+		return values;
 	}
 
 	/**
-	 * Ensures that a given argument is {@code null}.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are greater than
+	 * {@code expected}.
 	 * 
-	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
-	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
-	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
-	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static DoubleBuffer greaterThan(final double expected, @Nonnull final DoubleBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.GREATER_THAN)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minGreaterThan(expected),
+					PrimitiveArrays.maxGreaterThan(expected), values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotGreaterThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code float} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static float[] greaterThan(final float expected, @Nonnull final float[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return greaterThan(expected, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotGreaterThanException.class })
+	public static float[] greaterThan(final float expected, @Nonnull final float[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.GREATER_THAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minGreaterThan(expected),
+					PrimitiveArrays.maxGreaterThan(expected), values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotGreaterThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static int[] greaterThan(final int expected, @Nonnull final int[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return greaterThan(expected, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of an {@code int} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotGreaterThanException.class })
+	public static int[] greaterThan(final int expected, @Nonnull final int[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.GREATER_THAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minGreaterThan(expected),
+					PrimitiveArrays.maxGreaterThan(expected), values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotGreaterThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are greater than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static IntBuffer greaterThan(final int expected, @Nonnull final IntBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.GREATER_THAN)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minGreaterThan(expected),
+					PrimitiveArrays.maxGreaterThan(expected), values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotGreaterThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static long[] greaterThan(final long expected, @Nonnull final long[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return greaterThan(expected, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code long} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotGreaterThanException.class })
+	public static long[] greaterThan(final long expected, @Nonnull final long[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.GREATER_THAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minGreaterThan(expected),
+					PrimitiveArrays.maxGreaterThan(expected), values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotGreaterThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are greater than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static LongBuffer greaterThan(final long expected, @Nonnull final LongBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.GREATER_THAN)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minGreaterThan(expected),
+					PrimitiveArrays.maxGreaterThan(expected), values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotGreaterThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that a passed class has an annotation of a specific type
+	 * 
+	 * <p>
+	 * The result of the lookup is cached per pair of class and annotation type. The cache references the classes only
+	 * weakly, so that it does not prevent class loaders from being unloaded.
+	 * 
+	 * @param clazz
+	 *            the class that must have a required annotation
+	 * @param annotation
+	 *            the type of annotation that is required on the class
+	 * @return the given annotation which is present on the checked class
+	 * 
+	 * @throws IllegalMissingAnnotationException
+	 *             if the passed annotation is not annotated at the given class
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalMissingAnnotationException.class })
+	public static Annotation hasAnnotation(@Nonnull final Class<?> clazz, @Nonnull final Class<? extends Annotation> annotation) {
+		Check.notNull(clazz, "clazz");
+		Check.notNull(annotation, "annotation");
+		final Annotation result = ClassPairCache.getAnnotation(clazz, annotation);
+		if (result == null) {
+			throw Failures.illegalMissingAnnotation(annotation, clazz);
+		}
+		return result;
+	}
+
+	/**
+	 * Searches the first element of an iterable that is {@code null}. Scans of long collections are reported to the
+	 * installed {@link CheckListener}. Iterables which are no collections are not reported, because their size is
+	 * unknown in advance.
+	 * 
+	 * @param iterable
+	 *            the iterable to scan
+	 * @return index of the first element that is {@code null} or {@link Elements#NOT_FOUND}
+	 */
+	private static int indexOfNull(@Nonnull final Iterable<?> iterable) {
+		final Object context = CheckListeners.ENABLED && iterable instanceof Collection<?> ? CheckListeners.expensiveCheckStarted(
+				CheckMetrics.NO_NULL_ELEMENTS, ((Collection<?>) iterable).size()) : null;
+		final int index = Elements.indexOfNull(iterable);
+		CheckListeners.expensiveCheckFinished(context);
+		return index;
+	}
+
+	/**
+	 * Searches the first element of an array that is {@code null}. Scans of long arrays are reported to the installed
+	 * {@link CheckListener}.
+	 * 
+	 * @param array
+	 *            the array to scan
+	 * @return index of the first element that is {@code null} or {@link Elements#NOT_FOUND}
+	 */
+	private static int indexOfNull(@Nonnull final Object[] array) {
+		final Object context = CheckListeners.ENABLED ? CheckListeners.expensiveCheckStarted(CheckMetrics.NO_NULL_ELEMENTS,
+				array.length) : null;
+		final int index = Elements.indexOfNull(array, 0, array.length);
+		CheckListeners.expensiveCheckFinished(context);
+		return index;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static double[] inRange(final double min, final double max, @Nonnull final double[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return inRange(min, max, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code double} array are within the range from {@code min}
+	 * to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static double[] inRange(final double min, final double max, @Nonnull final double[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.IN_RANGE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(min, max, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNumberRangeElement(min, max, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are within the
+	 * range from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static DoubleBuffer inRange(final double min, final double max, @Nonnull final DoubleBuffer values,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.IN_RANGE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(min, max, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNumberRangeElement(min, max, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code float} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static float[] inRange(final float min, final float max, @Nonnull final float[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return inRange(min, max, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are within the range from {@code min}
+	 * to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static float[] inRange(final float min, final float max, @Nonnull final float[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.IN_RANGE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(min, max, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNumberRangeElement(min, max, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static int[] inRange(final int min, final int max, @Nonnull final int[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return inRange(min, max, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of an {@code int} array are within the range from {@code min} to
+	 * {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static int[] inRange(final int min, final int max, @Nonnull final int[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.IN_RANGE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(min, max, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNumberRangeElement(min, max, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are within the range
+	 * from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static IntBuffer inRange(final int min, final int max, @Nonnull final IntBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.IN_RANGE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(min, max, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNumberRangeElement(min, max, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static long[] inRange(final long min, final long max, @Nonnull final long[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return inRange(min, max, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code long} array are within the range from {@code min} to
+	 * {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static long[] inRange(final long min, final long max, @Nonnull final long[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.IN_RANGE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(min, max, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNumberRangeElement(min, max, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are within the range
+	 * from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static LongBuffer inRange(final long min, final long max, @Nonnull final LongBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.IN_RANGE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(min, max, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNumberRangeElement(min, max, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that a passed argument is a member of a specific type.
+	 * 
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
+	 * @return the given object cast to type
+	 * 
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the given argument {@code obj} is not a member of {@code type}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
+	@SuppressWarnings("unchecked")
+	public static <T> T instanceOf(@Nonnull final Class<?> type, @Nonnull final Object obj) {
+		return (T) instanceOf(type, obj, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a passed argument is a member of a specific type.
+	 * 
+	 * <p>
+	 * Checks against interfaces are cached per pair of interface and class of the object, so that concurrent checks of
+	 * the same classes do not write any shared state. The cache references the classes only weakly.
+	 * 
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given object cast to type
+	 * 
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the given argument {@code obj} is not a member of {@code type}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
+	@SuppressWarnings("unchecked")
+	public static <T> T instanceOf(@Nonnull final Class<?> type, @Nonnull final Object obj, @Nullable final String name) {
+		bothNotNull(type, "type", obj, "obj");
+		if (isEnabled(CheckMetrics.INSTANCE_OF) && !ClassPairCache.isInstance(type, obj)) {
+			throw Failures.illegalInstanceOfArgument(name, type, obj);
+		}
+		return (T) obj;
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is alphanumeric. Alphanumeric arguments consist only of
+	 * the characters 0-9, A-Z and a-z and must not be empty (think of an identifier or a token).
+	 * 
+	 * <p>
+	 * The check works without regular expressions and does not allocate any objects.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isAlphanumeric(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be alphanumeric
+	 * @return the given string argument
+	 * @throws IllegalAlphanumericArgumentException
+	 *             if the given argument {@code value} is not alphanumeric
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalAlphanumericArgumentException.class })
+	public static <T extends CharSequence> T isAlphanumeric(@Nonnull final T value) {
+		return isAlphanumeric(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is alphanumeric. Alphanumeric arguments consist only of
+	 * the characters 0-9, A-Z and a-z and must not be empty (think of an identifier or a token).
+	 * 
+	 * <p>
+	 * The check works without regular expressions and does not allocate any objects.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be alphanumeric
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given string argument
+	 * @throws IllegalAlphanumericArgumentException
+	 *             if the given argument {@code value} is not alphanumeric
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalAlphanumericArgumentException.class })
+	public static <T extends CharSequence> T isAlphanumeric(@Nonnull final T value, @Nullable final String name) {
+		Check.notNull(value, "value");
+		if (isEnabled(CheckMetrics.IS_ALPHANUMERIC) && !CharacterClass.ALPHANUMERIC.matchesNonEmpty(value)) {
+			throw Failures.illegalAlphanumericArgument(name, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values contains only characters of the 7 bit ASCII character
+	 * set. An empty sequence is accepted.
+	 * 
+	 * <p>
+	 * The check works without regular expressions and does not allocate any objects.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isAscii(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must contain only ASCII characters
+	 * @return the given string argument
+	 * @throws IllegalAsciiArgumentException
+	 *             if the given argument {@code value} contains a character which is not ASCII
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalAsciiArgumentException.class })
+	public static <T extends CharSequence> T isAscii(@Nonnull final T value) {
+		return isAscii(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values contains only characters of the 7 bit ASCII character
+	 * set. An empty sequence is accepted.
+	 * 
+	 * <p>
+	 * The check works without regular expressions and does not allocate any objects.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must contain only ASCII characters
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given string argument
+	 * @throws IllegalAsciiArgumentException
+	 *             if the given argument {@code value} contains a character which is not ASCII
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalAsciiArgumentException.class })
+	public static <T extends CharSequence> T isAscii(@Nonnull final T value, @Nullable final String name) {
+		Check.notNull(value, "value");
+		if (isEnabled(CheckMetrics.IS_ASCII) && !CharacterClass.ASCII.matches(value)) {
+			throw Failures.illegalAsciiArgument(name, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Checks whether a collection contains an element. Lookups in long collections are reported to the installed
+	 * {@link CheckListener}, because most collections search linearly.
+	 * 
+	 * @param haystack
+	 *            a collection
+	 * @param needle
+	 *            the searched element
+	 * @return {@code true} if {@code haystack} contains {@code needle}, otherwise {@code false}
+	 */
+	private static boolean isContained(@Nonnull final Collection<?> haystack, @Nonnull final Object needle) {
+		final Object context = CheckListeners.ENABLED ? CheckListeners.expensiveCheckStarted(CheckMetrics.CONTAINS,
+				haystack.size()) : null;
+		final boolean contained = haystack.contains(needle);
+		CheckListeners.expensiveCheckFinished(context);
+		return contained;
+	}
+
+	/**
+	 * Returns whether the checks are enabled and counts the invocation of a check if the metrics are enabled. Both flags
+	 * are constants for the JIT compiler, so this method costs nothing unless the metrics are enabled.
+	 * 
+	 * @param check
+	 *            index of the check in {@link CheckMetrics}
+	 * @return {@code true} if the checks are enabled, otherwise {@code false}
+	 */
+	private static boolean isEnabled(final int check) {
+		if (CheckMetrics.ENABLED) {
+			CheckMetrics.invoked(check);
+		}
+		return CHECKS_ENABLED;
+	}
+
+	/**
+	 * Tests whether a sub-range is within the bounds of a range of the passed length.
+	 * 
+	 * @param fromIndex
+	 *            start index of the sub-range (inclusive)
+	 * @param size
+	 *            size of the sub-range
+	 * @param length
+	 *            length of the whole range
+	 * @return {@code true} if {@code 0 <= fromIndex <= fromIndex + size <= length}, otherwise {@code false}
+	 */
+	private static boolean isFromIndexSize(final long fromIndex, final long size, final long length) {
+		// the differences cannot overflow if all operands are non-negative and fromIndex <= length
+		return (fromIndex | size | length | length - fromIndex | length - fromIndex - size) >= 0;
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is hexadecimal. Hexadecimal arguments consist only of the
+	 * characters 0-9, A-F and a-f, may start with 0 and must not be empty (think of a hash or a color code).
+	 * 
+	 * <p>
+	 * The check works without regular expressions and does not allocate any objects.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isHexadecimal(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be hexadecimal
+	 * @return the given string argument
+	 * @throws IllegalHexadecimalArgumentException
+	 *             if the given argument {@code value} is not hexadecimal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalHexadecimalArgumentException.class })
+	public static <T extends CharSequence> T isHexadecimal(@Nonnull final T value) {
+		return isHexadecimal(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is hexadecimal. Hexadecimal arguments consist only of the
+	 * characters 0-9, A-F and a-f, may start with 0 and must not be empty (think of a hash or a color code).
+	 * 
+	 * <p>
+	 * The check works without regular expressions and does not allocate any objects.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be hexadecimal
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given string argument
+	 * @throws IllegalHexadecimalArgumentException
+	 *             if the given argument {@code value} is not hexadecimal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalHexadecimalArgumentException.class })
+	public static <T extends CharSequence> T isHexadecimal(@Nonnull final T value, @Nullable final String name) {
+		Check.notNull(value, "value");
+		if (isEnabled(CheckMetrics.IS_HEXADECIMAL) && !CharacterClass.HEXADECIMAL.matchesNonEmpty(value)) {
+			throw Failures.illegalHexadecimalArgument(name, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a given argument is {@code null}.
+	 * 
+	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
+	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
+	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
+	 * For example, to avoid overwriting an existing primary key with a new one.
 	 * 
 	 * @param reference
 	 *            reference which must be null
@@ -1187,8 +2489,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNotNullArgumentException.class)
 	public static void isNull(@Nullable final Object reference) {
-		if (reference != null) {
-			throw new IllegalNotNullArgumentException(reference);
+		if (isEnabled(CheckMetrics.IS_NULL) && reference != null) {
+			throw Failures.illegalNotNullArgument(reference);
 		}
 	}
 
@@ -1210,9 +2512,24 @@ public final class Check {
 	 */
 	@Throws(IllegalNotNullArgumentException.class)
 	public static void isNull(@Nullable final Object reference, @Nullable final String name) {
-		if (reference != null) {
-			throw new IllegalNotNullArgumentException(name, reference);
+		if (isEnabled(CheckMetrics.IS_NULL) && reference != null) {
+			throw Failures.illegalNotNullArgument(name, reference);
+		}
+	}
+
+	/**
+	 * Returns whether the checks against {@code null} are enabled and counts the invocation of a check if the metrics
+	 * are enabled.
+	 * 
+	 * @param check
+	 *            index of the check in {@link CheckMetrics}
+	 * @return {@code true} if the checks against {@code null} are enabled, otherwise {@code false}
+	 */
+	static boolean isNullCheckEnabled(final int check) {
+		if (CheckMetrics.ENABLED) {
+			CheckMetrics.invoked(check);
 		}
+		return NULL_CHECKS_ENABLED;
 	}
 
 	/**
@@ -1272,8 +2589,9 @@ public final class Check {
 	}
 
 	/**
-	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
-	 * is first converted to a {@code BigDecimal} or {@code BigInteger}. Floating point types are only supported if the
+	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. Values of
+	 * the primitive wrapper types are parsed without intermediate objects, all other values are converted to a
+	 * {@code BigDecimal} or {@code BigInteger}. Floating point types are only supported if the
 	 * {@code type} is one of {@code Float, Double, BigDecimal}.
 	 * 
 	 * <p>
@@ -1296,19 +2614,7 @@ public final class Check {
 	public static <T extends Number> T isNumber(@Nonnull final String value, @Nullable final String name, @Nonnull final Class<T> type) {
 		Check.notNull(value, "value");
 		Check.notNull(type, "type");
-
-		final Number ret;
-		try {
-			ret = checkNumberInRange(value, type);
-		} catch (final NumberFormatException nfe) {
-			if (name == null) {
-				throw new IllegalNumberArgumentException(value, nfe);
-			} else {
-				throw new IllegalNumberArgumentException(name, value, nfe);
-			}
-		}
-
-		return type.cast(ret);
+		return type.cast(parseNumber(value, name, type));
 	}
 
 	/**
@@ -1349,12 +2655,28 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
 	public static <T extends CharSequence> T isNumeric(@Nonnull final T value, @Nullable final String name) {
 		Check.notNull(value, "value");
-		if (!matches(NumericRegularExpressionHolder.getPattern(), value)) {
-			throw new IllegalNumericArgumentException(name, value);
+		if (isEnabled(CheckMetrics.IS_NUMERIC) && !CharacterClass.NUMERIC.matchesNonEmpty(value)) {
+			throw Failures.illegalNumericArgument(name, value);
 		}
 		return value;
 	}
 
+	/**
+	 * Tests whether a range is within the bounds of a range of the passed size.
+	 * 
+	 * @param start
+	 *            the start value of the range (inclusive)
+	 * @param end
+	 *            the end value of the range (exclusive)
+	 * @param size
+	 *            the size of the whole range
+	 * @return {@code true} if {@code 0 <= start <= end <= size}, otherwise {@code false}
+	 */
+	private static boolean isRange(final long start, final long end, final long size) {
+		// the differences cannot overflow if all operands are non-negative
+		return (start | end | size | end - start | size - end) >= 0;
+	}
+
 	/**
 	 * Ensures that a passed {@code byte} is less than another {@code byte}.
 	 * 
@@ -1370,8 +2692,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static byte lesserThan(final byte expected, final byte check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(check);
 		}
 
 		return check;
@@ -1395,8 +2717,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static byte lesserThan(final byte expected, final byte check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(message, check);
 		}
 
 		return check;
@@ -1417,8 +2739,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static char lesserThan(final char expected, final char check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(check);
 		}
 
 		return check;
@@ -1442,8 +2764,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static char lesserThan(final char expected, final char check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(message, check);
 		}
 
 		return check;
@@ -1464,8 +2786,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static double lesserThan(final double expected, final double check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(check);
 		}
 
 		return check;
@@ -1489,8 +2811,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static double lesserThan(final double expected, final double check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(message, check);
 		}
 
 		return check;
@@ -1511,8 +2833,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static float lesserThan(final float expected, final float check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(check);
 		}
 
 		return check;
@@ -1536,8 +2858,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static float lesserThan(final float expected, final float check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(message, check);
 		}
 
 		return check;
@@ -1558,8 +2880,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static int lesserThan(final int expected, final int check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(check);
 		}
 
 		return check;
@@ -1583,8 +2905,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static int lesserThan(final int expected, final int check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(message, check);
 		}
 
 		return check;
@@ -1605,8 +2927,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static long lesserThan(final long expected, final long check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(check);
 		}
 
 		return check;
@@ -1630,8 +2952,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static long lesserThan(final long expected, final long check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(message, check);
 		}
 
 		return check;
@@ -1652,8 +2974,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static short lesserThan(final short expected, final short check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(check);
 		}
 
 		return check;
@@ -1677,8 +2999,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws(IllegalNotLesserThanException.class)
 	public static short lesserThan(final short expected, final short check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected <= check) {
+			throw Failures.illegalNotLesserThan(message, check);
 		}
 
 		return check;
@@ -1701,11 +3023,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
 	public static <T extends Comparable<T>> T lesserThan(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) <= 0) {
-			throw new IllegalNotLesserThanException(check);
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected.compareTo(check) <= 0) {
+			throw Failures.illegalNotLesserThan(check);
 		}
 
 		return check;
@@ -1731,14 +3052,401 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
 	public static <T extends Comparable<T>> T lesserThan(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
+
+		if (isEnabled(CheckMetrics.LESSER_THAN) && expected.compareTo(check) <= 0) {
+			throw Failures.illegalNotLesserThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code double} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static double[] lesserThan(final double expected, @Nonnull final double[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return lesserThan(expected, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code double} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotLesserThanException.class })
+	public static double[] lesserThan(final double expected, @Nonnull final double[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.LESSER_THAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minLesserThan(expected),
+					PrimitiveArrays.maxLesserThan(expected), values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotLesserThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are lesser than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static DoubleBuffer lesserThan(final double expected, @Nonnull final DoubleBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.LESSER_THAN)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minLesserThan(expected),
+					PrimitiveArrays.maxLesserThan(expected), values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotLesserThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code float} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static float[] lesserThan(final float expected, @Nonnull final float[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return lesserThan(expected, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotLesserThanException.class })
+	public static float[] lesserThan(final float expected, @Nonnull final float[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.LESSER_THAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minLesserThan(expected),
+					PrimitiveArrays.maxLesserThan(expected), values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotLesserThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static int[] lesserThan(final int expected, @Nonnull final int[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return lesserThan(expected, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of an {@code int} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotLesserThanException.class })
+	public static int[] lesserThan(final int expected, @Nonnull final int[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.LESSER_THAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minLesserThan(expected),
+					PrimitiveArrays.maxLesserThan(expected), values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotLesserThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are lesser than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static IntBuffer lesserThan(final int expected, @Nonnull final IntBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.LESSER_THAN)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minLesserThan(expected),
+					PrimitiveArrays.maxLesserThan(expected), values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotLesserThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static long[] lesserThan(final long expected, @Nonnull final long[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return lesserThan(expected, values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code long} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotLesserThanException.class })
+	public static long[] lesserThan(final long expected, @Nonnull final long[] values, final int offset, final int length,
+			@Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.LESSER_THAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minLesserThan(expected),
+					PrimitiveArrays.maxLesserThan(expected), values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotLesserThanElement(expected, name, values, index);
+			}
+		}
+		return values;
+	}
 
-		if (expected.compareTo(check) <= 0) {
-			throw new IllegalNotLesserThanException(message, check);
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are lesser than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static LongBuffer lesserThan(final long expected, @Nonnull final LongBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.LESSER_THAN)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(PrimitiveArrays.minLesserThan(expected),
+					PrimitiveArrays.maxLesserThan(expected), values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNotLesserThanElement(expected, name, values, index);
+			}
 		}
-
-		return check;
+		return values;
 	}
 
 	/**
@@ -1751,7 +3459,11 @@ public final class Check {
 	 * @return {@code true} when {@code chars} matches against the passed {@code pattern}, otherwise {@code false}
 	 */
 	private static boolean matches(@Nonnull final Pattern pattern, @Nonnull final CharSequence chars) {
-		return pattern.matcher(chars).matches();
+		final Object context = CheckListeners.ENABLED ? CheckListeners.expensiveCheckStarted(CheckMetrics.MATCHES_PATTERN,
+				chars.length()) : null;
+		final boolean matches = Matchers.matches(pattern, chars);
+		CheckListeners.expensiveCheckFinished(context);
+		return matches;
 	}
 
 	/**
@@ -1800,11 +3512,75 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
 	public static <T extends CharSequence> T matchesPattern(@Nonnull final Pattern pattern, @Nonnull final T chars,
 			@Nullable final String name) {
-		Check.notNull(pattern, "pattern");
-		Check.notNull(chars, "chars");
-		if (!matches(pattern, chars)) {
-			throw new IllegalPatternArgumentException(name, pattern, chars);
+		bothNotNull(pattern, "pattern", chars, "chars");
+		if (isEnabled(CheckMetrics.MATCHES_PATTERN) && !matches(pattern, chars)) {
+			throw Failures.illegalPatternArgument(name, pattern, chars);
+		}
+		return chars;
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a regular expression. If the given character
+	 * sequence does not match against the expression, an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * The expression is compiled once and cached afterwards in the shared {@link PatternCache}, so that expressions
+	 * which are read from a configuration do not have to be precompiled by the caller.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(String, CharSequence, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param regex
+	 *            regular expression, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given expression
+	 * @return the passed {@code chars} that matches the given expression
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code regex}
+	 * @throws java.util.regex.PatternSyntaxException
+	 *             if the syntax of the expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final String regex, @Nonnull final T chars) {
+		return matchesPattern(regex, chars, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a regular expression. If the given character
+	 * sequence does not match against the expression, an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * The expression is compiled once and cached afterwards in the shared {@link PatternCache}, so that expressions
+	 * which are read from a configuration do not have to be precompiled by the caller.
+	 * 
+	 * @param regex
+	 *            regular expression, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given expression
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed {@code chars} that matches the given expression
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code regex}
+	 * @throws java.util.regex.PatternSyntaxException
+	 *             if the syntax of the expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final String regex, @Nonnull final T chars,
+			@Nullable final String name) {
+		if (CHECKS_ENABLED) {
+			return matchesPattern(PatternCache.getShared().compile(regex), chars, name);
 		}
+		bothNotNull(regex, "regex", chars, "chars");
 		return chars;
 	}
 
@@ -1831,6 +3607,11 @@ public final class Check {
 	/**
 	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
 	 * 
+	 * <p>
+	 * Lists which implement {@link java.util.RandomAccess} are scanned by index and other collections are copied once
+	 * into an array, so that no iterator is needed. The exception reports the index of the first element that is
+	 * {@code null}. For very large collections see {@link ParallelCheck#noNullElements(Iterable, String)}.
+	 * 
 	 * @param iterable
 	 *            the iterable reference which should not contain {@code null}
 	 * @param name
@@ -1843,9 +3624,10 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
 	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable, final String name) {
 		Check.notNull(iterable, "iterable");
-		for (final Object element : iterable) {
-			if (element == null) {
-				throw new IllegalNullElementsException(name);
+		if (isNullCheckEnabled(CheckMetrics.NO_NULL_ELEMENTS)) {
+			final int index = indexOfNull(iterable);
+			if (index != Elements.NOT_FOUND) {
+				throw Failures.illegalNullElements(name, index);
 			}
 		}
 		return iterable;
@@ -1885,8 +3667,11 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
 	public static <T> T[] noNullElements(@Nonnull final T[] array, @Nullable final String name) {
 		Check.notNull(array, "array");
-		if (containsNullElements(array)) {
-			throw new IllegalNullElementsException(name);
+		if (isNullCheckEnabled(CheckMetrics.NO_NULL_ELEMENTS)) {
+			final int index = indexOfNull(array);
+			if (index != Elements.NOT_FOUND) {
+				throw Failures.illegalNullElements(name, index);
+			}
 		}
 		return array;
 	}
@@ -1930,8 +3715,8 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static void notEmpty(final boolean expression, @Nullable final String name) {
-		if (expression) {
-			throw new IllegalEmptyArgumentException(name);
+		if (isEnabled(CheckMetrics.NOT_EMPTY) && expression) {
+			throw Failures.illegalEmptyArgument(name);
 		}
 	}
 
@@ -1954,7 +3739,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends CharSequence> T notEmpty(@Nonnull final T chars) {
 		notNull(chars);
-		notEmpty(chars, chars.length() == 0, EMPTY_ARGUMENT_NAME);
+		notEmpty(chars, CHECKS_ENABLED && chars.length() == 0, EMPTY_ARGUMENT_NAME);
 		return chars;
 	}
 
@@ -1977,7 +3762,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Collection<?>> T notEmpty(@Nonnull final T collection) {
 		notNull(collection);
-		notEmpty(collection, collection.isEmpty(), EMPTY_ARGUMENT_NAME);
+		notEmpty(collection, CHECKS_ENABLED && collection.isEmpty(), EMPTY_ARGUMENT_NAME);
 		return collection;
 	}
 
@@ -2000,7 +3785,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Iterable<?>> T notEmpty(@Nonnull final T iterable) {
 		notNull(iterable);
-		notEmpty(iterable, !iterable.iterator().hasNext(), EMPTY_ARGUMENT_NAME);
+		notEmpty(iterable, CHECKS_ENABLED && Elements.isEmpty(iterable), EMPTY_ARGUMENT_NAME);
 		return iterable;
 	}
 
@@ -2023,7 +3808,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Map<?, ?>> T notEmpty(@Nonnull final T map) {
 		notNull(map);
-		notEmpty(map, map.isEmpty(), EMPTY_ARGUMENT_NAME);
+		notEmpty(map, CHECKS_ENABLED && map.isEmpty(), EMPTY_ARGUMENT_NAME);
 		return map;
 	}
 
@@ -2059,8 +3844,8 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T> T notEmpty(@Nonnull final T reference, final boolean expression, @Nullable final String name) {
 		notNull(reference, name);
-		if (expression) {
-			throw new IllegalEmptyArgumentException(name);
+		if (isEnabled(CheckMetrics.NOT_EMPTY) && expression) {
+			throw Failures.illegalEmptyArgument(name);
 		}
 		return reference;
 	}
@@ -2092,7 +3877,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends CharSequence> T notEmpty(@Nonnull final T chars, @Nullable final String name) {
 		notNull(chars, name);
-		notEmpty(chars, chars.length() == 0, name);
+		notEmpty(chars, CHECKS_ENABLED && chars.length() == 0, name);
 		return chars;
 	}
 
@@ -2117,7 +3902,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Map<?, ?>> T notEmpty(@Nonnull final T map, @Nullable final String name) {
 		notNull(map);
-		notEmpty(map, map.isEmpty(), name);
+		notEmpty(map, CHECKS_ENABLED && map.isEmpty(), name);
 		return map;
 	}
 
@@ -2148,7 +3933,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Collection<?>> T notEmpty(@Nonnull final T collection, @Nullable final String name) {
 		notNull(collection, name);
-		notEmpty(collection, collection.isEmpty(), name);
+		notEmpty(collection, CHECKS_ENABLED && collection.isEmpty(), name);
 		return collection;
 	}
 
@@ -2179,7 +3964,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Iterable<?>> T notEmpty(@Nonnull final T iterable, @Nullable final String name) {
 		notNull(iterable, name);
-		notEmpty(iterable, !iterable.iterator().hasNext(), name);
+		notEmpty(iterable, CHECKS_ENABLED && Elements.isEmpty(iterable), name);
 		return iterable;
 	}
 
@@ -2202,7 +3987,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T> T[] notEmpty(@Nonnull final T[] array) {
 		notNull(array);
-		notEmpty(array, array.length == 0, EMPTY_ARGUMENT_NAME);
+		notEmpty(array, CHECKS_ENABLED && array.length == 0, EMPTY_ARGUMENT_NAME);
 		return array;
 	}
 
@@ -2223,7 +4008,7 @@ public final class Check {
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T> T[] notEmpty(@Nonnull final T[] array, @Nullable final String name) {
 		notNull(array);
-		notEmpty(array, array.length == 0, EMPTY_ARGUMENT_NAME);
+		notEmpty(array, CHECKS_ENABLED && array.length == 0, EMPTY_ARGUMENT_NAME);
 		return array;
 	}
 
@@ -2246,8 +4031,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static boolean notEquals(final boolean expected, final boolean check) {
-		if (expected == check) {
-			throw new IllegalEqualException(check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(check);
 		}
 
 		return check;
@@ -2271,8 +4056,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static boolean notEquals(final boolean expected, final boolean check, @Nonnull final String message) {
-		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(message, check);
 		}
 
 		return check;
@@ -2297,8 +4082,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static byte notEquals(final byte expected, final byte check) {
-		if (expected == check) {
-			throw new IllegalEqualException(check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(check);
 		}
 
 		return check;
@@ -2321,8 +4106,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static byte notEquals(final byte expected, final byte check, @Nonnull final String message) {
-		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(message, check);
 		}
 
 		return check;
@@ -2347,8 +4132,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static char notEquals(final char expected, final char check) {
-		if (expected == check) {
-			throw new IllegalEqualException(check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(check);
 		}
 
 		return check;
@@ -2371,8 +4156,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static char notEquals(final char expected, final char check, @Nonnull final String message) {
-		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(message, check);
 		}
 
 		return check;
@@ -2397,8 +4182,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static int notEquals(final int expected, final int check) {
-		if (expected == check) {
-			throw new IllegalEqualException(check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(check);
 		}
 
 		return check;
@@ -2421,8 +4206,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static int notEquals(final int expected, final int check, @Nonnull final String message) {
-		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(message, check);
 		}
 
 		return check;
@@ -2447,8 +4232,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static long notEquals(final long expected, final long check) {
-		if (expected == check) {
-			throw new IllegalEqualException(check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(check);
 		}
 
 		return check;
@@ -2471,8 +4256,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static long notEquals(final long expected, final long check, @Nonnull final String message) {
-		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(message, check);
 		}
 
 		return check;
@@ -2497,8 +4282,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static short notEquals(final short expected, final short check) {
-		if (expected == check) {
-			throw new IllegalEqualException(check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(check);
 		}
 
 		return check;
@@ -2522,8 +4307,8 @@ public final class Check {
 	 */
 	@Throws(IllegalEqualException.class)
 	public static short notEquals(final short expected, final short check, @Nonnull final String message) {
-		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected == check) {
+			throw Failures.illegalEqual(message, check);
 		}
 
 		return check;
@@ -2549,11 +4334,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
 	public static <T extends Comparable<T>> T notEquals(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) == 0) {
-			throw new IllegalEqualException(check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected.compareTo(check) == 0) {
+			throw Failures.illegalEqual(check);
 		}
 
 		return check;
@@ -2579,11 +4363,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
 	public static <T extends Object> T notEquals(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.equals(check)) {
-			throw new IllegalEqualException(check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected.equals(check)) {
+			throw Failures.illegalEqual(check);
 		}
 
 		return check;
@@ -2607,11 +4390,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
 	public static <T extends Comparable<T>> T notEquals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.compareTo(check) == 0) {
-			throw new IllegalEqualException(message, check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected.compareTo(check) == 0) {
+			throw Failures.illegalEqual(message, check);
 		}
 
 		return check;
@@ -2636,11 +4418,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
 	public static <T extends Object> T notEquals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		bothNotNull(expected, "expected", check, "check");
 
-		if (expected.equals(check)) {
-			throw new IllegalEqualException(message, check);
+		if (isEnabled(CheckMetrics.NOT_EQUALS) && expected.equals(check)) {
+			throw Failures.illegalEqual(message, check);
 		}
 
 		return check;
@@ -2696,8 +4477,8 @@ public final class Check {
 	@Throws(IllegalNaNArgumentException.class)
 	public static double notNaN(final double value, @Nullable final String name) {
 		// most efficient check for NaN, see Double.isNaN(value))
-		if (value != value) {
-			throw new IllegalNaNArgumentException(name);
+		if (isEnabled(CheckMetrics.NOT_NAN) && value != value) {
+			throw Failures.illegalNaNArgument(name);
 		}
 		return value;
 	}
@@ -2738,12 +4519,166 @@ public final class Check {
 	@Throws(IllegalNaNArgumentException.class)
 	public static float notNaN(final float value, @Nullable final String name) {
 		// most efficient check for NaN, see Float.isNaN(value))
-		if (value != value) {
-			throw new IllegalNaNArgumentException(name);
+		if (isEnabled(CheckMetrics.NOT_NAN) && value != value) {
+			throw Failures.illegalNaNArgument(name);
 		}
 		return value;
 	}
 
+	/**
+	 * Ensures that all elements of a {@code double} array are not {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static double[] notNaN(@Nonnull final double[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notNaN(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code double} array are not {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static double[] notNaN(@Nonnull final double[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfNaN(values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNaNElement(name, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are not
+	 * {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static DoubleBuffer notNaN(@Nonnull final DoubleBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NAN)) {
+			final int index = PrimitiveArrays.indexOfNaN(values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNaNElement(name, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code float} array are not {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static float[] notNaN(@Nonnull final float[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notNaN(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are not {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static float[] notNaN(@Nonnull final float[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NAN)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfNaN(values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNaNElement(name, index);
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Ensures that an double reference passed as a parameter to the calling method is not smaller than {@code 0}.
 	 * 
@@ -2759,8 +4694,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNegativeArgumentException.class)
 	public static double notNegative(final double value) {
-		if (value < 0.0) {
-			throw new IllegalNegativeArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < 0.0) {
+			throw Failures.illegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2778,8 +4713,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNegativeArgumentException.class)
 	public static double notNegative(final double value, @Nullable final String name) {
-		if (value < 0.0) {
-			throw new IllegalNegativeArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < 0.0) {
+			throw Failures.illegalNegativeArgument(name, value);
 		}
 		return value;
 	}
@@ -2799,8 +4734,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNegativeArgumentException.class)
 	public static float notNegative(final float value) {
-		if (value < 0.0f) {
-			throw new IllegalNegativeArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < 0.0f) {
+			throw Failures.illegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2818,8 +4753,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNegativeArgumentException.class)
 	public static float notNegative(final float value, @Nullable final String name) {
-		if (value < 0.0f) {
-			throw new IllegalNegativeArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < 0.0f) {
+			throw Failures.illegalNegativeArgument(name, value);
 		}
 		return value;
 	}
@@ -2839,8 +4774,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNegativeArgumentException.class)
 	public static int notNegative(final int value) {
-		if (value < 0) {
-			throw new IllegalNegativeArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < 0) {
+			throw Failures.illegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2858,8 +4793,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNegativeArgumentException.class)
 	public static int notNegative(final int value, @Nullable final String name) {
-		if (value < 0) {
-			throw new IllegalNegativeArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < 0) {
+			throw Failures.illegalNegativeArgument(name, value);
 		}
 		return value;
 	}
@@ -2879,8 +4814,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNegativeArgumentException.class)
 	public static long notNegative(final long value) {
-		if (value < 0L) {
-			throw new IllegalNegativeArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < 0L) {
+			throw Failures.illegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2898,50 +4833,405 @@ public final class Check {
 	 */
 	@Throws(IllegalNegativeArgumentException.class)
 	public static long notNegative(final long value, @Nullable final String name) {
-		if (value < 0L) {
-			throw new IllegalNegativeArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < 0L) {
+			throw Failures.illegalNegativeArgument(name, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that an short reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(short, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @return the non-null reference that was validated
+	 * @throws IllegalNegativeArgumentException
+	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 */
+	@Throws(IllegalNegativeArgumentException.class)
+	public static short notNegative(final short value) {
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < (short) 0) {
+			throw Failures.illegalNegativeArgument(value);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that an short reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * @return the non-null reference that was validated
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 */
+	@Throws(IllegalNegativeArgumentException.class)
+	public static short notNegative(final short value, @Nullable final String name) {
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE) && value < (short) 0) {
+			throw Failures.illegalNegativeArgument(name, value);
 		}
 		return value;
 	}
 
 	/**
-	 * Ensures that an short reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * Ensures that all elements of a {@code double} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static double[] notNegative(@Nonnull final double[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notNegative(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code double} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static double[] notNegative(@Nonnull final double[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(0.0, Double.POSITIVE_INFINITY, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNegativeElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are not smaller
+	 * than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static DoubleBuffer notNegative(@Nonnull final DoubleBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(0.0, Double.POSITIVE_INFINITY, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNegativeElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code float} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static float[] notNegative(@Nonnull final float[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notNegative(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static float[] notNegative(@Nonnull final float[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(0.0f, Float.POSITIVE_INFINITY, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNegativeElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static int[] notNegative(@Nonnull final int[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notNegative(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of an {@code int} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static int[] notNegative(@Nonnull final int[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(0, Integer.MAX_VALUE, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNegativeElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are not smaller than
+	 * {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static IntBuffer notNegative(@Nonnull final IntBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(0, Integer.MAX_VALUE, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNegativeElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static long[] notNegative(@Nonnull final long[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notNegative(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code long} array are not smaller than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNegative(short, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
-	 * 
-	 * @param value
-	 *            a number
-	 * @return the non-null reference that was validated
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
 	 * @throws IllegalNegativeArgumentException
-	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalNegativeArgumentException.class)
-	public static short notNegative(final short value) {
-		if (value < (short) 0) {
-			throw new IllegalNegativeArgumentException(value);
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static long[] notNegative(@Nonnull final long[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(0L, Long.MAX_VALUE, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNegativeElement(name, values, index);
+			}
 		}
-		return value;
+		return values;
 	}
 
 	/**
-	 * Ensures that an short reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are not smaller than
+	 * {@code 0}.
 	 * 
-	 * @param value
-	 *            a number
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param values
+	 *            a buffer of numbers
 	 * @param name
-	 *            name of the number reference (in source code)
-	 * @return the non-null reference that was validated
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalNegativeArgumentException.class)
-	public static short notNegative(final short value, @Nullable final String name) {
-		if (value < (short) 0) {
-			throw new IllegalNegativeArgumentException(name, value);
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static LongBuffer notNegative(@Nonnull final LongBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_NEGATIVE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(0L, Long.MAX_VALUE, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalNegativeElement(name, values, index);
+			}
 		}
-		return value;
+		return values;
 	}
 
 	/**
@@ -2959,8 +5249,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNullArgumentException.class)
 	public static <T> T notNull(@Nonnull final T reference) {
-		if (reference == null) {
-			throw new IllegalNullArgumentException();
+		if (isNullCheckEnabled(CheckMetrics.NOT_NULL) && reference == null) {
+			throw Failures.illegalNullArgument();
 		}
 		return reference;
 	}
@@ -2978,8 +5268,8 @@ public final class Check {
 	 */
 	@Throws(IllegalNullArgumentException.class)
 	public static <T> T notNull(@Nonnull final T reference, @Nullable final String name) {
-		if (reference == null) {
-			throw new IllegalNullArgumentException(name);
+		if (isNullCheckEnabled(CheckMetrics.NOT_NULL) && reference == null) {
+			throw Failures.illegalNullArgument(name);
 		}
 		return reference;
 	}
@@ -2999,8 +5289,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static double notPositive(final double value) {
-		if (value > 0.0) {
-			throw new IllegalPositiveArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > 0.0) {
+			throw Failures.illegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3018,8 +5308,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static double notPositive(final double value, @Nullable final String name) {
-		if (value > 0.0) {
-			throw new IllegalPositiveArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > 0.0) {
+			throw Failures.illegalPositiveArgument(name, value);
 		}
 		return value;
 	}
@@ -3039,8 +5329,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static float notPositive(final float value) {
-		if (value > 0.0f) {
-			throw new IllegalPositiveArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > 0.0f) {
+			throw Failures.illegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3058,8 +5348,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static float notPositive(final float value, @Nullable final String name) {
-		if (value > 0.0f) {
-			throw new IllegalPositiveArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > 0.0f) {
+			throw Failures.illegalPositiveArgument(name, value);
 		}
 		return value;
 	}
@@ -3079,8 +5369,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static int notPositive(final int value) {
-		if (value > 0) {
-			throw new IllegalPositiveArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > 0) {
+			throw Failures.illegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3098,8 +5388,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static int notPositive(final int value, @Nullable final String name) {
-		if (value > 0) {
-			throw new IllegalPositiveArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > 0) {
+			throw Failures.illegalPositiveArgument(name, value);
 		}
 		return value;
 	}
@@ -3119,8 +5409,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static long notPositive(final long value) {
-		if (value > 0L) {
-			throw new IllegalPositiveArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > 0L) {
+			throw Failures.illegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3138,8 +5428,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static long notPositive(final long value, @Nullable final String name) {
-		if (value > 0L) {
-			throw new IllegalPositiveArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > 0L) {
+			throw Failures.illegalPositiveArgument(name, value);
 		}
 		return value;
 	}
@@ -3159,8 +5449,8 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static short notPositive(final short value) {
-		if (value > (short) 0) {
-			throw new IllegalPositiveArgumentException(value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > (short) 0) {
+			throw Failures.illegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3178,12 +5468,402 @@ public final class Check {
 	 */
 	@Throws(IllegalPositiveArgumentException.class)
 	public static short notPositive(final short value, @Nullable final String name) {
-		if (value > (short) 0) {
-			throw new IllegalPositiveArgumentException(name, value);
+		if (isEnabled(CheckMetrics.NOT_POSITIVE) && value > (short) 0) {
+			throw Failures.illegalPositiveArgument(name, value);
 		}
 		return value;
 	}
 
+	/**
+	 * Ensures that all elements of a {@code double} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static double[] notPositive(@Nonnull final double[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notPositive(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code double} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositiveArgumentException.class })
+	public static double[] notPositive(@Nonnull final double[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_POSITIVE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(Double.NEGATIVE_INFINITY, 0.0, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalPositiveElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are not greater
+	 * than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static DoubleBuffer notPositive(@Nonnull final DoubleBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_POSITIVE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(Double.NEGATIVE_INFINITY, 0.0, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalPositiveElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code float} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static float[] notPositive(@Nonnull final float[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notPositive(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositiveArgumentException.class })
+	public static float[] notPositive(@Nonnull final float[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_POSITIVE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(Float.NEGATIVE_INFINITY, 0.0f, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalPositiveElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static int[] notPositive(@Nonnull final int[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notPositive(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of an {@code int} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositiveArgumentException.class })
+	public static int[] notPositive(@Nonnull final int[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_POSITIVE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(Integer.MIN_VALUE, 0, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalPositiveElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are not greater than
+	 * {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static IntBuffer notPositive(@Nonnull final IntBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_POSITIVE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(Integer.MIN_VALUE, 0, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalPositiveElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static long[] notPositive(@Nonnull final long[] values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		return notPositive(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code long} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the passed array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositiveArgumentException.class })
+	public static long[] notPositive(@Nonnull final long[] values, final int offset, final int length, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_POSITIVE)) {
+			checkSlice(offset, length, values.length);
+			final int index = PrimitiveArrays.indexOfOutOfRange(Long.MIN_VALUE, 0L, values, offset, offset + length);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalPositiveElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are not greater than
+	 * {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * @return the passed buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static LongBuffer notPositive(@Nonnull final LongBuffer values, @Nullable final String name) {
+		Check.notNull(values, "values");
+		if (isEnabled(CheckMetrics.NOT_POSITIVE)) {
+			final int index = PrimitiveArrays.indexOfOutOfRange(Long.MIN_VALUE, 0L, values);
+			if (index != PrimitiveArrays.NOT_FOUND) {
+				throw Failures.illegalPositiveElement(name, values, index);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Parses the passed {@code value} as a number of the given type and checks it against the range of the type.
+	 * 
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param name
+	 *            (optional) name of object reference (in source code).
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}
+	 * @return a number
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@Nonnull
+	private static <T> Number parseNumber(@Nonnull final String value, @Nullable final String name, @Nonnull final Class<T> type) {
+		if (CheckMetrics.ENABLED) {
+			CheckMetrics.invoked(CheckMetrics.IS_NUMBER);
+		}
+		final Object context = CheckListeners.ENABLED ? CheckListeners.expensiveCheckStarted(CheckMetrics.IS_NUMBER, value.length())
+				: null;
+		final Number ret;
+		try {
+			ret = checkNumberInRange(value, type);
+		} catch (final NumberFormatException nfe) {
+			throw Failures.illegalNumberArgument(name, value, nfe);
+		} finally {
+			CheckListeners.expensiveCheckFinished(context);
+		}
+		if (ret == null) {
+			throw Failures.illegalNumberArgument(name, value);
+		}
+		return ret;
+	}
+
 	/**
 	 * Ensures that a given position index is valid within the size of an array, list or string ...
 	 * 
@@ -3199,10 +5879,37 @@ public final class Check {
 	 */
 	@Throws(IllegalPositionIndexException.class)
 	public static int positionIndex(final int index, final int size) {
-		final boolean isIndexValid = (size >= 0) && (index >= 0) && (index < size);
+		// size - 1 - index cannot overflow if both operands are non-negative and is negative if index >= size
+		if (isEnabled(CheckMetrics.POSITION_INDEX) && (index | size | size - 1 - index) < 0) {
+			throw Failures.illegalPositionIndex(index, size);
+		}
+
+		return index;
+	}
 
-		if (!isIndexValid) {
-			throw new IllegalPositionIndexException(index, size);
+	/**
+	 * Ensures that a given position index is valid within the size of a memory-mapped file, an off-heap region or any
+	 * other sequence which can be larger than {@code Integer.MAX_VALUE}.
+	 * 
+	 * <p>
+	 * The conditions {@code index >= 0}, {@code size >= 0} and {@code index < size} are tested with a single comparison
+	 * of the sign bit, without any branch per condition.
+	 * 
+	 * @param index
+	 *            index within a sequence
+	 * @param size
+	 *            size of a sequence
+	 * @return the index
+	 * 
+	 * @throws IllegalPositionIndexException
+	 *             if the index is not a valid position index within a sequence of size <em>size</em>
+	 * 
+	 */
+	@Throws(IllegalPositionIndexException.class)
+	public static long positionIndex(final long index, final long size) {
+		// size - 1 - index cannot overflow if both operands are non-negative and is negative if index >= size
+		if (isEnabled(CheckMetrics.POSITION_INDEX) && (index | size | size - 1 - index) < 0) {
+			throw Failures.illegalPositionIndex(index, size);
 		}
 
 		return index;
@@ -3233,11 +5940,42 @@ public final class Check {
 	 */
 	@Throws(IllegalRangeException.class)
 	public static void range(@Nonnegative final int start, @Nonnegative final int end, @Nonnegative final int size) {
-		final boolean rangeIsValid = (start <= size) && (end <= size) && (start <= end);
-		final boolean inputValuesAreValid = (size >= 0) && (start >= 0) && (end >= 0);
+		if (isEnabled(CheckMetrics.RANGE) && !isRange(start, end, size)) {
+			throw Failures.illegalRange(start, end, size);
+		}
+	}
 
-		if (!rangeIsValid || !inputValuesAreValid) {
-			throw new IllegalRangeException(start, end, size);
+	/**
+	 * Ensures that the given arguments are a valid range within a memory-mapped file, an off-heap region or any other
+	 * sequence which can be larger than {@code Integer.MAX_VALUE}.
+	 * 
+	 * A range (<em>start</em>, <em>end</em>, <em>size</em>) is valid if the following conditions are {@code true}:
+	 * <ul>
+	 * <li>start <= size</li>
+	 * <li>end <= size</li>
+	 * <li>start <= end</li>
+	 * <li>size >= 0</li>
+	 * <li>start >= 0</li>
+	 * <li>end >= 0</li>
+	 * </ul>
+	 * 
+	 * <p>
+	 * All conditions are tested with a single comparison of the sign bit, without any branch per condition.
+	 * 
+	 * @param start
+	 *            the start value of the range (must be a positive integer or 0)
+	 * @param end
+	 *            the end value of the range (must be a positive integer or 0)
+	 * @param size
+	 *            the size value of the range (must be a positive integer or 0)
+	 * 
+	 * @throws IllegalRangeException
+	 *             if the given arguments do not form a valid range
+	 */
+	@Throws(IllegalRangeException.class)
+	public static void range(@Nonnegative final long start, @Nonnegative final long end, @Nonnegative final long size) {
+		if (isEnabled(CheckMetrics.RANGE) && !isRange(start, end, size)) {
+			throw Failures.illegalRange(start, end, size);
 		}
 	}
 
@@ -3258,8 +5996,8 @@ public final class Check {
 	 */
 	@Throws(IllegalStateOfArgumentException.class)
 	public static void stateIsTrue(final boolean expression) {
-		if (!expression) {
-			throw new IllegalStateOfArgumentException();
+		if (isEnabled(CheckMetrics.STATE_IS_TRUE) && !expression) {
+			throw Failures.illegalStateOfArgument();
 		}
 	}
 
@@ -3282,16 +6020,33 @@ public final class Check {
 	public static void stateIsTrue(final boolean expression, final Class<? extends RuntimeException> clazz) {
 		Check.notNull(clazz, "clazz");
 
-		if (!expression) {
-			RuntimeException re;
-			try {
-				re = clazz.newInstance();
-			} catch (final InstantiationException e) {
-				throw new RuntimeInstantiationException(clazz.getSimpleName(), e);
-			} catch (final IllegalAccessException e) {
-				throw new RuntimeInstantiationException(clazz.getSimpleName(), e);
-			}
-			throw re;
+		if (isEnabled(CheckMetrics.STATE_IS_TRUE) && !expression) {
+			throw Failures.newInstance(clazz);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true} and allows to specify a factory of the exception which is thrown in
+	 * case the state is not {@code true}.
+	 * 
+	 * <p>
+	 * Unlike {@link Check#stateIsTrue(boolean, Class)} the exception is created without reflection, which keeps failing
+	 * checks cheap when they fail often.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param factory
+	 *            factory of the exception which will be thrown if the given state is not valid
+	 * @throws IllegalNullArgumentException
+	 *             if the given factory is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static void stateIsTrue(final boolean expression, @Nonnull final ExceptionFactory<? extends RuntimeException> factory) {
+		Check.notNull(factory, "factory");
+
+		if (isEnabled(CheckMetrics.STATE_IS_TRUE) && !expression) {
+			throw Failures.newException(factory);
 		}
 	}
 
@@ -3307,8 +6062,8 @@ public final class Check {
 	 */
 	@Throws(IllegalStateOfArgumentException.class)
 	public static void stateIsTrue(final boolean expression, @Nonnull final String description) {
-		if (!expression) {
-			throw new IllegalStateOfArgumentException(description);
+		if (isEnabled(CheckMetrics.STATE_IS_TRUE) && !expression) {
+			throw Failures.illegalStateOfArgument(description);
 		}
 	}
 
@@ -3327,8 +6082,8 @@ public final class Check {
 	@Throws(IllegalStateOfArgumentException.class)
 	public static void stateIsTrue(final boolean expression, @Nonnull final String descriptionTemplate,
 			final Object... descriptionTemplateArgs) {
-		if (!expression) {
-			throw new IllegalStateOfArgumentException(descriptionTemplate, descriptionTemplateArgs);
+		if (isEnabled(CheckMetrics.STATE_IS_TRUE) && !expression) {
+			throw Failures.illegalStateOfArgument(descriptionTemplate, descriptionTemplateArgs);
 		}
 	}
 
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Listener which observes failed checks and expensive checks of long inputs, e.g. to emit events of a profiler or
+ * monitoring system.
+ * 
+ * <p>
+ * A listener is discovered once on startup with {@link java.util.ServiceLoader}, so it is installed by adding a jar
+ * that contains an implementation and the file {@code META-INF/services/net.sf.qualitycheck.CheckListener} to the
+ * class path. The first listener found is used. If no listener is installed, the checks do not call any listener.
+ * 
+ * <p>
+ * Implementations must be thread-safe and should return quickly, because they are called on the thread which runs
+ * the check. Exceptions thrown by a listener are ignored.
+ * 
+ * @author André Rouél
+ */
+public interface CheckListener {
+
+	/**
+	 * Called when an expensive check of a long input has started, e.g. {@code matchesPattern} or
+	 * {@code noNullElements}. The returned context is passed to {@link #expensiveCheckFinished(Object)} when the check
+	 * has finished, unless the check was aborted by an error.
+	 * 
+	 * @param check
+	 *            name of the check method, e.g. {@code matchesPattern}
+	 * @param size
+	 *            number of elements or characters of the checked input
+	 * @return context of the measurement or {@code null} if the check should not be measured
+	 */
+	@Nullable
+	Object expensiveCheckStarted(@Nonnull String check, @Nonnegative long size);
+
+	/**
+	 * Called when an expensive check of a long input has finished, whether it was passed or failed.
+	 * 
+	 * @param context
+	 *            the context returned by {@link #expensiveCheckStarted(String, long)}
+	 */
+	void expensiveCheckFinished(@Nonnull Object context);
+
+	/**
+	 * Called when a check has failed, right before its exception is thrown.
+	 * 
+	 * @param check
+	 *            name of the check method, e.g. {@code notNull}
+	 * @param argumentName
+	 *            name of the checked argument or {@code null} if it is unknown
+	 * @param exception
+	 *            the exception which will be thrown
+	 */
+	void failed(@Nonnull String check, @Nullable String argumentName, @Nonnull RuntimeException exception);
+
+	/**
+	 * Returns whether this listener wants to be notified about failed checks at the moment. It is asked before every
+	 * failure, so that the failed check is only looked up on the stack if the listener will observe it.
+	 * 
+	 * @return {@code true} if {@link #failed(String, String, RuntimeException)} should be called, otherwise
+	 *         {@code false}
+	 */
+	boolean isFailedEnabled();
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Calls the {@link CheckListener} which was discovered on startup.
+ * 
+ * <p>
+ * If no listener is installed, the flag {@link #ENABLED} is {@code false}. Because it is held in a {@code static final}
+ * field, the JIT compiler removes all calls of listeners from the checks in this case.
+ * 
+ * @author André Rouél
+ */
+final class CheckListeners {
+
+	/**
+	 * The installed listener or {@code null}
+	 */
+	@Nullable
+	private static final CheckListener LISTENER = load();
+
+	/**
+	 * Indicates whether a listener is installed
+	 */
+	static final boolean ENABLED = LISTENER != null;
+
+	/**
+	 * Minimum number of elements or characters of an input, from which on an expensive check is measured
+	 */
+	static final int MIN_SIZE = 256;
+
+	/**
+	 * Notifies the listener about an expensive check of a long input.
+	 * 
+	 * @param check
+	 *            index of the check in {@link CheckMetrics#CHECKS}
+	 * @param size
+	 *            number of elements or characters of the checked input
+	 * @return context of the measurement or {@code null} if the check is not measured
+	 */
+	@Nullable
+	static Object expensiveCheckStarted(@Nonnegative final int check, @Nonnegative final long size) {
+		if (LISTENER == null || size < MIN_SIZE) {
+			return null;
+		}
+		try {
+			return LISTENER.expensiveCheckStarted(CheckMetrics.CHECKS[check], size);
+		} catch (final RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Notifies the listener that a measured check has finished.
+	 * 
+	 * @param context
+	 *            context of the measurement or {@code null} if the check was not measured
+	 */
+	static void expensiveCheckFinished(@Nullable final Object context) {
+		if (context != null) {
+			try {
+				LISTENER.expensiveCheckFinished(context);
+			} catch (final RuntimeException e) {
+				// listeners must not change the result of a check
+			}
+		}
+	}
+
+	/**
+	 * Notifies the listener about a failed check. The check is resolved from the passed stack, so this method is only
+	 * called on the cold path of a failure. Calls which do not come from a check are ignored.
+	 * 
+	 * @param stack
+	 *            the stack of the failure, beginning with the innermost frame
+	 * @param argumentName
+	 *            name of the checked argument or {@code null}
+	 * @param exception
+	 *            the exception of the failed check
+	 */
+	static void failed(@Nonnull final StackTraceElement[] stack, @Nullable final String argumentName,
+			@Nonnull final RuntimeException exception) {
+		final int index = CheckMetrics.indexOfCheck(stack);
+		if (LISTENER != null && index >= 0) {
+			try {
+				LISTENER.failed(stack[index].getMethodName(), argumentName, exception);
+			} catch (final RuntimeException e) {
+				// listeners must not replace the exception of a check
+			}
+		}
+	}
+
+	/**
+	 * Asks the listener whether it wants to be notified about failed checks.
+	 * 
+	 * @return {@code true} if a listener is installed and observes failed checks, otherwise {@code false}
+	 */
+	static boolean isFailedEnabled() {
+		if (LISTENER == null) {
+			return false;
+		}
+		try {
+			return LISTENER.isFailedEnabled();
+		} catch (final RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Discovers the first installed listener. Broken service configurations are ignored like missing ones.
+	 * 
+	 * @return the first listener or {@code null} if none is installed
+	 */
+	@Nullable
+	static CheckListener load() {
+		try {
+			final Iterator<CheckListener> listeners = ServiceLoader.load(CheckListener.class, CheckListener.class.getClassLoader())
+					.iterator();
+			return listeners.hasNext() ? listeners.next() : null;
+		} catch (final ServiceConfigurationError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private CheckListeners() {
+		// This class is not intended to create objects from it.
+	}
+
+}
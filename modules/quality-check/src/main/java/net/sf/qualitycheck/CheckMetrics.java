@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Optional metrics of the checks of {@link Check}, which count the invocations per check and the failures per check and
+ * per call site. They show operators which checks fail how often and which callers pass invalid arguments.
+ * 
+ * <p>
+ * The metrics are disabled by default and can only be enabled on startup with the system property {@value #PROPERTY}.
+ * Because the flag is held in a {@code static final} field, the JIT compiler removes the counting completely if the
+ * metrics are disabled. If they are enabled, the invocations are counted with striped counters, so that threads which
+ * run the same check do not serialize on a shared counter. The call site of a failure is resolved from the stack only
+ * when a check fails, so passed checks never pay for it.
+ * 
+ * <p>
+ * The counters can be read with {@link #snapshot()} or with JMX under the name {@value #OBJECT_NAME} (see
+ * {@link CheckMetricsMXBean}). The invocation of a check which is called by another check, like {@code notNull} by
+ * {@code contains}, is counted as well, but a failure is counted for the check which was called by the application.
+ * Failures of {@link NumberInRange} are counted, but not its invocations.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+public final class CheckMetrics {
+
+	/**
+	 * Management interface which reads the counters of the metrics
+	 */
+	private static final class Bean implements CheckMetricsMXBean {
+
+		@Override
+		public Map<String, Long> getFailures() {
+			return snapshot().getFailures();
+		}
+
+		@Override
+		public Map<String, Long> getFailuresByCallSite() {
+			return snapshot().getFailuresByCallSite();
+		}
+
+		@Override
+		public Map<String, Long> getInvocations() {
+			return snapshot().getInvocations();
+		}
+
+		@Override
+		public void reset() {
+			CheckMetrics.reset();
+		}
+
+	}
+
+	/**
+	 * Immutable copy of the counters of the metrics at a point in time. The maps are sorted by their keys.
+	 */
+	@Immutable
+	public static final class Snapshot {
+
+		@Nonnull
+		private final SortedMap<String, Long> failures;
+
+		@Nonnull
+		private final SortedMap<String, Long> failuresByCallSite;
+
+		@Nonnull
+		private final SortedMap<String, Long> invocations;
+
+		private Snapshot(@Nonnull final SortedMap<String, Long> invocations, @Nonnull final SortedMap<String, Long> failures,
+				@Nonnull final SortedMap<String, Long> failuresByCallSite) {
+			this.invocations = Collections.unmodifiableSortedMap(invocations);
+			this.failures = Collections.unmodifiableSortedMap(failures);
+			this.failuresByCallSite = Collections.unmodifiableSortedMap(failuresByCallSite);
+		}
+
+		/**
+		 * Returns the number of failures per check.
+		 * 
+		 * @return number of failures keyed by the name of the check, e.g. {@code notNull}
+		 */
+		@Nonnull
+		public SortedMap<String, Long> getFailures() {
+			return failures;
+		}
+
+		/**
+		 * Returns the number of failed checks per check and call site.
+		 * 
+		 * @return number of failures keyed by check and call site, e.g. {@code notNull at com.example.Foo.bar(Foo.java:42)}
+		 */
+		@Nonnull
+		public SortedMap<String, Long> getFailuresByCallSite() {
+			return failuresByCallSite;
+		}
+
+		/**
+		 * Returns the number of invocations per check. Checks which were never invoked are omitted.
+		 * 
+		 * @return number of invocations keyed by the name of the check, e.g. {@code notNull}
+		 */
+		@Nonnull
+		public SortedMap<String, Long> getInvocations() {
+			return invocations;
+		}
+
+	}
+
+	static final int CONTAINS = 0;
+
+	static final int EQUALS = 1;
+
+	static final int FROM_INDEX_SIZE = 2;
+
+	static final int GREATER_OR_EQUAL_THAN = 3;
+
+	static final int GREATER_THAN = 4;
+
+	static final int IN_RANGE = 5;
+
+	static final int INSTANCE_OF = 6;
+
+	static final int IS_ALPHANUMERIC = 7;
+
+	static final int IS_ASCII = 8;
+
+	static final int IS_HEXADECIMAL = 9;
+
+	static final int IS_NULL = 10;
+
+	static final int IS_NUMBER = 11;
+
+	static final int IS_NUMERIC = 12;
+
+	static final int LESSER_THAN = 13;
+
+	static final int MATCHES_PATTERN = 14;
+
+	static final int NO_NULL_ELEMENTS = 15;
+
+	static final int NOT_EMPTY = 16;
+
+	static final int NOT_EQUALS = 17;
+
+	static final int NOT_NAN = 18;
+
+	static final int NOT_NEGATIVE = 19;
+
+	static final int NOT_NULL = 20;
+
+	static final int NOT_POSITIVE = 21;
+
+	static final int POSITION_INDEX = 22;
+
+	static final int RANGE = 23;
+
+	static final int STATE_IS_TRUE = 24;
+
+	/**
+	 * Names of the counted checks, indexed by the constants above
+	 */
+	static final String[] CHECKS = { "contains", "equals", "fromIndexSize", "greaterOrEqualThan", "greaterThan",
+			"inRange", "instanceOf", "isAlphanumeric", "isAscii", "isHexadecimal", "isNull", "isNumber", "isNumeric",
+			"lesserThan", "matchesPattern", "noNullElements", "notEmpty", "notEquals", "notNaN", "notNegative",
+			"notNull", "notPositive", "positionIndex", "range", "stateIsTrue" };
+
+	/**
+	 * Classes whose methods are checks
+	 */
+	private static final List<String> CHECK_CLASSES = Arrays.asList(Check.class.getName(), NumberInRange.class.getName(),
+			SampledCheck.class.getName());
+
+	/**
+	 * Name of the system property which enables the metrics on startup, if it is set to {@code true}
+	 */
+	public static final String PROPERTY = "net.sf.qualitycheck.metrics";
+
+	/**
+	 * Indicates whether the metrics are enabled
+	 */
+	static final boolean ENABLED = readProperty();
+
+	/**
+	 * Number of failures keyed by check
+	 */
+	private static final ConcurrentMap<String, AtomicLong> FAILURES = new ConcurrentHashMap<String, AtomicLong>();
+
+	/**
+	 * Number of failures keyed by check and call site
+	 */
+	private static final ConcurrentMap<String, AtomicLong> FAILURES_BY_CALL_SITE = new ConcurrentHashMap<String, AtomicLong>();
+
+	/**
+	 * Number of invocations per check
+	 */
+	private static final StripedCounters INVOCATIONS = new StripedCounters(CHECKS.length);
+
+	/**
+	 * Classes of Quality-Check which are skipped to find the call site of a failed check
+	 */
+	private static final List<String> LIBRARY_CLASSES = Arrays.asList(Check.class.getName(), CheckMetrics.class.getName(),
+			ConditionalCheck.class.getName(), Failures.class.getName(), NumberInRange.class.getName(), SampledCheck.class.getName());
+
+	/**
+	 * Name under which the metrics are registered in the platform MBean server
+	 */
+	public static final String OBJECT_NAME = "net.sf.qualitycheck:type=CheckMetrics";
+
+	/**
+	 * Representation of an unknown call site
+	 */
+	private static final String UNKNOWN_CALL_SITE = "unknown";
+
+	static {
+		if (ENABLED) {
+			register();
+		}
+	}
+
+	/**
+	 * Copies the positive counters of a map into a sorted map.
+	 */
+	@Nonnull
+	private static SortedMap<String, Long> copy(@Nonnull final Map<String, AtomicLong> counters) {
+		final SortedMap<String, Long> copy = new TreeMap<String, Long>();
+		for (final Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+			final long value = entry.getValue().get();
+			if (value > 0L) {
+				copy.put(entry.getKey(), Long.valueOf(value));
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Counts a failed check. The check and its call site are resolved from the passed stack (see
+	 * {@link #indexOfCheck(StackTraceElement[])}), the call site is the first frame outside of Quality-Check. Calls
+	 * which do not come from a check are ignored.
+	 * 
+	 * @param stack
+	 *            the stack of the failure, beginning with the innermost frame
+	 */
+	static void failed(@Nonnull final StackTraceElement[] stack) {
+		final int index = indexOfCheck(stack);
+		if (index >= 0) {
+			final String check = stack[index].getMethodName();
+			String callSite = UNKNOWN_CALL_SITE;
+			for (int i = index + 1; i < stack.length; i++) {
+				if (!LIBRARY_CLASSES.contains(stack[i].getClassName())) {
+					callSite = stack[i].toString();
+					break;
+				}
+			}
+			increment(FAILURES, check);
+			increment(FAILURES_BY_CALL_SITE, check + " at " + callSite);
+		}
+	}
+
+	private static void increment(@Nonnull final ConcurrentMap<String, AtomicLong> counters, @Nonnull final String key) {
+		AtomicLong counter = counters.get(key);
+		if (counter == null) {
+			final AtomicLong created = new AtomicLong();
+			counter = counters.putIfAbsent(key, created);
+			if (counter == null) {
+				counter = created;
+			}
+		}
+		counter.incrementAndGet();
+	}
+
+	/**
+	 * Searches the frame of the failed check on a stack. The check is the method of a class with checks which was
+	 * called from outside of these classes, so that private helpers and checks which are called by other checks are
+	 * skipped.
+	 * 
+	 * @param stack
+	 *            the stack, beginning with the innermost frame
+	 * @return index of the frame of the check or {@code -1} if the stack contains no check
+	 */
+	static int indexOfCheck(@Nonnull final StackTraceElement[] stack) {
+		for (int i = 0; i < stack.length; i++) {
+			if (CHECK_CLASSES.contains(stack[i].getClassName())) {
+				while (i + 1 < stack.length && CHECK_CLASSES.contains(stack[i + 1].getClassName())) {
+					i++;
+				}
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Counts an invocation of a check.
+	 * 
+	 * @param check
+	 *            index of the check in {@link #CHECKS}
+	 */
+	static void invoked(@Nonnegative final int check) {
+		INVOCATIONS.increment(check);
+	}
+
+	/**
+	 * Returns whether the metrics were enabled on startup with the system property {@value #PROPERTY}.
+	 * 
+	 * @return {@code true} if the checks are counted, otherwise {@code false}
+	 */
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Reads the system property {@value #PROPERTY}. If the property cannot be read, because a security manager denies
+	 * it, the metrics are disabled.
+	 * 
+	 * @return {@code true} if the property is set to {@code true}, otherwise {@code false}
+	 */
+	private static boolean readProperty() {
+		try {
+			return Boolean.getBoolean(PROPERTY);
+		} catch (final SecurityException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Registers the metrics in the platform MBean server. The metrics stay unregistered, if another class loader already
+	 * registered them or a security manager denies it.
+	 */
+	private static void register() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(), new ObjectName(OBJECT_NAME));
+		} catch (final JMException e) {
+			// the name is already taken, e.g. by the metrics of another class loader
+		} catch (final SecurityException e) {
+			// the registration is not permitted
+		}
+	}
+
+	/**
+	 * Sets all counters to zero, e.g. to start a new period of observation.
+	 */
+	public static void reset() {
+		INVOCATIONS.reset();
+		FAILURES.clear();
+		FAILURES_BY_CALL_SITE.clear();
+	}
+
+	/**
+	 * Copies the current values of all counters. The copy is not atomic, so failures and invocations which happen
+	 * concurrently may be contained or not.
+	 * 
+	 * @return a snapshot of the counters, which is empty if the metrics are disabled
+	 */
+	@Nonnull
+	public static Snapshot snapshot() {
+		final SortedMap<String, Long> invocations = new TreeMap<String, Long>();
+		for (int check = 0; check < CHECKS.length; check++) {
+			final long value = INVOCATIONS.sum(check);
+			if (value > 0L) {
+				invocations.put(CHECKS[check], Long.valueOf(value));
+			}
+		}
+		return new Snapshot(invocations, copy(FAILURES), copy(FAILURES_BY_CALL_SITE));
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private CheckMetrics() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link CheckMetrics}, which is registered under the name
+ * {@value CheckMetrics#OBJECT_NAME} in the platform MBean server when the metrics are enabled.
+ * 
+ * @author André Rouél
+ */
+public interface CheckMetricsMXBean {
+
+	/**
+	 * Returns the number of failures per check.
+	 * 
+	 * @return number of failures keyed by the name of the check, e.g. {@code notNull}
+	 */
+	Map<String, Long> getFailures();
+
+	/**
+	 * Returns the number of failed checks per check and call site.
+	 * 
+	 * @return number of failures keyed by check and call site, e.g. {@code notNull at com.example.Foo.bar(Foo.java:42)}
+	 */
+	Map<String, Long> getFailuresByCallSite();
+
+	/**
+	 * Returns the number of invocations per check.
+	 * 
+	 * @return number of invocations keyed by the name of the check, e.g. {@code notNull}
+	 */
+	Map<String, Long> getInvocations();
+
+	/**
+	 * Sets all counters to zero.
+	 */
+	void reset();
+
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Modes which control for a whole JVM which checks of {@link Check} and {@link ConditionalCheck} are performed.
+ * 
+ * <p>
+ * The mode is read once from the system property {@value #PROPERTY} when the checks are loaded and cannot be changed
+ * afterwards, e.g. {@code -Dnet.sf.qualitycheck.mode=NULLS_ONLY}. Because the mode is held in {@code static final}
+ * fields, the JIT compiler folds it into every check and a disabled check costs as much as no call at all. This allows
+ * to run all checks in test and staging environments and only the cheapest ones on the hottest production nodes.
+ * 
+ * <p>
+ * If the property is not set, cannot be read or contains an unknown mode, all checks are performed.
+ * 
+ * @author André Rouél
+ */
+public enum CheckMode {
+
+	/**
+	 * No check is performed, the checks only return their arguments
+	 */
+	DISABLED,
+
+	/**
+	 * All checks are performed (default)
+	 */
+	ENABLED,
+
+	/**
+	 * Only the checks against {@code null}, like {@code notNull} and {@code noNullElements}, are performed
+	 */
+	NULLS_ONLY;
+
+	/**
+	 * Name of the system property which selects the mode on startup
+	 */
+	public static final String PROPERTY = "net.sf.qualitycheck.mode";
+
+	/**
+	 * Mode of this JVM
+	 */
+	private static final CheckMode CURRENT = parse(readProperty());
+
+	/**
+	 * Returns the mode of the checks in this JVM.
+	 * 
+	 * @return the mode which was selected on startup
+	 */
+	@Nonnull
+	public static CheckMode current() {
+		return CURRENT;
+	}
+
+	/**
+	 * Parses the name of a mode case-insensitively.
+	 * 
+	 * @param name
+	 *            name of a mode or {@code null}
+	 * @return the named mode or {@link #ENABLED} if the name is {@code null} or unknown
+	 */
+	@Nonnull
+	static CheckMode parse(@Nullable final String name) {
+		if (name != null) {
+			final String normalized = name.trim().toUpperCase(Locale.ENGLISH);
+			for (final CheckMode mode : values()) {
+				if (mode.name().equals(normalized)) {
+					return mode;
+				}
+			}
+		}
+		return ENABLED;
+	}
+
+	/**
+	 * Reads the system property {@value #PROPERTY}.
+	 * 
+	 * @return the value of the property or {@code null} if it is not set or a security manager denies to read it
+	 */
+	@Nullable
+	private static String readProperty() {
+		try {
+			return System.getProperty(PROPERTY);
+		} catch (final SecurityException e) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Caches of reflective lookups on pairs of classes, which are used by {@link Check#hasAnnotation(Class, Class)},
+ * {@link Check#instanceOf(Class, Object, String)} and {@link ExceptionFactories#of(Class)}.
+ * 
+ * <p>
+ * Every cache is a fixed table, in which a pair of classes has exactly one slot. A lookup reads the slot without
+ * locking and without writing shared state, a miss replaces the entry of the slot. The entries reference the classes
+ * and the cached values only weakly, so that the cache never keeps a class loader from being unloaded, and the number
+ * of entries is bounded no matter how many classes are loaded. On Java 7 and later a {@code ClassValue} could serve the
+ * same purpose, but the core library runs on Java 6.
+ * 
+ * <p>
+ * Looking up an annotation of a class on Java 6 and 7 enters a monitor of the class, and checking an object against an
+ * interface in a HotSpot JVM writes a cache of its class which is shared by all threads. Both are avoided by the
+ * caches, so that these checks scale when many threads check the same classes.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+final class ClassPairCache {
+
+	/**
+	 * Cached result of a pair of classes. The classes and the value are referenced weakly. Entries are immutable, so
+	 * that they can be shared between threads without synchronization.
+	 */
+	@Immutable
+	private static final class Entry {
+
+		@Nonnull
+		private final WeakReference<Class<?>> first;
+
+		private final boolean result;
+
+		@Nonnull
+		private final WeakReference<Class<?>> second;
+
+		/**
+		 * The cached value or {@code null} if the result has no value
+		 */
+		@Nullable
+		private final Reference<Object> value;
+
+		Entry(@Nonnull final Class<?> first, @Nonnull final Class<?> second, final boolean result,
+				@Nullable final Reference<Object> value) {
+			this.first = new WeakReference<Class<?>>(first);
+			this.second = new WeakReference<Class<?>>(second);
+			this.result = result;
+			this.value = value;
+		}
+
+		boolean matches(@Nonnull final Class<?> first, @Nonnull final Class<?> second) {
+			return this.first.get() == first && this.second.get() == second;
+		}
+
+	}
+
+	/**
+	 * Cache of the annotations of classes, keyed by the annotated class and the annotation type
+	 */
+	private static final ClassPairCache ANNOTATIONS = new ClassPairCache();
+
+	/**
+	 * Cache of the assignability of classes to interfaces, keyed by the interface and the class
+	 */
+	private static final ClassPairCache ASSIGNABILITY = new ClassPairCache();
+
+	/**
+	 * Cache of the factories of exceptions of foreign class loaders, keyed by the exception class and itself
+	 */
+	private static final ClassPairCache EXCEPTION_FACTORIES = new ClassPairCache();
+
+	/**
+	 * Number of slots of every cache, which must be a power of two
+	 */
+	static final int SIZE = 1024;
+
+	/**
+	 * Returns an annotation of a class. An inherited annotation is returned as well, like by
+	 * {@link Class#getAnnotation(Class)}.
+	 * 
+	 * @param clazz
+	 *            the annotated class
+	 * @param type
+	 *            the type of the annotation
+	 * @return the annotation or {@code null} if it is not present
+	 */
+	@Nullable
+	static <A extends Annotation> A getAnnotation(@Nonnull final Class<?> clazz, @Nonnull final Class<A> type) {
+		final Entry entry = ANNOTATIONS.find(clazz, type);
+		if (entry != null) {
+			if (!entry.result) {
+				return null;
+			}
+			final Object annotation = entry.value.get();
+			if (annotation != null) {
+				return type.cast(annotation);
+			}
+		}
+		final A annotation = clazz.getAnnotation(type);
+		ANNOTATIONS.put(clazz, type, new Entry(clazz, type, annotation != null,
+				annotation != null ? new WeakReference<Object>(annotation) : null));
+		return annotation;
+	}
+
+	/**
+	 * Returns the factory of an exception class of a class loader which is not visible to this library. The factory is
+	 * referenced weakly, because it references the class and so its class loader strongly. A collected factory is
+	 * resolved again.
+	 * 
+	 * @param clazz
+	 *            the exception class
+	 * @return the factory of the exception class
+	 */
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	static <E extends RuntimeException> ExceptionFactory<E> getExceptionFactory(@Nonnull final Class<E> clazz) {
+		final Entry entry = EXCEPTION_FACTORIES.find(clazz, clazz);
+		if (entry != null) {
+			final Object factory = entry.value.get();
+			if (factory != null) {
+				return (ExceptionFactory<E>) factory;
+			}
+		}
+		final ExceptionFactory<E> factory = ExceptionFactories.resolve(clazz);
+		EXCEPTION_FACTORIES.put(clazz, clazz, new Entry(clazz, clazz, true, new WeakReference<Object>(factory)));
+		return factory;
+	}
+
+	/**
+	 * Returns the slot of a pair of classes.
+	 */
+	private static int index(@Nonnull final Class<?> first, @Nonnull final Class<?> second) {
+		final int hash = System.identityHashCode(first) * 0x9E3779B9 + System.identityHashCode(second);
+		return (hash ^ hash >>> 16) & SIZE - 1;
+	}
+
+	/**
+	 * Checks whether an object is an instance of a type. Checks against interfaces are cached, checks against classes
+	 * are not, because a JVM checks a class as fast as the cache without writing shared state.
+	 * 
+	 * @param type
+	 *            the type which the object must be an instance of
+	 * @param obj
+	 *            the object to check
+	 * @return {@code true} if the object is an instance of the type, otherwise {@code false}
+	 */
+	static boolean isInstance(@Nonnull final Class<?> type, @Nonnull final Object obj) {
+		if (!type.isInterface()) {
+			return type.isInstance(obj);
+		}
+		final Class<?> clazz = obj.getClass();
+		final Entry entry = ASSIGNABILITY.find(type, clazz);
+		if (entry != null) {
+			return entry.result;
+		}
+		final boolean result = type.isAssignableFrom(clazz);
+		ASSIGNABILITY.put(type, clazz, new Entry(type, clazz, result, null));
+		return result;
+	}
+
+	/**
+	 * Slots of the cache. The slots are read and written without synchronization, which is safe because the entries
+	 * are immutable. A thread which does not see the latest entry of a slot only computes its result again.
+	 */
+	@Nonnull
+	private final Entry[] entries = new Entry[SIZE];
+
+	private ClassPairCache() {
+		// only the caches of this class are used
+	}
+
+	/**
+	 * Returns the entry of a pair of classes.
+	 * 
+	 * @return the entry or {@code null} if the pair is not cached
+	 */
+	@Nullable
+	private Entry find(@Nonnull final Class<?> first, @Nonnull final Class<?> second) {
+		final Entry entry = entries[index(first, second)];
+		return entry != null && entry.matches(first, second) ? entry : null;
+	}
+
+	/**
+	 * Stores an entry in the slot of its pair of classes, which replaces the previous entry of the slot.
+	 */
+	private void put(@Nonnull final Class<?> first, @Nonnull final Class<?> second, @Nonnull final Entry entry) {
+		entries[index(first, second)] = entry;
+	}
+
+}
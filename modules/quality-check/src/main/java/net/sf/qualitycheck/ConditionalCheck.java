@@ -16,6 +16,10 @@
 package net.sf.qualitycheck;
 
 import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.Collection;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -24,8 +28,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import net.sf.qualitycheck.exception.IllegalAlphanumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalAsciiArgumentException;
 import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
 import net.sf.qualitycheck.exception.IllegalEqualException;
+import net.sf.qualitycheck.exception.IllegalHexadecimalArgumentException;
 import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
 import net.sf.qualitycheck.exception.IllegalMissingAnnotationException;
 import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
@@ -38,6 +45,7 @@ import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
 import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
 import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
 import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
 import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
@@ -83,12 +91,77 @@ import net.sf.qualitycheck.exception.RuntimeInstantiationException;
  */
 public final class ConditionalCheck {
 
+	/**
+	 * Ensures that an element {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * Unlike {@link ConditionalCheck#contains(boolean, Collection, Object)} the lookup does not scan the values, because
+	 * {@link AllowedValues} stores them in a representation which is chosen for their type when it is built.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(AllowedValues, Object, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be one of the allowed values.
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not one of the allowed values
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> void contains(final boolean condition, @Nonnull final AllowedValues<T> haystack,
+			@Nonnull final T needle) {
+		if (condition) {
+			Check.contains(haystack, needle);
+		}
+	}
+
+	/**
+	 * Ensures that an element {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * Unlike {@link ConditionalCheck#contains(boolean, Collection, Object, String)} the lookup does not scan the values,
+	 * because {@link AllowedValues} stores them in a representation which is chosen for their type when it is built.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be one of the allowed values.
+	 * @param name
+	 *            name of argument of {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not one of the allowed values
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> void contains(final boolean condition, @Nonnull final AllowedValues<T> haystack,
+			@Nonnull final T needle, @Nonnull final String name) {
+		if (condition) {
+			Check.contains(haystack, needle, name);
+		}
+	}
+
 	/**
 	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
 	 * 
 	 * <p>
 	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
-	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * check is implemented using {@link java.util.Collection#contains(Object)}, which scans lists element by element.
+	 * Large allow-lists which are checked often should be built once as {@link AllowedValues}.
 	 * 
 	 * <p>
 	 * The condition must evaluate to {@code true} so that the check is executed.
@@ -120,7 +193,8 @@ public final class ConditionalCheck {
 	 * 
 	 * <p>
 	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
-	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * check is implemented using {@link java.util.Collection#contains(Object)}, which scans lists element by element.
+	 * Large allow-lists which are checked often should be built once as {@link AllowedValues}.
 	 * 
 	 * <p>
 	 * The condition must evaluate to {@code true} so that the check is executed.
@@ -550,6 +624,116 @@ public final class ConditionalCheck {
 		}
 	}
 
+	/**
+	 * Ensures that the sub-range from {@code fromIndex} (inclusive) to {@code fromIndex + size} (exclusive) is within
+	 * the bounds of the remaining part of a {@code ByteBuffer}, which ranges from {@code 0} to its limit.
+	 * 
+	 * <p>
+	 * This check also covers a {@link java.nio.MappedByteBuffer} of a memory-mapped file.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param fromIndex
+	 *            absolute index of the first byte of the sub-range
+	 * @param size
+	 *            number of bytes of the sub-range
+	 * @param buffer
+	 *            a buffer whose limit bounds the sub-range
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code buffer} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the sub-range is not within the bounds of the buffer
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class })
+	public static void fromIndexSize(final boolean condition, final long fromIndex, final long size, @Nonnull final ByteBuffer buffer) {
+		if (condition) {
+			Check.fromIndexSize(fromIndex, size, buffer);
+		}
+	}
+
+	/**
+	 * Ensures that the sub-range from {@code fromIndex} (inclusive) to {@code fromIndex + size} (exclusive) is within
+	 * the bounds from {@code 0} (inclusive) to {@code length} (exclusive).
+	 * 
+	 * <p>
+	 * Unlike {@link Check#range(long, long, long)} this check cannot be fooled by an overflow of
+	 * {@code fromIndex + size}. The bounds are tested with a single comparison of the sign bit of all intermediate
+	 * values, without any branch per condition. To check an address/length pair against an off-heap region, pass the
+	 * address relative to the base address of the region as {@code fromIndex} and the length of the region as
+	 * {@code length}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param fromIndex
+	 *            index of the first element of the sub-range
+	 * @param size
+	 *            number of elements of the sub-range
+	 * @param length
+	 *            upper bound (exclusive) of the whole range
+	 * @throws IllegalRangeException
+	 *             if the sub-range is not within the bounds of the whole range
+	 */
+	@Throws(IllegalRangeException.class)
+	public static void fromIndexSize(final boolean condition, final long fromIndex, final long size, final long length) {
+		if (condition) {
+			Check.fromIndexSize(fromIndex, size, length);
+		}
+	}
+
+	/**
+	 * Ensures that the sub-range from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) is within the bounds
+	 * of the remaining part of a {@code ByteBuffer}, which ranges from {@code 0} to its limit.
+	 * 
+	 * <p>
+	 * This check also covers a {@link java.nio.MappedByteBuffer} of a memory-mapped file.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param fromIndex
+	 *            absolute index of the first byte of the sub-range
+	 * @param toIndex
+	 *            absolute index after the last byte of the sub-range
+	 * @param buffer
+	 *            a buffer whose limit bounds the sub-range
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code buffer} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the sub-range is not within the bounds of the buffer
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class })
+	public static void fromToIndex(final boolean condition, final long fromIndex, final long toIndex, @Nonnull final ByteBuffer buffer) {
+		if (condition) {
+			Check.fromToIndex(fromIndex, toIndex, buffer);
+		}
+	}
+
+	/**
+	 * Ensures that the sub-range from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) is within the bounds
+	 * from {@code 0} (inclusive) to {@code length} (exclusive).
+	 * 
+	 * <p>
+	 * The conditions are the same as of {@link Check#range(long, long, long)}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param fromIndex
+	 *            index of the first element of the sub-range
+	 * @param toIndex
+	 *            index after the last element of the sub-range
+	 * @param length
+	 *            upper bound (exclusive) of the whole range
+	 * @throws IllegalRangeException
+	 *             if the sub-range is not within the bounds of the whole range
+	 */
+	@Throws(IllegalRangeException.class)
+	public static void fromToIndex(final boolean condition, final long fromIndex, final long toIndex, final long length) {
+		if (condition) {
+			Check.fromToIndex(fromIndex, toIndex, length);
+		}
+	}
+
 	/**
 	 * Ensures that a passed {@code Comparable} is greater than or equal to {@code Comparable}. The comparison is made
 	 * using {@code expected.compareTo(check) > 0}.
@@ -676,1413 +860,3628 @@ public final class ConditionalCheck {
 	}
 
 	/**
-	 * Ensures that a passed class has an annotation of a specific type
+	 * Ensures that all elements of a {@code double} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param clazz
-	 *            the class that must have a required annotation
-	 * @param annotation
-	 *            the type of annotation that is required on the class
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalMissingAnnotationException
-	 *             if the passed annotation is not annotated at the given class
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalMissingAnnotationException.class })
-	public static void hasAnnotation(final boolean condition, @Nonnull final Class<?> clazz,
-			@Nonnull final Class<? extends Annotation> annotation) {
-		Check.notNull(clazz, "clazz");
-		Check.notNull(annotation, "annotation");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final double expected, @Nonnull final double[] values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.hasAnnotation(clazz, annotation);
+			Check.greaterThan(expected, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed argument is a member of a specific type.
+	 * Ensures that all elements of the specified slice of a {@code double} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param type
-	 *            class that the given object is a member of
-	 * @param obj
-	 *            the object reference that should be a member of a specific {@code type}
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalInstanceOfArgumentException
-	 *             if the given argument {@code obj} is not a member of {@code type}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
-	@SuppressWarnings("unchecked")
-	public static <T> T instanceOf(final boolean condition, @Nonnull final Class<?> type, @Nonnull final Object obj) {
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final double expected, @Nonnull final double[] values, final int offset,
+			final int length, @Nullable final String name) {
 		if (condition) {
-			return (T) Check.instanceOf(type, obj);
+			Check.greaterThan(expected, values, offset, length, name);
 		}
-
-		return (T) obj;
 	}
 
 	/**
-	 * Ensures that a passed argument is a member of a specific type.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are greater than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param type
-	 *            class that the given object is a member of
-	 * @param obj
-	 *            the object reference that should be a member of a specific {@code type}
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the buffer reference (in source code)
 	 * 
-	 * @throws IllegalInstanceOfArgumentException
-	 *             if the given argument {@code obj} is not a member of {@code type}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
-	@SuppressWarnings("unchecked")
-	public static <T> T instanceOf(final boolean condition, @Nonnull final Class<?> type, @Nonnull final Object obj,
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final double expected, @Nonnull final DoubleBuffer values,
 			@Nullable final String name) {
 		if (condition) {
-			return (T) Check.instanceOf(type, obj, name);
+			Check.greaterThan(expected, values, name);
 		}
-
-		return (T) obj;
 	}
 
 	/**
-	 * Ensures that a given argument is {@code null}.
+	 * Ensures that all elements of a {@code float} array are greater than {@code expected}.
 	 * 
-	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
-	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
-	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
-	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param reference
-	 *            reference which must be null
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNotNullArgumentException
-	 *             if the given argument {@code reference} is not null
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
-	@Throws(IllegalNotNullArgumentException.class)
-	public static void isNull(final boolean condition, @Nullable final Object reference) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final float expected, @Nonnull final float[] values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.isNull(reference);
+			Check.greaterThan(expected, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a given argument is {@code null}.
+	 * Ensures that all elements of the specified slice of a {@code float} array are greater than {@code expected}.
 	 * 
-	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
-	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
-	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
-	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param reference
-	 *            reference which must be null.
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNotNullArgumentException
-	 *             if the given argument {@code reference} is not null
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
-	@Throws(IllegalNotNullArgumentException.class)
-	public static void isNull(final boolean condition, @Nullable final Object reference, @Nullable final String name) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final float expected, @Nonnull final float[] values, final int offset,
+			final int length, @Nullable final String name) {
 		if (condition) {
-			Check.isNull(reference, name);
+			Check.greaterThan(expected, values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a String argument is a number.
+	 * Ensures that all elements of an {@code int} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which must be a number
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is not a number
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static void isNumber(final boolean condition, @Nonnull final String value) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final int expected, @Nonnull final int[] values, @Nullable final String name) {
 		if (condition) {
-			Check.isNumber(value);
+			Check.greaterThan(expected, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
-	 * is first converted to a BigInteger
+	 * Ensures that all elements of the specified slice of an {@code int} array are greater than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which must be a number
-	 * @param type
-	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
-	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends Number> void isNumber(final boolean condition, @Nonnull final String value, @Nonnull final Class<T> type) {
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final int expected, @Nonnull final int[] values, final int offset,
+			final int length, @Nullable final String name) {
 		if (condition) {
-			Check.isNumber(value, type);
+			Check.greaterThan(expected, values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a string argument is a number according to {@code Integer.parseInt}
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are greater than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which must be a number
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the buffer reference (in source code)
 	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static void isNumber(final boolean condition, @Nonnull final String value, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final int expected, @Nonnull final IntBuffer values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.isNumber(value, name);
+			Check.greaterThan(expected, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
-	 * is first converted to a {@code BigDecimal} or {@code BigInteger}. Floating point types are only supported if the
-	 * {@code type} is one of {@code Float, Double, BigDecimal}.
+	 * Ensures that all elements of a {@code long} array are greater than {@code expected}.
 	 * 
 	 * <p>
-	 * This method does also check against the ranges of the given datatypes.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which must be a number and in the range of the given datatype.
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
 	 * @param name
-	 *            (optional) name of object reference (in source code).
-	 * @param type
-	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
-	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends Number> void isNumber(final boolean condition, @Nonnull final String value, @Nullable final String name,
-			@Nonnull final Class<T> type) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final long expected, @Nonnull final long[] values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.isNumber(value, name, type);
+			Check.greaterThan(expected, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
-	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
-	 * account number).
+	 * Ensures that all elements of the specified slice of a {@code long} array are greater than {@code expected}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#isNumeric(CharSequence, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a readable sequence of {@code char} values which must be a number
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends CharSequence> void isNumeric(final boolean condition, @Nonnull final T value) {
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final long expected, @Nonnull final long[] values, final int offset,
+			final int length, @Nullable final String name) {
 		if (condition) {
-			Check.isNumeric(value);
+			Check.greaterThan(expected, values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
-	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
-	 * account number).
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are greater than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a readable sequence of {@code char} values which must be a number
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the buffer reference (in source code)
 	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotGreaterThanException
+	 *             if an element is not greater than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
-	public static <T extends CharSequence> void isNumeric(final boolean condition, @Nonnull final T value, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static void greaterThan(final boolean condition, final long expected, @Nonnull final LongBuffer values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.isNumeric(value, name);
+			Check.greaterThan(expected, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) <= 0}.
+	 * Ensures that a passed class has an annotation of a specific type
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
+	 * @param clazz
+	 *            the class that must have a required annotation
+	 * @param annotation
+	 *            the type of annotation that is required on the class
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
-	 *             {@code compareTo}
+	 * @throws IllegalMissingAnnotationException
+	 *             if the passed annotation is not annotated at the given class
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
-	public static <T extends Comparable<T>> void lesserThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+	@Throws({ IllegalNullArgumentException.class, IllegalMissingAnnotationException.class })
+	public static void hasAnnotation(final boolean condition, @Nonnull final Class<?> clazz,
+			@Nonnull final Class<? extends Annotation> annotation) {
+		Check.notNull(clazz, "clazz");
+		Check.notNull(annotation, "annotation");
 
 		if (condition) {
-			Check.lesserThan(expected, check);
+			Check.hasAnnotation(clazz, annotation);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) <= 0}.
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
-	 *             {@code compareTo}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
-	public static <T extends Comparable<T>> void lesserThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
-			final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final double min, final double max, @Nonnull final double[] values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.lesserThan(expected, check, message);
+			Check.inRange(min, max, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
-	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * Ensures that all elements of the specified slice of a {@code double} array are within the range from {@code min}
+	 * to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#matchesPattern(Pattern, CharSequence, String)} and pass as
-	 * second argument the name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param pattern
-	 *            pattern, that the {@code chars} must correspond to
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code chars} is {@code null}
-	 * @throws IllegalPatternArgumentException
-	 *             if the given {@code chars} that does not match the {@code pattern}
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNullArgumentException.class)
-	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
-			@Nonnull final T chars) {
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final double min, final double max, @Nonnull final double[] values,
+			final int offset, final int length, @Nullable final String name) {
 		if (condition) {
-			Check.matchesPattern(pattern, chars);
+			Check.inRange(min, max, values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
-	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are within the
+	 * range from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param pattern
-	 *            pattern, that the {@code chars} must correspond to
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the buffer reference (in source code)
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code chars} is {@code null}
-	 * @throws IllegalPatternArgumentException
-	 *             if the given {@code chars} that does not match the {@code pattern}
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
-	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
-			@Nonnull final T chars, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final double min, final double max, @Nonnull final DoubleBuffer values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.matchesPattern(pattern, chars, name);
+			Check.inRange(min, max, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * Ensures that all elements of a {@code float} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#noNullElements(Iterable, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param iterable
-	 *            the iterable reference which should not contain {@code null}
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final float min, final float max, @Nonnull final float[] values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.noNullElements(iterable);
+			Check.inRange(min, max, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * Ensures that all elements of the specified slice of a {@code float} array are within the range from {@code min}
+	 * to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param iterable
-	 *            the iterable reference which should not contain {@code null}
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable, final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final float min, final float max, @Nonnull final float[] values, final int offset,
+			final int length, @Nullable final String name) {
 		if (condition) {
-			Check.noNullElements(iterable, name);
+			Check.inRange(min, max, values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that an array does not contain {@code null}.
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#noNullElements(Object[], String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param array
-	 *            reference to an array
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code array} contains {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final int min, final int max, @Nonnull final int[] values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.noNullElements(array);
+			Check.inRange(min, max, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that an array does not contain {@code null}.
+	 * Ensures that all elements of the specified slice of an {@code int} array are within the range from {@code min} to
+	 * {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param array
-	 *            reference to an array
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code array} contains {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final int min, final int max, @Nonnull final int[] values, final int offset,
+			final int length, @Nullable final String name) {
 		if (condition) {
-			Check.noNullElements(array, name);
+			Check.inRange(min, max, values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
-	 * emptiness.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are within the range
+	 * from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(boolean, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expression
-	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
-	 *            {@code false} means not empty)
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code reference} is empty
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static void notEmpty(final boolean condition, final boolean expression) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final int min, final int max, @Nonnull final IntBuffer values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(expression);
+			Check.inRange(min, max, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
-	 * emptiness.
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expression
-	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
-	 *            {@code false} means not empty)
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code reference} is empty
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static void notEmpty(final boolean condition, final boolean expression, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final long min, final long max, @Nonnull final long[] values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(expression, name);
+			Check.inRange(min, max, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed string as a parameter of the calling method is not empty.
+	 * Ensures that all elements of the specified slice of a {@code long} array are within the range from {@code min} to
+	 * {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(CharSequence, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should not be empty
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code reference} is empty
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends CharSequence> void notEmpty(final boolean condition, @Nonnull final T chars) {
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final long min, final long max, @Nonnull final long[] values, final int offset,
+			final int length, @Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(chars);
+			Check.inRange(min, max, values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed collection as a parameter of the calling method is not empty.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are within the range
+	 * from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param collection
-	 *            a collection which should not be empty
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code collection} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code collection} is empty
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range from {@code min} to {@code max}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends Collection<?>> void notEmpty(final boolean condition, @Nonnull final T collection) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void inRange(final boolean condition, final long min, final long max, @Nonnull final LongBuffer values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(collection);
+			Check.inRange(min, max, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed map as a parameter of the calling method is not empty.
-	 * 
-	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * Ensures that a passed argument is a member of a specific type.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param map
-	 *            a map which should not be empty
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code map} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code map} is empty
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the given argument {@code obj} is not a member of {@code type}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends Map<?, ?>> void notEmpty(final boolean condition, @Nonnull final T map) {
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
+	@SuppressWarnings("unchecked")
+	public static <T> T instanceOf(final boolean condition, @Nonnull final Class<?> type, @Nonnull final Object obj) {
 		if (condition) {
-			Check.notEmpty(map);
+			return (T) Check.instanceOf(type, obj);
 		}
+
+		return (T) obj;
 	}
 
 	/**
-	 * Ensures that an object reference passed as a parameter to the calling method is not empty. The passed boolean
-	 * value is the result of checking whether the reference is empty or not.
-	 * 
-	 * <p>
-	 * The following example describes how to use it.
-	 * 
-	 * <pre>
-	 * &#064;ArgumentsChecked
-	 * public setText(String text) {
-	 * 	ConditionalCheck.notEmpty(true, text, text.isEmpty(), &quot;text&quot;);
-	 * 	this.text = text;
-	 * }
-	 * </pre>
+	 * Ensures that a passed argument is a member of a specific type.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param reference
-	 *            an object reference which should not be empty
-	 * @param expression
-	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
-	 *            {@code false} means not empty)
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
 	 * @param name
 	 *            name of object reference (in source code)
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code reference} is empty
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the given argument {@code obj} is not a member of {@code type}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T> void notEmpty(final boolean condition, @Nonnull final T reference, final boolean expression,
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
+	@SuppressWarnings("unchecked")
+	public static <T> T instanceOf(final boolean condition, @Nonnull final Class<?> type, @Nonnull final Object obj,
 			@Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(reference, expression, name);
+			return (T) Check.instanceOf(type, obj, name);
 		}
+
+		return (T) obj;
 	}
 
 	/**
-	 * Ensures that a passed string as a parameter of the calling method is not empty.
+	 * Ensures that a readable sequence of {@code char} values is alphanumeric. Alphanumeric arguments consist only of
+	 * the characters 0-9, A-Z and a-z and must not be empty (think of an identifier or a token).
 	 * 
 	 * <p>
-	 * The following example describes how to use it.
-	 * 
-	 * <pre>
-	 * &#064;ArgumentsChecked
-	 * public setText(String text) {
-	 * 	this.text = Check.notEmpty(text, &quot;text&quot;);
-	 * }
-	 * </pre>
+	 * We recommend to use the overloaded method {@link Check#isAlphanumeric(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should not be empty
-	 * @param name
-	 *            name of object reference (in source code)
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be alphanumeric
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code string} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code string} is empty
+	 * @throws IllegalAlphanumericArgumentException
+	 *             if the given argument {@code value} is not alphanumeric
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends CharSequence> void notEmpty(final boolean condition, @Nonnull final T chars, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalAlphanumericArgumentException.class })
+	public static <T extends CharSequence> void isAlphanumeric(final boolean condition, @Nonnull final T value) {
 		if (condition) {
-			Check.notEmpty(chars, name);
+			Check.isAlphanumeric(value);
 		}
 	}
 
 	/**
-	 * Ensures that a passed map as a parameter of the calling method is not empty.
-	 * 
-	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * Ensures that a readable sequence of {@code char} values is alphanumeric. Alphanumeric arguments consist only of
+	 * the characters 0-9, A-Z and a-z and must not be empty (think of an identifier or a token).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param map
-	 *            a map which should not be empty
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be alphanumeric
 	 * @param name
 	 *            name of object reference (in source code)
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code map} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code map} is empty
+	 * @throws IllegalAlphanumericArgumentException
+	 *             if the given argument {@code value} is not alphanumeric
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends Map<?, ?>> void notEmpty(final boolean condition, @Nonnull final T map, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalAlphanumericArgumentException.class })
+	public static <T extends CharSequence> void isAlphanumeric(final boolean condition, @Nonnull final T value, @Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(map, name);
+			Check.isAlphanumeric(value, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed collection as a parameter of the calling method is not empty.
+	 * Ensures that a readable sequence of {@code char} values contains only characters of the 7 bit ASCII character
+	 * set. An empty sequence is accepted.
 	 * 
 	 * <p>
-	 * The following example describes how to use it.
+	 * We recommend to use the overloaded method {@link Check#isAscii(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * <pre>
-	 * &#064;ArgumentsChecked
-	 * public setCollection(Collection&lt;String&gt; collection) {
-	 * 	this.collection = Check.notEmpty(collection, &quot;collection&quot;);
-	 * }
-	 * </pre>
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a readable sequence of {@code char} values which must contain only ASCII characters
+	 * 
+	 * @throws IllegalAsciiArgumentException
+	 *             if the given argument {@code value} contains a character which is not ASCII
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalAsciiArgumentException.class })
+	public static <T extends CharSequence> void isAscii(final boolean condition, @Nonnull final T value) {
+		if (condition) {
+			Check.isAscii(value);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values contains only characters of the 7 bit ASCII character
+	 * set. An empty sequence is accepted.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param collection
-	 *            a collection which should not be empty
+	 * @param value
+	 *            a readable sequence of {@code char} values which must contain only ASCII characters
 	 * @param name
 	 *            name of object reference (in source code)
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code collection} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code collection} is empty
+	 * @throws IllegalAsciiArgumentException
+	 *             if the given argument {@code value} contains a character which is not ASCII
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends Collection<?>> void notEmpty(final boolean condition, @Nonnull final T collection, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalAsciiArgumentException.class })
+	public static <T extends CharSequence> void isAscii(final boolean condition, @Nonnull final T value, @Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(collection, name);
+			Check.isAscii(value, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * Ensures that a readable sequence of {@code char} values is hexadecimal. Hexadecimal arguments consist only of the
+	 * characters 0-9, A-F and a-f, may start with 0 and must not be empty (think of a hash or a color code).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(Object[], String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#isHexadecimal(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param array
-	 *            a map which should not be empty
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be hexadecimal
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code array} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code array} is empty
+	 * @throws IllegalHexadecimalArgumentException
+	 *             if the given argument {@code value} is not hexadecimal
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T> void notEmpty(final boolean condition, @Nonnull final T[] array) {
+	@Throws({ IllegalNullArgumentException.class, IllegalHexadecimalArgumentException.class })
+	public static <T extends CharSequence> void isHexadecimal(final boolean condition, @Nonnull final T value) {
 		if (condition) {
-			Check.notEmpty(array);
+			Check.isHexadecimal(value);
 		}
 	}
 
 	/**
-	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * Ensures that a readable sequence of {@code char} values is hexadecimal. Hexadecimal arguments consist only of the
+	 * characters 0-9, A-F and a-f, may start with 0 and must not be empty (think of a hash or a color code).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param array
-	 *            a map which should not be empty
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be hexadecimal
 	 * @param name
 	 *            name of object reference (in source code)
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code array} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code array} is empty
+	 * @throws IllegalHexadecimalArgumentException
+	 *             if the given argument {@code value} is not hexadecimal
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T> void notEmpty(final boolean condition, @Nonnull final T[] array, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalHexadecimalArgumentException.class })
+	public static <T extends CharSequence> void isHexadecimal(final boolean condition, @Nonnull final T value, @Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(array, name);
+			Check.isHexadecimal(value, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed boolean is not equal to another boolean. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a given argument is {@code null}.
 	 * 
-	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,boolean, boolean, String)}
-	 * and pass as second argument the name of the parameter to enhance the exception message.
+	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
+	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
+	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
+	 * For example, to avoid overwriting an existing primary key with a new one.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            boolean to be checked
+	 * @param reference
+	 *            reference which must be null
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNotNullArgumentException
+	 *             if the given argument {@code reference} is not null
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final boolean expected, final boolean check) {
+	@Throws(IllegalNotNullArgumentException.class)
+	public static void isNull(final boolean condition, @Nullable final Object reference) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.isNull(reference);
 		}
 	}
 
 	/**
-	 * Ensures that a passed boolean is not equal to another boolean. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a given argument is {@code null}.
+	 * 
+	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
+	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
+	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
+	 * For example, to avoid overwriting an existing primary key with a new one.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            boolean to be checked
-	 * @param message
-	 *            an error message describing why the booleans must equal (will be passed to
-	 *            {@code IllegalEqualException})
+	 * @param reference
+	 *            reference which must be null.
+	 * @param name
+	 *            name of object reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNotNullArgumentException
+	 *             if the given argument {@code reference} is not null
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final boolean expected, final boolean check, @Nonnull final String message) {
+	@Throws(IllegalNotNullArgumentException.class)
+	public static void isNull(final boolean condition, @Nullable final Object reference, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.isNull(reference, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed byte is not equal to another byte. The comparison is made using
-	 * <code>expected == check</code>.
-	 * 
-	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,byte, byte, String)} and
-	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * Ensures that a String argument is a number.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            byte to be checked
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            value which must be a number
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is not a number
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final byte expected, final byte check) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isNumber(final boolean condition, @Nonnull final String value) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.isNumber(value);
 		}
 	}
 
 	/**
-	 * Ensures that a passed byte is not equal to another byte. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
+	 * is first converted to a BigInteger
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            byte to be checked
-	 * @param message
-	 *            an error message describing why the bytes must equal (will be passed to {@code IllegalEqualException})
+	 * @param value
+	 *            value which must be a number
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
+	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final byte expected, final byte check, @Nonnull final String message) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends Number> void isNumber(final boolean condition, @Nonnull final String value, @Nonnull final Class<T> type) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.isNumber(value, type);
 		}
 	}
 
 	/**
-	 * Ensures that a passed char is not equal to another char. The comparison is made using
-	 * <code>expected == check</code>.
-	 * 
-	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,char, char, String)} and
-	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * Ensures that a string argument is a number according to {@code Integer.parseInt}
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            char to be checked
+	 * @param value
+	 *            value which must be a number
+	 * @param name
+	 *            name of object reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final char expected, final char check) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isNumber(final boolean condition, @Nonnull final String value, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.isNumber(value, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed char is not equal to another char. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
+	 * is first converted to a {@code BigDecimal} or {@code BigInteger}. Floating point types are only supported if the
+	 * {@code type} is one of {@code Float, Double, BigDecimal}.
+	 * 
+	 * <p>
+	 * This method does also check against the ranges of the given datatypes.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            char to be checked
-	 * @param message
-	 *            an error message describing why the chars must equal (will be passed to {@code IllegalEqualException})
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param name
+	 *            (optional) name of object reference (in source code).
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
+	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final char expected, final char check, @Nonnull final String message) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends Number> void isNumber(final boolean condition, @Nonnull final String value, @Nullable final String name,
+			@Nonnull final Class<T> type) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.isNumber(value, name, type);
 		}
 	}
 
 	/**
-	 * Ensures that a passed intH is not equal to another int. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
+	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
+	 * account number).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,int, int, String)} and pass
-	 * as second argument the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#isNumeric(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            int to be checked
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be a number
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final int expected, final int check) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends CharSequence> void isNumeric(final boolean condition, @Nonnull final T value) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.isNumeric(value);
 		}
 	}
 
 	/**
-	 * Ensures that a passed int is not equal to another int. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
+	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
+	 * account number).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            int to be checked
-	 * @param message
-	 *            an error message describing why the ints must equal (will be passed to {@code IllegalEqualException})
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be a number
+	 * @param name
+	 *            name of object reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final int expected, final int check, @Nonnull final String message) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	public static <T extends CharSequence> void isNumeric(final boolean condition, @Nonnull final T value, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.isNumeric(value, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed long is not equal to another long. The comparison is made using
-	 * <code>expected == check</code>.
-	 * 
-	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,long, long, String)} and
-	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) <= 0}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
 	 * @param check
-	 *            long to be checked
+	 *            Comparable to be checked
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
+	 *             {@code compareTo}
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final long expected, final long check) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static <T extends Comparable<T>> void lesserThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
+		Check.notNull(expected, "expected");
+		Check.notNull(check, "check");
+
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.lesserThan(expected, check);
 		}
 	}
 
 	/**
-	 * Ensures that a passed long is not equal to another long. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) <= 0}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
 	 * @param check
-	 *            long to be checked
+	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the longs must equal (will be passed to {@code IllegalEqualException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
+	 *             {@code compareTo}
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final long expected, final long check, @Nonnull final String message) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static <T extends Comparable<T>> void lesserThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
+			final String message) {
+		Check.notNull(expected, "expected");
+		Check.notNull(check, "check");
+
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.lesserThan(expected, check, message);
 		}
 	}
 
 	/**
-	 * Ensures that a passed short is not equal to another short. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that all elements of a {@code double} array are lesser than {@code expected}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,short, short, String)} and
-	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
-	 * @param check
-	 *            short to be checked
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final short expected, final short check) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final double expected, @Nonnull final double[] values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.lesserThan(expected, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed short is not equal to another short. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that all elements of the specified slice of a {@code double} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
-	 * @param check
-	 *            short to be checked
-	 * @param message
-	 *            an error message describing why the shorts must equal (will be passed to {@code IllegalEqualException}
-	 *            )
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final short expected, final short check, @Nonnull final String message) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final double expected, @Nonnull final double[] values, final int offset,
+			final int length, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.lesserThan(expected, values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is not equal to another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) == 0}.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are lesser than
+	 * {@code expected}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method
-	 * {@link ConditionalCheck#notEquals(condition,Comparable, Comparable, String)} and pass as second argument the name
-	 * of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Comparable<T>> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final double expected, @Nonnull final DoubleBuffer values,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.lesserThan(expected, values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
-	 * {@code expected.equals(check) }.
+	 * Ensures that all elements of a {@code float} array are lesser than {@code expected}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,Object, Object, String)}
-	 * and pass as second argument the name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
-	 * @param check
-	 *            Object to be checked
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Object> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final float expected, @Nonnull final float[] values,
+			@Nullable final String name) {
+		if (condition) {
+			Check.lesserThan(expected, values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final float expected, @Nonnull final float[] values, final int offset,
+			final int length, @Nullable final String name) {
+		if (condition) {
+			Check.lesserThan(expected, values, offset, length, name);
+		}
+	}
 
+	/**
+	 * Ensures that all elements of an {@code int} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final int expected, @Nonnull final int[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.lesserThan(expected, values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of an {@code int} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final int expected, @Nonnull final int[] values, final int offset,
+			final int length, @Nullable final String name) {
+		if (condition) {
+			Check.lesserThan(expected, values, offset, length, name);
+		}
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are lesser than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final int expected, @Nonnull final IntBuffer values,
+			@Nullable final String name) {
+		if (condition) {
+			Check.lesserThan(expected, values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final long expected, @Nonnull final long[] values, @Nullable final String name) {
+		if (condition) {
+			Check.lesserThan(expected, values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code long} array are lesser than {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final long expected, @Nonnull final long[] values, final int offset,
+			final int length, @Nullable final String name) {
+		if (condition) {
+			Check.lesserThan(expected, values, offset, length, name);
+		}
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are lesser than
+	 * {@code expected}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNotLesserThanException
+	 *             if an element is not lesser than {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static void lesserThan(final boolean condition, final long expected, @Nonnull final LongBuffer values,
+			@Nullable final String name) {
+		if (condition) {
+			Check.lesserThan(expected, values, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
+	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(Pattern, CharSequence, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
+			@Nonnull final T chars) {
+		if (condition) {
+			Check.matchesPattern(pattern, chars);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
+	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
+			@Nonnull final T chars, @Nullable final String name) {
+		if (condition) {
+			Check.matchesPattern(pattern, chars, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a regular expression. If the given character
+	 * sequence does not match against the expression, an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(String, CharSequence, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param regex
+	 *            regular expression, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given expression
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code regex}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final String regex,
+			@Nonnull final T chars) {
+		if (condition) {
+			Check.matchesPattern(regex, chars);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a regular expression. If the given character
+	 * sequence does not match against the expression, an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param regex
+	 *            regular expression, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given expression
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code regex}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final String regex,
+			@Nonnull final T chars, @Nullable final String name) {
+		if (condition) {
+			Check.matchesPattern(regex, chars, name);
+		}
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Iterable, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable) {
+		if (condition) {
+			Check.noNullElements(iterable);
+		}
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable, final String name) {
+		if (condition) {
+			Check.noNullElements(iterable, name);
+		}
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Object[], String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            reference to an array
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array) {
+		if (condition) {
+			Check.noNullElements(array);
+		}
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array, @Nullable final String name) {
+		if (condition) {
+			Check.noNullElements(array, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
+	 * emptiness.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(boolean, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
+	 *            {@code false} means not empty)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code reference} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static void notEmpty(final boolean condition, final boolean expression) {
+		if (condition) {
+			Check.notEmpty(expression);
+		}
+	}
+
+	/**
+	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
+	 * emptiness.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
+	 *            {@code false} means not empty)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code reference} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static void notEmpty(final boolean condition, final boolean expression, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(expression, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed string as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should not be empty
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code reference} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends CharSequence> void notEmpty(final boolean condition, @Nonnull final T chars) {
+		if (condition) {
+			Check.notEmpty(chars);
+		}
+	}
+
+	/**
+	 * Ensures that a passed collection as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param collection
+	 *            a collection which should not be empty
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code collection} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code collection} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends Collection<?>> void notEmpty(final boolean condition, @Nonnull final T collection) {
+		if (condition) {
+			Check.notEmpty(collection);
+		}
+	}
+
+	/**
+	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param map
+	 *            a map which should not be empty
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code map} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code map} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends Map<?, ?>> void notEmpty(final boolean condition, @Nonnull final T map) {
+		if (condition) {
+			Check.notEmpty(map);
+		}
+	}
+
+	/**
+	 * Ensures that an object reference passed as a parameter to the calling method is not empty. The passed boolean
+	 * value is the result of checking whether the reference is empty or not.
+	 * 
+	 * <p>
+	 * The following example describes how to use it.
+	 * 
+	 * <pre>
+	 * &#064;ArgumentsChecked
+	 * public setText(String text) {
+	 * 	ConditionalCheck.notEmpty(true, text, text.isEmpty(), &quot;text&quot;);
+	 * 	this.text = text;
+	 * }
+	 * </pre>
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param reference
+	 *            an object reference which should not be empty
+	 * @param expression
+	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
+	 *            {@code false} means not empty)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code reference} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T> void notEmpty(final boolean condition, @Nonnull final T reference, final boolean expression,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(reference, expression, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed string as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * The following example describes how to use it.
+	 * 
+	 * <pre>
+	 * &#064;ArgumentsChecked
+	 * public setText(String text) {
+	 * 	this.text = Check.notEmpty(text, &quot;text&quot;);
+	 * }
+	 * </pre>
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code string} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code string} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends CharSequence> void notEmpty(final boolean condition, @Nonnull final T chars, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(chars, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param map
+	 *            a map which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code map} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code map} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends Map<?, ?>> void notEmpty(final boolean condition, @Nonnull final T map, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(map, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed collection as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * The following example describes how to use it.
+	 * 
+	 * <pre>
+	 * &#064;ArgumentsChecked
+	 * public setCollection(Collection&lt;String&gt; collection) {
+	 * 	this.collection = Check.notEmpty(collection, &quot;collection&quot;);
+	 * }
+	 * </pre>
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param collection
+	 *            a collection which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code collection} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code collection} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends Collection<?>> void notEmpty(final boolean condition, @Nonnull final T collection, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(collection, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(Object[], String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            a map which should not be empty
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code array} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code array} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T> void notEmpty(final boolean condition, @Nonnull final T[] array) {
+		if (condition) {
+			Check.notEmpty(array);
+		}
+	}
+
+	/**
+	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            a map which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code array} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code array} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T> void notEmpty(final boolean condition, @Nonnull final T[] array, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(array, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed boolean is not equal to another boolean. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,boolean, boolean, String)}
+	 * and pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            boolean to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final boolean expected, final boolean check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed boolean is not equal to another boolean. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            boolean to be checked
+	 * @param message
+	 *            an error message describing why the booleans must equal (will be passed to
+	 *            {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final boolean expected, final boolean check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed byte is not equal to another byte. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,byte, byte, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            byte to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final byte expected, final byte check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed byte is not equal to another byte. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            byte to be checked
+	 * @param message
+	 *            an error message describing why the bytes must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final byte expected, final byte check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed char is not equal to another char. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,char, char, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            char to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final char expected, final char check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed char is not equal to another char. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            char to be checked
+	 * @param message
+	 *            an error message describing why the chars must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final char expected, final char check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed intH is not equal to another int. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,int, int, String)} and pass
+	 * as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            int to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final int expected, final int check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed int is not equal to another int. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            int to be checked
+	 * @param message
+	 *            an error message describing why the ints must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final int expected, final int check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed long is not equal to another long. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,long, long, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            long to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final long expected, final long check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed long is not equal to another long. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            long to be checked
+	 * @param message
+	 *            an error message describing why the longs must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final long expected, final long check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed short is not equal to another short. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,short, short, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            short to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final short expected, final short check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed short is not equal to another short. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            short to be checked
+	 * @param message
+	 *            an error message describing why the shorts must equal (will be passed to {@code IllegalEqualException}
+	 *            )
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final short expected, final short check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is not equal to another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) == 0}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method
+	 * {@link ConditionalCheck#notEquals(condition,Comparable, Comparable, String)} and pass as second argument the name
+	 * of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Comparable<T>> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
+		Check.notNull(expected, "expected");
+		Check.notNull(check, "check");
+
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
+	 * {@code expected.equals(check) }.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,Object, Object, String)}
+	 * and pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Object to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Object> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
+		Check.notNull(expected, "expected");
+		Check.notNull(check, "check");
+
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is not equal to another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) == 0}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the <a>s must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Comparable<T>> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
+			final String message) {
+		Check.notNull(expected, "expected");
+		Check.notNull(check, "check");
+
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
+	 * {@code expected.equals(check)}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Object to be checked
+	 * @param message
+	 *            an error message describing why the objects must equal (will be passed to
+	 *            {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Object> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
+			final String message) {
+		Check.notNull(expected, "expected");
+		Check.notNull(check, "check");
+
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(double, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which should not be NaN
+	 * 
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static void notNaN(final boolean condition, final double value) {
+		if (condition) {
+			Check.notNaN(value);
+		}
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which should not be NaN
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static void notNaN(final boolean condition, final double value, @Nullable final String name) {
+		if (condition) {
+			Check.notNaN(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(float, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Float#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which should not be NaN
+	 * 
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static void notNaN(final boolean condition, final float value) {
+		if (condition) {
+			Check.notNaN(value);
+		}
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * @see java.lang.Float#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which should not be NaN
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static void notNaN(final boolean condition, final float value, @Nullable final String name) {
+		if (condition) {
+			Check.notNaN(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of a {@code double} array are not {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final double[] values, @Nullable final String name) {
+		if (condition) {
+			Check.notNaN(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code double} array are not {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final double[] values, final int offset, final int length,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notNaN(values, offset, length, name);
+		}
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are not
+	 * {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final DoubleBuffer values, @Nullable final String name) {
+		if (condition) {
+			Check.notNaN(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of a {@code float} array are not {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final float[] values, @Nullable final String name) {
+		if (condition) {
+			Check.notNaN(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are not {@code NaN} (not a number).
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is {@code NaN}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final float[] values, final int offset, final int length,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notNaN(values, offset, length, name);
+		}
+	}
+
+	/**
+	 * Ensures that an integer reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(int, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * 
+	 * @throws IllegalNegativeArgumentException
+	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 */
+	@Throws(IllegalNegativeArgumentException.class)
+	public static void notNegative(final boolean condition, final int value) {
+		if (condition) {
+			Check.notNegative(value);
+		}
+	}
+
+	/**
+	 * Ensures that an integer reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 */
+	@Throws(IllegalNegativeArgumentException.class)
+	public static void notNegative(final boolean condition, final int value, @Nullable final String name) {
+		if (condition) {
+			Check.notNegative(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of a {@code double} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final double[] values, @Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code double} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final double[] values, final int offset, final int length,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, offset, length, name);
+		}
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are not smaller
+	 * than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final DoubleBuffer values, @Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of a {@code float} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final float[] values, @Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code float} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final float[] values, final int offset, final int length,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, offset, length, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final int[] values, @Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of an {@code int} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final int[] values, final int offset, final int length,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, offset, length, name);
+		}
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are not smaller than
+	 * {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final IntBuffer values, @Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final long[] values, @Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of the specified slice of a {@code long} array are not smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final long[] values, final int offset, final int length,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, offset, length, name);
+		}
+	}
+
+	/**
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are not smaller than
+	 * {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final LongBuffer values, @Nullable final String name) {
+		if (condition) {
+			Check.notNegative(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that an object reference passed as a parameter to the calling method is not {@code null}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNull(Object, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param reference
+	 *            an object reference
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 */
+	@Throws(IllegalNullArgumentException.class)
+	public static <T> void notNull(final boolean condition, @Nonnull final T reference) {
+		if (condition) {
+			Check.notNull(reference);
+		}
+	}
+
+	/**
+	 * Ensures that an object reference passed as a parameter to the calling method is not {@code null}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param reference
+	 *            an object reference
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 */
+	@Throws(IllegalNullArgumentException.class)
+	public static <T> void notNull(final boolean condition, @Nonnull final T reference, @Nullable final String name) {
+		if (condition) {
+			Check.notNull(reference, name);
+		}
+	}
+
+	/**
+	 * Ensures that an integer reference passed as a parameter to the calling method is not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notPositive(int, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * 
+	 * @throws IllegalPositiveArgumentException
+	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 */
+	@Throws(IllegalPositiveArgumentException.class)
+	public static void notPositive(final boolean condition, final int value) {
+		if (condition) {
+			Check.notPositive(value);
+		}
+	}
+
+	/**
+	 * Ensures that an integer reference passed as a parameter to the calling method is not greater than {@code 0}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 */
+	@Throws(IllegalPositiveArgumentException.class)
+	public static void notPositive(final boolean condition, final int value, @Nullable final String name) {
+		if (condition) {
+			Check.notPositive(value, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is not equal to another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) == 0}.
+	 * Ensures that all elements of a {@code double} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the <a>s must equal (will be passed to {@code IllegalEqualException})
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Comparable<T>> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
-			final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final double[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.notPositive(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
-	 * {@code expected.equals(check)}.
+	 * Ensures that all elements of the specified slice of a {@code double} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Object to be checked
-	 * @param message
-	 *            an error message describing why the objects must equal (will be passed to
-	 *            {@code IllegalEqualException})
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Object> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
-			final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final double[] values, final int offset, final int length,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.notPositive(values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code DoubleBuffer} are not greater
+	 * than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNaN(double, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
 	 * 
-	 * @see java.lang.Double#NaN
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which should not be NaN
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
 	 * 
-	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static void notNaN(final boolean condition, final double value) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final DoubleBuffer values, @Nullable final String name) {
 		if (condition) {
-			Check.notNaN(value);
+			Check.notPositive(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that all elements of a {@code float} array are not greater than {@code 0}.
 	 * 
-	 * @see java.lang.Double#NaN
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
+	 * 
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which should not be NaN
+	 * @param values
+	 *            an array of numbers
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static void notNaN(final boolean condition, final double value, @Nullable final String name) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final float[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notNaN(value, name);
+			Check.notPositive(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that all elements of the specified slice of a {@code float} array are not greater than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNaN(float, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
-	 * @see java.lang.Float#NaN
+	 * <p>
+	 * Elements which are {@code NaN} are not rejected, in the same way as by the checks of single values.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which should not be NaN
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static void notNaN(final boolean condition, final float value) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final float[] values, final int offset, final int length,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notNaN(value);
+			Check.notPositive(values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that all elements of an {@code int} array are not greater than {@code 0}.
 	 * 
-	 * @see java.lang.Float#NaN
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which should not be NaN
+	 * @param values
+	 *            an array of numbers
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static void notNaN(final boolean condition, final float value, @Nullable final String name) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final int[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notNaN(value, name);
+			Check.notPositive(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that an integer reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * Ensures that all elements of the specified slice of an {@code int} array are not greater than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNegative(int, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a number
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
-	 * @throws IllegalNegativeArgumentException
-	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalNegativeArgumentException.class)
-	public static void notNegative(final boolean condition, final int value) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final int[] values, final int offset, final int length,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notNegative(value);
+			Check.notPositive(values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that an integer reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code IntBuffer} are not greater than
+	 * {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a number
+	 * @param values
+	 *            a buffer of numbers
 	 * @param name
-	 *            name of the number reference (in source code)
+	 *            name of the buffer reference (in source code)
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalNegativeArgumentException.class)
-	public static void notNegative(final boolean condition, final int value, @Nullable final String name) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final IntBuffer values, @Nullable final String name) {
 		if (condition) {
-			Check.notNegative(value, name);
+			Check.notPositive(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that an object reference passed as a parameter to the calling method is not {@code null}.
+	 * Ensures that all elements of a {@code long} array are not greater than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNull(Object, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param reference
-	 *            an object reference
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is {@code null}
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalNullArgumentException.class)
-	public static <T> void notNull(final boolean condition, @Nonnull final T reference) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final long[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notNull(reference);
+			Check.notPositive(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that an object reference passed as a parameter to the calling method is not {@code null}.
+	 * Ensures that all elements of the specified slice of a {@code long} array are not greater than {@code 0}.
+	 * 
+	 * <p>
+	 * The elements are checked in blocks, so that the loop does not branch per element. The exception names the first
+	 * offending element by its index, e.g. {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param reference
-	 *            an object reference
+	 * @param values
+	 *            an array of numbers
+	 * @param offset
+	 *            index of the first element to check
+	 * @param length
+	 *            number of elements to check
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of the array reference (in source code)
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is {@code null}
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if the slice is not within the bounds of the array
+	 * @throws IllegalPositiveArgumentException
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalNullArgumentException.class)
-	public static <T> void notNull(final boolean condition, @Nonnull final T reference, @Nullable final String name) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final long[] values, final int offset, final int length,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notNull(reference, name);
+			Check.notPositive(values, offset, length, name);
 		}
 	}
 
 	/**
-	 * Ensures that an integer reference passed as a parameter to the calling method is not greater than {@code 0}.
+	 * Ensures that all remaining elements (from the position to the limit) of a {@code LongBuffer} are not greater than
+	 * {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notPositive(int, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The elements are checked in blocks, so that the loop does not branch per element. The position of the buffer is
+	 * not changed. The exception names the first offending element by its absolute index in the buffer, e.g.
+	 * {@code values[42]}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a number
+	 * @param values
+	 *            a buffer of numbers
+	 * @param name
+	 *            name of the buffer reference (in source code)
 	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
 	 * @throws IllegalPositiveArgumentException
-	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 *             if an element is greater than {@code 0}
 	 */
-	@Throws(IllegalPositiveArgumentException.class)
-	public static void notPositive(final boolean condition, final int value) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositiveArgumentException.class })
+	public static void notPositive(final boolean condition, @Nonnull final LongBuffer values, @Nullable final String name) {
 		if (condition) {
-			Check.notPositive(value);
+			Check.notPositive(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that an integer reference passed as a parameter to the calling method is not greater than {@code 0}.
+	 * Ensures that a given position index is valid within the size of an array, list or string ...
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a number
-	 * @param name
-	 *            name of the number reference (in source code)
+	 * @param index
+	 *            index of an array, list or string
+	 * @param size
+	 *            size of an array list or string
+	 * 
+	 * @throws IllegalPositionIndexException
+	 *             if the index is not a valid position index within an array, list or string of size <em>size</em>
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is smaller than {@code 0}
 	 */
-	@Throws(IllegalPositiveArgumentException.class)
-	public static void notPositive(final boolean condition, final int value, @Nullable final String name) {
+	@Throws(IllegalPositionIndexException.class)
+	public static void positionIndex(final boolean condition, final int index, final int size) {
 		if (condition) {
-			Check.notPositive(value, name);
+			Check.positionIndex(index, size);
 		}
 	}
 
 	/**
-	 * Ensures that a given position index is valid within the size of an array, list or string ...
+	 * Ensures that a given position index is valid within the size of a memory-mapped file, an off-heap region or any
+	 * other sequence which can be larger than {@code Integer.MAX_VALUE}.
+	 * 
+	 * <p>
+	 * The conditions {@code index >= 0}, {@code size >= 0} and {@code index < size} are tested with a single comparison
+	 * of the sign bit, without any branch per condition.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param index
-	 *            index of an array, list or string
+	 *            index within a sequence
 	 * @param size
-	 *            size of an array list or string
+	 *            size of a sequence
 	 * 
 	 * @throws IllegalPositionIndexException
-	 *             if the index is not a valid position index within an array, list or string of size <em>size</em>
+	 *             if the index is not a valid position index within a sequence of size <em>size</em>
 	 * 
 	 */
 	@Throws(IllegalPositionIndexException.class)
-	public static void positionIndex(final boolean condition, final int index, final int size) {
+	public static void positionIndex(final boolean condition, final long index, final long size) {
 		if (condition) {
 			Check.positionIndex(index, size);
 		}
@@ -2120,6 +4519,42 @@ public final class ConditionalCheck {
 		}
 	}
 
+	/**
+	 * Ensures that the given arguments are a valid range within a memory-mapped file, an off-heap region or any other
+	 * sequence which can be larger than {@code Integer.MAX_VALUE}.
+	 * 
+	 * A range (<em>start</em>, <em>end</em>, <em>size</em>) is valid if the following conditions are {@code true}:
+	 * <ul>
+	 * <li>start <= size</li>
+	 * <li>end <= size</li>
+	 * <li>start <= end</li>
+	 * <li>size >= 0</li>
+	 * <li>start >= 0</li>
+	 * <li>end >= 0</li>
+	 * </ul>
+	 * 
+	 * <p>
+	 * All conditions are tested with a single comparison of the sign bit, without any branch per condition.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param start
+	 *            the start value of the range (must be a positive integer or 0)
+	 * @param end
+	 *            the end value of the range (must be a positive integer or 0)
+	 * @param size
+	 *            the size value of the range (must be a positive integer or 0)
+	 * 
+	 * @throws IllegalRangeException
+	 *             if the given arguments do not form a valid range
+	 */
+	@Throws(IllegalRangeException.class)
+	public static void range(final boolean condition, @Nonnegative final long start, @Nonnegative final long end, @Nonnegative final long size) {
+		if (condition) {
+			Check.range(start, end, size);
+		}
+	}
+
 	/**
 	 * Ensures that a given state is {@code true}.
 	 * 
@@ -2169,6 +4604,28 @@ public final class ConditionalCheck {
 
 	}
 
+	/**
+	 * Ensures that a given state is {@code true} and allows to specify a factory of the exception which is thrown in
+	 * case the state is not {@code true}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param factory
+	 *            factory of the exception which will be thrown if the given state is not valid
+	 * @throws IllegalNullArgumentException
+	 *             if the given factory is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static void stateIsTrue(final boolean condition, final boolean expression,
+			@Nonnull final ExceptionFactory<? extends RuntimeException> factory) {
+		if (condition) {
+			Check.stateIsTrue(expression, factory);
+		}
+	}
+
 	/**
 	 * Ensures that a given state is {@code true}.
 	 * 
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+/**
+ * A check of a single element of a sequence, which is applied by the wrappers of {@link LazyCheck} to every element
+ * when it is consumed.
+ * 
+ * <p>
+ * The element is identified by the name of the sequence and its index, e.g. {@code rows[42]}. An index lower than
+ * {@code 0} means that the position of the element is unknown, e.g. after a parallel stream was split into parts of
+ * unknown size. In this case the exception names only the sequence.
+ * 
+ * @param <T>
+ *            type of the checked elements
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public abstract class ElementCheck<T> {
+
+	/**
+	 * Checks that an element lies within an inclusive range.
+	 */
+	private static final class InRange<T extends Number & Comparable<T>> extends ElementCheck<T> {
+
+		@Nonnull
+		private final T max;
+
+		@Nonnull
+		private final T min;
+
+		InRange(@Nonnull final T min, @Nonnull final T max) {
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public void check(@Nullable final T element, @Nullable final String name, final long index) {
+			if (element == null) {
+				throw new IllegalNullArgumentException(elementName(name, index));
+			}
+			if (element.compareTo(min) < 0 || element.compareTo(max) > 0) {
+				throw new IllegalNumberRangeException(elementName(name, index), element.toString(), min, max);
+			}
+		}
+
+	}
+
+	/**
+	 * Checks that a sequence of characters matches a pattern.
+	 */
+	private static final class MatchesPattern<T extends CharSequence> extends ElementCheck<T> {
+
+		@Nonnull
+		private final Pattern pattern;
+
+		MatchesPattern(@Nonnull final Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		@Override
+		public void check(@Nullable final T element, @Nullable final String name, final long index) {
+			if (element == null) {
+				throw new IllegalNullArgumentException(elementName(name, index));
+			}
+			if (!Matchers.matches(pattern, element)) {
+				throw new IllegalPatternArgumentException(elementName(name, index), pattern, element);
+			}
+		}
+
+	}
+
+	/**
+	 * Checks that an element is not {@code null}.
+	 */
+	private static final class NotNull extends ElementCheck<Object> {
+
+		@Override
+		public void check(@Nullable final Object element, @Nullable final String name, final long index) {
+			if (element == null) {
+				throw index < 0 ? new IllegalNullElementsException(name) : new IllegalNullElementsException(name, index);
+			}
+		}
+
+	}
+
+	/**
+	 * The only instance of {@link NotNull}, which can be shared for all element types
+	 */
+	private static final ElementCheck<Object> NOT_NULL = new NotNull();
+
+	/**
+	 * Creates the name of an element of a sequence, which is used in the exception messages.
+	 * 
+	 * @param name
+	 *            name of the sequence (in source code) or {@code null}
+	 * @param index
+	 *            index of the element or a negative value if it is unknown
+	 * @return the name of the element, e.g. {@code rows[42]}, or the name of the sequence if the index is unknown
+	 */
+	@Nullable
+	static String elementName(@Nullable final String name, final long index) {
+		return index < 0 ? name : (name != null ? name : "") + '[' + index + ']';
+	}
+
+	/**
+	 * Returns a check which ensures that every element is a number within the range from {@code min} to {@code max}
+	 * (both inclusive). An element which is {@code null} is rejected with an {@link IllegalNullArgumentException}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @return a check of single elements
+	 * @throws IllegalNullArgumentException
+	 *             if one of the bounds is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends Number & Comparable<T>> ElementCheck<T> inRange(@Nonnull final T min, @Nonnull final T max) {
+		Check.notNull(min, "min");
+		Check.notNull(max, "max");
+		return new InRange<T>(min, max);
+	}
+
+	/**
+	 * Returns a check which ensures that every element matches the passed pattern. An element which is {@code null} is
+	 * rejected with an {@link IllegalNullArgumentException}.
+	 * 
+	 * @param pattern
+	 *            pattern, that the elements must correspond to
+	 * @return a check of single elements
+	 * @throws IllegalNullArgumentException
+	 *             if the given pattern is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends CharSequence> ElementCheck<T> matchesPattern(@Nonnull final Pattern pattern) {
+		Check.notNull(pattern, "pattern");
+		return new MatchesPattern<T>(pattern);
+	}
+
+	/**
+	 * Returns a check which ensures that no element is {@code null}. The check throws an
+	 * {@link IllegalNullElementsException} which reports the index of the element.
+	 * 
+	 * @return a check of single elements
+	 */
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	public static <T> ElementCheck<T> notNull() {
+		return (ElementCheck<T>) NOT_NULL;
+	}
+
+	/**
+	 * Restricts the implementations to the checks which are created by the factory methods of this class.
+	 */
+	ElementCheck() {
+		// only the factory methods create instances
+	}
+
+	/**
+	 * Checks a single element.
+	 * 
+	 * @param element
+	 *            the element to check
+	 * @param name
+	 *            name of the sequence (in source code)
+	 * @param index
+	 *            index of the element within the sequence or a negative value if it is unknown
+	 * @throws RuntimeException
+	 *             an exception of Quality-Check if the element is invalid
+	 */
+	public abstract void check(@Nullable T element, @Nullable String name, long index);
+
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Scans the elements of arrays and {@code Iterable}s, e.g. for the first element that is {@code null}.
+ * 
+ * <p>
+ * Walking an {@code Iterator} costs an allocation and a virtual call per element, which the JIT compiler cannot remove
+ * if it sees many different collection types at the same call site. Therefore lists which support fast random access
+ * are scanned by index and other collections are copied once with {@link Collection#toArray()} and scanned as array.
+ * Only an {@code Iterable} which is not a {@code Collection} is walked with its iterator.
+ * 
+ * @author André Rouél
+ */
+final class Elements {
+
+	/**
+	 * Index which indicates that no element is {@code null}
+	 */
+	static final int NOT_FOUND = -1;
+
+	/**
+	 * Returns the index of the first element in the given region of an array that is {@code null}.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @param from
+	 *            index of the first element to scan
+	 * @param to
+	 *            index after the last element to scan
+	 * @return the index of the first {@code null} or {@link #NOT_FOUND}
+	 */
+	static int indexOfNull(@Nonnull final Object[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (array[i] == null) {
+				return i;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element of an {@code Iterable} that is {@code null}. The index of a collection
+	 * which is not a list refers to the order of its iteration.
+	 * 
+	 * @param iterable
+	 *            an iterable reference
+	 * @return the index of the first {@code null} or {@link #NOT_FOUND}
+	 */
+	static int indexOfNull(@Nonnull final Iterable<?> iterable) {
+		if (iterable instanceof List<?> && iterable instanceof RandomAccess) {
+			final List<?> list = (List<?>) iterable;
+			return indexOfNull(list, 0, list.size());
+		}
+		if (iterable instanceof Collection<?>) {
+			final Object[] array = ((Collection<?>) iterable).toArray();
+			return indexOfNull(array, 0, array.length);
+		}
+		int index = 0;
+		for (final Object element : iterable) {
+			if (element == null) {
+				return index;
+			}
+			index++;
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element in the given region of a list that is {@code null}. The list should
+	 * support fast random access.
+	 * 
+	 * @param list
+	 *            a list which implements {@link RandomAccess}
+	 * @param from
+	 *            index of the first element to scan
+	 * @param to
+	 *            index after the last element to scan
+	 * @return the index of the first {@code null} or {@link #NOT_FOUND}
+	 */
+	static int indexOfNull(@Nonnull final List<?> list, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (list.get(i) == null) {
+				return i;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Checks whether an {@code Iterable} has no elements. A collection is asked for its size instead of creating an
+	 * iterator.
+	 * 
+	 * @param iterable
+	 *            an iterable reference
+	 * @return {@code true} if the iterable has no elements, otherwise {@code false}
+	 */
+	static boolean isEmpty(@Nonnull final Iterable<?> iterable) {
+		return iterable instanceof Collection<?> ? ((Collection<?>) iterable).isEmpty() : !iterable.iterator().hasNext();
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private Elements() {
+		// This class is not intended to create objects from it.
+	}
+
+}
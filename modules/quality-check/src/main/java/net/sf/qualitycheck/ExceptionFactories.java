@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.RuntimeInstantiationException;
+
+/**
+ * Provides factories which create exceptions by the constructors of their classes.
+ * 
+ * <p>
+ * The constructors of an exception class are resolved only once and the factory is cached, so that creating an
+ * exception only invokes the resolved constructor. Factories of classes which are visible to the class loader of this
+ * library are held strongly, because these classes cannot be unloaded before the library. Factories of classes of other
+ * class loaders are held weakly, so that they never keep their class loaders from being unloaded, and are resolved again
+ * after they were collected. Exceptions are created with the constructor which takes only a {@link Throwable} if a
+ * cause is passed and such a constructor exists, otherwise with the default constructor. Because the core library runs
+ * on Java 6, the factories invoke {@link Constructor}s instead of method handles.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+public final class ExceptionFactories {
+
+	/**
+	 * Factory which creates exceptions by resolved constructors of their class.
+	 */
+	@Immutable
+	private static final class ConstructorFactory<E extends RuntimeException> implements ExceptionFactory<E> {
+
+		@Nonnull
+		private final Class<E> clazz;
+
+		/**
+		 * The constructor which takes only a cause or {@code null} if there is no such constructor
+		 */
+		@Nullable
+		private final Constructor<E> causeConstructor;
+
+		/**
+		 * The default constructor or {@code null} if there is no such constructor
+		 */
+		@Nullable
+		private final Constructor<E> defaultConstructor;
+
+		ConstructorFactory(@Nonnull final Class<E> clazz) {
+			this.clazz = clazz;
+			causeConstructor = findConstructor(clazz, Throwable.class);
+			defaultConstructor = findConstructor(clazz);
+		}
+
+		@Override
+		public E create(@Nullable final Throwable cause) {
+			try {
+				if (cause != null && causeConstructor != null) {
+					return causeConstructor.newInstance(cause);
+				}
+				if (defaultConstructor == null) {
+					throw new RuntimeInstantiationException(clazz.getSimpleName());
+				}
+				return defaultConstructor.newInstance();
+			} catch (final InstantiationException e) {
+				throw new RuntimeInstantiationException(clazz.getSimpleName(), e);
+			} catch (final IllegalAccessException e) {
+				throw new RuntimeInstantiationException(clazz.getSimpleName(), e);
+			} catch (final InvocationTargetException e) {
+				final Throwable thrown = e.getCause();
+				if (thrown instanceof RuntimeException) {
+					throw (RuntimeException) thrown;
+				}
+				if (thrown instanceof Error) {
+					throw (Error) thrown;
+				}
+				throw new RuntimeInstantiationException(clazz.getSimpleName(), thrown);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "ExceptionFactory [class=" + clazz.getName() + "]";
+		}
+
+	}
+
+	/**
+	 * Factories of the exception classes which are visible to the class loader of this library
+	 */
+	private static final ConcurrentMap<Class<?>, ExceptionFactory<?>> FACTORIES = new ConcurrentHashMap<Class<?>, ExceptionFactory<?>>();
+
+	/**
+	 * Returns a declared constructor of a class.
+	 * 
+	 * @return the constructor or {@code null} if the class does not declare it
+	 */
+	@Nullable
+	private static <E> Constructor<E> findConstructor(@Nonnull final Class<E> clazz, @Nonnull final Class<?>... parameterTypes) {
+		try {
+			return clazz.getDeclaredConstructor(parameterTypes);
+		} catch (final NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Checks whether a class is loaded by the class loader of this library or by one of its ancestors. If a security
+	 * manager denies to inspect the class loaders, the class is treated as not visible.
+	 * 
+	 * @param clazz
+	 *            the class to check
+	 * @return {@code true} if the class cannot be unloaded before this library, otherwise {@code false}
+	 */
+	static boolean isVisible(@Nonnull final Class<?> clazz) {
+		try {
+			final ClassLoader loader = clazz.getClassLoader();
+			if (loader == null) {
+				return true;
+			}
+			for (ClassLoader ancestor = ExceptionFactories.class.getClassLoader(); ancestor != null; ancestor = ancestor.getParent()) {
+				if (ancestor == loader) {
+					return true;
+				}
+			}
+		} catch (final SecurityException e) {
+			// treated like a class of a foreign class loader
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the factory of an exception class. The factory is resolved on the first call per class and cached
+	 * afterwards, strongly if the class is visible to the class loader of this library, otherwise weakly. A factory can
+	 * also be kept in a field to avoid even the cache lookup.
+	 * 
+	 * <p>
+	 * The factory throws a {@link RuntimeInstantiationException} if the class cannot be instantiated by its
+	 * constructors, for example if they are not accessible or throw a checked exception. Unchecked exceptions and errors
+	 * of a constructor are thrown as they are.
+	 * 
+	 * @param clazz
+	 *            a subclass of {@link RuntimeException}
+	 * @return the factory of the exception class
+	 * @throws IllegalNullArgumentException
+	 *             if the given class is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	public static <E extends RuntimeException> ExceptionFactory<E> of(@Nonnull final Class<E> clazz) {
+		Check.notNull(clazz, "clazz");
+		final ExceptionFactory<?> cached = FACTORIES.get(clazz);
+		if (cached != null) {
+			return (ExceptionFactory<E>) cached;
+		}
+		if (!isVisible(clazz)) {
+			return ClassPairCache.getExceptionFactory(clazz);
+		}
+		final ExceptionFactory<E> created = resolve(clazz);
+		final ExceptionFactory<?> raced = FACTORIES.putIfAbsent(clazz, created);
+		return raced != null ? (ExceptionFactory<E>) raced : created;
+	}
+
+	/**
+	 * Resolves the constructors of an exception class.
+	 * 
+	 * @param clazz
+	 *            a subclass of {@link RuntimeException}
+	 * @return a new factory of the exception class
+	 */
+	@Nonnull
+	static <E extends RuntimeException> ExceptionFactory<E> resolve(@Nonnull final Class<E> clazz) {
+		return new ConstructorFactory<E>(clazz);
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private ExceptionFactories() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Creates the exceptions which are thrown by {@link Check#stateIsTrue(boolean, ExceptionFactory)} when a state is not
+ * valid. A factory creates the exception directly, so that no reflection is needed when a check fails.
+ * 
+ * <p>
+ * Factories of exception classes, which create the exceptions by their constructors, are provided by
+ * {@link ExceptionFactories#of(Class)}.
+ * 
+ * @param <E>
+ *            type of the created exceptions
+ * 
+ * @author André Rouél
+ */
+public interface ExceptionFactory<E extends RuntimeException> {
+
+	/**
+	 * Creates a new exception.
+	 * 
+	 * @param cause
+	 *            the cause of the exception or {@code null} if there is none
+	 * @return a new exception
+	 */
+	@Nonnull
+	E create(@Nullable Throwable cause);
+
+}
@@ -0,0 +1,514 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.exception.IllegalAlphanumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalAsciiArgumentException;
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalEqualException;
+import net.sf.qualitycheck.exception.IllegalHexadecimalArgumentException;
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+import net.sf.qualitycheck.exception.IllegalMissingAnnotationException;
+import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotEqualException;
+import net.sf.qualitycheck.exception.IllegalNotGreaterOrEqualThanException;
+import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
+import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+import net.sf.qualitycheck.exception.IllegalPositiveArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+import net.sf.qualitycheck.exception.RuntimeInstantiationException;
+
+/**
+ * Cold paths of the checks in {@link Check} and {@link NumberInRange}, which create the exception of a failed check.
+ * 
+ * <p>
+ * A check consists only of a comparison and, on failure, a single call of this class. Boxing, formatting, reflection
+ * and the allocation of the exception all happen here, so that the bytecode of a check stays below the size up to
+ * which HotSpot inlines a method ({@code MaxInlineSize}, 35 bytes). The methods of this class are only called on
+ * failure, and HotSpot does not inline call sites which were rarely or never executed, so they do not count against
+ * the inlining budget of their callers.
+ * 
+ * <p>
+ * The methods return the exception instead of throwing it, so that a check can use {@code throw Failures.x(...)} and
+ * the compiler still knows that the control flow ends there. The factory methods mirror the constructors of the
+ * exceptions and are only documented where they do more than passing on their arguments.
+ * 
+ * <p>
+ * Every created exception is counted as failure by {@link CheckMetrics}, if the metrics are enabled, and reported to
+ * the installed {@link CheckListener}.
+ * 
+ * @author André Rouél
+ */
+final class Failures {
+
+	/**
+	 * Representation of an empty argument name.
+	 */
+	private static final String EMPTY_ARGUMENT_NAME = "";
+
+	/**
+	 * Message of an exception for a requested type which is no known subclass of {@code Number}.
+	 */
+	private static final String MESSAGE_UNKNOWN_NUMBER_TYPE = "Return value is no known subclass of 'java.lang.Number': ";
+
+	/**
+	 * Reads an element of a primitive array or buffer, which has been found by a bulk check.
+	 * 
+	 * @param values
+	 *            an array or buffer of the types {@code int}, {@code long}, {@code float} or {@code double}
+	 * @param index
+	 *            absolute index of the element
+	 * @return the boxed element
+	 */
+	@Nonnull
+	private static Number element(@Nonnull final Object values, final int index) {
+		final Number element;
+		if (values instanceof int[]) {
+			element = Integer.valueOf(((int[]) values)[index]);
+		} else if (values instanceof long[]) {
+			element = Long.valueOf(((long[]) values)[index]);
+		} else if (values instanceof float[]) {
+			element = Float.valueOf(((float[]) values)[index]);
+		} else if (values instanceof double[]) {
+			element = Double.valueOf(((double[]) values)[index]);
+		} else if (values instanceof IntBuffer) {
+			element = Integer.valueOf(((IntBuffer) values).get(index));
+		} else if (values instanceof LongBuffer) {
+			element = Long.valueOf(((LongBuffer) values).get(index));
+		} else {
+			element = Double.valueOf(((DoubleBuffer) values).get(index));
+		}
+		return element;
+	}
+
+	/**
+	 * Creates the name of an element of an array or buffer, which is used in the exception messages of the bulk checks.
+	 * 
+	 * @param name
+	 *            name of the array or buffer reference (in source code) or {@code null}
+	 * @param index
+	 *            index of the element
+	 * @return the name of the element, e.g. {@code values[42]}
+	 */
+	@Nonnull
+	static String elementName(@Nullable final String name, final int index) {
+		return (name != null ? name : EMPTY_ARGUMENT_NAME) + '[' + index + ']';
+	}
+
+	/**
+	 * Counts a failed check in {@link CheckMetrics}, if the metrics are enabled, and notifies the installed
+	 * {@link CheckListener}, if it observes failed checks. The stack is only walked if one of both needs it, and then
+	 * only once.
+	 * 
+	 * @param name
+	 *            name of the checked argument or {@code null}
+	 * @param exception
+	 *            the exception of the failed check
+	 * @return the passed exception
+	 */
+	@Nonnull
+	private static <T extends RuntimeException> T failed(@Nullable final String name, @Nonnull final T exception) {
+		final boolean listened = CheckListeners.ENABLED && CheckListeners.isFailedEnabled();
+		if (CheckMetrics.ENABLED || listened) {
+			final StackTraceElement[] stack = new Throwable().getStackTrace();
+			if (CheckMetrics.ENABLED) {
+				CheckMetrics.failed(stack);
+			}
+			if (listened) {
+				CheckListeners.failed(stack, name, exception);
+			}
+		}
+		return exception;
+	}
+
+	@Nonnull
+	static IllegalAlphanumericArgumentException illegalAlphanumericArgument(@Nullable final String name,
+			@Nullable final CharSequence value) {
+		return failed(name, new IllegalAlphanumericArgumentException(name, value));
+	}
+
+	@Nonnull
+	static IllegalAsciiArgumentException illegalAsciiArgument(@Nullable final String name, @Nullable final CharSequence value) {
+		return failed(name, new IllegalAsciiArgumentException(name, value));
+	}
+
+	@Nonnull
+	static IllegalEmptyArgumentException illegalEmptyArgument(@Nullable final String name) {
+		return failed(name, new IllegalEmptyArgumentException(name));
+	}
+
+	@Nonnull
+	static IllegalEqualException illegalEqual(@Nullable final Object check) {
+		return failed(null, new IllegalEqualException(check));
+	}
+
+	@Nonnull
+	static IllegalEqualException illegalEqual(@Nonnull final String message, @Nullable final Object check) {
+		return failed(null, new IllegalEqualException(message, check));
+	}
+
+	/**
+	 * Creates the exception for a sub-range which is not within the bounds of a whole range.
+	 * 
+	 * @param fromIndex
+	 *            index of the first element of the sub-range
+	 * @param size
+	 *            number of elements of the sub-range
+	 * @param length
+	 *            upper bound (exclusive) of the whole range
+	 * @return the exception
+	 */
+	@Nonnull
+	static IllegalRangeException illegalFromIndexSize(final long fromIndex, final long size, final long length) {
+		return failed(null, new IllegalRangeException(fromIndex, fromIndex + size, length));
+	}
+
+	@Nonnull
+	static IllegalHexadecimalArgumentException illegalHexadecimalArgument(@Nullable final String name,
+			@Nullable final CharSequence value) {
+		return failed(name, new IllegalHexadecimalArgumentException(name, value));
+	}
+
+	@Nonnull
+	static IllegalInstanceOfArgumentException illegalInstanceOfArgument(@Nullable final String name, @Nonnull final Class<?> type,
+			@Nonnull final Object obj) {
+		return failed(name, new IllegalInstanceOfArgumentException(name, type, obj.getClass()));
+	}
+
+	@Nonnull
+	static IllegalMissingAnnotationException illegalMissingAnnotation(@Nonnull final Class<? extends Annotation> annotation,
+			@Nonnull final Class<?> clazz) {
+		return failed(null, new IllegalMissingAnnotationException(annotation, clazz));
+	}
+
+	@Nonnull
+	static IllegalNaNArgumentException illegalNaNArgument(@Nullable final String name) {
+		return failed(name, new IllegalNaNArgumentException(name));
+	}
+
+	@Nonnull
+	static IllegalNaNArgumentException illegalNaNElement(@Nullable final String name, final int index) {
+		return failed(name, new IllegalNaNArgumentException(elementName(name, index)));
+	}
+
+	@Nonnull
+	static IllegalNegativeArgumentException illegalNegativeArgument(@Nullable final Number value) {
+		return failed(null, new IllegalNegativeArgumentException(value));
+	}
+
+	@Nonnull
+	static IllegalNegativeArgumentException illegalNegativeArgument(@Nullable final String name, @Nullable final Number value) {
+		return failed(name, new IllegalNegativeArgumentException(name, value));
+	}
+
+	@Nonnull
+	static IllegalNegativeArgumentException illegalNegativeElement(@Nullable final String name, @Nonnull final Object values,
+			final int index) {
+		return failed(name, new IllegalNegativeArgumentException(elementName(name, index), element(values, index)));
+	}
+
+	@Nonnull
+	static IllegalNotContainedArgumentException illegalNotContainedArgument(@Nullable final Object needle) {
+		return failed(null, new IllegalNotContainedArgumentException(needle));
+	}
+
+	@Nonnull
+	static IllegalNotContainedArgumentException illegalNotContainedArgument(@Nullable final String name, @Nullable final Object needle) {
+		return failed(name, new IllegalNotContainedArgumentException(name, needle));
+	}
+
+	@Nonnull
+	static IllegalNotEqualException illegalNotEqual(@Nullable final Object check) {
+		return failed(null, new IllegalNotEqualException(check));
+	}
+
+	@Nonnull
+	static IllegalNotEqualException illegalNotEqual(@Nonnull final String message, @Nullable final Object check) {
+		return failed(null, new IllegalNotEqualException(message, check));
+	}
+
+	@Nonnull
+	static IllegalNotGreaterOrEqualThanException illegalNotGreaterOrEqualThan(@Nullable final Object check) {
+		return failed(null, new IllegalNotGreaterOrEqualThanException(check));
+	}
+
+	@Nonnull
+	static IllegalNotGreaterOrEqualThanException illegalNotGreaterOrEqualThan(@Nonnull final String message, @Nullable final Object check) {
+		return failed(null, new IllegalNotGreaterOrEqualThanException(message, check));
+	}
+
+	@Nonnull
+	static IllegalNotGreaterThanException illegalNotGreaterThan(@Nullable final Object check) {
+		return failed(null, new IllegalNotGreaterThanException(check));
+	}
+
+	@Nonnull
+	static IllegalNotGreaterThanException illegalNotGreaterThan(@Nonnull final String message, @Nullable final Object check) {
+		return failed(null, new IllegalNotGreaterThanException(message, check));
+	}
+
+	@Nonnull
+	static IllegalNotGreaterThanException illegalNotGreaterThanElement(@Nonnull final Number expected, @Nullable final String name,
+			@Nonnull final Object values, final int index) {
+		return failed(name, new IllegalNotGreaterThanException(name != null ? name : EMPTY_ARGUMENT_NAME, index, expected,
+				element(values, index)));
+	}
+
+	@Nonnull
+	static IllegalNotLesserThanException illegalNotLesserThan(@Nullable final Object check) {
+		return failed(null, new IllegalNotLesserThanException(check));
+	}
+
+	@Nonnull
+	static IllegalNotLesserThanException illegalNotLesserThan(@Nonnull final String message, @Nullable final Object check) {
+		return failed(null, new IllegalNotLesserThanException(message, check));
+	}
+
+	@Nonnull
+	static IllegalNotLesserThanException illegalNotLesserThan(@Nullable final String name, @Nonnull final String message,
+			@Nullable final Object check) {
+		return failed(name, new IllegalNotLesserThanException(message, check));
+	}
+
+	@Nonnull
+	static IllegalNotLesserThanException illegalNotLesserThanElement(@Nonnull final Number expected, @Nullable final String name,
+			@Nonnull final Object values, final int index) {
+		return failed(name, new IllegalNotLesserThanException(name != null ? name : EMPTY_ARGUMENT_NAME, index, expected,
+				element(values, index)));
+	}
+
+	@Nonnull
+	static IllegalNotNullArgumentException illegalNotNullArgument(@Nonnull final Object reference) {
+		return failed(null, new IllegalNotNullArgumentException(reference));
+	}
+
+	@Nonnull
+	static IllegalNotNullArgumentException illegalNotNullArgument(@Nullable final String name, @Nonnull final Object reference) {
+		return failed(name, new IllegalNotNullArgumentException(name, reference));
+	}
+
+	@Nonnull
+	static IllegalNullArgumentException illegalNullArgument() {
+		return failed(null, new IllegalNullArgumentException());
+	}
+
+	@Nonnull
+	static IllegalNullArgumentException illegalNullArgument(@Nullable final String name) {
+		return failed(name, new IllegalNullArgumentException(name));
+	}
+
+	@Nonnull
+	static IllegalNullElementsException illegalNullElements(@Nullable final String name, final long index) {
+		return failed(name, new IllegalNullElementsException(name, index));
+	}
+
+	/**
+	 * Creates the exception for a value which is no number, with or without the name of the argument.
+	 * 
+	 * @param name
+	 *            name of object reference (in source code) or {@code null}
+	 * @param value
+	 *            value which is no number
+	 * @return the exception
+	 */
+	@Nonnull
+	static IllegalNumberArgumentException illegalNumberArgument(@Nullable final String name, @Nonnull final String value) {
+		return failed(name, name == null ? new IllegalNumberArgumentException(value) : new IllegalNumberArgumentException(name, value));
+	}
+
+	/**
+	 * Creates the exception for a value which cannot be parsed as number, with or without the name of the argument.
+	 * 
+	 * @param name
+	 *            name of object reference (in source code) or {@code null}
+	 * @param value
+	 *            value which is no number
+	 * @param cause
+	 *            the exception of the parser
+	 * @return the exception
+	 */
+	@Nonnull
+	static IllegalNumberArgumentException illegalNumberArgument(@Nullable final String name, @Nonnull final String value,
+			@Nonnull final NumberFormatException cause) {
+		return failed(name, name == null ? new IllegalNumberArgumentException(value, cause) : new IllegalNumberArgumentException(name, value, cause));
+	}
+
+	@Nonnull
+	static IllegalNumberRangeException illegalNumberRange(@Nonnull final Number number, @Nonnull final BigDecimal min,
+			@Nonnull final BigDecimal max) {
+		return failed(null, new IllegalNumberRangeException(number.toString(), min, max));
+	}
+
+	@Nonnull
+	static IllegalNumberRangeException illegalNumberRange(@Nonnull final Number number, @Nonnull final BigInteger min,
+			@Nonnull final BigInteger max) {
+		return failed(null, new IllegalNumberRangeException(number.toString(), min, max));
+	}
+
+	@Nonnull
+	static IllegalNumberRangeException illegalNumberRangeElement(@Nonnull final Number min, @Nonnull final Number max,
+			@Nullable final String name, @Nonnull final Object values, final int index) {
+		return failed(name, new IllegalNumberRangeException(elementName(name, index), String.valueOf(element(values, index)), min, max));
+	}
+
+	/**
+	 * Creates the exception for a requested number type which is not supported.
+	 * 
+	 * @param type
+	 *            the requested type
+	 * @return the exception
+	 */
+	@Nonnull
+	static IllegalNumberArgumentException illegalNumberType(@Nonnull final Class<?> type) {
+		return failed(null, new IllegalNumberArgumentException(MESSAGE_UNKNOWN_NUMBER_TYPE + type.getName()));
+	}
+
+	@Nonnull
+	static IllegalNumericArgumentException illegalNumericArgument(@Nullable final String name, @Nullable final CharSequence value) {
+		return failed(name, new IllegalNumericArgumentException(name, value));
+	}
+
+	@Nonnull
+	static IllegalPatternArgumentException illegalPatternArgument(@Nullable final String name, @Nonnull final Pattern pattern,
+			@Nonnull final CharSequence chars) {
+		return failed(name, new IllegalPatternArgumentException(name, pattern, chars));
+	}
+
+	@Nonnull
+	static IllegalPositionIndexException illegalPositionIndex(final int index, final int size) {
+		return failed(null, new IllegalPositionIndexException(index, size));
+	}
+
+	@Nonnull
+	static IllegalPositionIndexException illegalPositionIndex(final long index, final long size) {
+		return failed(null, new IllegalPositionIndexException(index, size));
+	}
+
+	@Nonnull
+	static IllegalPositiveArgumentException illegalPositiveArgument(@Nullable final Number value) {
+		return failed(null, new IllegalPositiveArgumentException(value));
+	}
+
+	@Nonnull
+	static IllegalPositiveArgumentException illegalPositiveArgument(@Nullable final String name, @Nullable final Number value) {
+		return failed(name, new IllegalPositiveArgumentException(name, value));
+	}
+
+	@Nonnull
+	static IllegalPositiveArgumentException illegalPositiveElement(@Nullable final String name, @Nonnull final Object values,
+			final int index) {
+		return failed(name, new IllegalPositiveArgumentException(elementName(name, index), element(values, index)));
+	}
+
+	@Nonnull
+	static IllegalRangeException illegalRange(final int start, final int end, final int size) {
+		return failed(null, new IllegalRangeException(start, end, size));
+	}
+
+	@Nonnull
+	static IllegalRangeException illegalRange(final long start, final long end, final long size) {
+		return failed(null, new IllegalRangeException(start, end, size));
+	}
+
+	/**
+	 * Creates the exception for a slice which is not within an array.
+	 * 
+	 * @param offset
+	 *            index of the first element of the slice
+	 * @param length
+	 *            number of elements of the slice
+	 * @param size
+	 *            length of the array
+	 * @return the exception
+	 */
+	@Nonnull
+	static IllegalRangeException illegalSlice(final int offset, final int length, final int size) {
+		return failed(null, new IllegalRangeException(offset, offset + length, size));
+	}
+
+	@Nonnull
+	static IllegalStateOfArgumentException illegalStateOfArgument() {
+		return failed(null, new IllegalStateOfArgumentException());
+	}
+
+	@Nonnull
+	static IllegalStateOfArgumentException illegalStateOfArgument(@Nonnull final String description) {
+		return failed(null, new IllegalStateOfArgumentException(description));
+	}
+
+	@Nonnull
+	static IllegalStateOfArgumentException illegalStateOfArgument(@Nonnull final String descriptionTemplate,
+			final Object... descriptionTemplateArgs) {
+		return failed(null, new IllegalStateOfArgumentException(descriptionTemplate, descriptionTemplateArgs));
+	}
+
+	/**
+	 * Creates an exception by the passed factory.
+	 * 
+	 * @param factory
+	 *            factory of the exception
+	 * @return the exception
+	 */
+	@Nonnull
+	static RuntimeException newException(@Nonnull final ExceptionFactory<? extends RuntimeException> factory) {
+		return failed(null, factory.create(null));
+	}
+
+	/**
+	 * Creates an instance of the passed exception type by its default constructor, which is resolved only once per
+	 * type.
+	 * 
+	 * @param clazz
+	 *            type of the exception
+	 * @return the exception
+	 * @throws RuntimeInstantiationException
+	 *             if the exception cannot be instantiated
+	 */
+	@Nonnull
+	static RuntimeException newInstance(@Nonnull final Class<? extends RuntimeException> clazz) {
+		return newException(ExceptionFactories.of(clazz));
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private Failures() {
+		// This class is not intended to create objects from it.
+	}
+
+}
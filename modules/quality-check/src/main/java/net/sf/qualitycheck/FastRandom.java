@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A fast pseudo random number generator for sampling decisions, of which every thread owns one instance.
+ * 
+ * <p>
+ * The generator is a xorshift64* generator, so a number costs a few shifts and a multiplication. Because every thread
+ * uses its own instance, no state is shared between threads, unlike {@link java.util.Random} which updates an atomic
+ * seed. The numbers are not suitable for anything but sampling.
+ * 
+ * @author André Rouél
+ */
+@NotThreadSafe
+final class FastRandom {
+
+	/**
+	 * Generator of the current thread
+	 */
+	private static final ThreadLocal<FastRandom> CURRENT = new ThreadLocal<FastRandom>() {
+		@Override
+		protected FastRandom initialValue() {
+			return new FastRandom(System.nanoTime() ^ Thread.currentThread().getId() * GOLDEN_GAMMA);
+		}
+	};
+
+	/**
+	 * Odd constant derived from the golden ratio, which spreads consecutive seeds
+	 */
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * Multiplier of the output function of xorshift64*
+	 */
+	private static final long MULTIPLIER = 0x2545F4914F6CDD1DL;
+
+	/**
+	 * Returns the generator of the current thread.
+	 * 
+	 * @return the generator of the current thread
+	 */
+	static FastRandom current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Mixes the bits of a seed with the finalizer of SplitMix64, so that similar seeds lead to different states.
+	 * 
+	 * @param seed
+	 *            any value
+	 * @return the mixed value, which is never zero for a non-zero input
+	 */
+	private static long mix(final long seed) {
+		long z = seed;
+		z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+		return z ^ z >>> 31;
+	}
+
+	/**
+	 * State of the generator, which is never zero
+	 */
+	private long state;
+
+	/**
+	 * Creates a generator with the passed seed.
+	 * 
+	 * @param seed
+	 *            any value
+	 */
+	FastRandom(final long seed) {
+		final long mixed = mix(seed);
+		state = mixed != 0L ? mixed : GOLDEN_GAMMA;
+	}
+
+	/**
+	 * Returns the next pseudo random number.
+	 * 
+	 * @return a pseudo random {@code long} value
+	 */
+	long nextLong() {
+		long x = state;
+		x ^= x >>> 12;
+		x ^= x << 25;
+		x ^= x >>> 27;
+		state = x;
+		return x * MULTIPLIER;
+	}
+
+	/**
+	 * Returns a pseudo random number between zero (inclusive) and the passed bound (exclusive). The high bits of the
+	 * next number are scaled to the bound with a multiplication instead of a division.
+	 * 
+	 * @param bound
+	 *            the upper bound, must be positive
+	 * @return a pseudo random number in the range from {@code 0} to {@code bound - 1}
+	 */
+	int nextInt(@Nonnegative final int bound) {
+		return (int) ((nextLong() >>> 32) * bound >>> 32);
+	}
+
+}
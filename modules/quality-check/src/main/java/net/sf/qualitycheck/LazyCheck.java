@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Iterator;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+/**
+ * This class offers wrappers of {@code Iterator} and {@code Iterable}, which check every element when it is consumed.
+ * 
+ * <p>
+ * Unlike {@link Check#noNullElements(Iterable, String)} the wrappers neither traverse the input in advance nor buffer
+ * it, so that the validation can be fused into the single pass over a stream of data which is made anyway. The first
+ * invalid element is reported with its index, e.g. {@code rows[42]}, when it is returned by {@link Iterator#next()}.
+ * All elements in front of it have already been consumed by then.
+ * 
+ * <pre>
+ * for (final Row row : LazyCheck.noNullElements(rows, &quot;rows&quot;)) {
+ * 	write(row);
+ * }
+ * </pre>
+ * 
+ * @author André Rouél
+ */
+public final class LazyCheck {
+
+	/**
+	 * Iterable which wraps every iterator of the source.
+	 */
+	private static final class CheckingIterable<T> implements Iterable<T> {
+
+		@Nonnull
+		private final ElementCheck<? super T> check;
+
+		@Nullable
+		private final String name;
+
+		@Nonnull
+		private final Iterable<T> source;
+
+		CheckingIterable(@Nonnull final Iterable<T> source, @Nonnull final ElementCheck<? super T> check, @Nullable final String name) {
+			this.source = source;
+			this.check = check;
+			this.name = name;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return new CheckingIterator<T>(source.iterator(), check, name);
+		}
+
+	}
+
+	/**
+	 * Iterator which checks every element before it is returned.
+	 */
+	@NotThreadSafe
+	private static final class CheckingIterator<T> implements Iterator<T> {
+
+		@Nonnull
+		private final ElementCheck<? super T> check;
+
+		private long index;
+
+		@Nullable
+		private final String name;
+
+		@Nonnull
+		private final Iterator<T> source;
+
+		CheckingIterator(@Nonnull final Iterator<T> source, @Nonnull final ElementCheck<? super T> check, @Nullable final String name) {
+			this.source = source;
+			this.check = check;
+			this.name = name;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return source.hasNext();
+		}
+
+		@Override
+		public T next() {
+			final T element = source.next();
+			check.check(element, name, index++);
+			return element;
+		}
+
+		@Override
+		public void remove() {
+			source.remove();
+		}
+
+	}
+
+	/**
+	 * Wraps an {@code Iterable}, so that every element of its iterators is checked when it is consumed.
+	 * 
+	 * @param iterable
+	 *            the iterable reference whose elements should be checked
+	 * @param check
+	 *            check of a single element
+	 * @param name
+	 *            name of the iterable reference (in source code)
+	 * @return an iterable whose iterators check every element they return
+	 * @throws IllegalNullArgumentException
+	 *             if the given iterable or check is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T> Iterable<T> check(@Nonnull final Iterable<T> iterable, @Nonnull final ElementCheck<? super T> check,
+			@Nullable final String name) {
+		Check.notNull(iterable, "iterable");
+		Check.notNull(check, "check");
+		return new CheckingIterable<T>(iterable, check, name);
+	}
+
+	/**
+	 * Wraps an {@code Iterator}, so that every element is checked when it is consumed.
+	 * 
+	 * @param iterator
+	 *            the iterator whose elements should be checked
+	 * @param check
+	 *            check of a single element
+	 * @param name
+	 *            name of the iterator reference (in source code)
+	 * @return an iterator which checks every element it returns
+	 * @throws IllegalNullArgumentException
+	 *             if the given iterator or check is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T> Iterator<T> check(@Nonnull final Iterator<T> iterator, @Nonnull final ElementCheck<? super T> check,
+			@Nullable final String name) {
+		Check.notNull(iterator, "iterator");
+		Check.notNull(check, "check");
+		return new CheckingIterator<T>(iterator, check, name);
+	}
+
+	/**
+	 * Wraps an {@code Iterable}, so that every element is checked to be a number within the range from {@code min} to
+	 * {@code max} (both inclusive) when it is consumed.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param iterable
+	 *            the iterable reference whose elements should be checked
+	 * @param name
+	 *            name of the iterable reference (in source code)
+	 * @return an iterable whose iterators throw an {@link IllegalNumberRangeException} for an element out of range
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments except the name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends Number & Comparable<T>> Iterable<T> inRange(@Nonnull final T min, @Nonnull final T max,
+			@Nonnull final Iterable<T> iterable, @Nullable final String name) {
+		return check(iterable, ElementCheck.inRange(min, max), name);
+	}
+
+	/**
+	 * Wraps an {@code Iterator}, so that every element is checked to be a number within the range from {@code min} to
+	 * {@code max} (both inclusive) when it is consumed.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param iterator
+	 *            the iterator whose elements should be checked
+	 * @param name
+	 *            name of the iterator reference (in source code)
+	 * @return an iterator which throws an {@link IllegalNumberRangeException} for an element out of range
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments except the name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends Number & Comparable<T>> Iterator<T> inRange(@Nonnull final T min, @Nonnull final T max,
+			@Nonnull final Iterator<T> iterator, @Nullable final String name) {
+		return check(iterator, ElementCheck.inRange(min, max), name);
+	}
+
+	/**
+	 * Wraps an {@code Iterable}, so that every element is checked to match the passed pattern when it is consumed.
+	 * 
+	 * @param pattern
+	 *            pattern, that the elements must correspond to
+	 * @param iterable
+	 *            the iterable reference whose elements should be checked
+	 * @param name
+	 *            name of the iterable reference (in source code)
+	 * @return an iterable whose iterators throw an {@link IllegalPatternArgumentException} for a mismatching element
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments except the name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends CharSequence> Iterable<T> matchesPattern(@Nonnull final Pattern pattern, @Nonnull final Iterable<T> iterable,
+			@Nullable final String name) {
+		return check(iterable, ElementCheck.<T> matchesPattern(pattern), name);
+	}
+
+	/**
+	 * Wraps an {@code Iterator}, so that every element is checked to match the passed pattern when it is consumed.
+	 * 
+	 * @param pattern
+	 *            pattern, that the elements must correspond to
+	 * @param iterator
+	 *            the iterator whose elements should be checked
+	 * @param name
+	 *            name of the iterator reference (in source code)
+	 * @return an iterator which throws an {@link IllegalPatternArgumentException} for a mismatching element
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments except the name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends CharSequence> Iterator<T> matchesPattern(@Nonnull final Pattern pattern, @Nonnull final Iterator<T> iterator,
+			@Nullable final String name) {
+		return check(iterator, ElementCheck.<T> matchesPattern(pattern), name);
+	}
+
+	/**
+	 * Wraps an {@code Iterable}, so that every element is checked not to be {@code null} when it is consumed.
+	 * 
+	 * @param iterable
+	 *            the iterable reference whose elements should be checked
+	 * @param name
+	 *            name of the iterable reference (in source code)
+	 * @return an iterable whose iterators throw an {@link IllegalNullElementsException} for an element that is
+	 *         {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given iterable is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T> Iterable<T> noNullElements(@Nonnull final Iterable<T> iterable, @Nullable final String name) {
+		return check(iterable, ElementCheck.<T> notNull(), name);
+	}
+
+	/**
+	 * Wraps an {@code Iterator}, so that every element is checked not to be {@code null} when it is consumed.
+	 * 
+	 * @param iterator
+	 *            the iterator whose elements should be checked
+	 * @param name
+	 *            name of the iterator reference (in source code)
+	 * @return an iterator which throws an {@link IllegalNullElementsException} for an element that is {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given iterator is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T> Iterator<T> noNullElements(@Nonnull final Iterator<T> iterator, @Nullable final String name) {
+		return check(iterator, ElementCheck.<T> notNull(), name);
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private LazyCheck() {
+		// This class is not intended to create objects from it.
+	}
+
+}
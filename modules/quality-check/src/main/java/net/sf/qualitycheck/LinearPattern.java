@@ -0,0 +1,917 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A regular expression which is matched in linear time by a deterministic finite automaton (DFA).
+ * 
+ * <p>
+ * The engine of {@link java.util.regex} backtracks, so a pathological combination of expression and input, like
+ * {@code (a+)+b} and a long run of {@code a}, takes exponential time. This class supports the regular subset of the
+ * syntax of {@link java.util.regex.Pattern} without flags: literals, the predefined classes {@code . \d \D \s \S \w \W},
+ * character classes with ranges and negation, groups, alternations and the quantifiers {@code * + ? {n} {n,} {n,m}}
+ * (greedy or reluctant). A leading {@code ^} and a trailing {@code $} are accepted, because they do not change the
+ * result of a full match. Expressions with other constructs, e.g. back references, lookarounds, possessive quantifiers
+ * or inline flags, are not supported and have to be matched by {@link java.util.regex}.
+ * 
+ * <p>
+ * An expression is first translated into a nondeterministic automaton (NFA). The states of the DFA are sets of NFA
+ * states, which are created lazily on the first transition which leads to them and cached afterwards. The number of
+ * cached states is limited to {@value #MAX_DFA_STATES}. Beyond this limit, further states are computed on every
+ * transition, so the matching time stays linear in the length of the input, but gets slower.
+ * 
+ * <p>
+ * Inputs are read as code points, like {@link java.util.regex} does, so that a surrogate pair is matched as one
+ * character.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+final class LinearPattern {
+
+	/**
+	 * Set of NFA states, which identifies a state of the DFA
+	 */
+	private static final class Key {
+
+		@Nonnull
+		private final int[] nfaStates;
+
+		private final int hash;
+
+		Key(@Nonnull final int[] nfaStates) {
+			this.nfaStates = nfaStates;
+			hash = Arrays.hashCode(nfaStates);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key && Arrays.equals(nfaStates, ((Key) obj).nfaStates);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+	}
+
+	/**
+	 * Builder of an NFA. The states are created backwards: every part of an expression is emitted with the state which
+	 * follows it and returns the state where it starts.
+	 */
+	private static final class Nfa {
+
+		@Nonnull
+		final List<NfaState> states = new ArrayList<NfaState>();
+
+		Nfa() {
+			// the accepting state
+			states.add(new NfaState());
+		}
+
+		int add(@Nonnull final NfaState state) throws UnsupportedSyntaxException {
+			if (states.size() == MAX_NFA_STATES) {
+				throw new UnsupportedSyntaxException();
+			}
+			states.add(state);
+			return states.size() - 1;
+		}
+
+		int addChars(@Nonnull final int[] chars, final int target) throws UnsupportedSyntaxException {
+			final NfaState state = new NfaState();
+			state.chars = chars;
+			state.target = target;
+			return add(state);
+		}
+
+		int addSplit(@Nonnull final int... epsilons) throws UnsupportedSyntaxException {
+			final NfaState state = new NfaState();
+			state.epsilons = epsilons;
+			return add(state);
+		}
+
+	}
+
+	/**
+	 * Mutable state of an NFA under construction. A state either consumes a character of a set and continues with its
+	 * target or continues without consuming with all of its epsilon targets.
+	 */
+	private static final class NfaState {
+
+		@Nullable
+		int[] chars;
+
+		int target;
+
+		@Nonnull
+		int[] epsilons = NO_STATES;
+
+	}
+
+	/**
+	 * Node of the syntax tree of an expression
+	 */
+	private abstract static class Node {
+
+		/**
+		 * Emits the NFA states of this node.
+		 * 
+		 * @param nfa
+		 *            NFA under construction
+		 * @param next
+		 *            state which follows this node
+		 * @return state where this node starts
+		 */
+		abstract int emit(@Nonnull Nfa nfa, int next) throws UnsupportedSyntaxException;
+
+	}
+
+	/**
+	 * Recursive descent parser of the supported syntax. Since only expressions which were compiled by
+	 * {@link java.util.regex.Pattern} before are parsed, the parser can rely on a valid syntax and rejects everything
+	 * it does not know instead of reporting errors.
+	 */
+	private static final class Parser {
+
+		private final int end;
+
+		private int pos;
+
+		@Nonnull
+		private final String regex;
+
+		Parser(@Nonnull final String regex) {
+			this.regex = regex;
+			pos = regex.startsWith("^") ? 1 : 0;
+			end = isTrailingAnchor(regex) ? regex.length() - 1 : regex.length();
+		}
+
+		@Nonnull
+		private Node alternation() throws UnsupportedSyntaxException {
+			final List<Node> alternatives = new ArrayList<Node>();
+			alternatives.add(concatenation());
+			while (pos < end && regex.charAt(pos) == '|') {
+				pos++;
+				alternatives.add(concatenation());
+			}
+			if (alternatives.size() == 1) {
+				return alternatives.get(0);
+			}
+			return new Node() {
+				@Override
+				int emit(@Nonnull final Nfa nfa, final int next) throws UnsupportedSyntaxException {
+					final int[] starts = new int[alternatives.size()];
+					for (int i = 0; i < starts.length; i++) {
+						starts[i] = alternatives.get(i).emit(nfa, next);
+					}
+					return nfa.addSplit(starts);
+				}
+			};
+		}
+
+		@Nonnull
+		private Node atom() throws UnsupportedSyntaxException {
+			final char c = next();
+			switch (c) {
+				case '(':
+					return group();
+				case '[':
+					return chars(charClass());
+				case '.':
+					return chars(DOT);
+				case '\\':
+					return chars(escape());
+				case '^':
+				case '$':
+				case '*':
+				case '+':
+				case '?':
+				case '{':
+				case '}':
+				case ']':
+					throw new UnsupportedSyntaxException();
+				default:
+					return chars(literal(c));
+			}
+		}
+
+		@Nonnull
+		private int[] charClass() throws UnsupportedSyntaxException {
+			final boolean negated = peek() == '^';
+			if (negated) {
+				pos++;
+			}
+			if (peek() == ']') {
+				throw new UnsupportedSyntaxException();
+			}
+			int[] set = NO_CHARS;
+			boolean first = true;
+			for (char c = peek(); c != ']'; c = peek()) {
+				if (c == '[' || c == '&' && peekNext() == '&' || c == '-' && !first && peekNext() != ']') {
+					// nested classes, intersections and ambiguous hyphens
+					throw new UnsupportedSyntaxException();
+				}
+				int[] item = classAtom();
+				final int lower = singleChar(item);
+				if (lower >= 0 && peek() == '-' && peekNext() != ']') {
+					pos++;
+					if (lower == '-' || peek() == '[') {
+						throw new UnsupportedSyntaxException();
+					}
+					final int upper = singleChar(classAtom());
+					if (upper < lower) {
+						throw new UnsupportedSyntaxException();
+					}
+					item = new int[] { lower, upper };
+				}
+				set = union(set, item);
+				first = false;
+			}
+			pos++;
+			return negated ? complement(set) : set;
+		}
+
+		@Nonnull
+		private int[] classAtom() throws UnsupportedSyntaxException {
+			final char c = next();
+			return c == '\\' ? escape() : literal(c);
+		}
+
+		@Nonnull
+		private Node concatenation() throws UnsupportedSyntaxException {
+			final List<Node> nodes = new ArrayList<Node>();
+			while (pos < end && regex.charAt(pos) != '|' && regex.charAt(pos) != ')') {
+				nodes.add(repetition());
+			}
+			return new Node() {
+				@Override
+				int emit(@Nonnull final Nfa nfa, final int next) throws UnsupportedSyntaxException {
+					int start = next;
+					for (int i = nodes.size() - 1; i >= 0; i--) {
+						start = nodes.get(i).emit(nfa, start);
+					}
+					return start;
+				}
+			};
+		}
+
+		@Nonnull
+		private int[] escape() throws UnsupportedSyntaxException {
+			final char c = next();
+			switch (c) {
+				case 'd':
+					return DIGIT;
+				case 'D':
+					return complement(DIGIT);
+				case 's':
+					return SPACE;
+				case 'S':
+					return complement(SPACE);
+				case 'w':
+					return WORD;
+				case 'W':
+					return complement(WORD);
+				case 't':
+					return literal('\t');
+				case 'n':
+					return literal('\n');
+				case 'r':
+					return literal('\r');
+				case 'f':
+					return literal('\f');
+				case 'a':
+					return literal('\u0007');
+				case 'e':
+					return literal('\u001B');
+				case 'x':
+					return literal((char) hex(2));
+				case 'u':
+					return literal((char) hex(4));
+				default:
+					if (Character.isLetterOrDigit(c)) {
+						// back references, boundaries, quotations, properties and other escapes
+						throw new UnsupportedSyntaxException();
+					}
+					return literal(c);
+			}
+		}
+
+		@Nonnull
+		private Node group() throws UnsupportedSyntaxException {
+			if (peek() == '?') {
+				pos++;
+				final char kind = next();
+				if (kind == '<' && Character.isLetter(peek())) {
+					// named group
+					while (next() != '>') {
+						// skip the name
+					}
+				} else if (kind != ':') {
+					// lookarounds, independent groups and inline flags
+					throw new UnsupportedSyntaxException();
+				}
+			}
+			final Node node = alternation();
+			if (next() != ')') {
+				throw new UnsupportedSyntaxException();
+			}
+			return node;
+		}
+
+		private int hex(final int digits) throws UnsupportedSyntaxException {
+			int value = 0;
+			for (int i = 0; i < digits; i++) {
+				final int digit = Character.digit(next(), 16);
+				if (digit < 0) {
+					throw new UnsupportedSyntaxException();
+				}
+				value = value << 4 | digit;
+			}
+			return value;
+		}
+
+		@Nonnull
+		private int[] literal(final char c) throws UnsupportedSyntaxException {
+			if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+				throw new UnsupportedSyntaxException();
+			}
+			return new int[] { c, c };
+		}
+
+		private char next() throws UnsupportedSyntaxException {
+			if (pos >= end) {
+				throw new UnsupportedSyntaxException();
+			}
+			return regex.charAt(pos++);
+		}
+
+		private int number() throws UnsupportedSyntaxException {
+			final int start = pos;
+			int value = 0;
+			while (pos < end && Character.isDigit(regex.charAt(pos)) && value <= MAX_REPETITIONS) {
+				value = value * 10 + Character.digit(regex.charAt(pos++), 10);
+			}
+			if (pos == start || value > MAX_REPETITIONS) {
+				throw new UnsupportedSyntaxException();
+			}
+			return value;
+		}
+
+		@Nonnull
+		Nfa parse() throws UnsupportedSyntaxException {
+			final Node root = alternation();
+			if (pos != end) {
+				throw new UnsupportedSyntaxException();
+			}
+			final Nfa nfa = new Nfa();
+			// the start state is the last one
+			nfa.addSplit(root.emit(nfa, ACCEPTING_STATE));
+			return nfa;
+		}
+
+		private char peek() {
+			return pos < end ? regex.charAt(pos) : '\0';
+		}
+
+		private char peekNext() {
+			return pos + 1 < end ? regex.charAt(pos + 1) : '\0';
+		}
+
+		@Nonnull
+		private Node repetition() throws UnsupportedSyntaxException {
+			final Node atom = atom();
+			final int min;
+			final int max;
+			switch (peek()) {
+				case '*':
+					min = 0;
+					max = UNBOUNDED;
+					break;
+				case '+':
+					min = 1;
+					max = UNBOUNDED;
+					break;
+				case '?':
+					min = 0;
+					max = 1;
+					break;
+				case '{':
+					pos++;
+					min = number();
+					if (peek() == ',') {
+						pos++;
+						max = peek() == '}' ? UNBOUNDED : number();
+					} else {
+						max = min;
+					}
+					if (peek() != '}' || max != UNBOUNDED && max < min) {
+						throw new UnsupportedSyntaxException();
+					}
+					break;
+				default:
+					return atom;
+			}
+			pos++;
+			if (peek() == '?') {
+				// a reluctant quantifier matches the same language
+				pos++;
+			}
+			final char c = peek();
+			if (c == '+' || c == '*' || c == '?' || c == '{') {
+				// possessive or repeated quantifiers
+				throw new UnsupportedSyntaxException();
+			}
+			return repeat(atom, min, max);
+		}
+
+	}
+
+	/**
+	 * State of the DFA
+	 */
+	private static final class State {
+
+		final boolean accepting;
+
+		final boolean cached;
+
+		/**
+		 * Successors per character class, which are {@code null} as long as they are not computed. Racy writes are
+		 * safe, because all fields of a state are final.
+		 */
+		@Nonnull
+		final State[] next;
+
+		@Nonnull
+		final int[] nfaStates;
+
+		State(@Nonnull final int[] nfaStates, final int classes, final boolean cached) {
+			this.nfaStates = nfaStates;
+			this.cached = cached;
+			accepting = nfaStates.length > 0 && nfaStates[0] == ACCEPTING_STATE;
+			next = new State[classes];
+		}
+
+	}
+
+	/**
+	 * Signals a construct which is not supported. The exception does not leave this class, so it has no stack trace.
+	 */
+	private static final class UnsupportedSyntaxException extends Exception {
+
+		private static final long serialVersionUID = -2318634735937232146L;
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
+	/**
+	 * Index of the accepting state of every NFA
+	 */
+	private static final int ACCEPTING_STATE = 0;
+
+	/**
+	 * Number of ASCII characters, whose character classes are looked up in a table
+	 */
+	private static final int ASCII = 128;
+
+	/**
+	 * Characters which are matched by {@code \d}
+	 */
+	private static final int[] DIGIT = { '0', '9' };
+
+	/**
+	 * Characters which are matched by {@code .}, which are all except the line terminators
+	 */
+	private static final int[] DOT = complement(new int[] { '\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029 });
+
+	/**
+	 * Maximum number of cached states of a DFA
+	 */
+	static final int MAX_DFA_STATES = 1024;
+
+	/**
+	 * Maximum number of states of an NFA, which limits the costs of a transition of the DFA
+	 */
+	static final int MAX_NFA_STATES = 4096;
+
+	/**
+	 * Maximum bound of a counted quantifier
+	 */
+	private static final int MAX_REPETITIONS = 1000;
+
+	/**
+	 * Empty set of characters
+	 */
+	private static final int[] NO_CHARS = {};
+
+	/**
+	 * Empty list of states
+	 */
+	private static final int[] NO_STATES = {};
+
+	/**
+	 * Characters which are matched by {@code \s}
+	 */
+	private static final int[] SPACE = { '\t', '\r', ' ', ' ' };
+
+	/**
+	 * Marker of an unbounded quantifier
+	 */
+	private static final int UNBOUNDED = -1;
+
+	/**
+	 * Pattern which stands for all expressions which are not supported
+	 */
+	static final LinearPattern UNSUPPORTED = new LinearPattern();
+
+	/**
+	 * Characters which are matched by {@code \w}
+	 */
+	private static final int[] WORD = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+
+	/**
+	 * Creates a node which consumes one character of a set.
+	 */
+	@Nonnull
+	private static Node chars(@Nonnull final int[] set) {
+		return new Node() {
+			@Override
+			int emit(@Nonnull final Nfa nfa, final int next) throws UnsupportedSyntaxException {
+				return nfa.addChars(set, next);
+			}
+		};
+	}
+
+	/**
+	 * Splits all code points into classes, in which all code points are contained in the same sets of the NFA.
+	 * 
+	 * @return the lowest code point of every class
+	 */
+	@Nonnull
+	private static int[] classBounds(@Nonnull final List<NfaState> states) {
+		final BitSet bounds = new BitSet();
+		bounds.set(0);
+		for (final NfaState state : states) {
+			if (state.chars != null) {
+				for (int i = 0; i < state.chars.length; i += 2) {
+					bounds.set(state.chars[i]);
+					bounds.set(state.chars[i + 1] + 1);
+				}
+			}
+		}
+		bounds.clear(Character.MAX_CODE_POINT + 1);
+		final int[] result = new int[bounds.cardinality()];
+		for (int i = 0, c = bounds.nextSetBit(0); c >= 0; i++, c = bounds.nextSetBit(c + 1)) {
+			result[i] = c;
+		}
+		return result;
+	}
+
+	/**
+	 * Compiles a regular expression into a lazily built DFA.
+	 * 
+	 * @param regex
+	 *            a regular expression which is valid in the syntax of {@link java.util.regex.Pattern}
+	 * @return the compiled expression or {@link #UNSUPPORTED} if the expression contains unsupported constructs
+	 */
+	@Nonnull
+	static LinearPattern compile(@Nonnull final String regex) {
+		try {
+			return new LinearPattern(new Parser(regex).parse());
+		} catch (final UnsupportedSyntaxException e) {
+			return UNSUPPORTED;
+		}
+	}
+
+	/**
+	 * Returns the complement of a set of code points.
+	 * 
+	 * @param set
+	 *            sorted and disjoint ranges of code points, given as pairs of inclusive bounds
+	 * @return all code points which are not contained in the set
+	 */
+	@Nonnull
+	private static int[] complement(@Nonnull final int[] set) {
+		final int[] result = new int[set.length + 2];
+		int length = 0;
+		int lower = 0;
+		for (int i = 0; i < set.length; i += 2) {
+			if (set[i] > lower) {
+				result[length++] = lower;
+				result[length++] = set[i] - 1;
+			}
+			lower = set[i + 1] + 1;
+		}
+		if (lower <= Character.MAX_CODE_POINT) {
+			result[length++] = lower;
+			result[length++] = Character.MAX_CODE_POINT;
+		}
+		return Arrays.copyOf(result, length);
+	}
+
+	/**
+	 * Checks whether an expression ends with an anchor {@code $}, which is not escaped.
+	 */
+	private static boolean isTrailingAnchor(@Nonnull final String regex) {
+		int backslashes = 0;
+		for (int i = regex.length() - 2; i >= 0 && regex.charAt(i) == '\\'; i--) {
+			backslashes++;
+		}
+		return regex.endsWith("$") && backslashes % 2 == 0 && regex.length() > (regex.startsWith("^") ? 1 : 0);
+	}
+
+	/**
+	 * Creates a node which repeats another node at least {@code min} and at most {@code max} times.
+	 */
+	@Nonnull
+	private static Node repeat(@Nonnull final Node atom, final int min, final int max) {
+		return new Node() {
+			@Override
+			int emit(@Nonnull final Nfa nfa, final int next) throws UnsupportedSyntaxException {
+				int start = next;
+				if (max == UNBOUNDED) {
+					final int loop = nfa.addSplit();
+					nfa.states.get(loop).epsilons = new int[] { atom.emit(nfa, loop), next };
+					start = loop;
+				} else {
+					for (int i = min; i < max; i++) {
+						start = nfa.addSplit(atom.emit(nfa, start), start);
+					}
+				}
+				for (int i = 0; i < min; i++) {
+					start = atom.emit(nfa, start);
+				}
+				return start;
+			}
+		};
+	}
+
+	/**
+	 * Returns the single character of a set.
+	 * 
+	 * @return the character or {@code -1} if the set contains more or less than one character
+	 */
+	private static int singleChar(@Nonnull final int[] set) {
+		return set.length == 2 && set[0] == set[1] ? set[0] : -1;
+	}
+
+	/**
+	 * Returns the union of two sets of code points.
+	 * 
+	 * @return sorted and disjoint ranges of all code points of both sets
+	 */
+	@Nonnull
+	private static int[] union(@Nonnull final int[] first, @Nonnull final int[] second) {
+		final int[] all = new int[first.length + second.length];
+		System.arraycopy(first, 0, all, 0, first.length);
+		System.arraycopy(second, 0, all, first.length, second.length);
+		final long[] ranges = new long[all.length / 2];
+		for (int i = 0; i < ranges.length; i++) {
+			ranges[i] = (long) all[2 * i] << 32 | all[2 * i + 1];
+		}
+		Arrays.sort(ranges);
+		final int[] result = new int[all.length];
+		int length = 0;
+		for (final long range : ranges) {
+			final int lower = (int) (range >>> 32);
+			final int upper = (int) range;
+			if (length > 0 && lower <= result[length - 1] + 1) {
+				result[length - 1] = Math.max(result[length - 1], upper);
+			} else {
+				result[length++] = lower;
+				result[length++] = upper;
+			}
+		}
+		return Arrays.copyOf(result, length);
+	}
+
+	/**
+	 * Character classes of the ASCII characters
+	 */
+	@Nullable
+	private final int[] asciiClasses;
+
+	/**
+	 * Lowest code point of every character class, in which all code points have the same transitions
+	 */
+	@Nullable
+	private final int[] bounds;
+
+	/**
+	 * State without any NFA states, from which the input cannot be accepted anymore
+	 */
+	@Nullable
+	private final State dead;
+
+	/**
+	 * Classes of the characters which are consumed by the NFA states, or {@code null} for states which do not consume
+	 */
+	@Nullable
+	private final BitSet[] nfaClasses;
+
+	/**
+	 * Epsilon targets of the NFA states
+	 */
+	@Nullable
+	private final int[][] nfaEpsilons;
+
+	/**
+	 * Targets of the NFA states which consume a character
+	 */
+	@Nullable
+	private final int[] nfaTargets;
+
+	/**
+	 * Initial state of the DFA or {@code null} if this pattern is not supported
+	 */
+	@Nullable
+	private final State start;
+
+	/**
+	 * Cached states of the DFA, which is guarded by itself
+	 */
+	@Nullable
+	private final Map<Key, State> states;
+
+	/**
+	 * Creates the pattern which stands for unsupported expressions.
+	 */
+	private LinearPattern() {
+		asciiClasses = null;
+		bounds = null;
+		dead = null;
+		nfaClasses = null;
+		nfaEpsilons = null;
+		nfaTargets = null;
+		start = null;
+		states = null;
+	}
+
+	private LinearPattern(@Nonnull final Nfa nfa) {
+		final int size = nfa.states.size();
+		bounds = classBounds(nfa.states);
+		asciiClasses = new int[ASCII];
+		for (int c = 0; c < ASCII; c++) {
+			asciiClasses[c] = classOf(c);
+		}
+		nfaClasses = new BitSet[size];
+		nfaEpsilons = new int[size][];
+		nfaTargets = new int[size];
+		for (int s = 0; s < size; s++) {
+			final NfaState state = nfa.states.get(s);
+			nfaEpsilons[s] = state.epsilons;
+			nfaTargets[s] = state.target;
+			if (state.chars != null) {
+				nfaClasses[s] = new BitSet(bounds.length);
+				for (int i = 0; i < state.chars.length; i += 2) {
+					nfaClasses[s].set(classOf(state.chars[i]), classOf(state.chars[i + 1]) + 1);
+				}
+			}
+		}
+		states = new HashMap<Key, State>();
+		dead = state(new BitSet());
+		final BitSet initial = new BitSet();
+		initial.set(size - 1);
+		start = state(initial);
+	}
+
+	private int classOf(final int codePoint) {
+		final int index = Arrays.binarySearch(bounds, codePoint);
+		return index >= 0 ? index : -index - 2;
+	}
+
+	/**
+	 * Returns whether this pattern is supported, otherwise the expression has to be matched by
+	 * {@link java.util.regex}.
+	 * 
+	 * @return {@code true} if the expression could be compiled, otherwise {@code false}
+	 */
+	boolean isSupported() {
+		return start != null;
+	}
+
+	/**
+	 * Checks whether a character sequence matches this pattern as a whole, which is equivalent to
+	 * {@link java.util.regex.Matcher#matches()}.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return {@code true} when {@code chars} matches this pattern, otherwise {@code false}
+	 */
+	boolean matches(@Nonnull final CharSequence chars) {
+		State state = start;
+		final int length = chars.length();
+		for (int i = 0; i < length; i++) {
+			int c = chars.charAt(i);
+			final int charClass;
+			if (c < ASCII) {
+				charClass = asciiClasses[c];
+			} else {
+				if (Character.isHighSurrogate((char) c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+					i++;
+					c = Character.toCodePoint((char) c, chars.charAt(i));
+				}
+				charClass = classOf(c);
+			}
+			State next = state.next[charClass];
+			if (next == null) {
+				next = step(state, charClass);
+			}
+			if (next == dead) {
+				return false;
+			}
+			state = next;
+		}
+		return state.accepting;
+	}
+
+	/**
+	 * Returns the DFA state of a set of NFA states and all states which are reachable from them without consuming a
+	 * character. Only states which consume characters and the accepting state are kept.
+	 */
+	@Nonnull
+	private State state(@Nonnull final BitSet seeds) {
+		final BitSet reachable = new BitSet();
+		final int[] stack = new int[nfaTargets.length];
+		int size = 0;
+		for (int s = seeds.nextSetBit(0); s >= 0; s = seeds.nextSetBit(s + 1)) {
+			reachable.set(s);
+			stack[size++] = s;
+		}
+		while (size > 0) {
+			for (final int target : nfaEpsilons[stack[--size]]) {
+				if (!reachable.get(target)) {
+					reachable.set(target);
+					stack[size++] = target;
+				}
+			}
+		}
+		final int[] nfaStates = new int[reachable.cardinality()];
+		int length = 0;
+		for (int s = reachable.nextSetBit(0); s >= 0; s = reachable.nextSetBit(s + 1)) {
+			if (s == ACCEPTING_STATE || nfaClasses[s] != null) {
+				nfaStates[length++] = s;
+			}
+		}
+		final Key key = new Key(Arrays.copyOf(nfaStates, length));
+		synchronized (states) {
+			State state = states.get(key);
+			if (state == null) {
+				final boolean cached = states.size() < MAX_DFA_STATES;
+				state = new State(key.nfaStates, bounds.length, cached);
+				if (cached) {
+					states.put(key, state);
+				}
+			}
+			return state;
+		}
+	}
+
+	/**
+	 * Computes the successor of a state for a character class and stores it in the state, if the successor is cached.
+	 */
+	@Nonnull
+	private State step(@Nonnull final State state, final int charClass) {
+		final BitSet targets = new BitSet();
+		for (final int s : state.nfaStates) {
+			if (nfaClasses[s] != null && nfaClasses[s].get(charClass)) {
+				targets.set(nfaTargets[s]);
+			}
+		}
+		final State next = state(targets);
+		if (next.cached) {
+			state.next[charClass] = next;
+		}
+		return next;
+	}
+
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Matches character sequences against patterns with {@link Matcher}s which are reused per thread, so that a check of a
+ * pattern does not allocate once its matcher was created.
+ * 
+ * <p>
+ * Every thread holds a small table of matchers, in which a matcher is stored in the slot selected by the identity hash
+ * code of its pattern. A matcher is taken out of its slot while it is in use, so that a nested check of the same pattern
+ * on the same thread creates a matcher of its own. After use the matcher is reset to an empty input, so that it does
+ * not keep a large input reachable.
+ * 
+ * <p>
+ * Expressions without flags which use only the regular subset of the syntax are matched in linear time by a
+ * {@link LinearPattern}. Only the other expressions are matched by {@link Matcher}s, which backtrack. The linear forms
+ * are cached by the identity of their patterns in a fixed table which is shared by all threads, so that the states of
+ * their automatons are built only once. A pattern can be stored in any of the {@link #WAYS} slots of its set, so that a
+ * few hot patterns whose identity hash codes collide do not evict each other. A lookup reads the set without locking.
+ * A miss inserts the linear form at the front of the set and moves the other entries back, up to the first slot which
+ * is free or whose pattern was collected. Only if there is none, the entry of the last slot is evicted. The patterns
+ * are referenced weakly and the slots of collected patterns are cleared on the next miss, so that the table does not
+ * keep their linear forms reachable.
+ * 
+ * @author André Rouél
+ */
+final class Matchers {
+
+	/**
+	 * Linear-time form of a pattern, which references the pattern weakly. Entries are immutable, so that they can be
+	 * shared between threads without synchronization. An entry is enqueued in {@link #COLLECTED} when its pattern was
+	 * collected.
+	 */
+	@Immutable
+	private static final class Entry extends WeakReference<Pattern> {
+
+		@Nonnull
+		private final LinearPattern linearPattern;
+
+		private final int set;
+
+		Entry(@Nonnull final Pattern pattern, @Nonnull final LinearPattern linearPattern, final int set) {
+			super(pattern, COLLECTED);
+			this.linearPattern = linearPattern;
+			this.set = set;
+		}
+
+	}
+
+	/**
+	 * Queue of the entries whose patterns were collected
+	 */
+	private static final ReferenceQueue<Pattern> COLLECTED = new ReferenceQueue<Pattern>();
+
+	/**
+	 * Input which replaces the checked input of a matcher after use
+	 */
+	private static final String EMPTY = "";
+
+	/**
+	 * Slots of the linear forms of patterns, in sets of {@link #WAYS} consecutive slots. The slots are read and written
+	 * without synchronization, which is safe because the entries are immutable. A thread which does not see the latest
+	 * entry of a slot only compiles the linear form again.
+	 */
+	private static final Entry[] LINEAR_PATTERNS = new Entry[1024];
+
+	/**
+	 * Number of slots of a set in {@link #LINEAR_PATTERNS}, which is a power of two
+	 */
+	static final int WAYS = 4;
+
+	/**
+	 * Number of slots per thread, which is a power of two
+	 */
+	private static final int SLOTS = 16;
+
+	/**
+	 * Matchers of the current thread
+	 */
+	private static final ThreadLocal<Matcher[]> MATCHERS = new ThreadLocal<Matcher[]>() {
+		@Override
+		protected Matcher[] initialValue() {
+			return new Matcher[SLOTS];
+		}
+	};
+
+	/**
+	 * Compiles the linear form of a pattern and inserts it at the front of its set.
+	 * 
+	 * @param pattern
+	 *            a compiled expression without flags
+	 * @param set
+	 *            index of the first slot of the set of the pattern
+	 * @return the linear-time form of the pattern
+	 */
+	@Nonnull
+	private static LinearPattern cache(@Nonnull final Pattern pattern, final int set) {
+		clearCollected();
+		int last = set + WAYS - 1;
+		for (int slot = set; slot < last; slot++) {
+			final Entry entry = LINEAR_PATTERNS[slot];
+			if (entry == null || entry.get() == null) {
+				last = slot;
+				break;
+			}
+		}
+		final LinearPattern linearPattern = LinearPattern.compile(pattern.pattern());
+		System.arraycopy(LINEAR_PATTERNS, set, LINEAR_PATTERNS, set + 1, last - set);
+		LINEAR_PATTERNS[set] = new Entry(pattern, linearPattern, set);
+		return linearPattern;
+	}
+
+	/**
+	 * Clears the slots of the entries whose patterns were collected.
+	 */
+	private static void clearCollected() {
+		for (Entry entry = (Entry) COLLECTED.poll(); entry != null; entry = (Entry) COLLECTED.poll()) {
+			for (int slot = entry.set; slot < entry.set + WAYS; slot++) {
+				if (LINEAR_PATTERNS[slot] == entry) {
+					LINEAR_PATTERNS[slot] = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the linear-time form of a pattern, which is compiled on the first request and cached by the identity of
+	 * the pattern. Patterns with flags are not supported.
+	 * 
+	 * @param pattern
+	 *            a compiled expression
+	 * @return the linear-time form, which is {@link LinearPattern#UNSUPPORTED} if the expression cannot be matched in
+	 *         linear time
+	 */
+	@Nonnull
+	static LinearPattern linearPattern(@Nonnull final Pattern pattern) {
+		if (pattern.flags() != 0) {
+			return LinearPattern.UNSUPPORTED;
+		}
+		final int set = setOf(pattern);
+		for (int slot = set; slot < set + WAYS; slot++) {
+			final Entry entry = LINEAR_PATTERNS[slot];
+			if (entry != null && entry.get() == pattern) {
+				return entry.linearPattern;
+			}
+		}
+		return cache(pattern, set);
+	}
+
+	/**
+	 * Checks whether a character sequence matches against a pattern.
+	 * 
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return {@code true} when {@code chars} matches against the passed {@code pattern}, otherwise {@code false}
+	 */
+	static boolean matches(@Nonnull final Pattern pattern, @Nonnull final CharSequence chars) {
+		final LinearPattern linearPattern = linearPattern(pattern);
+		if (linearPattern.isSupported()) {
+			return linearPattern.matches(chars);
+		}
+		return matchesWithMatcher(pattern, chars);
+	}
+
+	/**
+	 * Checks whether a character sequence matches against a pattern with a {@link Matcher} of the current thread.
+	 * 
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return {@code true} when {@code chars} matches against the passed {@code pattern}, otherwise {@code false}
+	 */
+	static boolean matchesWithMatcher(@Nonnull final Pattern pattern, @Nonnull final CharSequence chars) {
+		final Matcher[] matchers = MATCHERS.get();
+		final int slot = System.identityHashCode(pattern) & SLOTS - 1;
+		Matcher matcher = matchers[slot];
+		if (matcher != null && matcher.pattern() == pattern) {
+			matchers[slot] = null;
+			matcher.reset(chars);
+		} else {
+			matcher = pattern.matcher(chars);
+		}
+		final boolean matches = matcher.matches();
+		matcher.reset(EMPTY);
+		matchers[slot] = matcher;
+		return matches;
+	}
+
+	/**
+	 * Returns the set of slots of a pattern in {@link #LINEAR_PATTERNS}, which is selected by its identity hash code.
+	 * 
+	 * @param pattern
+	 *            a compiled expression
+	 * @return index of the first slot of the set
+	 */
+	static int setOf(@Nonnull final Pattern pattern) {
+		final int hash = System.identityHashCode(pattern);
+		return (hash ^ hash >>> 16) & LINEAR_PATTERNS.length - WAYS;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private Matchers() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -48,6 +48,13 @@ public final class NumberInRange {
 	public static final BigDecimal DOUBLE_MAX = new BigDecimal(Double.MAX_VALUE);
 	public static final BigDecimal DOUBLE_MIN = new BigDecimal(-Double.MAX_VALUE);
 
+	/**
+	 * The smallest power of two which cannot be represented as {@code long} anymore (2<sup>63</sup>). All values of type
+	 * {@code double} which are smaller in magnitude can be truncated to a {@code long} without an overflow. NaN and
+	 * infinite values are never smaller and take the slow path which reports them.
+	 */
+	private static final double LONG_RANGE_UPPER_LIMIT = 0x1p63;
+
 	/**
 	 * Checks if a given number is in the range of a byte.
 	 * 
@@ -64,7 +71,7 @@ public final class NumberInRange {
 	public static byte checkByte(@Nonnull final Number number) {
 		Check.notNull(number, "number");
 		if (!isInByteRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), BYTE_MIN, BYTE_MAX);
+			throw Failures.illegalNumberRange(number, BYTE_MIN, BYTE_MAX);
 		}
 
 		return number.byteValue();
@@ -86,7 +93,7 @@ public final class NumberInRange {
 	public static double checkDouble(@Nonnull final Number number) {
 		Check.notNull(number, "number");
 		if (!isInDoubleRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), DOUBLE_MIN, DOUBLE_MAX);
+			throw Failures.illegalNumberRange(number, DOUBLE_MIN, DOUBLE_MAX);
 		}
 
 		return number.doubleValue();
@@ -108,7 +115,7 @@ public final class NumberInRange {
 	public static float checkFloat(@Nonnull final Number number) {
 		Check.notNull(number, "number");
 		if (!isInFloatRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), FLOAT_MIN, FLOAT_MAX);
+			throw Failures.illegalNumberRange(number, FLOAT_MIN, FLOAT_MAX);
 		}
 
 		return number.floatValue();
@@ -130,7 +137,7 @@ public final class NumberInRange {
 	public static int checkInteger(@Nonnull final Number number) {
 		Check.notNull(number, "number");
 		if (!isInIntegerRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), INTEGER_MIN, INTEGER_MAX);
+			throw Failures.illegalNumberRange(number, INTEGER_MIN, INTEGER_MAX);
 		}
 
 		return number.intValue();
@@ -152,7 +159,7 @@ public final class NumberInRange {
 	public static int checkLong(@Nonnull final Number number) {
 		Check.notNull(number, "number");
 		if (!isInLongRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), LONG_MIN, LONG_MAX);
+			throw Failures.illegalNumberRange(number, LONG_MIN, LONG_MAX);
 		}
 
 		return number.intValue();
@@ -174,12 +181,37 @@ public final class NumberInRange {
 	public static short checkShort(@Nonnull final Number number) {
 		Check.notNull(number, "number");
 		if (!isInShortRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), SHORT_MIN, SHORT_MAX);
+			throw Failures.illegalNumberRange(number, SHORT_MIN, SHORT_MAX);
 		}
 
 		return number.shortValue();
 	}
 
+	/**
+	 * Checks whether a number is of type {@code Float} or {@code Double}.
+	 * 
+	 * @param number
+	 *            a number
+	 * @return {@code true} if the number is a boxed floating point primitive
+	 */
+	private static boolean isFloatingPoint(@Nonnull final Number number) {
+		return number instanceof Double || number instanceof Float;
+	}
+
+	/**
+	 * Checks whether a given {@code long} value is greater than or equal to a lower boundary. If the boundary does not
+	 * fit into a {@code long} its sign decides, so that no big number arithmetic is necessary.
+	 * 
+	 * @param value
+	 *            a value
+	 * @param min
+	 *            lower boundary
+	 * @return {@code true} if the value is not lesser than the boundary
+	 */
+	private static boolean isGreaterOrEqual(final long value, @Nonnull final BigInteger min) {
+		return min.bitLength() < Long.SIZE ? value >= min.longValue() : min.signum() < 0;
+	}
+
 	/**
 	 * Test if a number is in the range of the datatype {@code byte}
 	 * 
@@ -235,9 +267,48 @@ public final class NumberInRange {
 		return isInRange(number, LONG_MIN, LONG_MAX);
 	}
 
+	/**
+	 * Test if a {@code double} value is in the range of a {@code float} or {@code double} without creating a
+	 * {@code BigDecimal}. This is only allowed for the boundaries as defined in {@link #FLOAT_MIN}, {@link #FLOAT_MAX},
+	 * {@link #DOUBLE_MIN} and {@link #DOUBLE_MAX}, because they are exactly representable as {@code double}.
+	 * 
+	 * @param value
+	 *            a value, which is neither NaN nor infinite
+	 * @param min
+	 *            lower boundary {@link #FLOAT_MIN} or {@link #DOUBLE_MIN}
+	 * @param max
+	 *            upper boundary {@link #FLOAT_MAX} or {@link #DOUBLE_MAX}
+	 * @return true if the given value is within the range
+	 */
+	private static boolean isInRange(final double value, @Nonnull final BigDecimal min, @Nonnull final BigDecimal max) {
+		final double lower = min == FLOAT_MIN ? -Float.MAX_VALUE : -Double.MAX_VALUE;
+		final double upper = max == FLOAT_MAX ? Float.MAX_VALUE : Double.MAX_VALUE;
+		return value >= lower && value <= upper;
+	}
+
+	/**
+	 * Test if a {@code long} value is in an arbitrary range without creating a {@code BigInteger}.
+	 * 
+	 * @param value
+	 *            a value
+	 * @param min
+	 *            lower boundary of the range
+	 * @param max
+	 *            upper boundary of the range
+	 * @return true if the given value is within the range
+	 */
+	private static boolean isInRange(final long value, @Nonnull final BigInteger min, @Nonnull final BigInteger max) {
+		return isGreaterOrEqual(value, min) && isLesserOrEqual(value, max);
+	}
+
 	/**
 	 * Test if a number is in an arbitrary range.
 	 * 
+	 * <p>
+	 * Boxed primitives are compared without any big number arithmetic if the boundaries are the ranges of
+	 * {@code float} or {@code double} (see {@link #FLOAT_MIN} and {@link #DOUBLE_MIN}). All other numbers and boundaries
+	 * are compared as {@code BigDecimal}.
+	 * 
 	 * @param number
 	 *            a number
 	 * @param min
@@ -254,6 +325,15 @@ public final class NumberInRange {
 		Check.notNull(min, "min");
 		Check.notNull(max, "max");
 
+		if (isPrimitiveFloatingPointRange(min, max)) {
+			if (isIntegral(number)) {
+				// every long value is within the range of a float (and of course of a double)
+				return true;
+			} else if (isFloatingPoint(number) && !isNaNOrInfinite(number.doubleValue())) {
+				return isInRange(number.doubleValue(), min, max);
+			}
+		}
+
 		BigDecimal bigDecimal = null;
 		if (number instanceof Byte || number instanceof Short || number instanceof Integer || number instanceof Long) {
 			bigDecimal = new BigDecimal(number.longValue());
@@ -264,8 +344,7 @@ public final class NumberInRange {
 		} else if (number instanceof BigDecimal) {
 			bigDecimal = (BigDecimal) number;
 		} else {
-			throw new IllegalNumberArgumentException("Return value is no known subclass of 'java.lang.Number': "
-					+ number.getClass().getName());
+			throw Failures.illegalNumberType(number.getClass());
 		}
 		return max.compareTo(bigDecimal) >= 0 && min.compareTo(bigDecimal) <= 0;
 	}
@@ -273,6 +352,11 @@ public final class NumberInRange {
 	/**
 	 * Test if a number is in an arbitrary range.
 	 * 
+	 * <p>
+	 * Boxed primitives are compared as {@code long} values without any big number arithmetic, floating point numbers
+	 * are truncated towards zero before. Only {@code BigInteger} and {@code BigDecimal} numbers as well as floating
+	 * point numbers which exceed the range of a {@code long} are compared as {@code BigInteger}.
+	 * 
 	 * @param number
 	 *            a number
 	 * @param min
@@ -289,18 +373,22 @@ public final class NumberInRange {
 		Check.notNull(min, "min");
 		Check.notNull(max, "max");
 
+		if (isIntegral(number)) {
+			return isInRange(number.longValue(), min, max);
+		} else if (isFloatingPoint(number) && Math.abs(number.doubleValue()) < LONG_RANGE_UPPER_LIMIT) {
+			// the cast truncates towards zero like BigDecimal.toBigInteger does
+			return isInRange((long) number.doubleValue(), min, max);
+		}
+
 		BigInteger bigInteger = null;
-		if (number instanceof Byte || number instanceof Short || number instanceof Integer || number instanceof Long) {
-			bigInteger = BigInteger.valueOf(number.longValue());
-		} else if (number instanceof Float || number instanceof Double) {
+		if (number instanceof Float || number instanceof Double) {
 			bigInteger = new BigDecimal(number.doubleValue()).toBigInteger();
 		} else if (number instanceof BigInteger) {
 			bigInteger = (BigInteger) number;
 		} else if (number instanceof BigDecimal) {
 			bigInteger = ((BigDecimal) number).toBigInteger();
 		} else {
-			throw new IllegalNumberArgumentException("Return value is no known subclass of 'java.lang.Number': "
-					+ number.getClass().getName());
+			throw Failures.illegalNumberType(number.getClass());
 		}
 		return max.compareTo(bigInteger) >= 0 && min.compareTo(bigInteger) <= 0;
 	}
@@ -316,6 +404,57 @@ public final class NumberInRange {
 		return isInRange(number, SHORT_MIN, SHORT_MAX);
 	}
 
+	/**
+	 * Checks whether a number is of type {@code Byte}, {@code Short}, {@code Integer} or {@code Long}.
+	 * 
+	 * @param number
+	 *            a number
+	 * @return {@code true} if the number is a boxed integral primitive
+	 */
+	private static boolean isIntegral(@Nonnull final Number number) {
+		return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+	}
+
+	/**
+	 * Checks whether a given {@code long} value is lesser than or equal to an upper boundary. If the boundary does not
+	 * fit into a {@code long} its sign decides, so that no big number arithmetic is necessary.
+	 * 
+	 * @param value
+	 *            a value
+	 * @param max
+	 *            upper boundary
+	 * @return {@code true} if the value is not greater than the boundary
+	 */
+	private static boolean isLesserOrEqual(final long value, @Nonnull final BigInteger max) {
+		return max.bitLength() < Long.SIZE ? value <= max.longValue() : max.signum() > 0;
+	}
+
+	/**
+	 * Checks whether a {@code double} value is NaN or infinite. Such values cannot be converted into a
+	 * {@code BigDecimal} and must therefore take the slow path which reports the failure.
+	 * 
+	 * @param value
+	 *            a value
+	 * @return {@code true} if the value is NaN or infinite
+	 */
+	private static boolean isNaNOrInfinite(final double value) {
+		return Double.isNaN(value) || Double.isInfinite(value);
+	}
+
+	/**
+	 * Checks whether the passed boundaries are the predefined ranges of {@code float} or {@code double}.
+	 * 
+	 * @param min
+	 *            lower boundary
+	 * @param max
+	 *            upper boundary
+	 * @return {@code true} if both boundaries are one of the constants {@link #FLOAT_MIN}, {@link #FLOAT_MAX},
+	 *         {@link #DOUBLE_MIN} or {@link #DOUBLE_MAX}
+	 */
+	private static boolean isPrimitiveFloatingPointRange(@Nonnull final BigDecimal min, @Nonnull final BigDecimal max) {
+		return (min == FLOAT_MIN || min == DOUBLE_MIN) && (max == FLOAT_MAX || max == DOUBLE_MAX);
+	}
+
 	/**
 	 * <strong>Attention:</strong> This class is not intended to create objects from it.
 	 */
@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Parser for numbers in their decimal string representation which works without creating intermediate objects like
+ * {@code BigInteger}, {@code BigDecimal} or a {@code NumberFormatException}.
+ * 
+ * <p>
+ * The parser only understands ASCII digits and accepts the same grammar as the constructors of {@code BigInteger} and
+ * {@code BigDecimal}. Everything it cannot decide on its own (e.g. digits of other scripts or huge exponents) is
+ * reported as {@link Result#UNSUPPORTED}, so that the caller can fall back to the big number classes and behaves
+ * exactly as before.
+ * 
+ * @author Dominik Seichter
+ */
+final class NumberParser {
+
+	/**
+	 * Result of the validation of a string representation of a number.
+	 */
+	enum Result {
+
+		/**
+		 * The passed value is no number.
+		 */
+		MALFORMED,
+
+		/**
+		 * The passed value is a number, but not in the range of the requested type.
+		 */
+		OUT_OF_RANGE,
+
+		/**
+		 * The passed value cannot be validated by this parser and must be handled by {@code BigInteger} or
+		 * {@code BigDecimal}.
+		 */
+		UNSUPPORTED,
+
+		/**
+		 * The passed value is a number and can be parsed by this parser.
+		 */
+		VALID
+
+	}
+
+	/**
+	 * Powers of ten which can be represented exactly as {@code double}
+	 */
+	private static final double[] DOUBLE_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+			1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * Powers of ten which can be represented exactly as {@code float}
+	 */
+	private static final float[] FLOAT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+	/**
+	 * Maximum number of significant decimal digits which are always representable exactly as {@code double}
+	 */
+	private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+
+	/**
+	 * Maximum number of significant decimal digits which are always representable exactly as {@code float}
+	 */
+	private static final int MAX_EXACT_FLOAT_DIGITS = 7;
+
+	/**
+	 * Maximum number of digits of an exponent which always fits into an {@code int}
+	 */
+	private static final int MAX_EXPONENT_DIGITS = 9;
+
+	/**
+	 * Validates the passed value as decimal number like the constructor {@code BigDecimal(String)} does it. A valid
+	 * value consists of an optional sign, at least one digit with an optional decimal point and an optional exponent.
+	 * 
+	 * @param value
+	 *            string representation of a number
+	 * @return {@link Result#VALID} if the value can be parsed by {@link #parseDouble(String)} and
+	 *         {@link #parseFloat(String)}, otherwise {@link Result#MALFORMED} or {@link Result#UNSUPPORTED}
+	 */
+	@Nonnull
+	static Result checkDecimal(@Nonnull final CharSequence value) {
+		final int length = value.length();
+		int i = skipSign(value);
+		int digits = 0;
+		boolean point = false;
+		for (; i < length; i++) {
+			final char c = value.charAt(i);
+			if (isDigit(c)) {
+				digits++;
+			} else if (c == '.' && !point) {
+				point = true;
+			} else if (c == 'e' || c == 'E') {
+				break;
+			} else {
+				return malformed(c);
+			}
+		}
+		if (digits == 0) {
+			return Result.MALFORMED;
+		}
+		return i < length ? checkExponent(value, i + 1) : Result.VALID;
+	}
+
+	/**
+	 * Validates the exponent of a decimal number which starts after the character {@code e} or {@code E}.
+	 * 
+	 * @param value
+	 *            string representation of a number
+	 * @param start
+	 *            index of the first character after the exponent indicator
+	 * @return the result of the validation
+	 */
+	@Nonnull
+	private static Result checkExponent(@Nonnull final CharSequence value, final int start) {
+		final int length = value.length();
+		int i = start < length ? start + skipSign(value.charAt(start)) : start;
+		final int digits = length - i;
+		for (; i < length; i++) {
+			final char c = value.charAt(i);
+			if (!isDigit(c)) {
+				return malformed(c);
+			}
+		}
+		if (digits == 0) {
+			return Result.MALFORMED;
+		}
+		return digits > MAX_EXPONENT_DIGITS ? Result.UNSUPPORTED : Result.VALID;
+	}
+
+	/**
+	 * Validates the passed value as integral number in the range between {@code min} and {@code max} like the
+	 * constructor {@code BigInteger(String)} and the range checks in {@link NumberInRange} do it. A valid value consists
+	 * of an optional sign and at least one digit.
+	 * 
+	 * <p>
+	 * An overflow does not stop the validation, so that a value like {@code "99999999999x"} is still reported as
+	 * malformed instead of being out of range.
+	 * 
+	 * @param value
+	 *            string representation of a number
+	 * @param min
+	 *            lower bound of the range of the requested type
+	 * @param max
+	 *            upper bound of the range of the requested type
+	 * @return {@link Result#VALID} if the value can be parsed by {@link #parseIntegral(CharSequence)}, otherwise
+	 *         {@link Result#MALFORMED}, {@link Result#OUT_OF_RANGE} or {@link Result#UNSUPPORTED}
+	 */
+	@Nonnull
+	static Result checkIntegral(@Nonnull final CharSequence value, final long min, final long max) {
+		final int length = value.length();
+		final int start = skipSign(value);
+		if (start == length) {
+			return Result.MALFORMED;
+		}
+
+		// accumulate negatively, because the negative range is greater than the positive one
+		final long limit = value.charAt(0) == '-' ? min : -max;
+		final long limitBeforeMultiplication = limit / 10;
+		boolean overflow = false;
+		long result = 0;
+		for (int i = start; i < length; i++) {
+			final char c = value.charAt(i);
+			if (!isDigit(c)) {
+				return malformed(c);
+			}
+			final int digit = c - '0';
+			if (overflow || result < limitBeforeMultiplication || result * 10 < limit + digit) {
+				overflow = true;
+			} else {
+				result = result * 10 - digit;
+			}
+		}
+		return overflow ? Result.OUT_OF_RANGE : Result.VALID;
+	}
+
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Determines the result for a character which is not allowed at its position. Characters outside of the ASCII range
+	 * might be digits of other scripts which are accepted by {@code BigInteger} and {@code BigDecimal}.
+	 * 
+	 * @param c
+	 *            unexpected character
+	 * @return {@link Result#MALFORMED} or {@link Result#UNSUPPORTED}
+	 */
+	@Nonnull
+	private static Result malformed(final char c) {
+		return c < 0x80 ? Result.MALFORMED : Result.UNSUPPORTED;
+	}
+
+	/**
+	 * Parses a decimal number. Numbers with few significant digits and a small exponent are computed directly with
+	 * exactly one rounding, all other numbers are handed to {@code Double.parseDouble} or {@code Float.parseFloat}.
+	 * 
+	 * @param value
+	 *            decimal number which was validated by {@link #checkDecimal(CharSequence)}
+	 * @param single
+	 *            {@code true} to round to {@code float} precision, {@code false} to round to {@code double} precision
+	 * @return the value of the number
+	 */
+	private static double parseDecimal(@Nonnull final String value, final boolean single) {
+		final int length = value.length();
+		final int maxDigits = single ? MAX_EXACT_FLOAT_DIGITS : MAX_EXACT_DOUBLE_DIGITS;
+		int i = skipSign(value);
+		long mantissa = 0;
+		int significantDigits = 0;
+		int fractionDigits = 0;
+		boolean point = false;
+		for (; i < length; i++) {
+			final char c = value.charAt(i);
+			if (c == '.') {
+				point = true;
+			} else if (isDigit(c)) {
+				final int digit = c - '0';
+				if (point) {
+					fractionDigits++;
+				}
+				if (significantDigits > 0 || digit != 0) {
+					significantDigits++;
+					mantissa = mantissa * 10 + digit;
+				}
+			} else {
+				break;
+			}
+		}
+
+		// BigDecimal knows no negative zero
+		if (significantDigits == 0) {
+			return 0.0;
+		}
+
+		int exponent = 0;
+		if (i < length) {
+			final char sign = value.charAt(i + 1);
+			for (int j = i + 1 + skipSign(sign); j < length; j++) {
+				exponent = exponent * 10 + value.charAt(j) - '0';
+			}
+			exponent = sign == '-' ? -exponent : exponent;
+		}
+
+		final long scale = (long) exponent - fractionDigits;
+		final int powers = single ? FLOAT_POWERS_OF_TEN.length : DOUBLE_POWERS_OF_TEN.length;
+		if (significantDigits > maxDigits || scale <= -powers || scale >= powers) {
+			return single ? Float.parseFloat(value) : Double.parseDouble(value);
+		}
+
+		final double result;
+		if (single) {
+			final float power = FLOAT_POWERS_OF_TEN[(int) Math.abs(scale)];
+			result = scale < 0 ? (float) mantissa / power : (float) mantissa * power;
+		} else {
+			final double power = DOUBLE_POWERS_OF_TEN[(int) Math.abs(scale)];
+			result = scale < 0 ? (double) mantissa / power : (double) mantissa * power;
+		}
+		return value.charAt(0) == '-' ? -result : result;
+	}
+
+	/**
+	 * Parses a decimal number in the same way as {@code new BigDecimal(value).doubleValue()}.
+	 * 
+	 * @param value
+	 *            decimal number which was validated by {@link #checkDecimal(CharSequence)}
+	 * @return the value of the number
+	 */
+	static double parseDouble(@Nonnull final String value) {
+		return parseDecimal(value, false);
+	}
+
+	/**
+	 * Parses a decimal number in the same way as {@code new BigDecimal(value).floatValue()}.
+	 * 
+	 * @param value
+	 *            decimal number which was validated by {@link #checkDecimal(CharSequence)}
+	 * @return the value of the number
+	 */
+	static float parseFloat(@Nonnull final String value) {
+		return (float) parseDecimal(value, true);
+	}
+
+	/**
+	 * Parses an integral number.
+	 * 
+	 * @param value
+	 *            integral number which was validated by {@link #checkIntegral(CharSequence, long, long)}
+	 * @return the value of the number
+	 */
+	static long parseIntegral(@Nonnull final CharSequence value) {
+		final int length = value.length();
+		long result = 0;
+		for (int i = skipSign(value); i < length; i++) {
+			result = result * 10 - (value.charAt(i) - '0');
+		}
+		return value.charAt(0) == '-' ? result : -result;
+	}
+
+	private static int skipSign(final char c) {
+		return c == '-' || c == '+' ? 1 : 0;
+	}
+
+	/**
+	 * Determines the index of the first character after an optional sign.
+	 * 
+	 * @param value
+	 *            string representation of a number
+	 * @return {@code 1} if the value starts with a sign, otherwise {@code 0}
+	 */
+	private static int skipSign(@Nonnull final CharSequence value) {
+		return value.length() > 0 ? skipSign(value.charAt(0)) : 0;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private NumberParser() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,378 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+/**
+ * This class offers checks for very large arrays and collections, which split the scan into chunks and run them in
+ * parallel.
+ * 
+ * <p>
+ * The parallel mode is opt-in: only callers of this class use threads, the checks of {@link Check} always run in the
+ * calling thread. Inputs with less than {@link #THRESHOLD} elements are checked in the calling thread as well. The
+ * chunks are submitted to the passed {@code ExecutorService} or to a shared pool of daemon threads with one thread per
+ * available processor. The threads of the shared pool terminate after a minute without work, so that they do not keep
+ * the class loader of this library alive, e.g. after a web application was redeployed. A chunk stops as soon as a
+ * chunk in front of it has found an offending element, but every chunk in front of the first offending element is
+ * scanned completely. So the reported index is always the index of the first offending element, exactly as with the
+ * sequential checks.
+ * 
+ * <p>
+ * Only arrays, lists which implement {@link RandomAccess} and collections (which are copied once with
+ * {@link Collection#toArray()}) can be split. Other {@code Iterable}s are checked sequentially.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+public final class ParallelCheck {
+
+	/**
+	 * Scans a chunk of a region and records the index of the first element that is {@code null}.
+	 */
+	private static final class Chunk implements Callable<Void> {
+
+		private final AtomicInteger first;
+
+		private final int from;
+
+		private final Region region;
+
+		private final int to;
+
+		Chunk(@Nonnull final Region region, final int from, final int to, @Nonnull final AtomicInteger first) {
+			this.region = region;
+			this.from = from;
+			this.to = to;
+			this.first = first;
+		}
+
+		@Override
+		public Void call() {
+			for (int start = from; start < to && first.get() > from; start += BLOCK_SIZE) {
+				final int index = region.indexOfNull(start, Math.min(to - start, BLOCK_SIZE) + start);
+				if (index != Elements.NOT_FOUND) {
+					int current = first.get();
+					while (index < current && !first.compareAndSet(current, index)) {
+						current = first.get();
+					}
+					break;
+				}
+			}
+			return null;
+		}
+
+	}
+
+	/**
+	 * Holder of the shared thread pool, which is created on first use. Idle threads terminate, so that the pool holds no
+	 * threads when no check runs.
+	 */
+	private static final class DefaultExecutor {
+
+		static final ExecutorService INSTANCE = createExecutor();
+
+		@Nonnull
+		private static ExecutorService createExecutor() {
+			final ThreadPoolExecutor executor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, KEEP_ALIVE_SECONDS,
+					TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						private final AtomicInteger count = new AtomicInteger();
+
+						@Override
+						public Thread newThread(final Runnable runnable) {
+							final Thread thread = new Worker(runnable, "quality-check-parallel-" + count.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+
+	}
+
+	/**
+	 * Indexed view of the elements of an array or a list
+	 */
+	private abstract static class Region {
+
+		abstract int indexOfNull(int from, int to);
+
+		abstract int size();
+
+	}
+
+	/**
+	 * Thread of the shared pool, which lets a check recognize that it runs in the pool itself
+	 */
+	private static final class Worker extends Thread {
+
+		Worker(@Nonnull final Runnable runnable, @Nonnull final String name) {
+			super(runnable, name);
+		}
+
+	}
+
+	/**
+	 * Number of elements which are scanned by a chunk before it looks whether a chunk in front of it has already found
+	 * an offending element
+	 */
+	private static final int BLOCK_SIZE = 4096;
+
+	/**
+	 * Number of chunks per thread, so that fast threads can take over the chunks of slow ones
+	 */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	/**
+	 * Number of seconds after which an idle thread of the shared pool terminates
+	 */
+	private static final long KEEP_ALIVE_SECONDS = 60L;
+
+	/**
+	 * Minimum number of elements of a chunk
+	 */
+	private static final int MIN_CHUNK_SIZE = 8192;
+
+	/**
+	 * Number of threads of the shared pool
+	 */
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Minimum number of elements of an input which is split into chunks
+	 */
+	public static final int THRESHOLD = 65536;
+
+	/**
+	 * Searches the first element that is {@code null}, in parallel if the region is large enough. A scan which is
+	 * started by a thread of the shared pool runs in that thread, because waiting for the chunks could otherwise
+	 * occupy all threads of the pool.
+	 * 
+	 * @param executor
+	 *            executor which runs the chunks
+	 * @param region
+	 *            elements to scan
+	 * @return the index of the first {@code null} or {@link Elements#NOT_FOUND}
+	 */
+	private static int indexOfNull(@Nonnull final ExecutorService executor, @Nonnull final Region region) {
+		final int size = region.size();
+		if (size < THRESHOLD || Thread.currentThread() instanceof Worker) {
+			return region.indexOfNull(0, size);
+		}
+		final int chunks = Math.min(PARALLELISM * CHUNKS_PER_THREAD, size / MIN_CHUNK_SIZE);
+		final AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+		final List<Chunk> tasks = new ArrayList<Chunk>(chunks);
+		for (int i = 0; i < chunks; i++) {
+			tasks.add(new Chunk(region, (int) ((long) size * i / chunks), (int) ((long) size * (i + 1) / chunks), first));
+		}
+		try {
+			for (final Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (final InterruptedException e) {
+			// the result is still needed, so scan the remaining elements in the calling thread
+			Thread.currentThread().interrupt();
+			return region.indexOfNull(0, size);
+		} catch (final ExecutionException e) {
+			throw rethrow(e.getCause());
+		}
+		final int index = first.get();
+		return index == Integer.MAX_VALUE ? Elements.NOT_FOUND : index;
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}. Large
+	 * collections are scanned in parallel by the passed executor.
+	 * 
+	 * <p>
+	 * The calling thread waits until all chunks have been scanned. So this method must not be called by a thread of a
+	 * bounded executor which is passed to it, because the chunks could wait for a free thread forever.
+	 * 
+	 * @param executor
+	 *            executor which runs the chunks of the scan
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> T noNullElements(@Nonnull final ExecutorService executor, @Nonnull final T iterable,
+			@Nullable final String name) {
+		Check.notNull(executor, "executor");
+		Check.notNull(iterable, "iterable");
+		if (Check.isNullCheckEnabled(CheckMetrics.NO_NULL_ELEMENTS)) {
+			final int index;
+			if (iterable instanceof List<?> && iterable instanceof RandomAccess) {
+				index = indexOfNull(executor, region((List<?>) iterable));
+			} else if (iterable instanceof Collection<?>) {
+				index = indexOfNull(executor, region(((Collection<?>) iterable).toArray()));
+			} else {
+				index = Elements.indexOfNull(iterable);
+			}
+			if (index != Elements.NOT_FOUND) {
+				throw Failures.illegalNullElements(name, index);
+			}
+		}
+		return iterable;
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}. Large arrays are scanned in parallel by the passed executor.
+	 * 
+	 * <p>
+	 * The calling thread waits until all chunks have been scanned. So this method must not be called by a thread of a
+	 * bounded executor which is passed to it, because the chunks could wait for a free thread forever.
+	 * 
+	 * @param executor
+	 *            executor which runs the chunks of the scan
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> T[] noNullElements(@Nonnull final ExecutorService executor, @Nonnull final T[] array, @Nullable final String name) {
+		Check.notNull(executor, "executor");
+		Check.notNull(array, "array");
+		if (Check.isNullCheckEnabled(CheckMetrics.NO_NULL_ELEMENTS)) {
+			final int index = indexOfNull(executor, region(array));
+			if (index != Elements.NOT_FOUND) {
+				throw Failures.illegalNullElements(name, index);
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}. Large
+	 * collections are scanned in parallel by the shared pool of daemon threads.
+	 * 
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable, @Nullable final String name) {
+		Check.notNull(iterable, "iterable");
+		return noNullElements(DefaultExecutor.INSTANCE, iterable, name);
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}. Large arrays are scanned in parallel by the shared pool of
+	 * daemon threads.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> T[] noNullElements(@Nonnull final T[] array, @Nullable final String name) {
+		Check.notNull(array, "array");
+		return noNullElements(DefaultExecutor.INSTANCE, array, name);
+	}
+
+	@Nonnull
+	private static Region region(@Nonnull final List<?> list) {
+		return new Region() {
+			@Override
+			int indexOfNull(final int from, final int to) {
+				return Elements.indexOfNull(list, from, to);
+			}
+
+			@Override
+			int size() {
+				return list.size();
+			}
+		};
+	}
+
+	@Nonnull
+	private static Region region(@Nonnull final Object[] array) {
+		return new Region() {
+			@Override
+			int indexOfNull(final int from, final int to) {
+				return Elements.indexOfNull(array, from, to);
+			}
+
+			@Override
+			int size() {
+				return array.length;
+			}
+		};
+	}
+
+	/**
+	 * Rethrows the exception of a chunk in the calling thread. A chunk cannot throw checked exceptions, so the cause is
+	 * either a {@code RuntimeException} (e.g. a {@code ConcurrentModificationException}) or an {@code Error}.
+	 * 
+	 * @param cause
+	 *            exception of a chunk
+	 * @return never returns, the return type only allows to write {@code throw rethrow(cause)}
+	 */
+	@Nonnull
+	private static RuntimeException rethrow(@Nonnull final Throwable cause) {
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		throw (RuntimeException) cause;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private ParallelCheck() {
+		// This class is not intended to create objects from it.
+	}
+
+}
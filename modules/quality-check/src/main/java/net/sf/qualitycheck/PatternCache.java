@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+/**
+ * A bounded cache of compiled regular expressions, which is used by the checks that take a regular expression as
+ * {@code String}, e.g. {@link Check#matchesPattern(String, CharSequence, String)}.
+ * 
+ * <p>
+ * Lookups of cached expressions do not lock and do not write shared state in the common case. If the cache is full,
+ * the least recently used expression is evicted. The recency is tracked approximately: every miss starts a new period
+ * and a hit only marks its entry as used in the current period, so the evicted entry is one which was not used for the
+ * longest number of misses.
+ * 
+ * <p>
+ * The cache used by the checks holds up to {@value #DEFAULT_MAXIMUM_SIZE} expressions. Its size can be changed on
+ * startup with the system property {@value #MAXIMUM_SIZE_PROPERTY}.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+public final class PatternCache {
+
+	/**
+	 * Compiled expression and the period in which it was used last
+	 */
+	private static final class Entry {
+
+		@Nonnull
+		final Pattern pattern;
+
+		volatile long period;
+
+		Entry(@Nonnull final Pattern pattern, final long period) {
+			this.pattern = pattern;
+			this.period = period;
+		}
+
+	}
+
+	/**
+	 * Immutable copy of the statistics of a cache at a point in time.
+	 */
+	@Immutable
+	public static final class Stats {
+
+		private final long evictionCount;
+
+		private final long hitCount;
+
+		private final int maximumSize;
+
+		private final long missCount;
+
+		private final int size;
+
+		private Stats(final long hitCount, final long missCount, final long evictionCount, final int size, final int maximumSize) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+			this.maximumSize = maximumSize;
+		}
+
+		/**
+		 * Returns the number of expressions which were evicted because the cache was full.
+		 * 
+		 * @return the number of evictions
+		 */
+		@Nonnegative
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		/**
+		 * Returns the number of lookups which found a compiled expression.
+		 * 
+		 * @return the number of hits
+		 */
+		@Nonnegative
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		/**
+		 * Returns the ratio of hits to all lookups.
+		 * 
+		 * @return the hit rate between {@code 0.0} and {@code 1.0}, which is {@code 1.0} if there were no lookups
+		 */
+		public double getHitRate() {
+			final long lookups = hitCount + missCount;
+			return lookups == 0L ? 1.0 : (double) hitCount / lookups;
+		}
+
+		/**
+		 * Returns the maximum number of expressions in the cache.
+		 * 
+		 * @return the maximum size
+		 */
+		@Nonnegative
+		public int getMaximumSize() {
+			return maximumSize;
+		}
+
+		/**
+		 * Returns the number of lookups which had to compile an expression.
+		 * 
+		 * @return the number of misses
+		 */
+		@Nonnegative
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * Returns the number of expressions in the cache.
+		 * 
+		 * @return the size
+		 */
+		@Nonnegative
+		public int getSize() {
+			return size;
+		}
+
+		@Override
+		public String toString() {
+			return "Stats [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + ", size=" + size
+					+ ", maximumSize=" + maximumSize + "]";
+		}
+
+	}
+
+	/**
+	 * Maximum number of expressions in the cache which is used by the checks, unless the system property
+	 * {@value #MAXIMUM_SIZE_PROPERTY} is set
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private static final int EVICTIONS = 2;
+
+	private static final int HITS = 0;
+
+	/**
+	 * Name of the system property which sets the maximum number of expressions in the cache which is used by the
+	 * checks
+	 */
+	public static final String MAXIMUM_SIZE_PROPERTY = "net.sf.qualitycheck.patternCache.maximumSize";
+
+	private static final int MISSES = 1;
+
+	/**
+	 * Cache which is used by the checks
+	 */
+	private static final PatternCache SHARED = new PatternCache(readMaximumSize());
+
+	/**
+	 * Returns the cache which is used by the checks that take a regular expression as {@code String}.
+	 * 
+	 * @return the shared cache
+	 */
+	@Nonnull
+	public static PatternCache getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * Reads the system property {@value #MAXIMUM_SIZE_PROPERTY}. If the property is not set, is no positive number or
+	 * cannot be read, because a security manager denies it, the default size is used.
+	 * 
+	 * @return the maximum size of the shared cache
+	 */
+	static int readMaximumSize() {
+		try {
+			final Integer size = Integer.getInteger(MAXIMUM_SIZE_PROPERTY);
+			return size != null && size.intValue() > 0 ? size.intValue() : DEFAULT_MAXIMUM_SIZE;
+		} catch (final SecurityException e) {
+			return DEFAULT_MAXIMUM_SIZE;
+		}
+	}
+
+	/**
+	 * Number of hits, misses and evictions
+	 */
+	private final StripedCounters counters = new StripedCounters(3);
+
+	/**
+	 * Cached expressions keyed by their source
+	 */
+	private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+	/**
+	 * Guards the eviction, so that only one thread evicts at a time
+	 */
+	private final Object evictionLock = new Object();
+
+	/**
+	 * Maximum number of expressions in this cache
+	 */
+	private final int maximumSize;
+
+	/**
+	 * Current period, which is advanced by two on every miss
+	 */
+	private final AtomicLong period = new AtomicLong();
+
+	/**
+	 * Creates an empty cache.
+	 * 
+	 * @param maximumSize
+	 *            maximum number of expressions in the cache, must be positive
+	 * @throws IllegalNotGreaterThanException
+	 *             if {@code maximumSize} is not positive
+	 */
+	@ArgumentsChecked
+	public PatternCache(@Nonnegative final int maximumSize) {
+		this.maximumSize = Check.greaterThan(0, maximumSize);
+	}
+
+	/**
+	 * Removes all expressions from this cache. The statistics are kept.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Returns the compiled form of a regular expression. The expression is compiled on the first request and cached
+	 * afterwards.
+	 * 
+	 * @param regex
+	 *            the regular expression to be compiled
+	 * @return the compiled expression
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} is {@code null}
+	 * @throws PatternSyntaxException
+	 *             if the syntax of the expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public Pattern compile(@Nonnull final String regex) {
+		Check.notNull(regex, "regex");
+		final Entry cached = entries.get(regex);
+		if (cached != null) {
+			counters.increment(HITS);
+			final long current = period.get();
+			if (cached.period != current) {
+				cached.period = current;
+			}
+			return cached.pattern;
+		}
+		counters.increment(MISSES);
+		// a new entry gets the odd number in front of the new period, so it ranks below the entries hit in that period
+		final Entry created = new Entry(Pattern.compile(regex), period.addAndGet(2L) - 1L);
+		final Entry raced = entries.putIfAbsent(regex, created);
+		if (raced != null) {
+			return raced.pattern;
+		}
+		if (entries.size() > maximumSize) {
+			evict();
+		}
+		return created.pattern;
+	}
+
+	/**
+	 * Evicts the least recently used entries until the cache is not larger than its maximum size.
+	 */
+	private void evict() {
+		synchronized (evictionLock) {
+			while (entries.size() > maximumSize) {
+				Map.Entry<String, Entry> eldest = null;
+				for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+					if (eldest == null || entry.getValue().period < eldest.getValue().period) {
+						eldest = entry;
+					}
+				}
+				if (eldest != null && entries.remove(eldest.getKey(), eldest.getValue())) {
+					counters.increment(EVICTIONS);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the statistics of this cache. The copy is not atomic, so lookups which happen concurrently may be
+	 * contained or not.
+	 * 
+	 * @return the statistics
+	 */
+	@Nonnull
+	public Stats getStats() {
+		return new Stats(counters.sum(HITS), counters.sum(MISSES), counters.sum(EVICTIONS), entries.size(), maximumSize);
+	}
+
+}
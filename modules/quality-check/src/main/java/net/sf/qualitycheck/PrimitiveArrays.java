@@ -0,0 +1,577 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Scans arrays and buffers of primitive numbers for the first element which violates a bound.
+ * 
+ * <p>
+ * The elements are scanned in blocks. The loop over a block has no early exit and no method calls, so that the JIT
+ * compiler can unroll and vectorize it. Only a block which contains an offending element is scanned a second time to
+ * determine the index of the first one. Buffers which are not backed by an accessible array are copied block by block
+ * into a temporary array.
+ * 
+ * <p>
+ * All ranges are inclusive and a range whose minimum is greater than its maximum contains no values at all. For
+ * floating point numbers {@code NaN} is never out of range, as the scalar checks of {@link Check} do not reject it
+ * either.
+ * 
+ * @author André Rouél
+ */
+final class PrimitiveArrays {
+
+	/**
+	 * Number of elements which are scanned at once
+	 */
+	private static final int BLOCK_SIZE = 1024;
+
+	/**
+	 * Index which indicates that no element violates a bound
+	 */
+	static final int NOT_FOUND = -1;
+
+	/**
+	 * Determines the exclusive end of the block which starts at {@code start} without an overflow near
+	 * {@code Integer.MAX_VALUE}.
+	 * 
+	 * @param start
+	 *            index of the first element of the block
+	 * @param to
+	 *            exclusive end of the scanned region
+	 * @return the exclusive end of the block
+	 */
+	private static int endOfBlock(final int start, final int to) {
+		return to - start > BLOCK_SIZE ? start + BLOCK_SIZE : to;
+	}
+
+	/**
+	 * Returns the index of the first element in the given region which is {@code NaN}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to scan
+	 * @param to
+	 *            index after the last element to scan
+	 * @return the index of the first {@code NaN} or {@link #NOT_FOUND}
+	 */
+	static int indexOfNaN(@Nonnull final float[] values, final int from, final int to) {
+		for (int start = from; start < to; start = endOfBlock(start, to)) {
+			final int end = endOfBlock(start, to);
+			boolean found = false;
+			for (int i = start; i < end; i++) {
+				final float value = values[i];
+				found |= value != value; // NOSONAR
+			}
+			if (found) {
+				for (int i = start; i < end; i++) {
+					if (Float.isNaN(values[i])) {
+						return i;
+					}
+				}
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element in the given region which is {@code NaN}.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to scan
+	 * @param to
+	 *            index after the last element to scan
+	 * @return the index of the first {@code NaN} or {@link #NOT_FOUND}
+	 */
+	static int indexOfNaN(@Nonnull final double[] values, final int from, final int to) {
+		for (int start = from; start < to; start = endOfBlock(start, to)) {
+			final int end = endOfBlock(start, to);
+			boolean found = false;
+			for (int i = start; i < end; i++) {
+				final double value = values[i];
+				found |= value != value; // NOSONAR
+			}
+			if (found) {
+				for (int i = start; i < end; i++) {
+					if (Double.isNaN(values[i])) {
+						return i;
+					}
+				}
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element of the buffer which is {@code NaN}. The buffer is scanned from its
+	 * position to its limit and its position is not changed.
+	 * 
+	 * @param values
+	 *            a buffer of numbers
+	 * @return the index of the first {@code NaN} within the buffer or {@link #NOT_FOUND}
+	 */
+	static int indexOfNaN(@Nonnull final DoubleBuffer values) {
+		if (values.hasArray()) {
+			final int offset = values.arrayOffset();
+			final int index = indexOfNaN(values.array(), offset + values.position(), offset + values.limit());
+			return index == NOT_FOUND ? NOT_FOUND : index - offset;
+		}
+		final double[] block = new double[Math.min(values.remaining(), BLOCK_SIZE)];
+		final DoubleBuffer view = values.duplicate();
+		while (view.hasRemaining()) {
+			final int start = view.position();
+			final int length = Math.min(view.remaining(), block.length);
+			view.get(block, 0, length);
+			final int index = indexOfNaN(block, 0, length);
+			if (index != NOT_FOUND) {
+				return start + index;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element in the given region which is smaller than {@code min} or greater than
+	 * {@code max}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to scan
+	 * @param to
+	 *            index after the last element to scan
+	 * @return the index of the first element which is out of range or {@link #NOT_FOUND}
+	 */
+	static int indexOfOutOfRange(final int min, final int max, @Nonnull final int[] values, final int from, final int to) {
+		for (int start = from; start < to; start = endOfBlock(start, to)) {
+			final int end = endOfBlock(start, to);
+			boolean found = false;
+			for (int i = start; i < end; i++) {
+				final int value = values[i];
+				found |= value < min | value > max;
+			}
+			if (found) {
+				for (int i = start; i < end; i++) {
+					if (values[i] < min || values[i] > max) {
+						return i;
+					}
+				}
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element of the buffer which is smaller than {@code min} or greater than
+	 * {@code max}. The buffer is scanned from its position to its limit and its position is not changed.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
+	 * @return the index of the first element within the buffer which is out of range or {@link #NOT_FOUND}
+	 */
+	static int indexOfOutOfRange(final int min, final int max, @Nonnull final IntBuffer values) {
+		if (values.hasArray()) {
+			final int offset = values.arrayOffset();
+			final int index = indexOfOutOfRange(min, max, values.array(), offset + values.position(), offset + values.limit());
+			return index == NOT_FOUND ? NOT_FOUND : index - offset;
+		}
+		final int[] block = new int[Math.min(values.remaining(), BLOCK_SIZE)];
+		final IntBuffer view = values.duplicate();
+		while (view.hasRemaining()) {
+			final int start = view.position();
+			final int length = Math.min(view.remaining(), block.length);
+			view.get(block, 0, length);
+			final int index = indexOfOutOfRange(min, max, block, 0, length);
+			if (index != NOT_FOUND) {
+				return start + index;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element in the given region which is smaller than {@code min} or greater than
+	 * {@code max}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to scan
+	 * @param to
+	 *            index after the last element to scan
+	 * @return the index of the first element which is out of range or {@link #NOT_FOUND}
+	 */
+	static int indexOfOutOfRange(final long min, final long max, @Nonnull final long[] values, final int from, final int to) {
+		for (int start = from; start < to; start = endOfBlock(start, to)) {
+			final int end = endOfBlock(start, to);
+			boolean found = false;
+			for (int i = start; i < end; i++) {
+				final long value = values[i];
+				found |= value < min | value > max;
+			}
+			if (found) {
+				for (int i = start; i < end; i++) {
+					if (values[i] < min || values[i] > max) {
+						return i;
+					}
+				}
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element of the buffer which is smaller than {@code min} or greater than
+	 * {@code max}. The buffer is scanned from its position to its limit and its position is not changed.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
+	 * @return the index of the first element within the buffer which is out of range or {@link #NOT_FOUND}
+	 */
+	static int indexOfOutOfRange(final long min, final long max, @Nonnull final LongBuffer values) {
+		if (values.hasArray()) {
+			final int offset = values.arrayOffset();
+			final int index = indexOfOutOfRange(min, max, values.array(), offset + values.position(), offset + values.limit());
+			return index == NOT_FOUND ? NOT_FOUND : index - offset;
+		}
+		final long[] block = new long[Math.min(values.remaining(), BLOCK_SIZE)];
+		final LongBuffer view = values.duplicate();
+		while (view.hasRemaining()) {
+			final int start = view.position();
+			final int length = Math.min(view.remaining(), block.length);
+			view.get(block, 0, length);
+			final int index = indexOfOutOfRange(min, max, block, 0, length);
+			if (index != NOT_FOUND) {
+				return start + index;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element in the given region which is smaller than {@code min} or greater than
+	 * {@code max}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to scan
+	 * @param to
+	 *            index after the last element to scan
+	 * @return the index of the first element which is out of range or {@link #NOT_FOUND}
+	 */
+	static int indexOfOutOfRange(final float min, final float max, @Nonnull final float[] values, final int from, final int to) {
+		for (int start = from; start < to; start = endOfBlock(start, to)) {
+			final int end = endOfBlock(start, to);
+			boolean found = false;
+			for (int i = start; i < end; i++) {
+				final float value = values[i];
+				found |= value < min | value > max;
+			}
+			if (found) {
+				for (int i = start; i < end; i++) {
+					if (values[i] < min || values[i] > max) {
+						return i;
+					}
+				}
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element in the given region which is smaller than {@code min} or greater than
+	 * {@code max}.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to scan
+	 * @param to
+	 *            index after the last element to scan
+	 * @return the index of the first element which is out of range or {@link #NOT_FOUND}
+	 */
+	static int indexOfOutOfRange(final double min, final double max, @Nonnull final double[] values, final int from, final int to) {
+		for (int start = from; start < to; start = endOfBlock(start, to)) {
+			final int end = endOfBlock(start, to);
+			boolean found = false;
+			for (int i = start; i < end; i++) {
+				final double value = values[i];
+				found |= value < min | value > max;
+			}
+			if (found) {
+				for (int i = start; i < end; i++) {
+					if (values[i] < min || values[i] > max) {
+						return i;
+					}
+				}
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the first element of the buffer which is smaller than {@code min} or greater than
+	 * {@code max}. The buffer is scanned from its position to its limit and its position is not changed.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param values
+	 *            a buffer of numbers
+	 * @return the index of the first element within the buffer which is out of range or {@link #NOT_FOUND}
+	 */
+	static int indexOfOutOfRange(final double min, final double max, @Nonnull final DoubleBuffer values) {
+		if (values.hasArray()) {
+			final int offset = values.arrayOffset();
+			final int index = indexOfOutOfRange(min, max, values.array(), offset + values.position(), offset + values.limit());
+			return index == NOT_FOUND ? NOT_FOUND : index - offset;
+		}
+		final double[] block = new double[Math.min(values.remaining(), BLOCK_SIZE)];
+		final DoubleBuffer view = values.duplicate();
+		while (view.hasRemaining()) {
+			final int start = view.position();
+			final int length = Math.min(view.remaining(), block.length);
+			view.get(block, 0, length);
+			final int index = indexOfOutOfRange(min, max, block, 0, length);
+			if (index != NOT_FOUND) {
+				return start + index;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the upper bound of all values which are greater than {@code expected}.
+	 * 
+	 * @param expected
+	 *            the value which must be exceeded
+	 * @return the upper bound of all values which are greater than {@code expected}
+	 */
+	static int maxGreaterThan(final int expected) {
+		return expected == Integer.MAX_VALUE ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the upper bound of all values which are greater than {@code expected}.
+	 * 
+	 * @param expected
+	 *            the value which must be exceeded
+	 * @return the upper bound of all values which are greater than {@code expected}
+	 */
+	static long maxGreaterThan(final long expected) {
+		return expected == Long.MAX_VALUE ? Long.MIN_VALUE : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the upper bound of all values which are greater than {@code expected}.
+	 * 
+	 * @param expected
+	 *            the value which must be exceeded
+	 * @return the upper bound of all values which are greater than {@code expected}
+	 */
+	static float maxGreaterThan(final float expected) {
+		return expected == Float.POSITIVE_INFINITY ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Returns the upper bound of all values which are greater than {@code expected}.
+	 * 
+	 * @param expected
+	 *            the value which must be exceeded
+	 * @return the upper bound of all values which are greater than {@code expected}
+	 */
+	static double maxGreaterThan(final double expected) {
+		return expected == Double.POSITIVE_INFINITY ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Returns the highest value which is lesser than {@code expected}. If there is none, the result is lesser than
+	 * {@link #minLesserThan(int)}, so that the range is empty.
+	 * 
+	 * @param expected
+	 *            the value which must not be reached
+	 * @return the upper bound of all values which are lesser than {@code expected}
+	 */
+	static int maxLesserThan(final int expected) {
+		return expected == Integer.MIN_VALUE ? Integer.MIN_VALUE : expected - 1;
+	}
+
+	/**
+	 * Returns the highest value which is lesser than {@code expected}. If there is none, the result is lesser than
+	 * {@link #minLesserThan(long)}, so that the range is empty.
+	 * 
+	 * @param expected
+	 *            the value which must not be reached
+	 * @return the upper bound of all values which are lesser than {@code expected}
+	 */
+	static long maxLesserThan(final long expected) {
+		return expected == Long.MIN_VALUE ? Long.MIN_VALUE : expected - 1L;
+	}
+
+	/**
+	 * Returns the highest value which is lesser than {@code expected}. If there is none, the range is empty.
+	 * 
+	 * @param expected
+	 *            the value which must not be reached
+	 * @return the upper bound of all values which are lesser than {@code expected}
+	 */
+	static float maxLesserThan(final float expected) {
+		return Math.nextAfter(expected, Double.NEGATIVE_INFINITY);
+	}
+
+	/**
+	 * Returns the highest value which is lesser than {@code expected}. If there is none, the range is empty.
+	 * 
+	 * @param expected
+	 *            the value which must not be reached
+	 * @return the upper bound of all values which are lesser than {@code expected}
+	 */
+	static double maxLesserThan(final double expected) {
+		return Math.nextAfter(expected, Double.NEGATIVE_INFINITY);
+	}
+
+	/**
+	 * Returns the lowest value which is greater than {@code expected}. If there is none, the result is greater than
+	 * {@link #maxGreaterThan(int)}, so that the range is empty.
+	 * 
+	 * @param expected
+	 *            the value which must be exceeded
+	 * @return the lower bound of all values which are greater than {@code expected}
+	 */
+	static int minGreaterThan(final int expected) {
+		return expected == Integer.MAX_VALUE ? Integer.MAX_VALUE : expected + 1;
+	}
+
+	/**
+	 * Returns the lowest value which is greater than {@code expected}. If there is none, the result is greater than
+	 * {@link #maxGreaterThan(long)}, so that the range is empty.
+	 * 
+	 * @param expected
+	 *            the value which must be exceeded
+	 * @return the lower bound of all values which are greater than {@code expected}
+	 */
+	static long minGreaterThan(final long expected) {
+		return expected == Long.MAX_VALUE ? Long.MAX_VALUE : expected + 1L;
+	}
+
+	/**
+	 * Returns the lowest value which is greater than {@code expected}. If there is none, the range is empty.
+	 * 
+	 * @param expected
+	 *            the value which must be exceeded
+	 * @return the lower bound of all values which are greater than {@code expected}
+	 */
+	static float minGreaterThan(final float expected) {
+		return Math.nextAfter(expected, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Returns the lowest value which is greater than {@code expected}. If there is none, the range is empty.
+	 * 
+	 * @param expected
+	 *            the value which must be exceeded
+	 * @return the lower bound of all values which are greater than {@code expected}
+	 */
+	static double minGreaterThan(final double expected) {
+		return Math.nextAfter(expected, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Returns the lower bound of all values which are lesser than {@code expected}.
+	 * 
+	 * @param expected
+	 *            the value which must not be reached
+	 * @return the lower bound of all values which are lesser than {@code expected}
+	 */
+	static int minLesserThan(final int expected) {
+		return expected == Integer.MIN_VALUE ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Returns the lower bound of all values which are lesser than {@code expected}.
+	 * 
+	 * @param expected
+	 *            the value which must not be reached
+	 * @return the lower bound of all values which are lesser than {@code expected}
+	 */
+	static long minLesserThan(final long expected) {
+		return expected == Long.MIN_VALUE ? Long.MAX_VALUE : Long.MIN_VALUE;
+	}
+
+	/**
+	 * Returns the lower bound of all values which are lesser than {@code expected}.
+	 * 
+	 * @param expected
+	 *            the value which must not be reached
+	 * @return the lower bound of all values which are lesser than {@code expected}
+	 */
+	static float minLesserThan(final float expected) {
+		return expected == Float.NEGATIVE_INFINITY ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * Returns the lower bound of all values which are lesser than {@code expected}.
+	 * 
+	 * @param expected
+	 *            the value which must not be reached
+	 * @return the lower bound of all values which are lesser than {@code expected}
+	 */
+	static double minLesserThan(final double expected) {
+		return expected == Double.NEGATIVE_INFINITY ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private PrimitiveArrays() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+/**
+ * This class offers sampled variants of the expensive checks of {@link Check}, which scan their whole input on every
+ * call. They are intended for trusted internal hot paths, where a check which catches most bugs at a fraction of the
+ * cost is worth more than a check which catches every bug.
+ * 
+ * <p>
+ * How a check samples is configured per {@link Kind} of check with {@link #setPolicy(Kind, SamplingPolicy)}. A policy
+ * can validate only one out of {@code n} invocations and only {@code k} randomly chosen elements of large arrays and
+ * lists. The random decisions are made with a generator per thread, so sampling neither allocates nor contends for a
+ * shared seed. Arguments which must not be {@code null} are checked on every invocation. By default every invocation
+ * and every element is validated, exactly as by {@link Check}.
+ * 
+ * <pre>
+ * SampledCheck.setPolicy(SampledCheck.Kind.NO_NULL_ELEMENTS, SamplingPolicy.oneIn(10).withRandomElements(64));
+ * SampledCheck.noNullElements(rows, &quot;rows&quot;);
+ * </pre>
+ * 
+ * <p>
+ * A failure of a sampled check reports the index of the sampled element that is {@code null}, which is not necessarily
+ * the first one. Only the number of validated invocations can be reduced for {@code contains} and
+ * {@code matchesPattern}, because they cannot be decided on a part of the input.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+public final class SampledCheck {
+
+	/**
+	 * Kinds of checks which can be sampled
+	 */
+	public enum Kind {
+
+		/**
+		 * {@link SampledCheck#contains(Collection, Object, String)}, which samples invocations only
+		 */
+		CONTAINS,
+
+		/**
+		 * {@link SampledCheck#matchesPattern(Pattern, CharSequence, String)}, which samples invocations only
+		 */
+		MATCHES_PATTERN,
+
+		/**
+		 * {@link SampledCheck#noNullElements(Object[], String)} and
+		 * {@link SampledCheck#noNullElements(Iterable, String)}, which sample invocations and elements
+		 */
+		NO_NULL_ELEMENTS;
+
+	}
+
+	/**
+	 * Policies of all kinds of checks, indexed by the ordinal of the kind
+	 */
+	private static final AtomicReferenceArray<SamplingPolicy> POLICIES = new AtomicReferenceArray<SamplingPolicy>(Kind.values().length);
+
+	static {
+		for (final Kind kind : Kind.values()) {
+			POLICIES.set(kind.ordinal(), SamplingPolicy.always());
+		}
+	}
+
+	/**
+	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}, if the invocation is
+	 * sampled.
+	 * 
+	 * @param haystack
+	 *            A collection which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be contained into a collection.
+	 * @param name
+	 *            name of argument of {@code needle}
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the invocation is sampled and the passed {@code needle} can not be found in {@code haystack}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> T contains(@Nonnull final Collection<T> haystack, @Nonnull final T needle, @Nonnull final String name) {
+		Check.notNull(haystack, "haystack");
+		Check.notNull(needle, "needle");
+		if (getPolicy(Kind.CONTAINS).isSampled()) {
+			Check.contains(haystack, needle, name);
+		}
+		return needle;
+	}
+
+	/**
+	 * Returns the current sampling policy of a kind of check.
+	 * 
+	 * @param kind
+	 *            kind of check
+	 * @return the current policy
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static SamplingPolicy getPolicy(@Nonnull final Kind kind) {
+		return POLICIES.get(Check.notNull(kind, "kind").ordinal());
+	}
+
+	/**
+	 * Searches an element that is {@code null} among randomly chosen elements of a list.
+	 * 
+	 * @param list
+	 *            a list with fast random access
+	 * @param samples
+	 *            number of elements to validate
+	 * @return the index of a sampled element that is {@code null} or {@link Elements#NOT_FOUND}
+	 */
+	private static int indexOfNull(@Nonnull final List<?> list, final int samples) {
+		final FastRandom random = FastRandom.current();
+		final int size = list.size();
+		for (int i = 0; i < samples; i++) {
+			final int index = random.nextInt(size);
+			if (list.get(index) == null) {
+				return index;
+			}
+		}
+		return Elements.NOT_FOUND;
+	}
+
+	/**
+	 * Searches an element that is {@code null} among randomly chosen elements of an array.
+	 * 
+	 * @param array
+	 *            an array
+	 * @param samples
+	 *            number of elements to validate
+	 * @return the index of a sampled element that is {@code null} or {@link Elements#NOT_FOUND}
+	 */
+	private static int indexOfNull(@Nonnull final Object[] array, final int samples) {
+		final FastRandom random = FastRandom.current();
+		for (int i = 0; i < samples; i++) {
+			final int index = random.nextInt(array.length);
+			if (array[index] == null) {
+				return index;
+			}
+		}
+		return Elements.NOT_FOUND;
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified pattern, if the invocation is
+	 * sampled.
+	 * 
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed {@code chars}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the invocation is sampled and the given {@code chars} does not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final Pattern pattern, @Nonnull final T chars,
+			@Nullable final String name) {
+		Check.notNull(pattern, "pattern");
+		Check.notNull(chars, "chars");
+		if (getPolicy(Kind.MATCHES_PATTERN).isSampled()) {
+			Check.matchesPattern(pattern, chars, name);
+		}
+		return chars;
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}, as
+	 * far as the policy of {@link Kind#NO_NULL_ELEMENTS} samples it. Random elements are only sampled from lists which
+	 * implement {@link RandomAccess}, all other iterables are validated completely if the invocation is sampled.
+	 * 
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference
+	 * @throws IllegalNullElementsException
+	 *             if a sampled element of the given argument {@code iterable} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable, @Nullable final String name) {
+		Check.notNull(iterable, "iterable");
+		final SamplingPolicy policy = getPolicy(Kind.NO_NULL_ELEMENTS);
+		if (policy.isSampled()) {
+			if (iterable instanceof List<?> && iterable instanceof RandomAccess && !policy.isComplete(((List<?>) iterable).size())) {
+				final int index = indexOfNull((List<?>) iterable, policy.getElements());
+				if (index != Elements.NOT_FOUND) {
+					throw Failures.illegalNullElements(name, index);
+				}
+			} else {
+				Check.noNullElements(iterable, name);
+			}
+		}
+		return iterable;
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}, as far as the policy of {@link Kind#NO_NULL_ELEMENTS}
+	 * samples it.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference
+	 * @throws IllegalNullElementsException
+	 *             if a sampled element of the given argument {@code array} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> T[] noNullElements(@Nonnull final T[] array, @Nullable final String name) {
+		Check.notNull(array, "array");
+		final SamplingPolicy policy = getPolicy(Kind.NO_NULL_ELEMENTS);
+		if (policy.isSampled()) {
+			if (policy.isComplete(array.length)) {
+				Check.noNullElements(array, name);
+			} else {
+				final int index = indexOfNull(array, policy.getElements());
+				if (index != Elements.NOT_FOUND) {
+					throw Failures.illegalNullElements(name, index);
+				}
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * Sets the sampling policy of a kind of check, which applies to all subsequent invocations in all threads.
+	 * 
+	 * @param kind
+	 *            kind of check
+	 * @param policy
+	 *            the new policy, {@link SamplingPolicy#always()} to validate everything again
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static void setPolicy(@Nonnull final Kind kind, @Nonnull final SamplingPolicy policy) {
+		Check.notNull(kind, "kind");
+		Check.notNull(policy, "policy");
+		POLICIES.set(kind.ordinal(), policy);
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private SampledCheck() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+
+/**
+ * Describes how often and how thoroughly {@link SampledCheck} validates its inputs.
+ * 
+ * <p>
+ * A policy combines two kinds of sampling:
+ * <ul>
+ * <li>{@link #oneIn(int)} validates only one out of {@code n} invocations, chosen at random</li>
+ * <li>{@link #randomElements(int)} validates only {@code k} randomly chosen elements of a large array or list</li>
+ * </ul>
+ * Both can be combined, e.g. {@code SamplingPolicy.oneIn(10).withRandomElements(100)}. The default policy
+ * {@link #always()} validates every invocation and every element, like the checks of {@link Check}.
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public final class SamplingPolicy {
+
+	/**
+	 * Number of elements which indicates that all elements are validated
+	 */
+	private static final int ALL_ELEMENTS = 0;
+
+	/**
+	 * Policy which validates every invocation and every element
+	 */
+	private static final SamplingPolicy ALWAYS = new SamplingPolicy(1, ALL_ELEMENTS);
+
+	/**
+	 * Returns the policy which validates every invocation and every element.
+	 * 
+	 * @return the policy which does not sample
+	 */
+	@Nonnull
+	public static SamplingPolicy always() {
+		return ALWAYS;
+	}
+
+	/**
+	 * Creates a policy which validates one out of {@code invocations} invocations, chosen at random, with all of their
+	 * elements.
+	 * 
+	 * @param invocations
+	 *            the average number of invocations per validated invocation, must be positive
+	 * @return the policy
+	 * @throws IllegalNotGreaterThanException
+	 *             if {@code invocations} is not positive
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	@Nonnull
+	public static SamplingPolicy oneIn(@Nonnegative final int invocations) {
+		return new SamplingPolicy(Check.greaterThan(0, invocations), ALL_ELEMENTS);
+	}
+
+	/**
+	 * Creates a policy which validates every invocation, but only {@code elements} randomly chosen elements of arrays
+	 * and lists with more elements.
+	 * 
+	 * @param elements
+	 *            the number of validated elements per invocation, must be positive
+	 * @return the policy
+	 * @throws IllegalNotGreaterThanException
+	 *             if {@code elements} is not positive
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	@Nonnull
+	public static SamplingPolicy randomElements(@Nonnegative final int elements) {
+		return ALWAYS.withRandomElements(elements);
+	}
+
+	/**
+	 * Number of randomly chosen elements which are validated or {@link #ALL_ELEMENTS}
+	 */
+	private final int elements;
+
+	/**
+	 * Average number of invocations per validated invocation
+	 */
+	private final int invocations;
+
+	private SamplingPolicy(final int invocations, final int elements) {
+		this.invocations = invocations;
+		this.elements = elements;
+	}
+
+	/**
+	 * Returns the number of randomly chosen elements which are validated per invocation.
+	 * 
+	 * @return the number of validated elements or {@code 0} if all elements are validated
+	 */
+	@Nonnegative
+	public int getElements() {
+		return elements;
+	}
+
+	/**
+	 * Returns the average number of invocations per validated invocation.
+	 * 
+	 * @return the {@code n} of "one in n invocations", which is {@code 1} if every invocation is validated
+	 */
+	@Nonnegative
+	public int getInvocations() {
+		return invocations;
+	}
+
+	/**
+	 * Decides whether all elements of an input of the passed size are validated.
+	 * 
+	 * @param size
+	 *            number of elements of the input
+	 * @return {@code true} if all elements are validated, {@code false} if only a random subset is validated
+	 */
+	boolean isComplete(@Nonnegative final int size) {
+		return elements == ALL_ELEMENTS || size <= elements;
+	}
+
+	/**
+	 * Decides whether the current invocation is validated. A policy which validates every invocation does not draw a
+	 * random number.
+	 * 
+	 * @return {@code true} if the invocation is validated, otherwise {@code false}
+	 */
+	boolean isSampled() {
+		return invocations == 1 || FastRandom.current().nextInt(invocations) == 0;
+	}
+
+	@Override
+	public String toString() {
+		return "SamplingPolicy [invocations=" + invocations + ", elements=" + elements + "]";
+	}
+
+	/**
+	 * Creates a policy which validates the same invocations as this policy, but only {@code elements} randomly chosen
+	 * elements of arrays and lists with more elements.
+	 * 
+	 * @param elements
+	 *            the number of validated elements per invocation, must be positive
+	 * @return the policy
+	 * @throws IllegalNotGreaterThanException
+	 *             if {@code elements} is not positive
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	@Nonnull
+	public SamplingPolicy withRandomElements(@Nonnegative final int elements) {
+		return new SamplingPolicy(invocations, Check.greaterThan(0, elements));
+	}
+
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A fixed number of counters which can be incremented by many threads concurrently without serializing them, similar to
+ * {@code java.util.concurrent.atomic.LongAdder} of Java 8.
+ * 
+ * <p>
+ * Every counter is split into stripes and a thread increments only the stripe which is selected by its ID. The stripes
+ * of all counters are stored row by row in one array and the rows are separated by a cache line, so that threads which
+ * increment different rows do not contend for the same cache line. Only reading a counter sums up all of its stripes.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+final class StripedCounters {
+
+	/**
+	 * Maximum number of stripes per counter
+	 */
+	private static final int MAX_STRIPES = 64;
+
+	/**
+	 * Number of {@code long} values which fill a cache line of 64 bytes
+	 */
+	private static final int PADDING = 8;
+
+	/**
+	 * Calculates the number of stripes, which is the next power of two of the number of available processors.
+	 * 
+	 * @return the number of stripes
+	 */
+	private static int stripes() {
+		final int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+		int stripes = 1;
+		while (stripes < processors) {
+			stripes <<= 1;
+		}
+		return stripes;
+	}
+
+	/**
+	 * Stripes of all counters, one row per stripe
+	 */
+	private final AtomicLongArray cells;
+
+	/**
+	 * Length of a row, which holds one stripe of every counter followed by a cache line of padding
+	 */
+	private final int rowLength;
+
+	/**
+	 * Number of rows minus one, which masks the ID of a thread to select its row
+	 */
+	private final int rowMask;
+
+	/**
+	 * Creates the passed number of counters, which all start at zero.
+	 * 
+	 * @param counters
+	 *            number of counters
+	 */
+	StripedCounters(@Nonnegative final int counters) {
+		final int stripes = stripes();
+		rowLength = counters + PADDING;
+		rowMask = stripes - 1;
+		cells = new AtomicLongArray(stripes * rowLength);
+	}
+
+	/**
+	 * Increments a counter by one.
+	 * 
+	 * @param counter
+	 *            index of the counter
+	 */
+	void increment(@Nonnegative final int counter) {
+		final int row = (int) Thread.currentThread().getId() & rowMask;
+		cells.incrementAndGet(row * rowLength + counter);
+	}
+
+	/**
+	 * Sets all counters to zero. Increments which happen concurrently may be lost or kept.
+	 */
+	void reset() {
+		for (int i = 0; i < cells.length(); i++) {
+			cells.set(i, 0L);
+		}
+	}
+
+	/**
+	 * Sums up all stripes of a counter. The sum is not an atomic snapshot if the counter is incremented concurrently.
+	 * 
+	 * @param counter
+	 *            index of the counter
+	 * @return the current value of the counter
+	 */
+	long sum(@Nonnegative final int counter) {
+		long sum = 0L;
+		for (int i = counter; i < cells.length(); i += rowLength) {
+			sum += cells.get(i);
+		}
+		return sum;
+	}
+
+}
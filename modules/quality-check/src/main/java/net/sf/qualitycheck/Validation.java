@@ -0,0 +1,930 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import net.sf.qualitycheck.exception.IllegalAlphanumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalArgumentsException;
+import net.sf.qualitycheck.exception.IllegalAsciiArgumentException;
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalHexadecimalArgumentException;
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+import net.sf.qualitycheck.exception.IllegalPositiveArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+/**
+ * This class offers the argument checks of {@link Check} without throwing an exception for every failed check. A
+ * validation records all failed checks and raises them at once with {@link #throwIfInvalid()}, so that a method with
+ * many arguments can report all invalid arguments in one pass.
+ * 
+ * <p>
+ * The following example describes how to use it.
+ * 
+ * <pre>
+ * public void register(String name, String email, int age) {
+ * 	Validation.forCurrentThread().notEmpty(name, &quot;name&quot;).matchesPattern(EMAIL, email, &quot;email&quot;)
+ * 			.notNegative(age, &quot;age&quot;).throwIfInvalid();
+ * 	...
+ * }
+ * </pre>
+ * 
+ * <p>
+ * Every check gets the next index (starting at {@code 0}) and a failed check sets its bit in a bit set, which can be
+ * queried with {@link #hasFailed(int)}. For a failed check only its kind and arguments are recorded, the exception
+ * which describes the failure is created and formatted not until it is requested by {@link #getFailures()} or
+ * {@link #throwIfInvalid()}. Passed checks do not allocate any objects, so a reused validation (see
+ * {@link #forCurrentThread()} and {@link #reset()}) keeps the happy path free of allocations.
+ * 
+ * <p>
+ * Arguments which must not be {@code null} for a check are recorded as failure of that check. Only invalid parameters
+ * of the check itself, like a {@code null} pattern, throw an {@link IllegalNullArgumentException} immediately, as they
+ * are programming errors.
+ * 
+ * @author André Rouél
+ */
+@NotThreadSafe
+public final class Validation {
+
+	/**
+	 * Describes the failure of a check and creates the exception which {@link Check} would throw for it.
+	 */
+	private enum Kind {
+
+		ALPHANUMERIC {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalAlphanumericArgumentException(name, (CharSequence) arguments[0]);
+			}
+		},
+
+		ASCII {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalAsciiArgumentException(name, (CharSequence) arguments[0]);
+			}
+		},
+
+		EMPTY {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalEmptyArgumentException(name);
+			}
+		},
+
+		HEXADECIMAL {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalHexadecimalArgumentException(name, (CharSequence) arguments[0]);
+			}
+		},
+
+		INSTANCE_OF {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalInstanceOfArgumentException(name, (Class<?>) arguments[0], (Class<?>) arguments[1]);
+			}
+		},
+
+		NAN {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalNaNArgumentException(name);
+			}
+		},
+
+		NEGATIVE {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalNegativeArgumentException(name, (Number) arguments[0]);
+			}
+		},
+
+		NOT_CONTAINED {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalNotContainedArgumentException(name, arguments[0]);
+			}
+		},
+
+		NOT_NULL {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalNotNullArgumentException(name, arguments[0]);
+			}
+		},
+
+		NULL {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalNullArgumentException(name);
+			}
+		},
+
+		NULL_ELEMENTS {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalNullElementsException(name, ((Integer) arguments[0]).intValue());
+			}
+		},
+
+		NUMBER {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalNumberArgumentException(name, (CharSequence) arguments[0], (Throwable) arguments[1]);
+			}
+		},
+
+		NUMERIC {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalNumericArgumentException(name, (CharSequence) arguments[0]);
+			}
+		},
+
+		PATTERN {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalPatternArgumentException(name, (Pattern) arguments[0], (CharSequence) arguments[1]);
+			}
+		},
+
+		POSITION_INDEX {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalPositionIndexException((Integer) arguments[0], (Integer) arguments[1]);
+			}
+		},
+
+		POSITIVE {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalPositiveArgumentException(name, (Number) arguments[0]);
+			}
+		},
+
+		RANGE {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return new IllegalRangeException((Integer) arguments[0], (Integer) arguments[1], (Integer) arguments[2]);
+			}
+		},
+
+		/**
+		 * A check which already failed with an exception, e.g. a number which is out of range
+		 */
+		REJECTED {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments) {
+				return (RuntimeException) arguments[0];
+			}
+		},
+
+		/**
+		 * An invalid state, the name is the description or the template of the description
+		 */
+		STATE {
+			@Override
+			RuntimeException createException(@Nullable final String name, @Nullable final Object[] arguments) {
+				return new IllegalStateOfArgumentException(name, arguments);
+			}
+		};
+
+		/**
+		 * Creates the exception which describes a failed check.
+		 * 
+		 * @param name
+		 *            name of the checked argument or a description of the failure
+		 * @param arguments
+		 *            further arguments which were recorded with the failure
+		 * @return the exception which {@link Check} throws for such a failure
+		 */
+		abstract RuntimeException createException(@Nullable final String name, @Nonnull final Object[] arguments);
+
+	}
+
+	/**
+	 * A failed check, which creates its exception on demand.
+	 */
+	private static final class Failure {
+
+		@Nullable
+		private final Object[] arguments;
+
+		@Nullable
+		private RuntimeException exception;
+
+		@Nonnull
+		private final Kind kind;
+
+		@Nullable
+		private final String name;
+
+		Failure(@Nonnull final Kind kind, @Nullable final String name, @Nullable final Object[] arguments) {
+			this.kind = kind;
+			this.name = name;
+			this.arguments = arguments;
+		}
+
+		@Nonnull
+		RuntimeException getException() {
+			if (exception == null) {
+				exception = kind.createException(name, arguments);
+			}
+			return exception;
+		}
+
+	}
+
+	/**
+	 * Number of checks which can be recorded in one element of the bit set
+	 */
+	private static final int BITS_PER_WORD = 64;
+
+	/**
+	 * Validations which are reused by the threads
+	 */
+	private static final ThreadLocal<Validation> CURRENT = new ThreadLocal<Validation>() {
+		@Override
+		protected Validation initialValue() {
+			return new Validation();
+		}
+	};
+
+	/**
+	 * Returns the validation of the current thread, which is reset before it is returned. A reused validation avoids
+	 * the allocations of new instances on hot paths.
+	 * 
+	 * <p>
+	 * <strong>Attention:</strong> The returned validation is shared by all callers of this method within the same
+	 * thread, so it must not be used across a call of another method which validates its arguments in the same way.
+	 * 
+	 * @return the reset validation of the current thread
+	 */
+	@Nonnull
+	public static Validation forCurrentThread() {
+		return CURRENT.get().reset();
+	}
+
+	/**
+	 * Number of performed checks
+	 */
+	@Nonnegative
+	private int checks;
+
+	/**
+	 * Bit set of failed checks, the bit of a check is its index
+	 */
+	@Nonnull
+	private long[] failedChecks = new long[1];
+
+	/**
+	 * Failed checks in the order they were performed
+	 */
+	@Nonnull
+	private final List<Failure> failures = new ArrayList<Failure>();
+
+	/**
+	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}, see
+	 * {@link Check#contains(Collection, Object, String)}.
+	 * 
+	 * @param haystack
+	 *            A collection which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be contained into a collection.
+	 * @param name
+	 *            name of argument of {@code needle}
+	 * @return this validation
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public Validation contains(@Nonnull final Collection<?> haystack, @Nullable final Object needle, @Nullable final String name) {
+		Check.notNull(haystack, "haystack");
+		if (needle == null) {
+			return fail(Kind.NULL, name);
+		}
+		return haystack.contains(needle) ? pass() : fail(Kind.NOT_CONTAINED, name, needle);
+	}
+
+	/**
+	 * Records a failed check.
+	 * 
+	 * @param kind
+	 *            kind of the failure
+	 * @param name
+	 *            name of the checked argument or a description of the failure
+	 * @param arguments
+	 *            further arguments which are needed to create the exception
+	 * @return this validation
+	 */
+	private Validation fail(@Nonnull final Kind kind, @Nullable final String name, @Nullable final Object... arguments) {
+		final int index = checks++;
+		final int word = index / BITS_PER_WORD;
+		if (word >= failedChecks.length) {
+			failedChecks = Arrays.copyOf(failedChecks, Math.max(word + 1, failedChecks.length * 2));
+		}
+		failedChecks[word] |= 1L << index;
+		failures.add(new Failure(kind, name, arguments));
+		return this;
+	}
+
+	/**
+	 * Returns the number of performed checks.
+	 * 
+	 * @return the number of performed checks
+	 */
+	@Nonnegative
+	public int getCheckCount() {
+		return checks;
+	}
+
+	/**
+	 * Returns the number of failed checks.
+	 * 
+	 * @return the number of failed checks
+	 */
+	@Nonnegative
+	public int getFailureCount() {
+		return failures.size();
+	}
+
+	/**
+	 * Returns the exceptions which {@link Check} would have thrown for the failed checks. The exceptions are created on
+	 * the first request.
+	 * 
+	 * @return a new list of exceptions in the order the checks were performed
+	 */
+	@Nonnull
+	public List<RuntimeException> getFailures() {
+		final List<RuntimeException> exceptions = new ArrayList<RuntimeException>(failures.size());
+		for (final Failure failure : failures) {
+			exceptions.add(failure.getException());
+		}
+		return exceptions;
+	}
+
+	/**
+	 * Returns whether the check with the given index failed. The first check of a validation has the index {@code 0}.
+	 * 
+	 * @param index
+	 *            index of a check
+	 * @return {@code true} if the check was performed and failed, otherwise {@code false}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNegativeArgumentException.class)
+	public boolean hasFailed(@Nonnegative final int index) {
+		Check.notNegative(index, "index");
+		final int word = index / BITS_PER_WORD;
+		return word < failedChecks.length && (failedChecks[word] & 1L << index) != 0;
+	}
+
+	/**
+	 * Ensures that a passed argument is a member of a specific type, see
+	 * {@link Check#instanceOf(Class, Object, String)}.
+	 * 
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public Validation instanceOf(@Nonnull final Class<?> type, @Nullable final Object obj, @Nullable final String name) {
+		Check.notNull(type, "type");
+		if (obj == null) {
+			return fail(Kind.NULL, name);
+		}
+		return type.isInstance(obj) ? pass() : fail(Kind.INSTANCE_OF, name, type, obj.getClass());
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is alphanumeric, see
+	 * {@link Check#isAlphanumeric(CharSequence, String)}.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be alphanumeric
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation isAlphanumeric(@Nullable final CharSequence value, @Nullable final String name) {
+		if (value == null) {
+			return fail(Kind.NULL, name);
+		}
+		return value.length() > 0 && CharacterClass.ALPHANUMERIC.matches(value) ? pass() : fail(Kind.ALPHANUMERIC, name, value);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values contains only ASCII characters, see
+	 * {@link Check#isAscii(CharSequence, String)}.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must contain only ASCII characters
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation isAscii(@Nullable final CharSequence value, @Nullable final String name) {
+		if (value == null) {
+			return fail(Kind.NULL, name);
+		}
+		return CharacterClass.ASCII.matches(value) ? pass() : fail(Kind.ASCII, name, value);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is hexadecimal, see
+	 * {@link Check#isHexadecimal(CharSequence, String)}.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be hexadecimal
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation isHexadecimal(@Nullable final CharSequence value, @Nullable final String name) {
+		if (value == null) {
+			return fail(Kind.NULL, name);
+		}
+		return value.length() > 0 && CharacterClass.HEXADECIMAL.matches(value) ? pass() : fail(Kind.HEXADECIMAL, name, value);
+	}
+
+	/**
+	 * Ensures that a given argument is {@code null}, see {@link Check#isNull(Object, String)}.
+	 * 
+	 * @param reference
+	 *            reference which must be null
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation isNull(@Nullable final Object reference, @Nullable final String name) {
+		return reference == null ? pass() : fail(Kind.NOT_NULL, name, reference);
+	}
+
+	/**
+	 * Ensures that a string argument is a number in the range of an {@code Integer}, see
+	 * {@link Check#isNumber(String, String)}.
+	 * 
+	 * @param value
+	 *            value which must be a number
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation isNumber(@Nullable final String value, @Nullable final String name) {
+		return isNumber(value, name, Integer.class);
+	}
+
+	/**
+	 * Ensures that a string argument is a number in the range of the given type, see
+	 * {@link Check#isNumber(String, String, Class)}.
+	 * 
+	 * @param value
+	 *            value which must be a number
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @param type
+	 *            requested type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal, BigInteger, Byte,
+	 *            Double, Float, Integer, Long, Short}
+	 * @return this validation
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public Validation isNumber(@Nullable final String value, @Nullable final String name, @Nonnull final Class<? extends Number> type) {
+		Check.notNull(type, "type");
+		if (value == null) {
+			return fail(Kind.NULL, name);
+		}
+		try {
+			return Check.checkNumberInRange(value, type) != null ? pass() : fail(Kind.NUMBER, name, value, null);
+		} catch (final NumberFormatException e) {
+			return fail(Kind.NUMBER, name, value, e);
+		} catch (final IllegalNumberRangeException e) {
+			return fail(Kind.REJECTED, name, e);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is numeric, see
+	 * {@link Check#isNumeric(CharSequence, String)}.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be numeric
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation isNumeric(@Nullable final CharSequence value, @Nullable final String name) {
+		if (value == null) {
+			return fail(Kind.NULL, name);
+		}
+		return value.length() > 0 && CharacterClass.NUMERIC.matches(value) ? pass() : fail(Kind.NUMERIC, name, value);
+	}
+
+	/**
+	 * Returns whether all performed checks passed.
+	 * 
+	 * @return {@code true} if no check failed, otherwise {@code false}
+	 */
+	public boolean isValid() {
+		return failures.isEmpty();
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified pattern, see
+	 * {@link Check#matchesPattern(Pattern, CharSequence, String)}.
+	 * 
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public Validation matchesPattern(@Nonnull final Pattern pattern, @Nullable final CharSequence chars, @Nullable final String name) {
+		Check.notNull(pattern, "pattern");
+		if (chars == null) {
+			return fail(Kind.NULL, name);
+		}
+		return Matchers.matches(pattern, chars) ? pass() : fail(Kind.PATTERN, name, pattern, chars);
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}, see
+	 * {@link Check#noNullElements(Iterable, String)}.
+	 * 
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation noNullElements(@Nullable final Iterable<?> iterable, @Nullable final String name) {
+		if (iterable == null) {
+			return fail(Kind.NULL, name);
+		}
+		final int index = Elements.indexOfNull(iterable);
+		return index == Elements.NOT_FOUND ? pass() : fail(Kind.NULL_ELEMENTS, name, index);
+	}
+
+	/**
+	 * Ensures that an array is neither {@code null} nor contains {@code null}, see
+	 * {@link Check#noNullElements(Object[], String)}.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation noNullElements(@Nullable final Object[] array, @Nullable final String name) {
+		if (array == null) {
+			return fail(Kind.NULL, name);
+		}
+		final int index = Elements.indexOfNull(array, 0, array.length);
+		return index == Elements.NOT_FOUND ? pass() : fail(Kind.NULL_ELEMENTS, name, index);
+	}
+
+	/**
+	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
+	 * emptiness, see {@link Check#notEmpty(boolean, String)}.
+	 * 
+	 * @param expression
+	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
+	 *            {@code false} means not empty)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notEmpty(final boolean expression, @Nullable final String name) {
+		return expression ? fail(Kind.EMPTY, name) : pass();
+	}
+
+	/**
+	 * Ensures that a passed string is neither {@code null} nor empty, see {@link Check#notEmpty(CharSequence, String)}.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notEmpty(@Nullable final CharSequence chars, @Nullable final String name) {
+		if (chars == null) {
+			return fail(Kind.NULL, name);
+		}
+		return notEmpty(chars.length() == 0, name);
+	}
+
+	/**
+	 * Ensures that a passed collection is neither {@code null} nor empty, see
+	 * {@link Check#notEmpty(Collection, String)}.
+	 * 
+	 * @param collection
+	 *            a collection which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notEmpty(@Nullable final Collection<?> collection, @Nullable final String name) {
+		if (collection == null) {
+			return fail(Kind.NULL, name);
+		}
+		return notEmpty(collection.isEmpty(), name);
+	}
+
+	/**
+	 * Ensures that a passed iterable is neither {@code null} nor empty, see {@link Check#notEmpty(Iterable, String)}.
+	 * 
+	 * @param iterable
+	 *            an iterable which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notEmpty(@Nullable final Iterable<?> iterable, @Nullable final String name) {
+		if (iterable == null) {
+			return fail(Kind.NULL, name);
+		}
+		return notEmpty(Elements.isEmpty(iterable), name);
+	}
+
+	/**
+	 * Ensures that a passed map is neither {@code null} nor empty, see {@link Check#notEmpty(Map, String)}.
+	 * 
+	 * @param map
+	 *            a map which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notEmpty(@Nullable final Map<?, ?> map, @Nullable final String name) {
+		if (map == null) {
+			return fail(Kind.NULL, name);
+		}
+		return notEmpty(map.isEmpty(), name);
+	}
+
+	/**
+	 * Ensures that a passed array is neither {@code null} nor empty, see {@link Check#notEmpty(Object[], String)}.
+	 * 
+	 * @param array
+	 *            an array which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notEmpty(@Nullable final Object[] array, @Nullable final String name) {
+		if (array == null) {
+			return fail(Kind.NULL, name);
+		}
+		return notEmpty(array.length == 0, name);
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number), see {@link Check#notNaN(double, String)}.
+	 * 
+	 * @param value
+	 *            value which should not be NaN
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notNaN(final double value, @Nullable final String name) {
+		// most efficient check for NaN, see Double.isNaN(value))
+		return value != value ? fail(Kind.NAN, name) : pass(); // NOSONAR
+	}
+
+	/**
+	 * Ensures that a double argument is not smaller than {@code 0}, see {@link Check#notNegative(double, String)}.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notNegative(final double value, @Nullable final String name) {
+		return value < 0.0 ? fail(Kind.NEGATIVE, name, Double.valueOf(value)) : pass();
+	}
+
+	/**
+	 * Ensures that an int argument is not smaller than {@code 0}, see {@link Check#notNegative(int, String)}.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notNegative(final int value, @Nullable final String name) {
+		return value < 0 ? fail(Kind.NEGATIVE, name, Integer.valueOf(value)) : pass();
+	}
+
+	/**
+	 * Ensures that a long argument is not smaller than {@code 0}, see {@link Check#notNegative(long, String)}.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notNegative(final long value, @Nullable final String name) {
+		return value < 0L ? fail(Kind.NEGATIVE, name, Long.valueOf(value)) : pass();
+	}
+
+	/**
+	 * Ensures that an object reference is not {@code null}, see {@link Check#notNull(Object, String)}.
+	 * 
+	 * @param reference
+	 *            an object reference
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notNull(@Nullable final Object reference, @Nullable final String name) {
+		return reference == null ? fail(Kind.NULL, name) : pass();
+	}
+
+	/**
+	 * Ensures that a double argument is not greater than {@code 0}, see {@link Check#notPositive(double, String)}.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notPositive(final double value, @Nullable final String name) {
+		return value > 0.0 ? fail(Kind.POSITIVE, name, Double.valueOf(value)) : pass();
+	}
+
+	/**
+	 * Ensures that an int argument is not greater than {@code 0}, see {@link Check#notPositive(int, String)}.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notPositive(final int value, @Nullable final String name) {
+		return value > 0 ? fail(Kind.POSITIVE, name, Integer.valueOf(value)) : pass();
+	}
+
+	/**
+	 * Ensures that a long argument is not greater than {@code 0}, see {@link Check#notPositive(long, String)}.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
+	 * @return this validation
+	 */
+	public Validation notPositive(final long value, @Nullable final String name) {
+		return value > 0L ? fail(Kind.POSITIVE, name, Long.valueOf(value)) : pass();
+	}
+
+	/**
+	 * Records a passed check.
+	 * 
+	 * @return this validation
+	 */
+	private Validation pass() {
+		checks++;
+		return this;
+	}
+
+	/**
+	 * Ensures that a given position index is valid within the size of an array, list or string, see
+	 * {@link Check#positionIndex(int, int)}.
+	 * 
+	 * @param index
+	 *            index of an array, list or string
+	 * @param size
+	 *            size of an array list or string
+	 * @return this validation
+	 */
+	public Validation positionIndex(final int index, final int size) {
+		final boolean isIndexValid = size >= 0 && index >= 0 && index < size;
+		return isIndexValid ? pass() : fail(Kind.POSITION_INDEX, null, Integer.valueOf(index), Integer.valueOf(size));
+	}
+
+	/**
+	 * Ensures that the given arguments are a valid range, see {@link Check#range(int, int, int)}.
+	 * 
+	 * @param start
+	 *            the start value of the range (must be a positive integer or 0)
+	 * @param end
+	 *            the end value of the range (must be a positive integer or 0)
+	 * @param size
+	 *            the size value of the range (must be a positive integer or 0)
+	 * @return this validation
+	 */
+	public Validation range(final int start, final int end, final int size) {
+		final boolean rangeIsValid = start <= size && end <= size && start <= end;
+		final boolean inputValuesAreValid = size >= 0 && start >= 0 && end >= 0;
+		return rangeIsValid && inputValuesAreValid ? pass() : fail(Kind.RANGE, null, Integer.valueOf(start), Integer.valueOf(end),
+				Integer.valueOf(size));
+	}
+
+	/**
+	 * Resets this validation, so that it can be reused for further checks. The allocated memory is kept.
+	 * 
+	 * @return this validation
+	 */
+	public Validation reset() {
+		if (!failures.isEmpty()) {
+			Arrays.fill(failedChecks, 0L);
+			failures.clear();
+		}
+		checks = 0;
+		return this;
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}, see {@link Check#stateIsTrue(boolean, String)}.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param description
+	 *            will be used in the error message to describe why the arguments caused an invalid state
+	 * @return this validation
+	 */
+	public Validation stateIsTrue(final boolean expression, @Nonnull final String description) {
+		return expression ? pass() : fail(Kind.STATE, description);
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}, see {@link Check#stateIsTrue(boolean, String, Object...)}.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param descriptionTemplateArgs
+	 *            format string template arguments to explain why the state is invalid
+	 * @return this validation
+	 */
+	public Validation stateIsTrue(final boolean expression, @Nonnull final String descriptionTemplate, final Object... descriptionTemplateArgs) {
+		return expression ? pass() : fail(Kind.STATE, descriptionTemplate, descriptionTemplateArgs);
+	}
+
+	/**
+	 * Throws an {@link IllegalArgumentsException} with all failures if at least one check failed.
+	 * 
+	 * @return this validation if all checks passed
+	 * @throws IllegalArgumentsException
+	 *             if at least one check failed
+	 */
+	@Throws(IllegalArgumentsException.class)
+	public Validation throwIfInvalid() {
+		if (!failures.isEmpty()) {
+			throw new IllegalArgumentsException(checks, getFailures());
+		}
+		return this;
+	}
+
+}
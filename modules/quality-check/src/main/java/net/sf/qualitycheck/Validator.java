@@ -0,0 +1,792 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+/**
+ * A reusable validator of one argument, which performs a chain of checks in a single pass.
+ * 
+ * <p>
+ * Chaining calls of {@link Check} validates the argument again in every call, e.g. {@code Check.notEmpty(codes)} checks
+ * against {@code null} before it checks the size. A validator is composed once by a builder, which binds the name of
+ * the argument, the bounds and the patterns, and performs each check only once per call:
+ * 
+ * <pre>
+ * private static final Validator&lt;List&lt;String&gt;&gt; CODES = Validator.forCollection(&quot;codes&quot;).notEmpty().noNullElements()
+ * 		.maxSize(1000).build();
+ * 
+ * public void send(final List&lt;String&gt; codes) {
+ * 	this.codes = CODES.validate(codes);
+ * }
+ * </pre>
+ * 
+ * <p>
+ * Independent of the order of the calls on the builder, the checks are performed from the cheapest to the most
+ * expensive one: first against {@code null}, then the size and the type, at last the elements or characters. A failed
+ * check throws the same exception as the corresponding method of {@link Check}. Validators are immutable and can be
+ * shared between threads. Like {@link Validation}, they are performed in every {@link CheckMode}.
+ * 
+ * @param <T>
+ *            type of the validated arguments
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public abstract class Validator<T> {
+
+	/**
+	 * Composes a validator of arrays.
+	 */
+	@NotThreadSafe
+	public static final class ArrayBuilder {
+
+		private int maxLength = UNBOUNDED;
+
+		@Nonnull
+		private final String name;
+
+		private boolean noNullElements;
+
+		private boolean notEmpty;
+
+		private boolean nullable;
+
+		private ArrayBuilder(@Nonnull final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Creates the validator. The type of the validated arguments is inferred from the target of the assignment.
+		 * 
+		 * @return an immutable validator of all checks which were added to this builder
+		 */
+		@Nonnull
+		public <E> Validator<E[]> build() {
+			return new ArrayValidator<E>(this);
+		}
+
+		/**
+		 * Adds a check which ensures that an array has at most {@code maxLength} elements.
+		 * 
+		 * @param maxLength
+		 *            highest allowed number of elements
+		 * @return this builder
+		 * @throws IllegalNegativeArgumentException
+		 *             if {@code maxLength} is negative
+		 */
+		@ArgumentsChecked
+		@Throws(IllegalNegativeArgumentException.class)
+		@Nonnull
+		public ArrayBuilder maxLength(@Nonnegative final int maxLength) {
+			this.maxLength = Check.notNegative(maxLength, "maxLength");
+			return this;
+		}
+
+		/**
+		 * Adds a check which ensures that an array does not contain {@code null} (see
+		 * {@link Check#noNullElements(Object[], String)}).
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public ArrayBuilder noNullElements() {
+			noNullElements = true;
+			return this;
+		}
+
+		/**
+		 * Adds a check which ensures that an array is not empty (see {@link Check#notEmpty(Object[], String)}).
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public ArrayBuilder notEmpty() {
+			notEmpty = true;
+			return this;
+		}
+
+		/**
+		 * Accepts {@code null} as valid argument, which is not checked any further.
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public ArrayBuilder nullable() {
+			nullable = true;
+			return this;
+		}
+
+	}
+
+	/**
+	 * Validator of arrays
+	 */
+	@Immutable
+	private static final class ArrayValidator<E> extends Validator<E[]> {
+
+		private final int maxLength;
+
+		@Nullable
+		private final String maxLengthMessage;
+
+		private final boolean noNullElements;
+
+		private final boolean notEmpty;
+
+		ArrayValidator(@Nonnull final ArrayBuilder builder) {
+			super(builder.name, builder.nullable, describe(builder.notEmpty, "notEmpty", builder.maxLength, "maxLength",
+					builder.noNullElements, "noNullElements"));
+			maxLength = builder.maxLength;
+			maxLengthMessage = maxLengthMessage(builder.name, builder.maxLength, "elements");
+			noNullElements = builder.noNullElements;
+			notEmpty = builder.notEmpty;
+		}
+
+		@Override
+		public E[] validate(@Nullable final E[] value) {
+			if (value == null) {
+				return validateNull(value);
+			}
+			final int length = value.length;
+			if (notEmpty && length == 0) {
+				throw Failures.illegalEmptyArgument(name);
+			}
+			if (length > maxLength && maxLength != UNBOUNDED) {
+				throw Failures.illegalNotLesserThan(name, maxLengthMessage, Integer.valueOf(length));
+			}
+			if (noNullElements) {
+				final int index = Elements.indexOfNull(value, 0, length);
+				if (index != Elements.NOT_FOUND) {
+					throw Failures.illegalNullElements(name, index);
+				}
+			}
+			return value;
+		}
+
+	}
+
+	/**
+	 * Composes a validator of character sequences.
+	 */
+	@NotThreadSafe
+	public static final class CharSequenceBuilder {
+
+		private int maxLength = UNBOUNDED;
+
+		@Nonnull
+		private final String name;
+
+		private boolean notEmpty;
+
+		private boolean nullable;
+
+		@Nullable
+		private Pattern pattern;
+
+		private CharSequenceBuilder(@Nonnull final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Creates the validator. The type of the validated arguments is inferred from the target of the assignment.
+		 * 
+		 * @return an immutable validator of all checks which were added to this builder
+		 */
+		@Nonnull
+		public <C extends CharSequence> Validator<C> build() {
+			return new CharSequenceValidator<C>(this);
+		}
+
+		/**
+		 * Adds a check which ensures that a sequence matches a pattern (see
+		 * {@link Check#matchesPattern(Pattern, CharSequence, String)}). The linear-time form of the pattern (see
+		 * {@link LinearPattern}) is looked up once when the validator is built.
+		 * 
+		 * @param pattern
+		 *            pattern, that the sequences must correspond to
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if the given argument {@code pattern} is {@code null}
+		 */
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		@Nonnull
+		public CharSequenceBuilder matchesPattern(@Nonnull final Pattern pattern) {
+			this.pattern = Check.notNull(pattern, "pattern");
+			return this;
+		}
+
+		/**
+		 * Adds a check which ensures that a sequence matches a regular expression, which is compiled once when it is
+		 * added.
+		 * 
+		 * @param regex
+		 *            regular expression, that the sequences must correspond to
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if the given argument {@code regex} is {@code null}
+		 * @throws java.util.regex.PatternSyntaxException
+		 *             if the syntax of the expression is invalid
+		 */
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		@Nonnull
+		public CharSequenceBuilder matchesPattern(@Nonnull final String regex) {
+			return matchesPattern(PatternCache.getShared().compile(regex));
+		}
+
+		/**
+		 * Adds a check which ensures that a sequence has at most {@code maxLength} characters.
+		 * 
+		 * @param maxLength
+		 *            highest allowed number of characters
+		 * @return this builder
+		 * @throws IllegalNegativeArgumentException
+		 *             if {@code maxLength} is negative
+		 */
+		@ArgumentsChecked
+		@Throws(IllegalNegativeArgumentException.class)
+		@Nonnull
+		public CharSequenceBuilder maxLength(@Nonnegative final int maxLength) {
+			this.maxLength = Check.notNegative(maxLength, "maxLength");
+			return this;
+		}
+
+		/**
+		 * Adds a check which ensures that a sequence is not empty (see {@link Check#notEmpty(CharSequence, String)}).
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public CharSequenceBuilder notEmpty() {
+			notEmpty = true;
+			return this;
+		}
+
+		/**
+		 * Accepts {@code null} as valid argument, which is not checked any further.
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public CharSequenceBuilder nullable() {
+			nullable = true;
+			return this;
+		}
+
+	}
+
+	/**
+	 * Validator of character sequences
+	 */
+	@Immutable
+	private static final class CharSequenceValidator<C extends CharSequence> extends Validator<C> {
+
+		@Nullable
+		private final LinearPattern linearPattern;
+
+		private final int maxLength;
+
+		@Nullable
+		private final String maxLengthMessage;
+
+		private final boolean notEmpty;
+
+		@Nullable
+		private final Pattern pattern;
+
+		CharSequenceValidator(@Nonnull final CharSequenceBuilder builder) {
+			super(builder.name, builder.nullable, describe(builder.notEmpty, "notEmpty", builder.maxLength, "maxLength",
+					builder.pattern != null, "matchesPattern"));
+			linearPattern = builder.pattern != null ? Matchers.linearPattern(builder.pattern) : null;
+			maxLength = builder.maxLength;
+			maxLengthMessage = maxLengthMessage(builder.name, builder.maxLength, "characters");
+			notEmpty = builder.notEmpty;
+			pattern = builder.pattern;
+		}
+
+		private boolean matches(@Nonnull final Pattern pattern, @Nonnull final CharSequence chars) {
+			return linearPattern.isSupported() ? linearPattern.matches(chars) : Matchers.matchesWithMatcher(pattern, chars);
+		}
+
+		@Override
+		public C validate(@Nullable final C value) {
+			if (value == null) {
+				return validateNull(value);
+			}
+			final int length = value.length();
+			if (notEmpty && length == 0) {
+				throw Failures.illegalEmptyArgument(name);
+			}
+			if (length > maxLength && maxLength != UNBOUNDED) {
+				throw Failures.illegalNotLesserThan(name, maxLengthMessage, Integer.valueOf(length));
+			}
+			if (pattern != null && !matches(pattern, value)) {
+				throw Failures.illegalPatternArgument(name, pattern, value);
+			}
+			return value;
+		}
+
+	}
+
+	/**
+	 * Composes a validator of collections.
+	 */
+	@NotThreadSafe
+	public static final class CollectionBuilder {
+
+		private int maxSize = UNBOUNDED;
+
+		@Nonnull
+		private final String name;
+
+		private boolean noNullElements;
+
+		private boolean notEmpty;
+
+		private boolean nullable;
+
+		private CollectionBuilder(@Nonnull final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Creates the validator. The type of the validated arguments is inferred from the target of the assignment.
+		 * 
+		 * @return an immutable validator of all checks which were added to this builder
+		 */
+		@Nonnull
+		public <C extends Collection<?>> Validator<C> build() {
+			return new CollectionValidator<C>(this);
+		}
+
+		/**
+		 * Adds a check which ensures that a collection has at most {@code maxSize} elements.
+		 * 
+		 * @param maxSize
+		 *            highest allowed number of elements
+		 * @return this builder
+		 * @throws IllegalNegativeArgumentException
+		 *             if {@code maxSize} is negative
+		 */
+		@ArgumentsChecked
+		@Throws(IllegalNegativeArgumentException.class)
+		@Nonnull
+		public CollectionBuilder maxSize(@Nonnegative final int maxSize) {
+			this.maxSize = Check.notNegative(maxSize, "maxSize");
+			return this;
+		}
+
+		/**
+		 * Adds a check which ensures that a collection does not contain {@code null} (see
+		 * {@link Check#noNullElements(Iterable, String)}).
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public CollectionBuilder noNullElements() {
+			noNullElements = true;
+			return this;
+		}
+
+		/**
+		 * Adds a check which ensures that a collection is not empty (see
+		 * {@link Check#notEmpty(Collection, String)}).
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public CollectionBuilder notEmpty() {
+			notEmpty = true;
+			return this;
+		}
+
+		/**
+		 * Accepts {@code null} as valid argument, which is not checked any further.
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public CollectionBuilder nullable() {
+			nullable = true;
+			return this;
+		}
+
+	}
+
+	/**
+	 * Validator of collections
+	 */
+	@Immutable
+	private static final class CollectionValidator<C extends Collection<?>> extends Validator<C> {
+
+		private final int maxSize;
+
+		@Nullable
+		private final String maxSizeMessage;
+
+		private final boolean noNullElements;
+
+		private final boolean notEmpty;
+
+		CollectionValidator(@Nonnull final CollectionBuilder builder) {
+			super(builder.name, builder.nullable, describe(builder.notEmpty, "notEmpty", builder.maxSize, "maxSize",
+					builder.noNullElements, "noNullElements"));
+			maxSize = builder.maxSize;
+			maxSizeMessage = maxLengthMessage(builder.name, builder.maxSize, "elements");
+			noNullElements = builder.noNullElements;
+			notEmpty = builder.notEmpty;
+		}
+
+		@Override
+		public C validate(@Nullable final C value) {
+			if (value == null) {
+				return validateNull(value);
+			}
+			final int size = value.size();
+			if (notEmpty && size == 0) {
+				throw Failures.illegalEmptyArgument(name);
+			}
+			if (size > maxSize && maxSize != UNBOUNDED) {
+				throw Failures.illegalNotLesserThan(name, maxSizeMessage, Integer.valueOf(size));
+			}
+			if (noNullElements && size > 0) {
+				final int index = Elements.indexOfNull(value);
+				if (index != Elements.NOT_FOUND) {
+					throw Failures.illegalNullElements(name, index);
+				}
+			}
+			return value;
+		}
+
+	}
+
+	/**
+	 * Composes a validator of objects of any type.
+	 */
+	@NotThreadSafe
+	public static final class ObjectBuilder {
+
+		@Nullable
+		private AllowedValues<?> allowedValues;
+
+		@Nonnull
+		private final String name;
+
+		private boolean nullable;
+
+		@Nullable
+		private Class<?> type;
+
+		private ObjectBuilder(@Nonnull final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Creates the validator. The type of the validated arguments is inferred from the target of the assignment.
+		 * 
+		 * @return an immutable validator of all checks which were added to this builder
+		 */
+		@Nonnull
+		public <T> Validator<T> build() {
+			return new ObjectValidator<T>(this);
+		}
+
+		/**
+		 * Adds a check which ensures that an object is one of the allowed values (see
+		 * {@link Check#contains(AllowedValues, Object, String)}).
+		 * 
+		 * @param allowedValues
+		 *            allowed values which must contain the objects
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if the given argument {@code allowedValues} is {@code null}
+		 */
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		@Nonnull
+		public ObjectBuilder contains(@Nonnull final AllowedValues<?> allowedValues) {
+			this.allowedValues = Check.notNull(allowedValues, "allowedValues");
+			return this;
+		}
+
+		/**
+		 * Adds a check which ensures that an object is an instance of a type (see
+		 * {@link Check#instanceOf(Class, Object, String)}).
+		 * 
+		 * @param type
+		 *            type, that the objects must be an instance of
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if the given argument {@code type} is {@code null}
+		 */
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		@Nonnull
+		public ObjectBuilder instanceOf(@Nonnull final Class<?> type) {
+			this.type = Check.notNull(type, "type");
+			return this;
+		}
+
+		/**
+		 * Accepts {@code null} as valid argument, which is not checked any further.
+		 * 
+		 * @return this builder
+		 */
+		@Nonnull
+		public ObjectBuilder nullable() {
+			nullable = true;
+			return this;
+		}
+
+	}
+
+	/**
+	 * Validator of objects of any type
+	 */
+	@Immutable
+	private static final class ObjectValidator<T> extends Validator<T> {
+
+		@Nullable
+		private final AllowedValues<?> allowedValues;
+
+		@Nullable
+		private final Class<?> type;
+
+		ObjectValidator(@Nonnull final ObjectBuilder builder) {
+			super(builder.name, builder.nullable, describe(builder.type != null, "instanceOf", UNBOUNDED, null,
+					builder.allowedValues != null, "contains"));
+			allowedValues = builder.allowedValues;
+			type = builder.type;
+		}
+
+		@Override
+		public T validate(@Nullable final T value) {
+			if (value == null) {
+				return validateNull(value);
+			}
+			if (type != null && !type.isInstance(value)) {
+				throw Failures.illegalInstanceOfArgument(name, type, value);
+			}
+			if (allowedValues != null && !allowedValues.contains(value)) {
+				throw Failures.illegalNotContainedArgument(name, value);
+			}
+			return value;
+		}
+
+	}
+
+	/**
+	 * Marker of a missing upper bound
+	 */
+	private static final int UNBOUNDED = -1;
+
+	/**
+	 * Describes the checks of a validator, which is used by {@link #toString()}.
+	 */
+	@Nonnull
+	private static String describe(final boolean first, @Nonnull final String firstName, final int bound,
+			@Nullable final String boundName, final boolean last, @Nonnull final String lastName) {
+		final List<String> checks = new ArrayList<String>();
+		if (first) {
+			checks.add(firstName);
+		}
+		if (bound != UNBOUNDED) {
+			checks.add(boundName + "=" + bound);
+		}
+		if (last) {
+			checks.add(lastName);
+		}
+		return checks.toString();
+	}
+
+	/**
+	 * Starts to compose a validator of arrays. Without further checks the validator only ensures that an array is not
+	 * {@code null}.
+	 * 
+	 * @param name
+	 *            name of the validated argument (in source code)
+	 * @return a builder of the validator
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code name} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static ArrayBuilder forArray(@Nonnull final String name) {
+		return new ArrayBuilder(Check.notNull(name, "name"));
+	}
+
+	/**
+	 * Starts to compose a validator of character sequences. Without further checks the validator only ensures that a
+	 * sequence is not {@code null}.
+	 * 
+	 * @param name
+	 *            name of the validated argument (in source code)
+	 * @return a builder of the validator
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code name} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static CharSequenceBuilder forCharSequence(@Nonnull final String name) {
+		return new CharSequenceBuilder(Check.notNull(name, "name"));
+	}
+
+	/**
+	 * Starts to compose a validator of collections. Without further checks the validator only ensures that a
+	 * collection is not {@code null}.
+	 * 
+	 * @param name
+	 *            name of the validated argument (in source code)
+	 * @return a builder of the validator
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code name} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static CollectionBuilder forCollection(@Nonnull final String name) {
+		return new CollectionBuilder(Check.notNull(name, "name"));
+	}
+
+	/**
+	 * Starts to compose a validator of objects of any type. Without further checks the validator only ensures that an
+	 * object is not {@code null}.
+	 * 
+	 * @param name
+	 *            name of the validated argument (in source code)
+	 * @return a builder of the validator
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code name} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static ObjectBuilder forObject(@Nonnull final String name) {
+		return new ObjectBuilder(Check.notNull(name, "name"));
+	}
+
+	/**
+	 * Renders the message of a failed upper bound once when a validator is built.
+	 * 
+	 * @return the message or {@code null} if there is no bound
+	 */
+	@Nullable
+	private static String maxLengthMessage(@Nonnull final String name, final int bound, @Nonnull final String unit) {
+		return bound == UNBOUNDED ? null : "The passed argument '" + name + "' must not have more than " + bound + " " + unit + ".";
+	}
+
+	/**
+	 * Description of the checks for {@link #toString()}
+	 */
+	@Nonnull
+	private final String checks;
+
+	/**
+	 * Name of the validated argument
+	 */
+	@Nonnull
+	final String name;
+
+	/**
+	 * Indicates whether {@code null} is accepted
+	 */
+	private final boolean nullable;
+
+	private Validator(@Nonnull final String name, final boolean nullable, @Nonnull final String checks) {
+		this.name = name;
+		this.nullable = nullable;
+		this.checks = checks;
+	}
+
+	/**
+	 * Returns the name of the validated argument, which is used in the exception messages.
+	 * 
+	 * @return the name of the argument
+	 */
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String toString() {
+		return "Validator [name=" + name + ", nullable=" + nullable + ", checks=" + checks + "]";
+	}
+
+	/**
+	 * Performs all checks of this validator on the passed argument.
+	 * 
+	 * @param value
+	 *            the argument to validate
+	 * @return the passed argument
+	 * @throws IllegalNullArgumentException
+	 *             if the argument is {@code null} and the validator is not nullable
+	 * @throws IllegalEmptyArgumentException
+	 *             if the argument is empty, but must not be
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument has more elements or characters than allowed
+	 * @throws IllegalNullElementsException
+	 *             if the argument contains {@code null}, but must not
+	 * @throws IllegalPatternArgumentException
+	 *             if the argument does not match the pattern
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the argument is not an instance of the required type
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the argument is not one of the allowed values
+	 */
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class, IllegalNotLesserThanException.class,
+			IllegalNullElementsException.class, IllegalPatternArgumentException.class, IllegalInstanceOfArgumentException.class,
+			IllegalNotContainedArgumentException.class })
+	public abstract T validate(@Nullable final T value);
+
+	/**
+	 * Handles an argument which is {@code null}.
+	 * 
+	 * @return {@code null} if this validator is nullable
+	 * @throws IllegalNullArgumentException
+	 *             if this validator is not nullable
+	 */
+	@Nullable
+	final T validateNull(@Nullable final T value) {
+		if (!nullable) {
+			throw Failures.illegalNullArgument(name);
+		}
+		return value;
+	}
+
+}
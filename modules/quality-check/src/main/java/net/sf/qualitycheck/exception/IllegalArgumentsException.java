@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Thrown to indicate that a method has been passed with arguments which failed one or more checks of a
+ * {@link net.sf.qualitycheck.Validation}. All failures are available via {@link #getFailures()}, the first one is the
+ * cause of this exception.
+ * 
+ * @author André Rouél
+ */
+public class IllegalArgumentsException extends QualityCheckException {
+
+	private static final long serialVersionUID = 4601830178342530431L;
+
+	/**
+	 * Default message to indicate that the passed arguments are invalid
+	 */
+	protected static final String DEFAULT_MESSAGE = "The passed arguments are invalid.";
+
+	/**
+	 * Message to indicate that the passed arguments failed some checks (with the number of failed and performed checks
+	 * and the failures)
+	 */
+	protected static final String MESSAGE_WITH_FAILURES = "The passed arguments have failed %d of %d checks: %s";
+
+	/**
+	 * Returns the first failure or {@code null} if there is none.
+	 * 
+	 * @param failures
+	 *            failures of the performed checks
+	 * @return the first failure or {@code null}
+	 */
+	@Nullable
+	private static RuntimeException firstFailure(@Nonnull final List<? extends RuntimeException> failures) {
+		return failures.isEmpty() ? null : failures.get(0);
+	}
+
+	/**
+	 * Failures of the performed checks
+	 */
+	@Nonnull
+	private final List<RuntimeException> failures;
+
+	/**
+	 * Constructs an {@code IllegalArgumentsException} with the default message
+	 * {@link IllegalArgumentsException#DEFAULT_MESSAGE}.
+	 */
+	public IllegalArgumentsException() {
+		super(DEFAULT_MESSAGE);
+		failures = Collections.emptyList();
+	}
+
+	/**
+	 * Constructs an {@code IllegalArgumentsException} with the message
+	 * {@link IllegalArgumentsException#MESSAGE_WITH_FAILURES} including the number of performed checks and the given
+	 * failures. The first failure becomes the cause of this exception.
+	 * 
+	 * @param checks
+	 *            number of performed checks
+	 * @param failures
+	 *            failures of the performed checks
+	 */
+	public IllegalArgumentsException(@Nonnegative final int checks, @Nonnull final List<? extends RuntimeException> failures) {
+		this(Collections.unmodifiableList(new ArrayList<RuntimeException>(failures)), checks);
+	}
+
+	/**
+	 * Constructs an {@code IllegalArgumentsException} with an already copied list of failures.
+	 * 
+	 * @param failures
+	 *            unmodifiable copy of the failures of the performed checks
+	 * @param checks
+	 *            number of performed checks
+	 */
+	private IllegalArgumentsException(@Nonnull final List<RuntimeException> failures, @Nonnegative final int checks) {
+		super(firstFailure(failures), MESSAGE_WITH_FAILURES, failures.size(), checks, failures);
+		this.failures = failures;
+	}
+
+	/**
+	 * Constructs a new exception with the default message {@link IllegalArgumentsException#DEFAULT_MESSAGE}.
+	 * 
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 */
+	public IllegalArgumentsException(@Nullable final Throwable cause) {
+		super(cause, DEFAULT_MESSAGE);
+		failures = Collections.emptyList();
+	}
+
+	/**
+	 * Returns the failures of the performed checks in the order of the checks.
+	 * 
+	 * @return an unmodifiable list of failures
+	 */
+	@Nonnull
+	public List<RuntimeException> getFailures() {
+		return failures;
+	}
+
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import javax.annotation.Nullable;
+
+/**
+ * Thrown to indicate that a method has been passed with an argument that was not ASCII. ASCII arguments consist only of
+ * characters of the 7 bit ASCII character set.
+ * 
+ * @see IllegalNumericArgumentException
+ * 
+ * @author André Rouél
+ * @author Dominik Seichter
+ */
+public class IllegalAsciiArgumentException extends QualityCheckException implements IllegalArgumentHolder<CharSequence> {
+
+	private static final long serialVersionUID = -1917387021196612659L;
+
+	/**
+	 * Default message to indicate that the a given argument must contain only ASCII characters.
+	 */
+	protected static final String DEFAULT_MESSAGE = "The passed argument must contain only ASCII characters.";
+
+	/**
+	 * Message to indicate that the the given argument with <em>name</em> must contain only ASCII characters.
+	 */
+	protected static final String MESSAGE_WITH_NAME = "The passed argument '%s' must contain only ASCII characters.";
+
+	/**
+	 * Determines the message template to be used, depending on the passed argument name. If the given argument name is
+	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise {@code MESSAGE_WITH_NAME}.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise
+	 *         {@code MESSAGE_WITH_NAME}
+	 */
+	private static String determineTemplate(@Nullable final String argumentName) {
+		return argumentName != null && !argumentName.isEmpty() ? MESSAGE_WITH_NAME : DEFAULT_MESSAGE;
+	}
+
+	/**
+	 * The illegal value which caused this exception to be thrown.
+	 */
+	private final CharSequence illegalArgumentValue;
+
+	/**
+	 * Constructs an {@code IllegalNullArgumentException} with the default message
+	 * {@link IllegalAsciiArgumentException#DEFAULT_MESSAGE}.
+	 * 
+	 * @param illegalArgumentValue
+	 *            The illegal value which caused this exception to be thrown.
+	 */
+	public IllegalAsciiArgumentException(@Nullable final CharSequence illegalArgumentValue) {
+		super(DEFAULT_MESSAGE);
+		this.illegalArgumentValue = illegalArgumentValue;
+	}
+
+	/**
+	 * Constructs a new exception with the default message
+	 * {@link IllegalAsciiArgumentException#DEFAULT_MESSAGE}.
+	 * 
+	 * @param illegalArgumentValue
+	 *            The illegal value which caused this exception to be thrown.
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 */
+	public IllegalAsciiArgumentException(@Nullable final CharSequence illegalArgumentValue, @Nullable final Throwable cause) {
+		super(cause, DEFAULT_MESSAGE);
+		this.illegalArgumentValue = illegalArgumentValue;
+	}
+
+	/**
+	 * Constructs an {@code IllegalNullArgumentException} with the message
+	 * {@link IllegalAsciiArgumentException#MESSAGE_WITH_NAME} including the given name of the argument as string
+	 * representation.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param illegalArgumentValue
+	 *            The illegal value which caused this exception to be thrown.
+	 */
+	public IllegalAsciiArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue) {
+		super(determineTemplate(argumentName), argumentName);
+		this.illegalArgumentValue = illegalArgumentValue;
+	}
+
+	/**
+	 * Constructs a new exception with the message {@link IllegalAsciiArgumentException#MESSAGE_WITH_NAME} including
+	 * the given name as string representation and cause.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param illegalArgumentValue
+	 *            The illegal value which caused this exception to be thrown.
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 */
+	public IllegalAsciiArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue,
+			@Nullable final Throwable cause) {
+		super(cause, determineTemplate(argumentName), argumentName);
+		this.illegalArgumentValue = illegalArgumentValue;
+	}
+
+	@Override
+	public CharSequence getIllegalArgument() {
+		return illegalArgumentValue;
+	}
+
+}
@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalEmptyArgumentException extends RuntimeException {
+public class IllegalEmptyArgumentException extends QualityCheckException {
 
 	private static final long serialVersionUID = -6988558700678645359L;
 
@@ -39,29 +39,16 @@ public class IllegalEmptyArgumentException extends RuntimeException {
 	protected static final String MESSAGE_WITH_NAME = "The passed argument '%s' must not be empty.";
 
 	/**
-	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
-	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
-	 * with the passed name.
+	 * Determines the message template to be used, depending on the passed argument name. If the given argument name is
+	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise {@code MESSAGE_WITH_NAME}.
 	 * 
 	 * @param argumentName
 	 *            the name of the passed argument
-	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise a formatted
+	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise
 	 *         {@code MESSAGE_WITH_NAME}
 	 */
-	private static String determineMessage(@Nullable final String argumentName) {
-		return argumentName != null && !argumentName.isEmpty() ? format(argumentName) : DEFAULT_MESSAGE;
-	}
-
-	/**
-	 * Returns the formatted string {@link IllegalEmptyArgumentException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName}.
-	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @return a formatted string of message with the given argument name
-	 */
-	private static String format(@Nullable final String argumentName) {
-		return String.format(MESSAGE_WITH_NAME, argumentName);
+	private static String determineTemplate(@Nullable final String argumentName) {
+		return argumentName != null && !argumentName.isEmpty() ? MESSAGE_WITH_NAME : DEFAULT_MESSAGE;
 	}
 
 	/**
@@ -81,7 +68,7 @@ public class IllegalEmptyArgumentException extends RuntimeException {
 	 *            the name of the passed argument
 	 */
 	public IllegalEmptyArgumentException(@Nullable final String argumentName) {
-		super(determineMessage(argumentName));
+		super(determineTemplate(argumentName), argumentName);
 	}
 
 	/**
@@ -95,7 +82,7 @@ public class IllegalEmptyArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalEmptyArgumentException(@Nullable final String argumentName, @Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
+		super(cause, determineTemplate(argumentName), argumentName);
 	}
 
 	/**
@@ -106,7 +93,7 @@ public class IllegalEmptyArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalEmptyArgumentException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 	}
 
 }
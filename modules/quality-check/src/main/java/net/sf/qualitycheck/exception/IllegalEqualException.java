@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalEqualException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalEqualException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 49779498587504287L;
 
@@ -60,7 +60,7 @@ public class IllegalEqualException extends RuntimeException implements IllegalAr
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalEqualException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -89,7 +89,7 @@ public class IllegalEqualException extends RuntimeException implements IllegalAr
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalEqualException(@Nonnull final String message, @Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
-		super(message, cause);
+		super(cause, message);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalInstanceOfArgumentException extends RuntimeException {
+public class IllegalInstanceOfArgumentException extends QualityCheckException {
 
 	private static final long serialVersionUID = -1886931952915327794L;
 
@@ -50,9 +50,7 @@ public class IllegalInstanceOfArgumentException extends RuntimeException {
 	protected static final String NO_TYPE_PLACEHOLDER = "(not set)";
 
 	/**
-	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
-	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
-	 * with the passed name.
+	 * Determines the arguments of the message template, depending on the passed argument name.
 	 * 
 	 * @param argumentName
 	 *            the name of the passed argument
@@ -60,47 +58,41 @@ public class IllegalInstanceOfArgumentException extends RuntimeException {
 	 *            the expected class of the given argument
 	 * @param actualType
 	 *            the actual class of the given argument
-	 * @return {@code MESSAGE_WITH_TYPES} if the given argument name is {@code null} or empty, otherwise a formatted
-	 *         {@code MESSAGE_WITH_NAME}
+	 * @return the name and the types if the given argument name is neither {@code null} nor empty, otherwise only the
+	 *         types
 	 */
-	private static String determineMessage(@Nullable final String argumentName, @Nullable final Class<?> expectedType,
+	private static Object[] determineArguments(@Nullable final String argumentName, @Nullable final Class<?> expectedType,
 			@Nullable final Class<?> actualType) {
-		return argumentName != null && !argumentName.isEmpty() ? format(argumentName, expectedType, actualType) : format(expectedType,
-				actualType);
+		return hasName(argumentName) ? new Object[] { argumentName, typeName(expectedType), typeName(actualType) } : new Object[] {
+				typeName(expectedType), typeName(actualType) };
 	}
 
 	/**
-	 * Returns the formatted string {@link IllegalInstanceOfArgumentException#MESSAGE_WITH_TYPES} with the given types.
+	 * Determines the message template to be used, depending on the passed argument name.
 	 * 
-	 * @param expectedType
-	 *            the expected class of the given argument
-	 * @param actualType
-	 *            the actual class of the given argument
-	 * @return a formatted string of message with the given argument name
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @return {@code MESSAGE_WITH_TYPES} if the given argument name is {@code null} or empty, otherwise
+	 *         {@code MESSAGE_WITH_NAME_AND_TYPES}
 	 */
-	private static String format(@Nullable final Class<?> expectedType, @Nullable final Class<?> actualType) {
-		final String expected = expectedType != null ? expectedType.getName() : NO_TYPE_PLACEHOLDER;
-		final String actual = actualType != null ? actualType.getName() : NO_TYPE_PLACEHOLDER;
-		return String.format(MESSAGE_WITH_TYPES, expected, actual);
+	private static String determineTemplate(@Nullable final String argumentName) {
+		return hasName(argumentName) ? MESSAGE_WITH_NAME_AND_TYPES : MESSAGE_WITH_TYPES;
+	}
+
+	private static boolean hasName(@Nullable final String argumentName) {
+		return argumentName != null && !argumentName.isEmpty();
 	}
 
 	/**
-	 * Returns the formatted string {@link IllegalInstanceOfArgumentException#MESSAGE_WITH_NAME_AND_TYPES} with the
-	 * given {@code argumentName}.
+	 * Returns the name of the given type or {@link IllegalInstanceOfArgumentException#NO_TYPE_PLACEHOLDER} if it is not
+	 * set.
 	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @param expectedType
-	 *            the expected class of the given argument
-	 * @param actualType
-	 *            the actual class of the given argument
-	 * @return a formatted string of message with the given argument name
+	 * @param type
+	 *            a class or {@code null}
+	 * @return the name of the type or a placeholder
 	 */
-	private static String format(@Nullable final String argumentName, @Nullable final Class<?> expectedType,
-			@Nullable final Class<?> actualType) {
-		final String expected = expectedType != null ? expectedType.getName() : NO_TYPE_PLACEHOLDER;
-		final String actual = actualType != null ? actualType.getName() : NO_TYPE_PLACEHOLDER;
-		return String.format(MESSAGE_WITH_NAME_AND_TYPES, argumentName, expected, actual);
+	private static String typeName(@Nullable final Class<?> type) {
+		return type != null ? type.getName() : NO_TYPE_PLACEHOLDER;
 	}
 
 	/**
@@ -125,7 +117,7 @@ public class IllegalInstanceOfArgumentException extends RuntimeException {
 	 */
 	public IllegalInstanceOfArgumentException(@Nullable final String argumentName, @Nullable final Class<?> expectedType,
 			@Nullable final Class<?> actualType) {
-		super(determineMessage(argumentName, expectedType, actualType));
+		super(determineTemplate(argumentName), determineArguments(argumentName, expectedType, actualType));
 	}
 
 	/**
@@ -136,7 +128,7 @@ public class IllegalInstanceOfArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalInstanceOfArgumentException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 	}
 
 }
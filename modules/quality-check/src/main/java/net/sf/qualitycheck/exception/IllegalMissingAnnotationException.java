@@ -29,7 +29,7 @@ import net.sf.qualitycheck.Throws;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalMissingAnnotationException extends RuntimeException {
+public class IllegalMissingAnnotationException extends QualityCheckException {
 
 	private static final long serialVersionUID = -8428891146741574807L;
 
@@ -61,44 +61,48 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	private final Class<?> clazz;
 
 	/**
-	 * Returns the formatted string {@link IllegalMissingAnnotationException#MESSAGE_WITH_ANNOTATION} with the given
-	 * {@code annotation}.
+	 * Returns the name of the given {@code annotation}.
 	 * 
 	 * @param annotation
-	 *            the name of the required annotation
-	 * @return a formatted string of message with the given argument name
+	 *            the required annotation
+	 * @return the name of the annotation
 	 */
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
-	private static String format(@Nonnull final Class<? extends Annotation> annotation) {
+	private static String annotationName(@Nonnull final Class<? extends Annotation> annotation) {
 		if (annotation == null) {
 			throw new IllegalNullArgumentException("annotation");
 		}
-		return String.format(MESSAGE_WITH_ANNOTATION, annotation.getName());
+		return annotation.getName();
 	}
 
 	/**
-	 * Returns the formatted string {@link IllegalMissingAnnotationException#MESSAGE_WITH_ANNOTATION_AND_CLASS} with the
-	 * given {@code annotation} and {@code clazz}.
+	 * Determines the arguments of the message template, depending on the passed class.
 	 * 
 	 * @param annotation
 	 *            the required annotation
 	 * @param clazz
-	 *            the name of the class which does not have the required annotation
-	 * @return a formatted string of message with the given argument name
+	 *            the class which does not have the required annotation
+	 * @return the names of the class and the annotation if the class is not {@code null}, otherwise only the name of the
+	 *         annotation
 	 */
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
-	private static String format(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Class<?> clazz) {
-		if (annotation == null) {
-			throw new IllegalNullArgumentException("annotation");
-		}
+	private static Object[] determineArguments(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Class<?> clazz) {
+		final String annotationName = annotationName(annotation);
+		return clazz != null ? new Object[] { clazz.getName(), annotationName } : new Object[] { annotationName };
+	}
 
-		if (clazz != null) {
-			return String.format(MESSAGE_WITH_ANNOTATION_AND_CLASS, clazz.getName(), annotation.getName());
-		} else {
-			return format(annotation);
-		}
+	/**
+	 * Determines the message template to be used, depending on the passed class.
+	 * 
+	 * @param clazz
+	 *            the class which does not have the required annotation
+	 * @return {@code MESSAGE_WITH_ANNOTATION} if the given class is {@code null}, otherwise
+	 *         {@code MESSAGE_WITH_ANNOTATION_AND_CLASS}
+	 */
+	private static String determineTemplate(@Nullable final Class<?> clazz) {
+		return clazz != null ? MESSAGE_WITH_ANNOTATION_AND_CLASS : MESSAGE_WITH_ANNOTATION;
 	}
 
 	/**
@@ -119,7 +123,7 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 *            the required annotation
 	 */
 	public IllegalMissingAnnotationException(@Nonnull final Class<? extends Annotation> annotation) {
-		super(format(annotation));
+		super(MESSAGE_WITH_ANNOTATION, annotationName(annotation));
 		this.annotation = annotation;
 		this.clazz = null;
 	}
@@ -135,7 +139,7 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalMissingAnnotationException(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Throwable cause) {
-		super(format(annotation), cause);
+		super(cause, MESSAGE_WITH_ANNOTATION, annotationName(annotation));
 		this.annotation = annotation;
 		this.clazz = null;
 	}
@@ -150,7 +154,7 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 *            the name of the class which does not have the required annotation
 	 */
 	public IllegalMissingAnnotationException(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Class<?> clazz) {
-		super(format(annotation, clazz));
+		super(determineTemplate(clazz), determineArguments(annotation, clazz));
 		this.annotation = annotation;
 		this.clazz = clazz;
 	}
@@ -169,7 +173,7 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 */
 	public IllegalMissingAnnotationException(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Class<?> clazz,
 			@Nullable final Throwable cause) {
-		super(format(annotation, clazz), cause);
+		super(cause, determineTemplate(clazz), determineArguments(annotation, clazz));
 		this.annotation = annotation;
 		this.clazz = clazz;
 	}
@@ -182,7 +186,7 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalMissingAnnotationException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 		this.annotation = null;
 		this.clazz = null;
 	}
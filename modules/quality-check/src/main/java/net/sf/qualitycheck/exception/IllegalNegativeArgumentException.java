@@ -25,7 +25,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNegativeArgumentException extends RuntimeException implements IllegalArgumentHolder<Number> {
+public class IllegalNegativeArgumentException extends QualityCheckException implements IllegalArgumentHolder<Number> {
 
 	private static final long serialVersionUID = -6988558700678645359L;
 
@@ -40,29 +40,16 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	protected static final String MESSAGE_WITH_NAME = "The passed argument '%s' must be greater than 0.";
 
 	/**
-	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
-	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
-	 * with the passed name.
+	 * Determines the message template to be used, depending on the passed argument name. If the given argument name is
+	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise {@code MESSAGE_WITH_NAME}.
 	 * 
 	 * @param argumentName
 	 *            the name of the passed argument
-	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise a formatted
+	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise
 	 *         {@code MESSAGE_WITH_NAME}
 	 */
-	private static String determineMessage(@Nullable final String argumentName) {
-		return argumentName != null && !argumentName.isEmpty() ? format(argumentName) : DEFAULT_MESSAGE;
-	}
-
-	/**
-	 * Returns the formatted string {@link IllegalNegativeArgumentException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName}.
-	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @return a formatted string of message with the given argument name
-	 */
-	private static String format(@Nullable final String argumentName) {
-		return String.format(MESSAGE_WITH_NAME, argumentName);
+	private static String determineTemplate(@Nullable final String argumentName) {
+		return argumentName != null && !argumentName.isEmpty() ? MESSAGE_WITH_NAME : DEFAULT_MESSAGE;
 	}
 
 	/**
@@ -92,7 +79,7 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNegativeArgumentException(@Nullable final Number illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -107,7 +94,7 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalNegativeArgumentException(@Nullable final String argumentName, @Nullable final Number illegalArgumentValue) {
-		super(determineMessage(argumentName));
+		super(determineTemplate(argumentName), argumentName);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -125,7 +112,7 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	 */
 	public IllegalNegativeArgumentException(@Nullable final String argumentName, @Nullable final Number illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
+		super(cause, determineTemplate(argumentName), argumentName);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNotContainedArgumentException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotContainedArgumentException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 8389358566804494876L;
 
@@ -37,18 +37,6 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	 */
 	protected static final String MESSAGE_WITH_NAME = "The passed argument '%s' must be contained in a defined collection.";
 
-	/**
-	 * Returns the formatted string {@link IllegalNotContainedArgumentException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName}.
-	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @return a formatted string of message with the given argument name
-	 */
-	private static String format(@Nullable final String argumentName) {
-		return String.format(MESSAGE_WITH_NAME, argumentName);
-	}
-
 	/**
 	 * The illegal value which was not contained in a collection and by that caused this exception to be thrown.
 	 */
@@ -78,7 +66,7 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNotContainedArgumentException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -94,7 +82,7 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	 *            thrown.
 	 */
 	public IllegalNotContainedArgumentException(@Nullable final String argumentName, @Nullable final Object illegalArgumentValue) {
-		super(format(argumentName));
+		super(MESSAGE_WITH_NAME, argumentName);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -113,7 +101,7 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	 */
 	public IllegalNotContainedArgumentException(@Nullable final String argumentName, @Nullable final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(format(argumentName), cause);
+		super(cause, MESSAGE_WITH_NAME, argumentName);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNotEqualException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotEqualException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 49779498587504287L;
 
@@ -60,7 +60,7 @@ public class IllegalNotEqualException extends RuntimeException implements Illega
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNotEqualException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -90,7 +90,7 @@ public class IllegalNotEqualException extends RuntimeException implements Illega
 	 */
 	public IllegalNotEqualException(@Nonnull final String message, @Nullable final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(message, cause);
+		super(cause, message);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -25,7 +25,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNotGreaterOrEqualThanException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotGreaterOrEqualThanException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 581207857845351903L;
 
@@ -62,7 +62,7 @@ public class IllegalNotGreaterOrEqualThanException extends RuntimeException impl
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNotGreaterOrEqualThanException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -93,7 +93,7 @@ public class IllegalNotGreaterOrEqualThanException extends RuntimeException impl
 	 */
 	public IllegalNotGreaterOrEqualThanException(@Nonnull final String message, @Nullable final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(message, cause);
+		super(cause, message);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -25,7 +25,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNotGreaterThanException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotGreaterThanException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 49779498587504287L;
 
@@ -34,6 +34,11 @@ public class IllegalNotGreaterThanException extends RuntimeException implements
 	 */
 	protected static final String DEFAULT_MESSAGE = "Argument must be greater than a defined value.";
 
+	/**
+	 * Message to indicate that an element of an array or buffer must be greater than the expected value.
+	 */
+	protected static final String MESSAGE_WITH_ELEMENT = "The passed argument '%s[%s]' must be greater than %s.";
+
 	/**
 	 * The illegal value which caused this exception to be thrown.
 	 */
@@ -61,7 +66,27 @@ public class IllegalNotGreaterThanException extends RuntimeException implements
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNotGreaterThanException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
+		this.illegalArgumentValue = illegalArgumentValue;
+	}
+
+	/**
+	 * Constructs an {@code IllegalNotGreaterThanException} for an element of an array or buffer which is not greater than
+	 * the expected value. The message is rendered from {@link IllegalNotGreaterThanException#MESSAGE_WITH_ELEMENT} on
+	 * demand.
+	 * 
+	 * @param argumentName
+	 *            the name of the array or buffer
+	 * @param index
+	 *            the index of the illegal element
+	 * @param expected
+	 *            the value which the element must be greater than
+	 * @param illegalArgumentValue
+	 *            The illegal value which caused this exception to be thrown.
+	 */
+	public IllegalNotGreaterThanException(@Nonnull final String argumentName, final int index, @Nonnull final Number expected,
+			@Nullable final Object illegalArgumentValue) {
+		super(MESSAGE_WITH_ELEMENT, argumentName, Integer.valueOf(index), expected);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -92,7 +117,7 @@ public class IllegalNotGreaterThanException extends RuntimeException implements
 	 */
 	public IllegalNotGreaterThanException(@Nonnull final String message, @Nullable final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(message, cause);
+		super(cause, message);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
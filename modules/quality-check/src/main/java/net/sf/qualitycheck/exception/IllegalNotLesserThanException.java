@@ -25,7 +25,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNotLesserThanException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotLesserThanException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 49779498587504287L;
 
@@ -34,6 +34,11 @@ public class IllegalNotLesserThanException extends RuntimeException implements I
 	 */
 	protected static final String DEFAULT_MESSAGE = "Argument must be lesser than a defined value.";
 
+	/**
+	 * Message to indicate that an element of an array or buffer must be lesser than the expected value.
+	 */
+	protected static final String MESSAGE_WITH_ELEMENT = "The passed argument '%s[%s]' must be lesser than %s.";
+
 	/**
 	 * The illegal value which caused this exception to be thrown.
 	 */
@@ -61,7 +66,27 @@ public class IllegalNotLesserThanException extends RuntimeException implements I
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNotLesserThanException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
+		this.illegalArgumentValue = illegalArgumentValue;
+	}
+
+	/**
+	 * Constructs an {@code IllegalNotLesserThanException} for an element of an array or buffer which is not lesser than
+	 * the expected value. The message is rendered from {@link IllegalNotLesserThanException#MESSAGE_WITH_ELEMENT} on
+	 * demand.
+	 * 
+	 * @param argumentName
+	 *            the name of the array or buffer
+	 * @param index
+	 *            the index of the illegal element
+	 * @param expected
+	 *            the value which the element must be lesser than
+	 * @param illegalArgumentValue
+	 *            The illegal value which caused this exception to be thrown.
+	 */
+	public IllegalNotLesserThanException(@Nonnull final String argumentName, final int index, @Nonnull final Number expected,
+			@Nullable final Object illegalArgumentValue) {
+		super(MESSAGE_WITH_ELEMENT, argumentName, Integer.valueOf(index), expected);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -91,7 +116,7 @@ public class IllegalNotLesserThanException extends RuntimeException implements I
 	 */
 	public IllegalNotLesserThanException(@Nonnull final String message, @Nullable final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(message, cause);
+		super(cause, message);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -26,7 +26,7 @@ import net.sf.qualitycheck.Check;
  * 
  * @author Dominik Seichter
  */
-public class IllegalNotNullArgumentException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotNullArgumentException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = -6988558700678645359L;
 
@@ -40,18 +40,6 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	 */
 	protected static final String MESSAGE_WITH_NAME = "Argument '%s' must be null.";
 
-	/**
-	 * Returns the formatted string {@link IllegalNotNullArgumentException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName}.
-	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @return a formatted string of message with the given argument name
-	 */
-	private static String format(@Nullable final String argumentName) {
-		return String.format(MESSAGE_WITH_NAME, argumentName);
-	}
-
 	/**
 	 * The illegal value which caused this exception to be thrown.
 	 */
@@ -80,7 +68,7 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNotNullArgumentException(@Nonnull final Object illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 		this.illegalArgumentValue = Check.notNull(illegalArgumentValue, "illegalArgumentValue");
 	}
 
@@ -96,7 +84,7 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalNotNullArgumentException(@Nullable final String argumentName, @Nonnull final Object illegalArgumentValue) {
-		super(format(argumentName));
+		super(MESSAGE_WITH_NAME, argumentName);
 		this.illegalArgumentValue = Check.notNull(illegalArgumentValue, "illegalArgumentValue");
 	}
 
@@ -115,7 +103,7 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	 */
 	public IllegalNotNullArgumentException(@Nullable final String argumentName, @Nonnull final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(format(argumentName), cause);
+		super(cause, MESSAGE_WITH_NAME, argumentName);
 		this.illegalArgumentValue = Check.notNull(illegalArgumentValue, "illegalArgumentValue");
 	}
 
@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNullArgumentException extends RuntimeException {
+public class IllegalNullArgumentException extends QualityCheckException {
 
 	private static final long serialVersionUID = -6988558700678645359L;
 
@@ -38,18 +38,6 @@ public class IllegalNullArgumentException extends RuntimeException {
 	 */
 	protected static final String MESSAGE_WITH_NAME = "Argument '%s' must not be null.";
 
-	/**
-	 * Returns the formatted string {@link IllegalNullArgumentException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName}.
-	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @return a formatted string of message with the given argument name
-	 */
-	private static String format(@Nullable final String argumentName) {
-		return String.format(MESSAGE_WITH_NAME, argumentName);
-	}
-
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalNullArgumentException#DEFAULT_MESSAGE}.
@@ -67,7 +55,7 @@ public class IllegalNullArgumentException extends RuntimeException {
 	 *            the name of the passed argument
 	 */
 	public IllegalNullArgumentException(@Nullable final String argumentName) {
-		super(format(argumentName));
+		super(MESSAGE_WITH_NAME, argumentName);
 	}
 
 	/**
@@ -81,7 +69,7 @@ public class IllegalNullArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNullArgumentException(@Nullable final String argumentName, @Nullable final Throwable cause) {
-		super(format(argumentName), cause);
+		super(cause, MESSAGE_WITH_NAME, argumentName);
 	}
 
 	/**
@@ -92,7 +80,7 @@ public class IllegalNullArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNullArgumentException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 	}
 
 }
@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNullElementsException extends RuntimeException {
+public class IllegalNullElementsException extends QualityCheckException {
 
 	private static final long serialVersionUID = -1957077437070375885L;
 
@@ -39,30 +39,43 @@ public class IllegalNullElementsException extends RuntimeException {
 	protected static final String MESSAGE_WITH_NAME = "The passed argument '%s' must not contain elements that are null.";
 
 	/**
-	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
-	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
-	 * with the passed name.
+	 * Message to indicate that the the given array or {@code Iterable} argument must not contain {@code null}, including
+	 * the index of the first element that is {@code null}.
+	 */
+	protected static final String MESSAGE_WITH_INDEX = "The passed argument must not contain elements that are null, but the element at index %d is null.";
+
+	/**
+	 * Message to indicate that the the given array or {@code Iterable} argument with <em>name</em> must not contain
+	 * {@code null}, including the index of the first element that is {@code null}.
+	 */
+	protected static final String MESSAGE_WITH_NAME_AND_INDEX = "The passed argument '%s' must not contain elements that are null, but the element at index %d is null.";
+
+	/**
+	 * Value of {@link #getIndex()} if the index of the element that is {@code null} is unknown
+	 */
+	public static final long UNKNOWN_INDEX = -1L;
+
+	/**
+	 * Determines the message template to be used, depending on the passed argument name. If the given argument name is
+	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise {@code MESSAGE_WITH_NAME}.
 	 * 
 	 * @param argumentName
 	 *            the name of the passed argument
-	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise a formatted
+	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise
 	 *         {@code MESSAGE_WITH_NAME}
 	 */
-	private static String determineMessage(@Nullable final String argumentName) {
-		return argumentName != null && !argumentName.isEmpty() ? format(argumentName) : DEFAULT_MESSAGE;
+	private static String determineTemplate(@Nullable final String argumentName) {
+		return hasName(argumentName) ? MESSAGE_WITH_NAME : DEFAULT_MESSAGE;
+	}
+
+	private static boolean hasName(@Nullable final String argumentName) {
+		return argumentName != null && !argumentName.isEmpty();
 	}
 
 	/**
-	 * Returns the formatted string {@link IllegalEmptyArgumentException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName}.
-	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @return a formatted string of message with the given argument name
+	 * Index of the first element that is {@code null} or {@link #UNKNOWN_INDEX}
 	 */
-	private static String format(@Nullable final String argumentName) {
-		return String.format(MESSAGE_WITH_NAME, argumentName);
-	}
+	private final long index;
 
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
@@ -70,6 +83,7 @@ public class IllegalNullElementsException extends RuntimeException {
 	 */
 	public IllegalNullElementsException() {
 		super(DEFAULT_MESSAGE);
+		index = UNKNOWN_INDEX;
 	}
 
 	/**
@@ -81,7 +95,24 @@ public class IllegalNullElementsException extends RuntimeException {
 	 *            the name of the passed argument
 	 */
 	public IllegalNullElementsException(@Nullable final String argumentName) {
-		super(determineMessage(argumentName));
+		super(determineTemplate(argumentName), argumentName);
+		index = UNKNOWN_INDEX;
+	}
+
+	/**
+	 * Constructs an {@code IllegalNullElementsException} with the message
+	 * {@link IllegalNullElementsException#MESSAGE_WITH_NAME_AND_INDEX} including the given name of the argument and the
+	 * index of the first element that is {@code null}.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param index
+	 *            index of the first element that is {@code null} (for an {@code Iterable} in the order of iteration)
+	 */
+	public IllegalNullElementsException(@Nullable final String argumentName, final long index) {
+		super(hasName(argumentName) ? MESSAGE_WITH_NAME_AND_INDEX : MESSAGE_WITH_INDEX,
+				hasName(argumentName) ? new Object[] { argumentName, index } : new Object[] { index });
+		this.index = index;
 	}
 
 	/**
@@ -95,7 +126,8 @@ public class IllegalNullElementsException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNullElementsException(@Nullable final String argumentName, @Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
+		super(cause, determineTemplate(argumentName), argumentName);
+		index = UNKNOWN_INDEX;
 	}
 
 	/**
@@ -106,7 +138,17 @@ public class IllegalNullElementsException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNullElementsException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
+		index = UNKNOWN_INDEX;
+	}
+
+	/**
+	 * Returns the index of the first element that is {@code null}.
+	 * 
+	 * @return the index of the element or {@link #UNKNOWN_INDEX} if the index was not passed to the constructor
+	 */
+	public long getIndex() {
+		return index;
 	}
 
 }
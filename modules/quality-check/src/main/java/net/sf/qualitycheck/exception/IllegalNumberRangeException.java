@@ -26,7 +26,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNumberRangeException extends RuntimeException {
+public class IllegalNumberRangeException extends QualityCheckException {
 
 	private static final long serialVersionUID = 8948110906636813037L;
 
@@ -41,8 +41,44 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 */
 	protected static final String MESSAGE_WITH_VALUES = "Argument value '%s' must be in the range '%s' to '%s'.";
 
-	private static String format(final String value, final BigDecimal min, final BigDecimal max) {
-		return String.format(MESSAGE_WITH_VALUES, value, min.toString(), max.toString());
+	/**
+	 * Message to indicate that the given argument with <em>name</em> must be in the passed range.
+	 */
+	protected static final String MESSAGE_WITH_NAME_AND_VALUES = "Argument '%s' with value '%s' must be in the range '%s' to '%s'.";
+
+	/**
+	 * Determines the arguments of the message template, depending on the passed argument name.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param value
+	 *            the value which is not in the range as {@code String}
+	 * @param min
+	 *            the min value of the range
+	 * @param max
+	 *            the max value of the range
+	 * @return the name followed by the values if the given argument name is neither {@code null} nor empty, otherwise
+	 *         only the values
+	 */
+	private static Object[] determineArguments(@Nullable final String argumentName, @Nullable final String value,
+			@Nullable final Number min, @Nullable final Number max) {
+		return hasName(argumentName) ? new Object[] { argumentName, value, min, max } : new Object[] { value, min, max };
+	}
+
+	/**
+	 * Determines the message template to be used, depending on the passed argument name.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @return {@code MESSAGE_WITH_VALUES} if the given argument name is {@code null} or empty, otherwise
+	 *         {@code MESSAGE_WITH_NAME_AND_VALUES}
+	 */
+	private static String determineTemplate(@Nullable final String argumentName) {
+		return hasName(argumentName) ? MESSAGE_WITH_NAME_AND_VALUES : MESSAGE_WITH_VALUES;
+	}
+
+	private static boolean hasName(@Nullable final String argumentName) {
+		return argumentName != null && !argumentName.isEmpty();
 	}
 
 	/**
@@ -65,7 +101,7 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            the max value of the range
 	 */
 	public IllegalNumberRangeException(final String value, final BigDecimal min, final BigDecimal max) {
-		super(format(value, min, max));
+		super(MESSAGE_WITH_VALUES, value, min, max);
 	}
 
 	/**
@@ -80,7 +116,26 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            the max value of the range
 	 */
 	public IllegalNumberRangeException(final String value, final BigInteger min, final BigInteger max) {
-		super(format(value, new BigDecimal(min), new BigDecimal(max)));
+		super(MESSAGE_WITH_VALUES, value, min, max);
+	}
+
+	/**
+	 * Constructs an {@code IllegalNumberRangeException} with the message
+	 * {@link IllegalNumberRangeException#MESSAGE_WITH_NAME_AND_VALUES} including the given name and values of the
+	 * arguments.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param value
+	 *            the value which is not in the range as {@code String}
+	 * @param min
+	 *            the min value of the range
+	 * @param max
+	 *            the max value of the range
+	 */
+	public IllegalNumberRangeException(@Nullable final String argumentName, @Nullable final String value, @Nullable final Number min,
+			@Nullable final Number max) {
+		super(determineTemplate(argumentName), determineArguments(argumentName, value, min, max));
 	}
 
 	/**
@@ -98,7 +153,7 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNumberRangeException(final String value, final BigInteger min, final BigInteger max, @Nullable final Throwable cause) {
-		super(format(value, new BigDecimal(min), new BigDecimal(max)), cause);
+		super(cause, MESSAGE_WITH_VALUES, value, min, max);
 	}
 	
 	/**
@@ -116,7 +171,7 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNumberRangeException(final String value, final BigDecimal min, final BigDecimal max, @Nullable final Throwable cause) {
-		super(format(value, min, max), cause);
+		super(cause, MESSAGE_WITH_VALUES, value, min, max);
 	}
 
 	/**
@@ -127,7 +182,7 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNumberRangeException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 	}
 
 }
@@ -26,7 +26,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNumericArgumentException extends RuntimeException implements IllegalArgumentHolder<CharSequence> {
+public class IllegalNumericArgumentException extends QualityCheckException implements IllegalArgumentHolder<CharSequence> {
 
 	private static final long serialVersionUID = 6913991870563658630L;
 
@@ -41,29 +41,16 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	protected static final String MESSAGE_WITH_NAME = "The passed argument '%s' must be numeric.";
 
 	/**
-	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
-	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
-	 * with the passed name.
+	 * Determines the message template to be used, depending on the passed argument name. If the given argument name is
+	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise {@code MESSAGE_WITH_NAME}.
 	 * 
 	 * @param argumentName
 	 *            the name of the passed argument
-	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise a formatted
+	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise
 	 *         {@code MESSAGE_WITH_NAME}
 	 */
-	private static String determineMessage(@Nullable final String argumentName) {
-		return argumentName != null && !argumentName.isEmpty() ? format(argumentName) : DEFAULT_MESSAGE;
-	}
-
-	/**
-	 * Returns the formatted string {@link IllegalNumericArgumentException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName}.
-	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @return a formatted string of message with the given argument name
-	 */
-	private static String format(@Nullable final String argumentName) {
-		return String.format(MESSAGE_WITH_NAME, argumentName);
+	private static String determineTemplate(@Nullable final String argumentName) {
+		return argumentName != null && !argumentName.isEmpty() ? MESSAGE_WITH_NAME : DEFAULT_MESSAGE;
 	}
 
 	/**
@@ -93,7 +80,7 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNumericArgumentException(@Nullable final CharSequence illegalArgumentValue, @Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -108,7 +95,7 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalNumericArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue) {
-		super(determineMessage(argumentName));
+		super(determineTemplate(argumentName), argumentName);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -126,7 +113,7 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	 */
 	public IllegalNumericArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
+		super(cause, determineTemplate(argumentName), argumentName);
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
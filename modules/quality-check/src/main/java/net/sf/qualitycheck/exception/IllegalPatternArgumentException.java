@@ -27,7 +27,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalPatternArgumentException extends RuntimeException implements IllegalArgumentHolder<CharSequence> {
+public class IllegalPatternArgumentException extends QualityCheckException implements IllegalArgumentHolder<CharSequence> {
 
 	private static final long serialVersionUID = -6741481389295600427L;
 
@@ -47,59 +47,52 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	protected static final String NO_PATTERN_PLACEHOLDER = "[not set]";
 
 	/**
-	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
-	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
-	 * with the passed name and pattern which the argument must match.
-	 * 
-	 * @param argumentName
-	 *            the name of the passed argument
-	 * @param pattern
-	 *            Pattern, that a string or character sequence should correspond to
-	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise a formatted
-	 *         {@code MESSAGE_WITH_NAME}
+	 * Template of {@link #DEFAULT_MESSAGE} which takes the expression and the flags of a pattern separately
 	 */
-	private static String determineMessage(@Nullable final String argumentName, @Nullable final Pattern pattern) {
-		return argumentName != null && !argumentName.isEmpty() ? format(argumentName, pattern) : format(pattern);
-	}
+	private static final String MESSAGE_WITH_PATTERN = "The passed argument must match against the specified pattern: %s (flags: %d)";
 
 	/**
-	 * Returns the formatted string {@link IllegalPatternArgumentException#DEFAULT_MESSAGE} with the given pattern which
-	 * the argument must match.
+	 * Template of {@link #MESSAGE_WITH_NAME} which takes the expression and the flags of a pattern separately
+	 */
+	private static final String MESSAGE_WITH_NAME_AND_PATTERN = "The passed argument '%s' must match against the specified pattern: %s (flags: %d)";
+
+	/**
+	 * Determines the arguments of the message template, depending on the passed argument name and pattern.
 	 * 
 	 * @param argumentName
 	 *            the name of the passed argument
 	 * @param pattern
 	 *            Pattern, that a string or character sequence should correspond to
-	 * @return a formatted string of message with the given argument name
+	 * @return the name (if neither {@code null} nor empty) followed by the expression and flags of the pattern or
+	 *         {@code NO_PATTERN_PLACEHOLDER}
 	 */
-	private static String format(@Nullable final Pattern pattern) {
-		return String.format(DEFAULT_MESSAGE, patternToString(pattern));
+	private static Object[] determineArguments(@Nullable final String argumentName, @Nullable final Pattern pattern) {
+		if (hasName(argumentName)) {
+			return pattern != null ? new Object[] { argumentName, pattern.pattern(), pattern.flags() } : new Object[] { argumentName,
+					NO_PATTERN_PLACEHOLDER };
+		}
+		return pattern != null ? new Object[] { pattern.pattern(), pattern.flags() } : new Object[] { NO_PATTERN_PLACEHOLDER };
 	}
 
 	/**
-	 * Returns the formatted string {@link IllegalPatternArgumentException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName} and pattern which the argument must match.
+	 * Determines the message template to be used, depending on the passed argument name and pattern.
 	 * 
 	 * @param argumentName
 	 *            the name of the passed argument
 	 * @param pattern
 	 *            Pattern, that a string or character sequence should correspond to
-	 * @return a formatted string of message with the given argument name
+	 * @return a template derived from {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty,
+	 *         otherwise one derived from {@code MESSAGE_WITH_NAME}
 	 */
-	private static String format(@Nullable final String argumentName, @Nullable final Pattern pattern) {
-		final String p = patternToString(pattern);
-		return String.format(MESSAGE_WITH_NAME, argumentName, p);
+	private static String determineTemplate(@Nullable final String argumentName, @Nullable final Pattern pattern) {
+		if (hasName(argumentName)) {
+			return pattern != null ? MESSAGE_WITH_NAME_AND_PATTERN : MESSAGE_WITH_NAME;
+		}
+		return pattern != null ? MESSAGE_WITH_PATTERN : DEFAULT_MESSAGE;
 	}
 
-	/**
-	 * Converts a {@link Pattern} to a string representation.
-	 * 
-	 * @param pattern
-	 *            Pattern
-	 * @return string representation of a pattern
-	 */
-	private static String patternToString(@Nullable final Pattern pattern) {
-		return pattern != null ? pattern.pattern() + " (flags: " + pattern.flags() + ")" : NO_PATTERN_PLACEHOLDER;
+	private static boolean hasName(@Nullable final String argumentName) {
+		return argumentName != null && !argumentName.isEmpty();
 	}
 
 	/**
@@ -117,7 +110,7 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalPatternArgumentException(@Nullable final Pattern pattern, @Nullable final CharSequence illegalArgumentValue) {
-		super(format(pattern));
+		super(determineTemplate(null, pattern), determineArguments(null, pattern));
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -135,7 +128,7 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	 */
 	public IllegalPatternArgumentException(@Nullable final Pattern pattern, @Nullable final CharSequence illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(format(pattern), cause);
+		super(cause, determineTemplate(null, pattern), determineArguments(null, pattern));
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -153,7 +146,7 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	 */
 	public IllegalPatternArgumentException(@Nullable final String argumentName, @Nullable final Pattern pattern,
 			@Nullable final CharSequence illegalArgumentValue) {
-		super(determineMessage(argumentName, pattern));
+		super(determineTemplate(argumentName, pattern), determineArguments(argumentName, pattern));
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -173,7 +166,7 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	 */
 	public IllegalPatternArgumentException(@Nullable final String argumentName, @Nullable final Pattern pattern,
 			@Nullable final CharSequence illegalArgumentValue, @Nullable final Throwable cause) {
-		super(determineMessage(argumentName, pattern), cause);
+		super(cause, determineTemplate(argumentName, pattern), determineArguments(argumentName, pattern));
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
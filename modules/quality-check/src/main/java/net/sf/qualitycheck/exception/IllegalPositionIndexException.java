@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalPositionIndexException extends RuntimeException {
+public class IllegalPositionIndexException extends QualityCheckException {
 
 	private static final long serialVersionUID = 1012569127264822249L;
 
@@ -37,10 +37,6 @@ public class IllegalPositionIndexException extends RuntimeException {
 	 */
 	protected static final String MESSAGE_WITH_VALUES = "Position index '%d' must be within the defined bounds [0,%d].";
 
-	private static String format(final int index, final int size) {
-		return String.format(MESSAGE_WITH_VALUES, index, size);
-	}
-
 	/**
 	 * Constructs an {@code IllegalPositionIndexException} with the default message
 	 * {@link IllegalPositionIndexException#DEFAULT_MESSAGE}.
@@ -59,7 +55,20 @@ public class IllegalPositionIndexException extends RuntimeException {
 	 *            the size of an array, list or string
 	 */
 	public IllegalPositionIndexException(final int index, final int size) {
-		super(format(index, size));
+		super(MESSAGE_WITH_VALUES, index, size);
+	}
+
+	/**
+	 * Constructs an {@code IllegalPositionIndexException} with the message
+	 * {@link IllegalPositionIndexException#MESSAGE_WITH_VALUES} including the given values of the arguments.
+	 * 
+	 * @param index
+	 *            an index in a memory-mapped file, an off-heap region or another large sequence
+	 * @param size
+	 *            the size of a memory-mapped file, an off-heap region or another large sequence
+	 */
+	public IllegalPositionIndexException(final long index, final long size) {
+		super(MESSAGE_WITH_VALUES, index, size);
 	}
 
 	/**
@@ -75,7 +84,7 @@ public class IllegalPositionIndexException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalPositionIndexException(final int index, final int size, @Nullable final Throwable cause) {
-		super(format(index, size), cause);
+		super(cause, MESSAGE_WITH_VALUES, index, size);
 	}
 
 	/**
@@ -86,7 +95,7 @@ public class IllegalPositionIndexException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalPositionIndexException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 	}
 
 }
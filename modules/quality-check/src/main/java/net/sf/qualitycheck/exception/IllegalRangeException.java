@@ -26,7 +26,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalRangeException extends RuntimeException {
+public class IllegalRangeException extends QualityCheckException {
 
 	private static final long serialVersionUID = 4515679658955102518L;
 
@@ -41,10 +41,6 @@ public class IllegalRangeException extends RuntimeException {
 	 */
 	protected static final String MESSAGE_WITH_VALUES = "Arguments start='%d', end='%d' and size='%d' must be a valid range.";
 
-	private static String format(final int start, final int end, final int size) {
-		return String.format(MESSAGE_WITH_VALUES, start, end, size);
-	}
-
 	/**
 	 * Constructs an {@code IllegalRangeException} with the default message
 	 * {@link IllegalRangeException#DEFAULT_MESSAGE}.
@@ -65,7 +61,23 @@ public class IllegalRangeException extends RuntimeException {
 	 *            the size value of the invalid range
 	 */
 	public IllegalRangeException(final int start, final int end, final int size) {
-		super(format(start, end, size));
+		super(MESSAGE_WITH_VALUES, start, end, size);
+	}
+
+	/**
+	 * Constructs an {@code IllegalRangeException} with the message {@link IllegalRangeException#MESSAGE_WITH_VALUES}
+	 * including the given values of the arguments of a range within a memory-mapped file, an off-heap region or another
+	 * large sequence.
+	 * 
+	 * @param start
+	 *            the start value of the invalid range
+	 * @param end
+	 *            the end value of the invalid range
+	 * @param size
+	 *            the size value of the invalid range
+	 */
+	public IllegalRangeException(final long start, final long end, final long size) {
+		super(MESSAGE_WITH_VALUES, start, end, size);
 	}
 
 	/**
@@ -83,7 +95,7 @@ public class IllegalRangeException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalRangeException(final int start, final int end, final int size, @Nullable final Throwable cause) {
-		super(format(start, end, size), cause);
+		super(cause, MESSAGE_WITH_VALUES, start, end, size);
 	}
 
 	/**
@@ -94,7 +106,7 @@ public class IllegalRangeException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalRangeException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 	}
 
 }
@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalStateOfArgumentException extends RuntimeException {
+public class IllegalStateOfArgumentException extends QualityCheckException {
 
 	private static final long serialVersionUID = -1782626786560016442L;
 
@@ -38,15 +38,45 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 * provides an explanation why the state is invalid.
 	 */
 	protected static final String MESSAGE_DESCRIPTION = "The passed arguments have caused an invalid state: ";
-	
-	private static String format(@Nonnull final String descriptionTemplate, Object... descriptionTemplateArgs) {
-		if( descriptionTemplateArgs == null || descriptionTemplateArgs.length == 0 ) {
-			return MESSAGE_DESCRIPTION + descriptionTemplate;
-		} else {
-			return String.format(descriptionTemplate, descriptionTemplateArgs);
-		}
+
+	/**
+	 * Template of {@link IllegalStateOfArgumentException#MESSAGE_DESCRIPTION} followed by a description
+	 */
+	private static final String MESSAGE_WITH_DESCRIPTION = MESSAGE_DESCRIPTION + "%s";
+
+	/**
+	 * Determines the arguments of the message template returned by
+	 * {@link IllegalStateOfArgumentException#determineTemplate(String, Object...)}.
+	 * 
+	 * @param description
+	 *            description or format string template that explains why the state is invalid
+	 * @param descriptionTemplateArgs
+	 *            format string template arguments to explain why the state is invalid
+	 * @return the passed template arguments or the description, if there are no template arguments
+	 */
+	private static Object[] determineArguments(@Nonnull final String description, final Object... descriptionTemplateArgs) {
+		return hasArguments(descriptionTemplateArgs) ? descriptionTemplateArgs : new Object[] { description };
 	}
-	
+
+	/**
+	 * Determines the message template to be used. The description is the template itself if it has arguments,
+	 * otherwise it is appended to {@code MESSAGE_DESCRIPTION}.
+	 * 
+	 * @param description
+	 *            description or format string template that explains why the state is invalid
+	 * @param descriptionTemplateArgs
+	 *            format string template arguments to explain why the state is invalid
+	 * @return the passed description if there are template arguments, otherwise a template which prepends
+	 *         {@code MESSAGE_DESCRIPTION}
+	 */
+	private static String determineTemplate(@Nonnull final String description, final Object... descriptionTemplateArgs) {
+		return hasArguments(descriptionTemplateArgs) ? description : MESSAGE_WITH_DESCRIPTION;
+	}
+
+	private static boolean hasArguments(final Object... descriptionTemplateArgs) {
+		return descriptionTemplateArgs != null && descriptionTemplateArgs.length > 0;
+	}
+
 	/**
 	 * Constructs an {@code IllegalStateOfArgumentException} with the default message
 	 * {@link IllegalStateOfArgumentException#DEFAULT_MESSAGE}.
@@ -63,7 +93,7 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            explains why the state is invalid
 	 */
 	public IllegalStateOfArgumentException(@Nonnull final String description) {
-		super(format(description));
+		super(MESSAGE_WITH_DESCRIPTION, description);
 	}
 
 	/**
@@ -76,7 +106,7 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            format string template arguments to explain why the state is invalid
 	 */
 	public IllegalStateOfArgumentException(@Nonnull final String description, Object... descriptionTemplateArgs) {
-		super(format(description, descriptionTemplateArgs));
+		super(determineTemplate(description, descriptionTemplateArgs), determineArguments(description, descriptionTemplateArgs));
 	}
 	
 	/**
@@ -90,7 +120,7 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalStateOfArgumentException(@Nonnull final String description, @Nullable final Throwable cause) {
-		super(format(description), cause);
+		super(cause, MESSAGE_WITH_DESCRIPTION, description);
 	}
 	
 	/**
@@ -106,7 +136,8 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            format string template arguments to explain why the state is invalid
 	 */
 	public IllegalStateOfArgumentException(@Nullable final Throwable cause, @Nonnull final String description, Object... descriptionTemplateArgs) {
-		super(format(description, descriptionTemplateArgs), cause);
+		super(cause, determineTemplate(description, descriptionTemplateArgs), determineArguments(description,
+				descriptionTemplateArgs));
 	}
 	
 	/**
@@ -117,7 +148,7 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalStateOfArgumentException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 	}
 
 }
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Base class of all exceptions of Quality-Check.
+ * 
+ * <p>
+ * The message of such an exception is not formatted when it is constructed. The constructor only captures the message
+ * template and its arguments, the message is rendered on the first call of {@link #getMessage()} and cached afterwards.
+ * So callers which catch an exception without reading its message do not pay for formatting it.
+ * 
+ * <p>
+ * Because the arguments are captured by reference, mutable arguments should not be modified after the exception was
+ * thrown.
+ * 
+ * <p>
+ * Services which use checks to reject untrusted input can switch to a stackless mode, in which the exceptions do not
+ * capture a stack trace. This mode can be enabled on startup with the system property {@value #STACKLESS_PROPERTY} or
+ * at runtime with {@link #setStackless(boolean)}. The types and messages of the exceptions stay the same.
+ * 
+ * @author André Rouél
+ * @author Dominik Seichter
+ */
+public abstract class QualityCheckException extends RuntimeException {
+
+	private static final long serialVersionUID = 5234938475648204393L;
+
+	/**
+	 * Character which introduces a format specifier of {@link java.util.Formatter}
+	 */
+	private static final char FORMAT_SPECIFIER = '%';
+
+	/**
+	 * Name of the system property which enables the stackless mode on startup, if it is set to {@code true}
+	 */
+	public static final String STACKLESS_PROPERTY = "net.sf.qualitycheck.stackless";
+
+	/**
+	 * Indicates whether exceptions are created without capturing a stack trace
+	 */
+	private static volatile boolean stackless = readStacklessProperty();
+
+	/**
+	 * Returns whether the exceptions of Quality-Check are created without capturing a stack trace.
+	 * 
+	 * @return {@code true} if the stackless mode is enabled, otherwise {@code false}
+	 */
+	public static boolean isStackless() {
+		return stackless;
+	}
+
+	/**
+	 * Reads the system property {@value #STACKLESS_PROPERTY}. If the property cannot be read, because a security manager
+	 * denies it, the stackless mode is disabled.
+	 * 
+	 * @return {@code true} if the property is set to {@code true}, otherwise {@code false}
+	 */
+	private static boolean readStacklessProperty() {
+		try {
+			return Boolean.getBoolean(STACKLESS_PROPERTY);
+		} catch (final SecurityException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Enables or disables the stackless mode. In stackless mode the exceptions of Quality-Check do not capture a stack
+	 * trace, which is the most expensive part of creating an exception. Exceptions which were created before are not
+	 * affected.
+	 * 
+	 * @param enabled
+	 *            {@code true} to create exceptions without a stack trace, {@code false} to capture it as usual
+	 */
+	public static void setStackless(final boolean enabled) {
+		stackless = enabled;
+	}
+
+	/**
+	 * Arguments referenced by the format specifiers in the message template
+	 */
+	@Nonnull
+	private final transient Object[] arguments;
+
+	/**
+	 * Rendered message or {@code null} if it was not requested yet
+	 */
+	@Nullable
+	private String message;
+
+	/**
+	 * Template of the message, which is used as message as it is if there are no arguments
+	 */
+	@Nonnull
+	private final String template;
+
+	/**
+	 * Constructs a new exception with a message which will be rendered on demand from the passed template and
+	 * arguments.
+	 * 
+	 * @param template
+	 *            message template in the syntax of {@link String#format(String, Object...)} or a plain message if no
+	 *            arguments are passed
+	 * @param arguments
+	 *            arguments referenced by the format specifiers in the template
+	 */
+	protected QualityCheckException(@Nonnull final String template, @Nonnull final Object... arguments) {
+		super();
+		this.template = template;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * Constructs a new exception with the specified cause and a message which will be rendered on demand from the
+	 * passed template and arguments.
+	 * 
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 * @param template
+	 *            message template in the syntax of {@link String#format(String, Object...)} or a plain message if no
+	 *            arguments are passed
+	 * @param arguments
+	 *            arguments referenced by the format specifiers in the template
+	 */
+	protected QualityCheckException(@Nullable final Throwable cause, @Nonnull final String template, @Nonnull final Object... arguments) {
+		super(null, cause);
+		this.template = template;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * Renders the message from the template and its arguments. Templates without format specifiers are returned as they
+	 * are, so that no {@link java.util.Formatter} is needed for them.
+	 * 
+	 * @return the rendered message
+	 */
+	@Nonnull
+	private String createMessage() {
+		return arguments.length == 0 || template.indexOf(FORMAT_SPECIFIER) < 0 ? template : String.format(template, arguments);
+	}
+
+	/**
+	 * Captures the current stack trace unless the stackless mode is enabled. This method is called by the constructors
+	 * of {@link Throwable}, so it can only depend on static state.
+	 * 
+	 * @return this exception
+	 */
+	@Override
+	public Throwable fillInStackTrace() {
+		return stackless ? this : super.fillInStackTrace();
+	}
+
+	/**
+	 * Returns the detail message of this exception, which is rendered on the first call.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	public String getMessage() {
+		String result = message;
+		if (result == null) {
+			result = createMessage();
+			message = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Renders the message before serialization, because the arguments are not serialized.
+	 * 
+	 * @param out
+	 *            stream to write the exception to
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	private void writeObject(@Nonnull final ObjectOutputStream out) throws IOException {
+		getMessage();
+		out.defaultWriteObject();
+	}
+
+}
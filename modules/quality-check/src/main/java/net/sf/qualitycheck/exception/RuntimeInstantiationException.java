@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class RuntimeInstantiationException extends RuntimeException {
+public class RuntimeInstantiationException extends QualityCheckException {
 
 	private static final long serialVersionUID = 7304261330061136504L;
 
@@ -38,29 +38,16 @@ public class RuntimeInstantiationException extends RuntimeException {
 	protected static final String MESSAGE_WITH_NAME = "The passed class '%s' cannot be instantiated.";
 
 	/**
-	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
-	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
-	 * with the passed name.
+	 * Determines the message template to be used, depending on the passed argument name. If the given argument name is
+	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise {@code MESSAGE_WITH_NAME}.
 	 * 
 	 * @param className
-	 *            the name of the passed {@link Class}
-	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise a formatted
-	 *         {@code MESSAGE_WITH_NAME}
-	 */
-	private static String determineMessage(@Nullable final String className) {
-		return className != null && !className.isEmpty() ? format(className) : DEFAULT_MESSAGE;
-	}
-
-	/**
-	 * Returns the formatted string {@link RuntimeInstantiationException#MESSAGE_WITH_NAME} with the given
-	 * {@code argumentName}.
-	 * 
-	 * @param argumentName
 	 *            the name of the passed argument
-	 * @return a formatted string of message with the given argument name
+	 * @return {@code DEFAULT_MESSAGE} if the given argument name is {@code null} or empty, otherwise
+	 *         {@code MESSAGE_WITH_NAME}
 	 */
-	private static String format(@Nullable final String argumentName) {
-		return String.format(MESSAGE_WITH_NAME, argumentName);
+	private static String determineTemplate(@Nullable final String className) {
+		return className != null && !className.isEmpty() ? MESSAGE_WITH_NAME : DEFAULT_MESSAGE;
 	}
 
 	/**
@@ -80,7 +67,7 @@ public class RuntimeInstantiationException extends RuntimeException {
 	 *            the name of the {@link Class}
 	 */
 	public RuntimeInstantiationException(@Nullable final String className) {
-		super(determineMessage(className));
+		super(determineTemplate(className), className);
 	}
 
 	/**
@@ -94,7 +81,7 @@ public class RuntimeInstantiationException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public RuntimeInstantiationException(@Nullable final String className, @Nullable final Throwable cause) {
-		super(determineMessage(className), cause);
+		super(cause, determineTemplate(className), className);
 	}
 
 	/**
@@ -105,7 +92,7 @@ public class RuntimeInstantiationException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public RuntimeInstantiationException(@Nullable final Throwable cause) {
-		super(DEFAULT_MESSAGE, cause);
+		super(cause, DEFAULT_MESSAGE);
 	}
 
 }
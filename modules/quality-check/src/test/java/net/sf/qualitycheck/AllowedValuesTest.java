@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AllowedValuesTest {
+
+	private enum Planet {
+		MERCURY, VENUS, EARTH {
+			@Override
+			public String toString() {
+				return "home";
+			}
+		},
+		MARS
+	}
+
+	@Test
+	public void of_emptyCollection() {
+		final AllowedValues<Object> allowed = AllowedValues.of(Collections.emptyList());
+		Assert.assertEquals(0, allowed.size());
+		Assert.assertFalse(allowed.contains("a"));
+		Assert.assertFalse(allowed.contains(null));
+	}
+
+	@Test
+	public void of_enums() {
+		final AllowedValues<Planet> allowed = AllowedValues.of(Arrays.asList(Planet.EARTH, Planet.MARS, Planet.EARTH));
+		Assert.assertTrue(allowed instanceof AllowedValues.EnumValues);
+		Assert.assertEquals(2, allowed.size());
+		Assert.assertTrue(allowed.contains(Planet.EARTH));
+		Assert.assertTrue(allowed.contains(Planet.MARS));
+		Assert.assertFalse(allowed.contains(Planet.VENUS));
+		Assert.assertFalse(allowed.contains(TimeUnit.DAYS));
+		Assert.assertFalse(allowed.contains("MARS"));
+		Assert.assertFalse(allowed.contains(null));
+	}
+
+	@Test
+	public void of_enumsOfDifferentTypes() {
+		final List<Enum<?>> values = new ArrayList<Enum<?>>();
+		values.add(Planet.EARTH);
+		values.add(TimeUnit.DAYS);
+		final AllowedValues<Enum<?>> allowed = AllowedValues.of(values);
+		Assert.assertTrue(allowed instanceof AllowedValues.HashValues);
+		Assert.assertTrue(allowed.contains(TimeUnit.DAYS));
+		Assert.assertFalse(allowed.contains(TimeUnit.HOURS));
+	}
+
+	@Test
+	public void of_ints() {
+		final AllowedValues<Integer> allowed = AllowedValues.of(Arrays.asList(5, -3, 5, Integer.MAX_VALUE));
+		Assert.assertTrue(allowed instanceof AllowedValues.IntValues);
+		Assert.assertEquals(3, allowed.size());
+		Assert.assertTrue(allowed.contains(-3));
+		Assert.assertTrue(allowed.contains(Integer.MAX_VALUE));
+		Assert.assertFalse(allowed.contains(4));
+		Assert.assertFalse(allowed.contains(5L));
+		Assert.assertFalse(allowed.contains("5"));
+	}
+
+	@Test
+	public void of_longs() {
+		final AllowedValues<Long> allowed = AllowedValues.of(Arrays.asList(7L, Long.MIN_VALUE));
+		Assert.assertTrue(allowed instanceof AllowedValues.LongValues);
+		Assert.assertTrue(allowed.contains(Long.MIN_VALUE));
+		Assert.assertFalse(allowed.contains(7));
+	}
+
+	@Test
+	public void of_mixedTypes() {
+		final AllowedValues<Object> allowed = AllowedValues.of(Arrays.<Object> asList("a", 1, new BigDecimal("1.0")));
+		Assert.assertTrue(allowed instanceof AllowedValues.HashValues);
+		Assert.assertEquals(3, allowed.size());
+		Assert.assertTrue(allowed.contains(1));
+		Assert.assertTrue(allowed.contains(new BigDecimal("1.0")));
+		Assert.assertFalse(allowed.contains(new BigDecimal("1.00")));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void of_null() {
+		AllowedValues.of(null);
+	}
+
+	@Test(expected = IllegalNullElementsException.class)
+	public void of_nullElement() {
+		AllowedValues.of(Arrays.asList("a", null));
+	}
+
+	@Test
+	public void of_strings_sameAsHashSet() {
+		final Random random = new Random(42);
+		final List<String> values = new ArrayList<String>();
+		for (int i = 0; i < 5000; i++) {
+			values.add(Integer.toString(random.nextInt(20000), 36));
+		}
+		final AllowedValues<String> allowed = AllowedValues.of(values);
+		Assert.assertTrue(allowed instanceof AllowedValues.StringValues);
+		Assert.assertEquals(new HashSet<String>(values).size(), allowed.size());
+		for (int i = 0; i < 20000; i++) {
+			final String needle = Integer.toString(i, 36);
+			Assert.assertEquals(needle, values.contains(needle), allowed.contains(needle));
+		}
+		Assert.assertFalse(allowed.contains(null));
+		Assert.assertFalse(allowed.contains(Integer.valueOf(1)));
+	}
+
+	@Test
+	public void toString_containsRepresentationAndSize() {
+		Assert.assertEquals("StringValues [size=2]", AllowedValues.of(Arrays.asList("a", "b")).toString());
+	}
+
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Ensures that the checks stay small enough to be inlined by HotSpot. The sizes are read from the class files, so that
+ * the test does not depend on a bytecode library.
+ */
+public class BytecodeSizeTest {
+
+	/**
+	 * Size up to which HotSpot inlines hot methods ({@code -XX:FreqInlineSize}, default on x86)
+	 */
+	private static final int FREQ_INLINE_SIZE = 325;
+
+	/**
+	 * Size up to which HotSpot inlines any method ({@code -XX:MaxInlineSize}, default)
+	 */
+	private static final int MAX_INLINE_SIZE = 35;
+
+	private static String descriptor(final Class<?> type) {
+		if (type.isArray()) {
+			return type.getName().replace('.', '/');
+		} else if (type == boolean.class) {
+			return "Z";
+		} else if (type == byte.class) {
+			return "B";
+		} else if (type == char.class) {
+			return "C";
+		} else if (type == double.class) {
+			return "D";
+		} else if (type == float.class) {
+			return "F";
+		} else if (type == int.class) {
+			return "I";
+		} else if (type == long.class) {
+			return "J";
+		} else if (type == short.class) {
+			return "S";
+		} else if (type == void.class) {
+			return "V";
+		}
+		return "L" + type.getName().replace('.', '/') + ";";
+	}
+
+	private static String descriptor(final Method method) {
+		final StringBuilder builder = new StringBuilder(method.getName()).append('(');
+		for (final Class<?> type : method.getParameterTypes()) {
+			builder.append(descriptor(type));
+		}
+		return builder.append(')').append(descriptor(method.getReturnType())).toString();
+	}
+
+	/**
+	 * Bulk checks scan all elements and the range checks of arbitrary numbers convert between number types. The costs of
+	 * a call are negligible for them, but they must still be inlinable into hot callers.
+	 */
+	private static boolean isBulkCheck(final Method method) {
+		for (final Class<?> type : method.getParameterTypes()) {
+			if (type.isArray() || Buffer.class.isAssignableFrom(type)) {
+				return true;
+			}
+		}
+		return method.getName().equals("isInRange");
+	}
+
+	/**
+	 * Reads the bytecode size of all methods of a class file, keyed by name and descriptor.
+	 */
+	private static Map<String, Integer> readCodeSizes(final Class<?> clazz) throws IOException {
+		final InputStream stream = clazz.getResourceAsStream(clazz.getSimpleName() + ".class");
+		final DataInputStream in = new DataInputStream(stream);
+		try {
+			in.readInt(); // magic
+			in.readInt(); // minor and major version
+			final int constants = in.readUnsignedShort();
+			final String[] utf8 = new String[constants];
+			for (int i = 1; i < constants; i++) {
+				final int tag = in.readUnsignedByte();
+				if (tag == 1) {
+					utf8[i] = in.readUTF();
+				} else if (tag == 5 || tag == 6) {
+					in.readLong();
+					i++;
+				} else if (tag == 7 || tag == 8 || tag == 16) {
+					in.readUnsignedShort();
+				} else if (tag == 15) {
+					in.readUnsignedByte();
+					in.readUnsignedShort();
+				} else {
+					in.readInt();
+				}
+			}
+			in.readUnsignedShort(); // access flags
+			in.readUnsignedShort(); // this class
+			in.readUnsignedShort(); // super class
+			skip(in, in.readUnsignedShort() * 2); // interfaces
+			final int fields = in.readUnsignedShort();
+			for (int i = 0; i < fields; i++) {
+				in.readUnsignedShort();
+				in.readUnsignedShort();
+				in.readUnsignedShort();
+				skipAttributes(in);
+			}
+			final Map<String, Integer> sizes = new HashMap<String, Integer>();
+			final int methods = in.readUnsignedShort();
+			for (int i = 0; i < methods; i++) {
+				in.readUnsignedShort(); // access flags
+				final String key = utf8[in.readUnsignedShort()] + utf8[in.readUnsignedShort()];
+				final int attributes = in.readUnsignedShort();
+				for (int j = 0; j < attributes; j++) {
+					final String name = utf8[in.readUnsignedShort()];
+					final int length = in.readInt();
+					if (name.equals("Code")) {
+						in.readUnsignedShort(); // max stack
+						in.readUnsignedShort(); // max locals
+						final int codeLength = in.readInt();
+						sizes.put(key, Integer.valueOf(codeLength));
+						skip(in, length - 8);
+					} else {
+						skip(in, length);
+					}
+				}
+			}
+			return sizes;
+		} finally {
+			in.close();
+		}
+	}
+
+	private static void skip(final DataInputStream in, final int bytes) throws IOException {
+		in.readFully(new byte[bytes]);
+	}
+
+	private static void skipAttributes(final DataInputStream in) throws IOException {
+		final int attributes = in.readUnsignedShort();
+		for (int i = 0; i < attributes; i++) {
+			in.readUnsignedShort();
+			skip(in, in.readInt());
+		}
+	}
+
+	private static void assertInlinable(final Class<?> clazz) throws IOException {
+		final Map<String, Integer> sizes = readCodeSizes(clazz);
+		final List<String> failures = new ArrayList<String>();
+		int checks = 0;
+		for (final Method method : clazz.getDeclaredMethods()) {
+			final int modifiers = method.getModifiers();
+			if (Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers) && method.isAnnotationPresent(Throws.class)) {
+				checks++;
+				final int size = sizes.get(descriptor(method)).intValue();
+				final int limit = isBulkCheck(method) ? FREQ_INLINE_SIZE : MAX_INLINE_SIZE;
+				if (size > limit) {
+					failures.add(method + " has " + size + " bytes (limit " + limit + ")");
+				}
+			}
+		}
+		Assert.assertTrue(clazz.getSimpleName() + " has no checks", checks > 0);
+		Assert.assertTrue(failures.toString(), failures.isEmpty());
+	}
+
+	@Test
+	public void check() throws IOException {
+		assertInlinable(Check.class);
+	}
+
+	@Test
+	public void conditionalCheck() throws IOException {
+		assertInlinable(ConditionalCheck.class);
+	}
+
+	@Test
+	public void numberInRange() throws IOException {
+		assertInlinable(NumberInRange.class);
+	}
+
+}
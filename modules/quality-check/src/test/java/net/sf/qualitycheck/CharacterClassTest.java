@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CharacterClassTest {
+
+	private static void assertSameAsRegex(final CharacterClass characterClass, final Pattern pattern, final String alphabet) {
+		final Random random = new Random(42);
+		for (int i = 0; i < 20000; i++) {
+			final char[] chars = new char[random.nextInt(40)];
+			for (int j = 0; j < chars.length; j++) {
+				chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+			}
+			final String value = new String(chars);
+			final boolean expected = pattern.matcher(value).matches();
+			Assert.assertEquals(value, expected, characterClass.matches(value));
+			Assert.assertEquals(value, expected, characterClass.matches(new StringBuilder(value)));
+		}
+	}
+
+	/**
+	 * Creates an alphabet which contains all ASCII characters and some characters outside of the ASCII range, whereby
+	 * the passed characters are more likely to be chosen.
+	 */
+	private static String createAlphabet(final String frequentCharacters) {
+		final StringBuilder builder = new StringBuilder();
+		for (char c = 0; c < 0x80; c++) {
+			builder.append(c);
+		}
+		builder.append("\u00e4\u0100\u0130\u0660\uff10\uffff");
+		for (int i = 0; i < 20; i++) {
+			builder.append(frequentCharacters);
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void matches_alphanumeric() {
+		assertSameAsRegex(CharacterClass.ALPHANUMERIC, Pattern.compile("[0-9A-Za-z]*"),
+				createAlphabet("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz"));
+	}
+
+	@Test
+	public void matches_ascii() {
+		assertSameAsRegex(CharacterClass.ASCII, Pattern.compile("\\p{ASCII}*"), createAlphabet(""));
+	}
+
+	@Test
+	public void matches_boundaries() {
+		Assert.assertTrue(CharacterClass.HEXADECIMAL.matches("0123456789abcdefABCDEF"));
+		Assert.assertFalse(CharacterClass.HEXADECIMAL.matches("0123456789abcdefABCDEF\u0010"));
+		Assert.assertFalse(CharacterClass.HEXADECIMAL.matches("0123456789abcdefABCDEG"));
+		Assert.assertFalse(CharacterClass.HEXADECIMAL.matches("0123456789abcdef`BCDEF"));
+		Assert.assertFalse(CharacterClass.NUMERIC.matches("0123456789012345/"));
+		Assert.assertFalse(CharacterClass.NUMERIC.matches("012345678901234:5"));
+		Assert.assertFalse(CharacterClass.NUMERIC.matches("0123456789012345\u0660"));
+		Assert.assertFalse(CharacterClass.ASCII.matches("0123456789012345\u0080"));
+		Assert.assertTrue(CharacterClass.ASCII.matches(""));
+	}
+
+	@Test
+	public void matches_hexadecimal() {
+		assertSameAsRegex(CharacterClass.HEXADECIMAL, Pattern.compile("[0-9A-Fa-f]*"), createAlphabet("0123456789ABCDEFabcdef"));
+	}
+
+	@Test
+	public void matches_numeric() {
+		assertSameAsRegex(CharacterClass.NUMERIC, Pattern.compile("[0-9]*"), createAlphabet("0123456789"));
+	}
+
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CheckListenersTest {
+
+	/**
+	 * Calls checks which are reported to the listener. It is loaded together with the checks in a class loader with an
+	 * installed listener.
+	 */
+	public static class Caller implements Runnable {
+		@Override
+		public void run() {
+			final Object[] array = new Object[300];
+			Arrays.fill(array, "a");
+			final List<Object> list = new ArrayList<Object>(Arrays.asList(array));
+			final char[] chars = new char[400];
+			Arrays.fill(chars, '1');
+			final String digits = new String(chars);
+
+			try {
+				Check.notNull(null, "reference");
+			} catch (final RuntimeException e) {
+				// expected
+			}
+			try {
+				Check.notNull(null, "throwing");
+			} catch (final RuntimeException e) {
+				// expected
+			}
+			Check.matchesPattern(Pattern.compile("1*"), digits, "digits");
+			Check.matchesPattern(Pattern.compile("1*"), "11", "digits");
+			Check.contains(list, "a", "needle");
+			Check.noNullElements(array, "array");
+			Check.noNullElements(list, "list");
+			Check.noNullElements(new LinkedList<Object>(list), "linkedList");
+			Check.noNullElements(Collections.unmodifiableCollection(list), "iterable");
+			Check.noNullElements(new Iterable<Object>() {
+				@Override
+				public java.util.Iterator<Object> iterator() {
+					return Collections.emptyList().iterator();
+				}
+			}, "iterable");
+			Check.isNumber(digits, "digits", BigInteger.class);
+			try {
+				Check.isNumber(digits + "x", "digits", BigInteger.class);
+			} catch (final RuntimeException e) {
+				// expected
+			}
+			final Object[] large = new Object[998];
+			Arrays.fill(large, "a");
+			Check.noNullElements(large);
+		}
+	}
+
+	/**
+	 * Listener which records all notifications and throws for some of them.
+	 */
+	public static class Recorder implements CheckListener {
+
+		public static final List<String> EVENTS = Collections.synchronizedList(new ArrayList<String>());
+
+		public static volatile boolean failedEnabled = true;
+
+		@Override
+		public Object expensiveCheckStarted(final String check, final long size) {
+			if (size == 999) {
+				throw new IllegalStateException();
+			}
+			EVENTS.add("started " + check + " " + size);
+			return size == 998 ? "throw" : check;
+		}
+
+		@Override
+		public void expensiveCheckFinished(final Object context) {
+			EVENTS.add("finished " + context);
+			if ("throw".equals(context)) {
+				throw new IllegalStateException();
+			}
+		}
+
+		@Override
+		public void failed(final String check, final String argumentName, final RuntimeException exception) {
+			EVENTS.add("failed " + check + " " + argumentName + " " + exception.getClass().getSimpleName());
+			if ("throwing".equals(argumentName)) {
+				throw new IllegalStateException();
+			}
+		}
+
+		@Override
+		public boolean isFailedEnabled() {
+			return failedEnabled;
+		}
+
+	}
+
+	private static Field field(final Class<?> clazz, final String name) throws Exception {
+		final Field field = clazz.getDeclaredField(name);
+		field.setAccessible(true);
+		return field;
+	}
+
+	private static Method method(final Class<?> clazz, final String name, final Class<?>... parameterTypes) throws Exception {
+		final Method method = clazz.getDeclaredMethod(name, parameterTypes);
+		method.setAccessible(true);
+		return method;
+	}
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ClassLoader loaderWithService(final String implementation) throws IOException {
+		final File services = new File(folder.getRoot(), "META-INF/services");
+		Assert.assertTrue(services.mkdirs());
+		final OutputStream out = new FileOutputStream(new File(services, CheckListener.class.getName()));
+		try {
+			out.write(implementation.getBytes("UTF-8"));
+		} finally {
+			out.close();
+		}
+		final URL classes = Check.class.getProtectionDomain().getCodeSource().getLocation();
+		final URL testClasses = CheckListenersTest.class.getProtectionDomain().getCodeSource().getLocation();
+		return new URLClassLoader(new URL[] { classes, testClasses, folder.getRoot().toURI().toURL() }, null);
+	}
+
+	@Test
+	public void brokenService_isIgnored() throws Exception {
+		final ClassLoader loader = loaderWithService("net.sf.qualitycheck.DoesNotExist");
+		final Class<?> listeners = Class.forName(CheckListeners.class.getName(), true, loader);
+		Assert.assertFalse(field(listeners, "ENABLED").getBoolean(null));
+	}
+
+	@Test
+	public void failed_outsideOfCheckIsIgnored() throws Exception {
+		final ClassLoader loader = loaderWithService(Recorder.class.getName());
+		final Class<?> listeners = Class.forName(CheckListeners.class.getName(), true, loader);
+		method(listeners, "failed", StackTraceElement[].class, String.class, RuntimeException.class).invoke(null,
+				new Throwable().getStackTrace(), "name", new IllegalStateException());
+		Assert.assertTrue(((List<?>) loader.loadClass(Recorder.class.getName()).getField("EVENTS").get(null)).isEmpty());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void installed_failuresNotWanted() throws Exception {
+		final ClassLoader loader = loaderWithService(Recorder.class.getName());
+		final Class<?> recorder = loader.loadClass(Recorder.class.getName());
+		recorder.getField("failedEnabled").setBoolean(null, false);
+		((Runnable) loader.loadClass(Caller.class.getName()).newInstance()).run();
+
+		for (final String event : (List<String>) recorder.getField("EVENTS").get(null)) {
+			Assert.assertFalse(event, event.startsWith("failed"));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void installed_isNotified() throws Exception {
+		final ClassLoader loader = loaderWithService(Recorder.class.getName());
+		final Class<?> listeners = Class.forName(CheckListeners.class.getName(), true, loader);
+		Assert.assertTrue(field(listeners, "ENABLED").getBoolean(null));
+		((Runnable) loader.loadClass(Caller.class.getName()).newInstance()).run();
+
+		final List<String> events = (List<String>) loader.loadClass(Recorder.class.getName()).getField("EVENTS").get(null);
+		final List<String> expected = Arrays.asList("failed notNull reference IllegalNullArgumentException",
+				"failed notNull throwing IllegalNullArgumentException", "started matchesPattern 400", "finished matchesPattern",
+				"started contains 300", "finished contains", "started noNullElements 300", "finished noNullElements",
+				"started noNullElements 300", "finished noNullElements", "started noNullElements 300", "finished noNullElements",
+				"started noNullElements 300", "finished noNullElements", "started isNumber 400", "finished isNumber",
+				"started isNumber 401", "failed isNumber digits IllegalNumberArgumentException", "finished isNumber",
+				"started noNullElements 998", "finished throw");
+		Assert.assertEquals(expected, events);
+	}
+
+	@Test
+	public void installed_throwingListenerIsIgnored() throws Exception {
+		final ClassLoader loader = loaderWithService(Recorder.class.getName());
+		final Class<?> listeners = Class.forName(CheckListeners.class.getName(), true, loader);
+		Assert.assertNull(method(listeners, "expensiveCheckStarted", int.class, long.class).invoke(null,
+				Integer.valueOf(CheckMetrics.CONTAINS), Long.valueOf(999)));
+	}
+
+	@Test
+	public void notInstalled() {
+		Assert.assertFalse(CheckListeners.ENABLED);
+		Assert.assertNull(CheckListeners.load());
+		Assert.assertNull(CheckListeners.expensiveCheckStarted(CheckMetrics.CONTAINS, 1000));
+		CheckListeners.expensiveCheckFinished(null);
+		try {
+			Check.notNull(null, "reference");
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertFalse(CheckListeners.isFailedEnabled());
+			CheckListeners.failed(e.getStackTrace(), "reference", e);
+		}
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<CheckListeners> constructor = CheckListeners.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckMetricsTest {
+
+	/**
+	 * Calls checks from a known call site. It is loaded together with the checks in a class loader with enabled metrics.
+	 */
+	public static class Caller implements Runnable {
+		@Override
+		public void run() {
+			Check.notNull(new Object(), "reference");
+			Check.notNegative(1, "value");
+			try {
+				Check.notNull(null, "reference");
+			} catch (final RuntimeException e) {
+				// expected
+			}
+			try {
+				ConditionalCheck.notNegative(true, -1, "value");
+			} catch (final RuntimeException e) {
+				// expected
+			}
+			try {
+				NumberInRange.checkByte(Integer.valueOf(1000));
+			} catch (final RuntimeException e) {
+				// expected
+			}
+		}
+	}
+
+	/**
+	 * Fails a sampled check which only tests random elements, so that the failure is found by the sampling itself.
+	 */
+	public static class SampledCaller implements Runnable {
+		@Override
+		public void run() {
+			SampledCheck.setPolicy(SampledCheck.Kind.NO_NULL_ELEMENTS, SamplingPolicy.randomElements(10));
+			try {
+				SampledCheck.noNullElements(new Object[100], "values");
+			} catch (final RuntimeException e) {
+				// expected
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Long> get(final Object snapshot, final String getter) throws Exception {
+		return (Map<String, Long>) snapshot.getClass().getMethod(getter).invoke(snapshot);
+	}
+
+	private static Class<?> loadWithMetrics() throws Exception {
+		System.setProperty(CheckMetrics.PROPERTY, "true");
+		try {
+			final URL classes = Check.class.getProtectionDomain().getCodeSource().getLocation();
+			final URL testClasses = CheckMetricsTest.class.getProtectionDomain().getCodeSource().getLocation();
+			final ClassLoader loader = new URLClassLoader(new URL[] { classes, testClasses }, null);
+			return Class.forName(CheckMetrics.class.getName(), true, loader);
+		} finally {
+			System.clearProperty(CheckMetrics.PROPERTY);
+		}
+	}
+
+	@After
+	public void after() {
+		CheckMetrics.reset();
+	}
+
+	@Test
+	public void checks_matchConstants() throws Exception {
+		final Set<String> constants = new HashSet<String>();
+		for (final Field field : CheckMetrics.class.getDeclaredFields()) {
+			if (field.getType() == int.class && Modifier.isStatic(field.getModifiers())) {
+				final int index = field.getInt(null);
+				Assert.assertTrue(field.getName(), field.getName().replace("_", "").equalsIgnoreCase(CheckMetrics.CHECKS[index]));
+				constants.add(field.getName());
+			}
+		}
+		Assert.assertEquals(CheckMetrics.CHECKS.length, constants.size());
+		final Set<String> methods = new HashSet<String>();
+		for (final Method method : Check.class.getMethods()) {
+			methods.add(method.getName());
+		}
+		for (final String check : CheckMetrics.CHECKS) {
+			Assert.assertTrue(check, methods.contains(check));
+		}
+	}
+
+	@Test
+	public void disabled_nothingIsCounted() {
+		Assert.assertFalse(CheckMetrics.isEnabled());
+		Check.notNull(new Object(), "reference");
+		try {
+			Check.notNull(null, "reference");
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertTrue(CheckMetrics.snapshot().getInvocations().isEmpty());
+			Assert.assertTrue(CheckMetrics.snapshot().getFailures().isEmpty());
+		}
+	}
+
+	@Test
+	public void enabled_countsInvocationsAndFailuresPerCallSite() throws Exception {
+		final Class<?> metrics = loadWithMetrics();
+		Assert.assertEquals(Boolean.TRUE, metrics.getMethod("isEnabled").invoke(null));
+		final Runnable caller = (Runnable) metrics.getClassLoader().loadClass(Caller.class.getName()).newInstance();
+		caller.run();
+		caller.run();
+
+		final Object snapshot = metrics.getMethod("snapshot").invoke(null);
+		final Map<String, Long> invocations = get(snapshot, "getInvocations");
+		// checkByte checks its number and both bounds for null, which counts as invocations of notNull
+		Assert.assertEquals(Long.valueOf(2L * (2L + 4L)), invocations.get("notNull"));
+		Assert.assertEquals(Long.valueOf(4L), invocations.get("notNegative"));
+		Assert.assertEquals(2, invocations.size());
+
+		final Map<String, Long> failures = get(snapshot, "getFailures");
+		Assert.assertEquals(Long.valueOf(2L), failures.get("notNull"));
+		Assert.assertEquals(Long.valueOf(2L), failures.get("notNegative"));
+		Assert.assertEquals(Long.valueOf(2L), failures.get("checkByte"));
+
+		final Map<String, Long> callSites = get(snapshot, "getFailuresByCallSite");
+		Assert.assertEquals(3, callSites.size());
+		for (final Map.Entry<String, Long> callSite : callSites.entrySet()) {
+			Assert.assertTrue(callSite.getKey(), callSite.getKey().contains(" at " + Caller.class.getName() + ".run(CheckMetricsTest.java:"));
+			Assert.assertEquals(Long.valueOf(2L), callSite.getValue());
+		}
+
+		metrics.getMethod("reset").invoke(null);
+		Assert.assertTrue(get(metrics.getMethod("snapshot").invoke(null), "getInvocations").isEmpty());
+	}
+
+	@Test
+	public void enabled_countsSampledFailures() throws Exception {
+		final Class<?> metrics = loadWithMetrics();
+		final Runnable caller = (Runnable) metrics.getClassLoader().loadClass(SampledCaller.class.getName()).newInstance();
+		caller.run();
+
+		final Object snapshot = metrics.getMethod("snapshot").invoke(null);
+		Assert.assertEquals(Long.valueOf(1L), get(snapshot, "getFailures").get("noNullElements"));
+		final Map<String, Long> callSites = get(snapshot, "getFailuresByCallSite");
+		Assert.assertEquals(1, callSites.size());
+		Assert.assertTrue(callSites.toString(), callSites.keySet().iterator().next()
+				.contains(" at " + SampledCaller.class.getName() + ".run(CheckMetricsTest.java:"));
+	}
+
+	@Test
+	public void enabled_registersMXBean() throws Exception {
+		final Class<?> metrics = loadWithMetrics();
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName name = new ObjectName(CheckMetrics.OBJECT_NAME);
+		Assert.assertTrue(server.isRegistered(name));
+
+		final Runnable caller = (Runnable) metrics.getClassLoader().loadClass(Caller.class.getName()).newInstance();
+		caller.run();
+		// the first class loader with enabled metrics has registered its metrics
+		Assert.assertNotNull(server.getAttribute(name, "Invocations"));
+		Assert.assertTrue(server.getAttribute(name, "Failures") instanceof TabularData);
+		Assert.assertTrue(server.getAttribute(name, "FailuresByCallSite") instanceof TabularData);
+		server.invoke(name, "reset", new Object[0], new String[0]);
+	}
+
+	@Test
+	public void failed_outsideOfCheckIsIgnored() {
+		CheckMetrics.failed(new Throwable().getStackTrace());
+		Assert.assertTrue(CheckMetrics.snapshot().getFailures().isEmpty());
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<CheckMetrics> constructor = CheckMetrics.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void invoked_isCountedUntilReset() {
+		CheckMetrics.invoked(CheckMetrics.RANGE);
+		CheckMetrics.invoked(CheckMetrics.RANGE);
+		Assert.assertEquals(Long.valueOf(2L), CheckMetrics.snapshot().getInvocations().get("range"));
+		CheckMetrics.reset();
+		Assert.assertTrue(CheckMetrics.snapshot().getInvocations().isEmpty());
+	}
+
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckModeTest {
+
+	/**
+	 * Checks which compute their result and are therefore performed in every mode
+	 */
+	private static final List<String> ALWAYS_PERFORMED = Arrays.asList("hasAnnotation", "isNumber");
+
+	private static Object argument(final Class<?> type) {
+		final Object argument;
+		if (type == boolean.class) {
+			argument = Boolean.FALSE;
+		} else if (type == byte.class) {
+			argument = Byte.valueOf((byte) -1);
+		} else if (type == char.class) {
+			argument = Character.valueOf('a');
+		} else if (type == double.class) {
+			argument = Double.valueOf(Double.NaN);
+		} else if (type == float.class) {
+			argument = Float.valueOf(Float.NaN);
+		} else if (type == int.class) {
+			argument = Integer.valueOf(-1);
+		} else if (type == long.class) {
+			argument = Long.valueOf(-1L);
+		} else if (type == short.class) {
+			argument = Short.valueOf((short) -1);
+		} else if (type == Class.class) {
+			argument = IllegalStateException.class;
+		} else if (type == Pattern.class) {
+			argument = Pattern.compile("x");
+		} else if (type == ByteBuffer.class) {
+			argument = ByteBuffer.allocate(0);
+		} else if (type == DoubleBuffer.class) {
+			argument = DoubleBuffer.wrap(new double[] { Double.NaN });
+		} else if (type == IntBuffer.class) {
+			argument = IntBuffer.wrap(new int[] { -1 });
+		} else if (type == LongBuffer.class) {
+			argument = LongBuffer.wrap(new long[] { -1L });
+		} else if (type == Object[].class) {
+			argument = new Object[] { null };
+		} else if (type.isArray()) {
+			argument = Array.newInstance(type.getComponentType(), 1);
+		} else {
+			argument = null;
+		}
+		return argument;
+	}
+
+	private static Object invoke(final Class<?> clazz, final String name, final Class<?>[] types, final Object... arguments)
+			throws Exception {
+		try {
+			return clazz.getMethod(name, types).invoke(null, arguments);
+		} catch (final InvocationTargetException e) {
+			throw (Exception) e.getCause();
+		}
+	}
+
+	/**
+	 * Loads a new instance of a class of the checks in its own class loader, which reads the mode again.
+	 */
+	private static Class<?> load(final Class<?> clazz, final CheckMode mode) throws Exception {
+		final String previous = System.getProperty(CheckMode.PROPERTY);
+		System.setProperty(CheckMode.PROPERTY, mode.name().toLowerCase());
+		try {
+			final URL classes = Check.class.getProtectionDomain().getCodeSource().getLocation();
+			final ClassLoader loader = new URLClassLoader(new URL[] { classes }, null);
+			Class.forName(Check.class.getName(), true, loader);
+			return Class.forName(clazz.getName(), true, loader);
+		} finally {
+			if (previous == null) {
+				System.clearProperty(CheckMode.PROPERTY);
+			} else {
+				System.setProperty(CheckMode.PROPERTY, previous);
+			}
+		}
+	}
+
+	@Test
+	public void current_isEnabledByDefault() {
+		Assert.assertEquals(CheckMode.ENABLED, CheckMode.current());
+	}
+
+	@Test
+	public void disabled_conditionalChecksPassInvalidArguments() throws Exception {
+		final Class<?> conditionalCheck = load(ConditionalCheck.class, CheckMode.DISABLED);
+		invoke(conditionalCheck, "notNull", new Class<?>[] { boolean.class, Object.class, String.class }, Boolean.TRUE, null, "ref");
+		invoke(conditionalCheck, "notNegative", new Class<?>[] { boolean.class, int.class, String.class }, Boolean.TRUE,
+				Integer.valueOf(-1), "value");
+	}
+
+	@Test
+	public void disabled_noCheckThrows() throws Exception {
+		final Class<?> check = load(Check.class, CheckMode.DISABLED);
+		final List<String> failures = new ArrayList<String>();
+		int checks = 0;
+		for (final Method method : check.getMethods()) {
+			if (Modifier.isStatic(method.getModifiers()) && !ALWAYS_PERFORMED.contains(method.getName())
+					&& !method.getName().equals("nothing")) {
+				final Class<?>[] types = method.getParameterTypes();
+				final Object[] arguments = new Object[types.length];
+				for (int i = 0; i < types.length; i++) {
+					arguments[i] = argument(types[i]);
+				}
+				try {
+					method.invoke(null, arguments);
+				} catch (final InvocationTargetException e) {
+					failures.add(method + " threw " + e.getCause());
+				}
+				checks++;
+			}
+		}
+		Assert.assertTrue(checks > 200);
+		Assert.assertEquals(Collections.emptyList(), failures);
+	}
+
+	@Test
+	public void disabled_parallelChecksScanNothing() throws Exception {
+		final Class<?> parallelCheck = load(ParallelCheck.class, CheckMode.DISABLED);
+		final Object[] array = new Object[ParallelCheck.THRESHOLD];
+		Assert.assertSame(array, invoke(parallelCheck, "noNullElements", new Class<?>[] { Object[].class, String.class }, array, "array"));
+	}
+
+	@Test
+	public void disabled_resultsArePassedThrough() throws Exception {
+		final Class<?> check = load(Check.class, CheckMode.DISABLED);
+		Assert.assertNull(invoke(check, "notNull", new Class<?>[] { Object.class, String.class }, null, "ref"));
+		Assert.assertEquals(Integer.valueOf(-1), invoke(check, "notNegative", new Class<?>[] { int.class, String.class },
+				Integer.valueOf(-1), "value"));
+		Assert.assertEquals(Long.valueOf(5L), invoke(check, "positionIndex", new Class<?>[] { long.class, long.class }, Long.valueOf(5L),
+				Long.valueOf(2L)));
+		Assert.assertEquals(Integer.valueOf(42), invoke(check, "isNumber", new Class<?>[] { String.class }, "42"));
+	}
+
+	@Test
+	public void disabled_valuesAreStillComputed() throws Exception {
+		final Class<?> check = load(Check.class, CheckMode.DISABLED);
+		try {
+			invoke(check, "isNumber", new Class<?>[] { String.class }, "x");
+			Assert.fail();
+		} catch (final RuntimeException e) {
+			Assert.assertEquals("IllegalNumberArgumentException", e.getClass().getSimpleName());
+		}
+	}
+
+	@Test
+	public void nullsOnly_onlyNullChecksArePerformed() throws Exception {
+		final Class<?> check = load(Check.class, CheckMode.NULLS_ONLY);
+		Assert.assertEquals(Integer.valueOf(-1), invoke(check, "notNegative", new Class<?>[] { int.class, String.class },
+				Integer.valueOf(-1), "value"));
+		Assert.assertEquals("", invoke(check, "notEmpty", new Class<?>[] { CharSequence.class, String.class }, "", "value"));
+		final Object[][] invalid = { { "notNull", new Class<?>[] { Object.class, String.class }, null, "ref" },
+				{ "notEmpty", new Class<?>[] { CharSequence.class, String.class }, null, "value" },
+				{ "noNullElements", new Class<?>[] { Object[].class, String.class }, new Object[] { null }, "values" } };
+		for (final Object[] call : invalid) {
+			try {
+				invoke(check, (String) call[0], (Class<?>[]) call[1], call[2], call[3]);
+				Assert.fail();
+			} catch (final RuntimeException e) {
+				Assert.assertTrue(e.getClass().getSimpleName().startsWith("IllegalNull"));
+			}
+		}
+	}
+
+	@Test
+	public void parse_ignoresCaseAndWhitespace() {
+		Assert.assertEquals(CheckMode.DISABLED, CheckMode.parse("disabled"));
+		Assert.assertEquals(CheckMode.NULLS_ONLY, CheckMode.parse(" Nulls_Only "));
+		Assert.assertEquals(CheckMode.ENABLED, CheckMode.parse("ENABLED"));
+	}
+
+	@Test
+	public void parse_unknownModeEnablesChecks() {
+		Assert.assertEquals(CheckMode.ENABLED, CheckMode.parse(null));
+		Assert.assertEquals(CheckMode.ENABLED, CheckMode.parse("off"));
+	}
+
+}
@@ -36,15 +36,6 @@ public class CheckTest {
 		constructor.newInstance();
 	}
 
-	@Test
-	public void giveMeCoverageForMyPrivateConstructor_NumericRegularExpressionHolder() throws Exception {
-		// reduces only some noise in coverage report
-		final Constructor<Check.NumericRegularExpressionHolder> constructor = Check.NumericRegularExpressionHolder.class
-				.getDeclaredConstructor();
-		constructor.setAccessible(true);
-		constructor.newInstance();
-	}
-
 	@Test
 	public void testCheckNothing() {
 		Assert.assertEquals(Integer.valueOf(42), Check.nothing(Integer.valueOf(42)));
@@ -15,9 +15,11 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.util.Arrays;
 import java.util.EnumSet;
 
 import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -30,6 +32,38 @@ public class CheckTest_contains {
 
 	private final EnumSet<Letter> set = EnumSet.of(Letter.A, Letter.D);
 
+	@Test
+	public void contains_allowedValues_checkReferenceIsSame() {
+		final AllowedValues<Letter> allowed = AllowedValues.of(set);
+		Assert.assertSame(Letter.A, Check.contains(allowed, Letter.A));
+		Assert.assertSame(Letter.D, Check.contains(allowed, Letter.D, "name"));
+	}
+
+	@Test
+	public void contains_allowedValues_getIllegalArgument() {
+		try {
+			Check.contains(AllowedValues.of(Arrays.asList("DE", "FR")), "IT", "country");
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			Assert.assertEquals("IT", e.getIllegalArgument());
+		}
+	}
+
+	@Test(expected = IllegalNotContainedArgumentException.class)
+	public void contains_allowedValues_isInvalid() {
+		Check.contains(AllowedValues.of(set), Letter.B);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void contains_allowedValues_isNull() {
+		Check.contains((AllowedValues<Letter>) null, Letter.B);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void contains_allowedValues_needleIsNull() {
+		Check.contains(AllowedValues.of(set), null, "name");
+	}
+
 	@Test
 	public void contains_checkReferenceIsSame() {
 		Assert.assertSame(Letter.A, Check.contains(set, Letter.A));
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_fromIndexSize {
+
+	@Test
+	public void fromIndexSize_buffer_boundedByLimit() {
+		final ByteBuffer buffer = ByteBuffer.allocate(16);
+		buffer.limit(12);
+		Assert.assertEquals(4, Check.fromIndexSize(4L, 8L, buffer));
+		try {
+			Check.fromIndexSize(8L, 8L, buffer);
+			Assert.fail();
+		} catch (final IllegalRangeException e) {
+			Assert.assertEquals("Arguments start='8', end='16' and size='12' must be a valid range.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void fromIndexSize_buffer_readRecord() {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(24);
+		buffer.putLong(16, 42L);
+		Assert.assertEquals(42L, buffer.getLong(Check.fromIndexSize(16L, 8L, buffer)));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void fromIndexSize_buffer_withNull() {
+		Check.fromIndexSize(0L, 0L, (ByteBuffer) null);
+	}
+
+	@Test
+	public void fromIndexSize_beyondIntegerRange() {
+		final long length = 6L * Integer.MAX_VALUE;
+		Assert.assertEquals(length - 8, Check.fromIndexSize(length - 8, 8L, length));
+		Assert.assertEquals(length, Check.fromIndexSize(length, 0L, length));
+		Assert.assertEquals(0L, Check.fromIndexSize(0L, length, length));
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromIndexSize_endAfterLength() {
+		Check.fromIndexSize(5000000000L, 9L, 5000000008L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromIndexSize_fromIndexAfterLength() {
+		Check.fromIndexSize(11L, 0L, 10L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromIndexSize_negativeFromIndex() {
+		Check.fromIndexSize(-1L, 1L, 10L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromIndexSize_negativeLength() {
+		Check.fromIndexSize(0L, 0L, -1L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromIndexSize_negativeLengthWrapsAround() {
+		Check.fromIndexSize(1L, 0L, Long.MIN_VALUE);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromIndexSize_negativeSize() {
+		Check.fromIndexSize(5L, -1L, 10L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromIndexSize_overflow() {
+		Check.fromIndexSize(Long.MAX_VALUE, Long.MAX_VALUE, 0L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromIndexSize_overflowWithinLength() {
+		Check.fromIndexSize(8L, Long.MAX_VALUE, Long.MAX_VALUE);
+	}
+
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_fromToIndex {
+
+	@Test
+	public void fromToIndex_buffer_boundedByLimit() {
+		final ByteBuffer buffer = ByteBuffer.allocate(16);
+		buffer.limit(12);
+		Assert.assertEquals(4, Check.fromToIndex(4L, 12L, buffer));
+		try {
+			Check.fromToIndex(4L, 13L, buffer);
+			Assert.fail();
+		} catch (final IllegalRangeException e) {
+			Assert.assertEquals("Arguments start='4', end='13' and size='12' must be a valid range.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void fromToIndex_buffer_withNull() {
+		Check.fromToIndex(0L, 0L, (ByteBuffer) null);
+	}
+
+	@Test
+	public void fromToIndex_beyondIntegerRange() {
+		Assert.assertEquals(4000000000L, Check.fromToIndex(4000000000L, 5000000000L, 5000000000L));
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromToIndex_toIndexAfterLength() {
+		Check.fromToIndex(4000000000L, 5000000001L, 5000000000L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void fromToIndex_toIndexBeforeFromIndex() {
+		Check.fromToIndex(3L, 2L, 10L);
+	}
+
+}
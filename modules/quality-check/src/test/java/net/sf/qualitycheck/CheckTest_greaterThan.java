@@ -15,6 +15,10 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
 import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
 
 import org.junit.Assert;
@@ -258,4 +262,52 @@ public class CheckTest_greaterThan {
 		Check.greaterThan(Integer.valueOf(a), Integer.valueOf(b), "Must be greater than 'check'.");
 	}
 
+	@Test
+	public void greaterThan_doubleArray_isValid() {
+		final double[] values = { Double.POSITIVE_INFINITY, Double.NaN, Math.nextUp(1.0) };
+		Assert.assertSame(values, Check.greaterThan(1.0, values, "values"));
+	}
+
+	@Test(expected = IllegalNotGreaterThanException.class)
+	public void greaterThan_doubleBuffer_isInvalid() {
+		Check.greaterThan(0.0, DoubleBuffer.wrap(new double[] { 1.0, 0.0 }), "values");
+	}
+
+	@Test(expected = IllegalNotGreaterThanException.class)
+	public void greaterThan_floatArray_isInvalid_POSITIVE_INFINITY() {
+		Check.greaterThan(Float.POSITIVE_INFINITY, new float[] { Float.POSITIVE_INFINITY }, "values");
+	}
+
+	@Test
+	public void greaterThan_intArray_withSlice_isInvalid() {
+		try {
+			Check.greaterThan(42, new int[] { 0, 43, 42 }, 1, 2, "values");
+			Assert.fail();
+		} catch (final IllegalNotGreaterThanException e) {
+			Assert.assertEquals("The passed argument 'values[2]' must be greater than 42.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNotGreaterThanException.class)
+	public void greaterThan_intArray_isInvalid_MAX_VALUE() {
+		Check.greaterThan(Integer.MAX_VALUE, new int[] { Integer.MAX_VALUE }, "values");
+	}
+
+	@Test
+	public void greaterThan_intBuffer_isValid() {
+		final IntBuffer values = IntBuffer.wrap(new int[] { 43, Integer.MAX_VALUE });
+		Assert.assertSame(values, Check.greaterThan(42, values, "values"));
+	}
+
+	@Test(expected = IllegalNotGreaterThanException.class)
+	public void greaterThan_longArray_isInvalid() {
+		Check.greaterThan(0L, new long[] { 1L, -1L }, "values");
+	}
+
+	@Test
+	public void greaterThan_longBuffer_isValid() {
+		final LongBuffer values = LongBuffer.wrap(new long[] { Long.MAX_VALUE });
+		Assert.assertSame(values, Check.greaterThan(Long.MAX_VALUE - 1L, values, "values"));
+	}
+
 }
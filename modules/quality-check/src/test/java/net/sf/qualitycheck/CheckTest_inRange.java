@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_inRange {
+
+	@Test
+	public void inRange_doubleArray_isInvalid() {
+		try {
+			Check.inRange(0.0, 1.0, new double[] { 0.0, Double.NaN, 1.0, 1.5 }, "values");
+			Assert.fail();
+		} catch (final IllegalNumberRangeException e) {
+			Assert.assertEquals("Argument 'values[3]' with value '1.5' must be in the range '0.0' to '1.0'.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void inRange_doubleBuffer_isValid() {
+		final DoubleBuffer values = ByteBuffer.allocateDirect(8 * 3000).asDoubleBuffer();
+		values.put(0, -1.0);
+		values.position(1);
+		Assert.assertSame(values, Check.inRange(0.0, 0.0, values, "values"));
+		Assert.assertEquals(1, values.position());
+	}
+
+	@Test
+	public void inRange_emptyRange() {
+		Assert.assertEquals(0, Check.inRange(1, 0, new int[0], "values").length);
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void inRange_emptyRange_isInvalid() {
+		Check.inRange(1, 0, new int[1], "values");
+	}
+
+	@Test
+	public void inRange_floatArray_withSlice_isValid() {
+		final float[] values = { -1.0f, 0.5f, 1.0f, 2.0f };
+		Assert.assertSame(values, Check.inRange(0.0f, 1.0f, values, 1, 2, "values"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void inRange_intArray_isNull() {
+		Check.inRange(0, 1, (int[]) null, "values");
+	}
+
+	@Test
+	public void inRange_intArray_isValid() {
+		final int[] values = { Integer.MIN_VALUE, 0, Integer.MAX_VALUE };
+		Assert.assertSame(values, Check.inRange(Integer.MIN_VALUE, Integer.MAX_VALUE, values, "values"));
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void inRange_intArray_withSlice_isOverflowing() {
+		Check.inRange(0, 1, new int[3], 1, Integer.MAX_VALUE, "values");
+	}
+
+	@Test
+	public void inRange_intBuffer_isInvalid() {
+		final IntBuffer values = IntBuffer.wrap(new int[] { 0, 5, 10 }, 1, 2).slice();
+		try {
+			Check.inRange(0, 9, values, null);
+			Assert.fail();
+		} catch (final IllegalNumberRangeException e) {
+			Assert.assertEquals("Argument '[1]' with value '10' must be in the range '0' to '9'.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void inRange_longArray_isInvalid() {
+		Check.inRange(-1L, 1L, new long[] { 0L, Long.MIN_VALUE }, "values");
+	}
+
+	@Test
+	public void inRange_longBuffer_isValid() {
+		final LongBuffer values = LongBuffer.wrap(new long[] { -1L, 1L });
+		Assert.assertSame(values, Check.inRange(-1L, 1L, values, "values"));
+	}
+
+}
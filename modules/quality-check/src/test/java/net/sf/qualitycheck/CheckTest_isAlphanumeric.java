@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalAlphanumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_isAlphanumeric {
+
+	@Test(expected = IllegalAlphanumericArgumentException.class)
+	public void isAlphanumeric_empty_fail() {
+		Check.isAlphanumeric("");
+	}
+
+	@Test(expected = IllegalAlphanumericArgumentException.class)
+	public void isAlphanumeric_fail() {
+		Check.isAlphanumeric("Quality-Check");
+	}
+
+	@Test(expected = IllegalAlphanumericArgumentException.class)
+	public void isAlphanumeric_longString_fail() {
+		Check.isAlphanumeric("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz");
+	}
+
+	@Test
+	public void isAlphanumeric_longString_okay() {
+		Assert.assertEquals("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz", Check.isAlphanumeric("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void isAlphanumeric_null_fail() {
+		Check.isAlphanumeric(null);
+	}
+
+	@Test
+	public void isAlphanumeric_okay() {
+		Assert.assertEquals("Quality4Check", Check.isAlphanumeric("Quality4Check"));
+	}
+
+	@Test
+	public void isAlphanumeric_withArgument_fail() {
+		try {
+			Check.isAlphanumeric("Quality-Check", "arg");
+			Assert.fail();
+		} catch (final IllegalAlphanumericArgumentException e) {
+			Assert.assertEquals("Quality-Check", e.getIllegalArgument());
+		}
+	}
+
+	@Test
+	public void isAlphanumeric_withArgument_okay() {
+		Assert.assertEquals("Quality4Check", Check.isAlphanumeric(new StringBuilder("Quality4Check"), "arg").toString());
+	}
+
+}
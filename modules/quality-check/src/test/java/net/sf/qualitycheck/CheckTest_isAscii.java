@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalAsciiArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_isAscii {
+
+	@Test
+	public void isAscii_empty_okay() {
+		Assert.assertEquals("", Check.isAscii(""));
+	}
+
+	@Test(expected = IllegalAsciiArgumentException.class)
+	public void isAscii_fail() {
+		Check.isAscii("Qualit\u00e4t");
+	}
+
+	@Test(expected = IllegalAsciiArgumentException.class)
+	public void isAscii_longString_fail() {
+		Check.isAscii("Quality-Check: Tiny checks to write r\u00f6bust code.");
+	}
+
+	@Test
+	public void isAscii_longString_okay() {
+		Assert.assertEquals("Quality-Check: Tiny checks to write robust code.", Check.isAscii("Quality-Check: Tiny checks to write robust code."));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void isAscii_null_fail() {
+		Check.isAscii(null);
+	}
+
+	@Test
+	public void isAscii_okay() {
+		Assert.assertEquals("Quality-Check 1.3!", Check.isAscii("Quality-Check 1.3!"));
+	}
+
+	@Test
+	public void isAscii_withArgument_fail() {
+		try {
+			Check.isAscii("Qualit\u00e4t", "arg");
+			Assert.fail();
+		} catch (final IllegalAsciiArgumentException e) {
+			Assert.assertEquals("Qualit\u00e4t", e.getIllegalArgument());
+		}
+	}
+
+	@Test
+	public void isAscii_withArgument_okay() {
+		Assert.assertEquals("Quality-Check 1.3!", Check.isAscii(new StringBuilder("Quality-Check 1.3!"), "arg").toString());
+	}
+
+}
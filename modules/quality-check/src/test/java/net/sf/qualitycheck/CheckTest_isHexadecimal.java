@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalHexadecimalArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_isHexadecimal {
+
+	@Test(expected = IllegalHexadecimalArgumentException.class)
+	public void isHexadecimal_empty_fail() {
+		Check.isHexadecimal("");
+	}
+
+	@Test(expected = IllegalHexadecimalArgumentException.class)
+	public void isHexadecimal_fail() {
+		Check.isHexadecimal("0x1f");
+	}
+
+	@Test(expected = IllegalHexadecimalArgumentException.class)
+	public void isHexadecimal_longString_fail() {
+		Check.isHexadecimal("0123456789abcdefABCDEF0123456789abcdefABCDEFG");
+	}
+
+	@Test
+	public void isHexadecimal_longString_okay() {
+		Assert.assertEquals("0123456789abcdefABCDEF0123456789abcdefABCDEF", Check.isHexadecimal("0123456789abcdefABCDEF0123456789abcdefABCDEF"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void isHexadecimal_null_fail() {
+		Check.isHexadecimal(null);
+	}
+
+	@Test
+	public void isHexadecimal_okay() {
+		Assert.assertEquals("0a1B2c", Check.isHexadecimal("0a1B2c"));
+	}
+
+	@Test
+	public void isHexadecimal_withArgument_fail() {
+		try {
+			Check.isHexadecimal("0x1f", "arg");
+			Assert.fail();
+		} catch (final IllegalHexadecimalArgumentException e) {
+			Assert.assertEquals("0x1f", e.getIllegalArgument());
+		}
+	}
+
+	@Test
+	public void isHexadecimal_withArgument_okay() {
+		Assert.assertEquals("0a1B2c", Check.isHexadecimal(new StringBuilder("0a1B2c"), "arg").toString());
+	}
+
+}
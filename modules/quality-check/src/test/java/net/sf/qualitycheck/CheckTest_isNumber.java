@@ -164,4 +164,108 @@ public class CheckTest_isNumber {
 	public void isNumber_BigDecimal_Fail() {
 		Check.isNumber("Halllo121000099999999999999999.90", "fail", BigDecimal.class);
 	}
+
+	@Test
+	public void isNumber_Integer_withPlusSign_Ok() {
+		Assert.assertEquals(Integer.valueOf(42), Check.isNumber("+42", Integer.class));
+	}
+
+	@Test
+	public void isNumber_Integer_withDigitsOfOtherScripts_Ok() {
+		Assert.assertEquals(Integer.valueOf(123), Check.isNumber("\u0661\u0662\u0663", Integer.class));
+	}
+
+	@Test
+	public void isNumber_Integer_malformed_withoutCause() {
+		try {
+			Check.isNumber("12a", "value", Integer.class);
+			Assert.fail();
+		} catch (final IllegalNumberArgumentException e) {
+			Assert.assertNull(e.getCause());
+			Assert.assertEquals("The passed argument 'value' must be a number.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isNumber_Integer_onlySign_Fail() {
+		Check.isNumber("-", Integer.class);
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isNumber_Integer_malformedAfterOverflow_Fail() {
+		Check.isNumber("99999999999x", Integer.class);
+	}
+
+	@Test
+	public void isNumber_Integer_limits_Ok() {
+		Assert.assertEquals(Integer.valueOf(Integer.MIN_VALUE), Check.isNumber("-2147483648", Integer.class));
+		Assert.assertEquals(Integer.valueOf(Integer.MAX_VALUE), Check.isNumber("2147483647", Integer.class));
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isNumber_Integer_aboveLimit_Fail() {
+		Check.isNumber("2147483648", Integer.class);
+	}
+
+	@Test
+	public void isNumber_Long_limits_Ok() {
+		Assert.assertEquals(Long.valueOf(Long.MIN_VALUE), Check.isNumber("-9223372036854775808", Long.class));
+		Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), Check.isNumber("9223372036854775807", Long.class));
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isNumber_Byte_belowLimit_Fail() {
+		Check.isNumber("-129", Byte.class);
+	}
+
+	@Test
+	public void isNumber_Double_withExponent_Ok() {
+		Assert.assertEquals(Double.valueOf(1250.0), Check.isNumber("1.25e3", Double.class));
+	}
+
+	@Test
+	public void isNumber_Double_negativeZero_Ok() {
+		Assert.assertEquals(Double.valueOf(0.0), Check.isNumber("-0.0", Double.class));
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isNumber_Double_aboveLimit_Fail() {
+		Check.isNumber("1.8e308", Double.class);
+	}
+
+	@Test
+	public void isNumber_Double_limit_Ok() {
+		Assert.assertEquals(Double.valueOf(-Double.MAX_VALUE), Check.isNumber(Double.toString(-Double.MAX_VALUE), Double.class));
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isNumber_Double_NaN_Fail() {
+		Check.isNumber("NaN", Double.class);
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isNumber_Double_withTypeSuffix_Fail() {
+		Check.isNumber("1.5d", Double.class);
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isNumber_Double_hugeExponent_Fail() {
+		Check.isNumber("1e-99999999999", Double.class);
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isNumber_Float_aboveLimit_Fail() {
+		Check.isNumber("3.5e38", Float.class);
+	}
+
+	@Test
+	public void isNumber_Float_limit_Ok() {
+		Assert.assertEquals(Float.valueOf(Float.MAX_VALUE), Check.isNumber("3.4028234e38", Float.class));
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isNumber_Float_malformed_Fail() {
+		Check.isNumber("1.2.3", "value", Float.class);
+	}
+
 }
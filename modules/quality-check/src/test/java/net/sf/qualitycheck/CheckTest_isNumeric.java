@@ -27,6 +27,11 @@ public class CheckTest_isNumeric {
 		Check.isNumeric("1.23");
 	}
 
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void isNumeric_empty_fail() {
+		Check.isNumeric("");
+	}
+
 	@Test(expected = IllegalNumericArgumentException.class)
 	public void isNumeric_fail() {
 		Check.isNumeric("Hallo Welt!");
@@ -37,6 +42,11 @@ public class CheckTest_isNumeric {
 		Assert.assertEquals("1230000000000000000000000000", Check.isNumeric("1230000000000000000000000000"));
 	}
 
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void isNumeric_longStringWithOtherDigits_fail() {
+		Check.isNumeric("12300000000000000000000000\u0660\u0660");
+	}
+
 	@Test(expected = IllegalNumericArgumentException.class)
 	public void isNumeric_negativeNumber_fail() {
 		Check.isNumeric("-123");
@@ -15,6 +15,10 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
 import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
 
 import org.junit.Assert;
@@ -256,4 +260,53 @@ public class CheckTest_lesserThan {
 
 		Check.lesserThan(expected, check, "Must be lesser than '42'.");
 	}
+
+	@Test
+	public void lesserThan_doubleArray_isInvalid() {
+		try {
+			Check.lesserThan(1.0, new double[] { 0.0, Math.nextUp(1.0), 1.0 }, "values");
+			Assert.fail();
+		} catch (final IllegalNotLesserThanException e) {
+			Assert.assertEquals("The passed argument 'values[1]' must be lesser than 1.0.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void lesserThan_doubleBuffer_isValid() {
+		final DoubleBuffer values = DoubleBuffer.wrap(new double[] { Double.NEGATIVE_INFINITY, Double.NaN, 0.99 });
+		Assert.assertSame(values, Check.lesserThan(1.0, values, "values"));
+	}
+
+	@Test(expected = IllegalNotLesserThanException.class)
+	public void lesserThan_floatArray_isInvalid_NEGATIVE_INFINITY() {
+		Check.lesserThan(Float.NEGATIVE_INFINITY, new float[] { Float.NEGATIVE_INFINITY }, "values");
+	}
+
+	@Test
+	public void lesserThan_intArray_withSlice_isValid() {
+		final int[] values = { 42, 41, Integer.MIN_VALUE, 42 };
+		Assert.assertSame(values, Check.lesserThan(42, values, 1, 2, "values"));
+	}
+
+	@Test(expected = IllegalNotLesserThanException.class)
+	public void lesserThan_intArray_isInvalid_MIN_VALUE() {
+		Check.lesserThan(Integer.MIN_VALUE, new int[] { Integer.MIN_VALUE }, "values");
+	}
+
+	@Test(expected = IllegalNotLesserThanException.class)
+	public void lesserThan_intBuffer_isInvalid() {
+		Check.lesserThan(42, IntBuffer.wrap(new int[] { 41, 42 }), "values");
+	}
+
+	@Test
+	public void lesserThan_longArray_isValid() {
+		final long[] values = { Long.MAX_VALUE - 1L, Long.MIN_VALUE };
+		Assert.assertSame(values, Check.lesserThan(Long.MAX_VALUE, values, "values"));
+	}
+
+	@Test(expected = IllegalNotLesserThanException.class)
+	public void lesserThan_longBuffer_isInvalid() {
+		Check.lesserThan(Long.MIN_VALUE, LongBuffer.wrap(new long[] { Long.MIN_VALUE }), "values");
+	}
+
 }
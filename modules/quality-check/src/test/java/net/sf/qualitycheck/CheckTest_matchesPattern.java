@@ -16,6 +16,7 @@
 package net.sf.qualitycheck;
 
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
@@ -32,7 +33,7 @@ public class CheckTest_matchesPattern {
 
 	@Test(expected = IllegalNullArgumentException.class)
 	public void matchesPattern_pattern_isNull() {
-		Check.matchesPattern(null, "abc");
+		Check.matchesPattern((Pattern) null, "abc");
 	}
 
 	@Test
@@ -54,6 +55,53 @@ public class CheckTest_matchesPattern {
 		Assert.assertSame(text, Check.matchesPattern(Pattern.compile("abc"), text));
 	}
 
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_regex_isNull() {
+		Check.matchesPattern((String) null, "abc");
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void matchesPattern_regex_isInvalid() {
+		Check.matchesPattern("a(", "abc", "text");
+	}
+
+	@Test
+	public void matchesPattern_regex_isValid() {
+		final String text = "abc";
+		Assert.assertSame(text, Check.matchesPattern("[a-c]+", text));
+		Assert.assertSame(text, Check.matchesPattern("[a-c]+", text, "text"));
+		Assert.assertSame(PatternCache.getShared().compile("[a-c]+"), PatternCache.getShared().compile("[a-c]+"));
+	}
+
+	@Test
+	public void matchesPattern_regex_withArgName_isInvalid() {
+		try {
+			Check.matchesPattern("[a-c]+", "abd", "text");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("'text'"));
+		}
+	}
+
+	@Test
+	public void matchesPattern_reusesMatcherForSeveralInputs() {
+		final Pattern pattern = Pattern.compile("a+");
+		for (int i = 1; i < 10; i++) {
+			final StringBuilder builder = new StringBuilder();
+			for (int j = 0; j < i; j++) {
+				builder.append('a');
+			}
+			Assert.assertSame(builder, Check.matchesPattern(pattern, builder));
+		}
+		try {
+			Check.matchesPattern(pattern, "ab");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			// expected
+		}
+		Check.matchesPattern(pattern, "aaa");
+	}
+
 	@Test(expected = IllegalNullArgumentException.class)
 	public void matchesPattern_withArgName_chars_isNull() {
 		final String text = null;
@@ -63,7 +111,7 @@ public class CheckTest_matchesPattern {
 	@Test(expected = IllegalNullArgumentException.class)
 	public void matchesPattern_withArgName_pattern_isNull() {
 		final String text = "abc";
-		Check.matchesPattern(null, text, "text");
+		Check.matchesPattern((Pattern) null, text, "text");
 	}
 
 	@Test(expected = IllegalPatternArgumentException.class)
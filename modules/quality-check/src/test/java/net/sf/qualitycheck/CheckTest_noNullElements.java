@@ -17,7 +17,11 @@ package net.sf.qualitycheck;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import net.sf.qualitycheck.exception.IllegalNullElementsException;
 
@@ -58,7 +62,7 @@ public class CheckTest_noNullElements {
 			actual = e;
 			throw e;
 		} finally {
-			final String expected = "The passed argument must not contain elements that are null.";
+			final String expected = "The passed argument must not contain elements that are null, but the element at index 4 is null.";
 			if (actual != null) {
 				Assert.assertEquals(expected, actual.getMessage());
 			}
@@ -74,7 +78,7 @@ public class CheckTest_noNullElements {
 			actual = e;
 			throw e;
 		} finally {
-			final String expected = "The passed argument 'obj' must not contain elements that are null.";
+			final String expected = "The passed argument 'obj' must not contain elements that are null, but the element at index 4 is null.";
 			if (actual != null) {
 				Assert.assertEquals(expected, actual.getMessage());
 			}
@@ -91,7 +95,7 @@ public class CheckTest_noNullElements {
 			actual = e;
 			throw e;
 		} finally {
-			final String expected = "The passed argument must not contain elements that are null.";
+			final String expected = "The passed argument must not contain elements that are null, but the element at index 4 is null.";
 			if (actual != null) {
 				Assert.assertEquals(expected, actual.getMessage());
 			}
@@ -108,7 +112,7 @@ public class CheckTest_noNullElements {
 			actual = e;
 			throw e;
 		} finally {
-			final String expected = "The passed argument 'myIterable' must not contain elements that are null.";
+			final String expected = "The passed argument 'myIterable' must not contain elements that are null, but the element at index 4 is null.";
 			if (actual != null) {
 				Assert.assertEquals(expected, actual.getMessage());
 			}
@@ -147,4 +151,42 @@ public class CheckTest_noNullElements {
 		Check.noNullElements(new String[] { "Hello", "World" }, "obj");
 	}
 
+	@Test
+	public void noNullElements_iterable_reportsIndex() {
+		final List<Integer> list = new ArrayList<Integer>(Arrays.asList(1, 2, null, 4, null));
+		final Iterable<Integer> iterable = new Iterable<Integer>() {
+			@Override
+			public Iterator<Integer> iterator() {
+				return list.iterator();
+			}
+		};
+		final List<Iterable<Integer>> iterables = new ArrayList<Iterable<Integer>>();
+		iterables.add(list);
+		iterables.add(new LinkedList<Integer>(list));
+		iterables.add(iterable);
+		for (final Iterable<Integer> candidate : iterables) {
+			try {
+				Check.noNullElements(candidate, "values");
+				Assert.fail();
+			} catch (final IllegalNullElementsException e) {
+				Assert.assertEquals(2, e.getIndex());
+				Assert.assertEquals("The passed argument 'values' must not contain elements that are null, but the element at index 2 is null.",
+						e.getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void noNullElements_iterableWithoutNull_ok() {
+		final Iterable<Integer> iterable = new Iterable<Integer>() {
+			@Override
+			public Iterator<Integer> iterator() {
+				return Arrays.asList(1, 2).iterator();
+			}
+		};
+		Assert.assertSame(iterable, Check.noNullElements(iterable, "values"));
+		final Set<Integer> set = new HashSet<Integer>(Arrays.asList(1, 2));
+		Assert.assertSame(set, Check.noNullElements(set, "values"));
+	}
+
 }
@@ -15,9 +15,11 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -218,4 +220,22 @@ public class CheckTest_notEmpty {
 		Assert.assertSame(text, Check.notEmpty(text, "text"));
 	}
 
+	@Test
+	public void notEmpty_iterableWhichIsNoCollection() {
+		final List<String> list = new ArrayList<String>();
+		final Iterable<String> iterable = new Iterable<String>() {
+			@Override
+			public Iterator<String> iterator() {
+				return list.iterator();
+			}
+		};
+		try {
+			Check.notEmpty(iterable, "iterable");
+			Assert.fail();
+		} catch (final IllegalEmptyArgumentException e) {
+			list.add("a");
+		}
+		Assert.assertSame(iterable, Check.notEmpty(iterable, "iterable"));
+	}
+
 }
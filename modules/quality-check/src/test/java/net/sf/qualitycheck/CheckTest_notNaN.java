@@ -15,7 +15,11 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.nio.DoubleBuffer;
+
 import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -62,4 +66,39 @@ public class CheckTest_notNaN {
 		Assert.assertEquals(1.0f, Check.notNaN(1.0f, "float"), 0.0f);
 	}
 
+	@Test
+	public void notNaN_doubleArray_isInvalid() {
+		final double[] values = new double[2048];
+		values[1500] = Double.NaN;
+		try {
+			Check.notNaN(values, "values");
+			Assert.fail();
+		} catch (final IllegalNaNArgumentException e) {
+			Assert.assertEquals("The passed argument 'values[1500]' must not be NaN.", e.getMessage());
+		}
+		Assert.assertSame(values, Check.notNaN(values, 0, 1500, "values"));
+	}
+
+	@Test
+	public void notNaN_doubleBuffer_isValid() {
+		final DoubleBuffer values = DoubleBuffer.wrap(new double[] { Double.NaN, Double.NEGATIVE_INFINITY, 0.0 });
+		values.position(1);
+		Assert.assertSame(values, Check.notNaN(values, "values"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void notNaN_floatArray_isNull() {
+		Check.notNaN((float[]) null, "values");
+	}
+
+	@Test(expected = IllegalNaNArgumentException.class)
+	public void notNaN_floatArray_withSlice_isInvalid() {
+		Check.notNaN(new float[] { 1.0f, Float.NaN }, 1, 1, "values");
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void notNaN_floatArray_withSlice_isNegativeLength() {
+		Check.notNaN(new float[3], 1, -1, "values");
+	}
+
 }
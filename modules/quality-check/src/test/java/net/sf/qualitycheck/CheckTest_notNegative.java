@@ -15,7 +15,13 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
 import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -187,4 +193,76 @@ public class CheckTest_notNegative {
 	public void notNegative_short_withReference_withName_isValid() {
 		Check.notNegative((short) 1, "one");
 	}
+
+	@Test
+	public void notNegative_doubleArray_isValid() {
+		final double[] values = { 0.0, 1.0, Double.NaN, Double.POSITIVE_INFINITY };
+		Assert.assertSame(values, Check.notNegative(values, "values"));
+	}
+
+	@Test
+	public void notNegative_doubleBuffer_isInvalid() {
+		final DoubleBuffer values = DoubleBuffer.wrap(new double[] { -1.0, 0.0, 1.0, -0.5 });
+		values.position(1);
+		try {
+			Check.notNegative(values, "values");
+			Assert.fail();
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals("The passed argument 'values[3]' must be greater than 0.", e.getMessage());
+		}
+		Assert.assertEquals(1, values.position());
+	}
+
+	@Test
+	public void notNegative_floatArray_withSlice_isValid() {
+		final float[] values = { -1.0f, 0.0f, -0.0f, 2.0f, -1.0f };
+		Assert.assertSame(values, Check.notNegative(values, 1, 3, "values"));
+	}
+
+	@Test
+	public void notNegative_intArray_isInvalid() {
+		final int[] values = new int[5000];
+		values[4097] = -1;
+		values[4099] = -2;
+		try {
+			Check.notNegative(values, "values");
+			Assert.fail();
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals("The passed argument 'values[4097]' must be greater than 0.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void notNegative_intArray_isNull() {
+		Check.notNegative((int[]) null, "values");
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void notNegative_intArray_withSlice_isOutOfBounds() {
+		Check.notNegative(new int[3], 2, 2, "values");
+	}
+
+	@Test
+	public void notNegative_intBuffer_isValid() {
+		final IntBuffer values = IntBuffer.wrap(new int[] { 0, Integer.MAX_VALUE });
+		Assert.assertSame(values, Check.notNegative(values, "values"));
+	}
+
+	@Test
+	public void notNegative_longArray_withSlice_isInvalid() {
+		try {
+			Check.notNegative(new long[] { 1L, 2L, Long.MIN_VALUE }, 1, 2, null);
+			Assert.fail();
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'[2]'"));
+		}
+	}
+
+	@Test
+	public void notNegative_longBuffer_isValid() {
+		final LongBuffer values = LongBuffer.wrap(new long[] { 0L, Long.MAX_VALUE });
+		Assert.assertSame(values, Check.notNegative(values, "values"));
+		Assert.assertSame(values, Check.notNegative(values, "values"));
+	}
+
 }
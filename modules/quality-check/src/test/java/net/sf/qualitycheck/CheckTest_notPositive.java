@@ -15,7 +15,14 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalPositiveArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -175,4 +182,53 @@ public class CheckTest_notPositive {
 	public void notPositive_short_withReference_withName_isValid() {
 		Check.notPositive((short) -1, "one");
 	}
+
+	@Test
+	public void notPositive_doubleArray_withSlice_isInvalid() {
+		try {
+			Check.notPositive(new double[] { 1.0, -1.0, Double.NaN, Double.MIN_VALUE }, 1, 3, "values");
+			Assert.fail();
+		} catch (final IllegalPositiveArgumentException e) {
+			Assert.assertEquals("The passed argument 'values[3]' must be smaller than 0.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void notPositive_doubleBuffer_isValid() {
+		final DoubleBuffer values = DoubleBuffer.wrap(new double[] { 0.0, -0.0, Double.NEGATIVE_INFINITY });
+		Assert.assertSame(values, Check.notPositive(values, "values"));
+	}
+
+	@Test
+	public void notPositive_floatArray_isValid() {
+		final float[] values = { 0.0f, -1.0f, Float.NaN };
+		Assert.assertSame(values, Check.notPositive(values, "values"));
+	}
+
+	@Test(expected = IllegalPositiveArgumentException.class)
+	public void notPositive_intArray_isInvalid() {
+		Check.notPositive(new int[] { 0, -1, 1 }, "values");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void notPositive_intBuffer_isNull() {
+		Check.notPositive((IntBuffer) null, "values");
+	}
+
+	@Test
+	public void notPositive_longArray_isValid() {
+		final long[] values = { 0L, Long.MIN_VALUE };
+		Assert.assertSame(values, Check.notPositive(values, "values"));
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void notPositive_longArray_withSlice_isNegativeOffset() {
+		Check.notPositive(new long[3], -1, 2, "values");
+	}
+
+	@Test(expected = IllegalPositiveArgumentException.class)
+	public void notPositive_longBuffer_isInvalid() {
+		Check.notPositive(LongBuffer.wrap(new long[] { Long.MAX_VALUE }), "values");
+	}
+
 }
@@ -59,4 +59,36 @@ public class CheckTest_positionIndex {
 		Check.positionIndex(0, -1);
 	}
 
+	@Test
+	public void positionIndex_long_beyondIntegerRange() {
+		Assert.assertEquals(5000000000L, Check.positionIndex(5000000000L, 5000000001L));
+		Assert.assertEquals(0L, Check.positionIndex(0L, Long.MAX_VALUE));
+		Assert.assertEquals(Long.MAX_VALUE - 1, Check.positionIndex(Long.MAX_VALUE - 1, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void positionIndex_long_indexEqualsSize() {
+		try {
+			Check.positionIndex(5000000000L, 5000000000L);
+			Assert.fail();
+		} catch (final IllegalPositionIndexException e) {
+			Assert.assertEquals("Position index '5000000000' must be within the defined bounds [0,5000000000].", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void positionIndex_long_indexNegative() {
+		Check.positionIndex(Long.MIN_VALUE, 3L);
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void positionIndex_long_sizeNegative() {
+		Check.positionIndex(0L, -1L);
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void positionIndex_long_sizeZero() {
+		Check.positionIndex(0L, 0L);
+	}
+
 }
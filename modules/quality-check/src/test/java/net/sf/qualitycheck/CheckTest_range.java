@@ -89,4 +89,36 @@ public class CheckTest_range {
 		Check.range(1, 1, 1);
 	}
 
+	@Test
+	public void range_long_beyondIntegerRange() {
+		Check.range(4000000000L, 5000000000L, 5000000000L);
+		Check.range(0L, Long.MAX_VALUE, Long.MAX_VALUE);
+		Check.range(0L, 0L, 0L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void range_long_endAfterSize() {
+		Check.range(0L, 5000000001L, 5000000000L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void range_long_endBeforeStart() {
+		Check.range(5000000000L, 4000000000L, 5000000000L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void range_long_negativeEnd() {
+		Check.range(0L, Long.MIN_VALUE, 5L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void range_long_negativeSize() {
+		Check.range(0L, 0L, -1L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void range_long_negativeStart() {
+		Check.range(-1L, 0L, 5L);
+	}
+
 }
@@ -15,8 +15,10 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 public class CheckTest_stateIsTrue {
@@ -49,6 +51,32 @@ public class CheckTest_stateIsTrue {
 		Check.stateIsTrue(true);
 	}
 
+	@Test
+	public void checkStateIsTrueWithFactory_False() {
+		final IllegalStateException expected = new IllegalStateException();
+		try {
+			Check.stateIsTrue(false, new ExceptionFactory<IllegalStateException>() {
+				@Override
+				public IllegalStateException create(final Throwable cause) {
+					return expected;
+				}
+			});
+			Assert.fail();
+		} catch (final IllegalStateException e) {
+			Assert.assertSame(expected, e);
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void checkStateIsTrueWithFactory_isNull() {
+		Check.stateIsTrue(true, (ExceptionFactory<RuntimeException>) null);
+	}
+
+	@Test
+	public void checkStateIsTrueWithFactory_True() {
+		Check.stateIsTrue(true, ExceptionFactories.of(NullPointerException.class));
+	}
+
 	@Test(expected = IllegalStateOfArgumentException.class)
 	public void checkStateIsTrueWithMessage_False() {
 		Check.stateIsTrue(false, "False is not allowed.");
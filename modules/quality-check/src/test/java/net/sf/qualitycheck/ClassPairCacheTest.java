@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ClassPairCacheTest {
+
+	public interface Marked {
+	}
+
+	@Inherited
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Marker {
+	}
+
+	@Marker
+	public static class Unloadable implements Marked {
+	}
+
+	public static class UnloadableChild extends Unloadable {
+	}
+
+	private static WeakReference<ClassLoader> checkInSeparateLoader() throws Exception {
+		final URL location = ClassPairCacheTest.class.getProtectionDomain().getCodeSource().getLocation();
+		final ClassLoader loader = new URLClassLoader(new URL[] { location }, null);
+		final Class<?> unloadable = loader.loadClass(Unloadable.class.getName());
+		Assert.assertNotSame(Unloadable.class, unloadable);
+		@SuppressWarnings("unchecked")
+		final Class<? extends Annotation> marker = (Class<? extends Annotation>) loader.loadClass(Marker.class.getName());
+		Assert.assertNotNull(Check.hasAnnotation(unloadable, marker));
+		Assert.assertNotNull(Check.instanceOf(loader.loadClass(Marked.class.getName()), unloadable.newInstance(), "unloadable"));
+		return new WeakReference<ClassLoader>(loader);
+	}
+
+	@Test
+	public void getAnnotation_cached() {
+		final Marker marker = ClassPairCache.getAnnotation(Unloadable.class, Marker.class);
+		Assert.assertNotNull(marker);
+		Assert.assertSame(marker, ClassPairCache.getAnnotation(Unloadable.class, Marker.class));
+		Assert.assertNull(ClassPairCache.getAnnotation(ClassPairCacheTest.class, Marker.class));
+		Assert.assertNull(ClassPairCache.getAnnotation(ClassPairCacheTest.class, Marker.class));
+	}
+
+	@Test
+	public void getAnnotation_inherited() {
+		Assert.assertSame(Unloadable.class.getAnnotation(Marker.class), ClassPairCache.getAnnotation(UnloadableChild.class, Marker.class));
+	}
+
+	@Test
+	public void isInstance_manyClasses() {
+		for (int run = 0; run < 2; run++) {
+			for (int dimensions = 1; dimensions <= 255; dimensions++) {
+				for (final Class<?> component : new Class<?>[] { Object.class, String.class, int.class, Marked.class, Unloadable.class }) {
+					final Object array = Array.newInstance(component, new int[dimensions]);
+					Assert.assertTrue(ClassPairCache.isInstance(Cloneable.class, array));
+					Assert.assertTrue(ClassPairCache.isInstance(Serializable.class, array));
+					Assert.assertFalse(ClassPairCache.isInstance(Marked.class, array));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void isInstance_sameAsClass() {
+		final Object child = new UnloadableChild();
+		Assert.assertTrue(ClassPairCache.isInstance(Marked.class, child));
+		Assert.assertTrue(ClassPairCache.isInstance(Marked.class, child));
+		Assert.assertTrue(ClassPairCache.isInstance(Unloadable.class, child));
+		Assert.assertFalse(ClassPairCache.isInstance(UnloadableChild.class, new Unloadable()));
+		Assert.assertFalse(ClassPairCache.isInstance(Runnable.class, child));
+		Assert.assertFalse(ClassPairCache.isInstance(Runnable.class, child));
+	}
+
+	@Test
+	public void separateClassLoader_canBeUnloaded() throws Exception {
+		final WeakReference<ClassLoader> loader = checkInSeparateLoader();
+		for (int i = 0; i < 20 && loader.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assert.assertNull(loader.get());
+	}
+
+}
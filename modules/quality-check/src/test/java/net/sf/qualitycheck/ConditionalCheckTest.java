@@ -16,6 +16,8 @@
 package net.sf.qualitycheck;
 
 import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -25,13 +27,16 @@ import java.util.regex.Pattern;
 
 import javax.annotation.Resource;
 
-import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalAlphanumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalAsciiArgumentException;
 import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
 import net.sf.qualitycheck.exception.IllegalEqualException;
+import net.sf.qualitycheck.exception.IllegalHexadecimalArgumentException;
 import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
 import net.sf.qualitycheck.exception.IllegalMissingAnnotationException;
 import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
 import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
 import net.sf.qualitycheck.exception.IllegalNotEqualException;
 import net.sf.qualitycheck.exception.IllegalNotGreaterOrEqualThanException;
 import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
@@ -40,6 +45,7 @@ import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullElementsException;
 import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
 import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
 import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
 import net.sf.qualitycheck.exception.IllegalPositionIndexException;
@@ -130,6 +136,28 @@ public class ConditionalCheckTest {
 		ConditionalCheck.contains(true, set, Letter.D, "msg");
 	}
 
+	@Test
+	public void testContainsAllowedValues_Negative() {
+		ConditionalCheck.contains(false, AllowedValues.of(set), Letter.B);
+		ConditionalCheck.contains(false, AllowedValues.of(set), Letter.B, "msg");
+	}
+
+	@Test(expected = IllegalNotContainedArgumentException.class)
+	public void testContainsAllowedValues_Positive_Failure() {
+		ConditionalCheck.contains(true, AllowedValues.of(set), Letter.C);
+	}
+
+	@Test
+	public void testContainsAllowedValues_Positive_NoFailure() {
+		ConditionalCheck.contains(true, AllowedValues.of(set), Letter.A);
+		ConditionalCheck.contains(true, AllowedValues.of(set), Letter.D, "msg");
+	}
+
+	@Test(expected = IllegalNotContainedArgumentException.class)
+	public void testContainsAllowedValuesMsg_Positive_Failure() {
+		ConditionalCheck.contains(true, AllowedValues.of(set), Letter.C, "msg");
+	}
+
 	@Test
 	public void testEquals_Negative() {
 		ConditionalCheck.equals(false, Long.valueOf(412), Long.valueOf(42));
@@ -481,6 +509,96 @@ public class ConditionalCheckTest {
 		ConditionalCheck.instanceOf(true, Long.class, Long.valueOf(3), "arg");
 	}
 
+	@Test
+	public void testIsAlphanumeric_Negative() {
+		ConditionalCheck.isAlphanumeric(false, "Quality-Check");
+	}
+
+	@Test(expected = IllegalAlphanumericArgumentException.class)
+	public void testIsAlphanumeric_Positive_Failure() {
+		ConditionalCheck.isAlphanumeric(true, "Quality-Check");
+	}
+
+	@Test
+	public void testIsAlphanumeric_Positive_NoFailure() {
+		ConditionalCheck.isAlphanumeric(true, "Quality4Check");
+	}
+
+	@Test
+	public void testIsAlphanumericArgName_Negative() {
+		ConditionalCheck.isAlphanumeric(false, "Quality-Check", "arg");
+	}
+
+	@Test(expected = IllegalAlphanumericArgumentException.class)
+	public void testIsAlphanumericArgName_Positive_Failure() {
+		ConditionalCheck.isAlphanumeric(true, "Quality-Check", "arg");
+	}
+
+	@Test
+	public void testIsAlphanumericArgName_Positive_NoFailure() {
+		ConditionalCheck.isAlphanumeric(true, "Quality4Check", "arg");
+	}
+
+	@Test
+	public void testIsAscii_Negative() {
+		ConditionalCheck.isAscii(false, "Qualit\u00e4t");
+	}
+
+	@Test(expected = IllegalAsciiArgumentException.class)
+	public void testIsAscii_Positive_Failure() {
+		ConditionalCheck.isAscii(true, "Qualit\u00e4t");
+	}
+
+	@Test
+	public void testIsAscii_Positive_NoFailure() {
+		ConditionalCheck.isAscii(true, "Quality-Check 1.3!");
+	}
+
+	@Test
+	public void testIsAsciiArgName_Negative() {
+		ConditionalCheck.isAscii(false, "Qualit\u00e4t", "arg");
+	}
+
+	@Test(expected = IllegalAsciiArgumentException.class)
+	public void testIsAsciiArgName_Positive_Failure() {
+		ConditionalCheck.isAscii(true, "Qualit\u00e4t", "arg");
+	}
+
+	@Test
+	public void testIsAsciiArgName_Positive_NoFailure() {
+		ConditionalCheck.isAscii(true, "Quality-Check 1.3!", "arg");
+	}
+
+	@Test
+	public void testIsHexadecimal_Negative() {
+		ConditionalCheck.isHexadecimal(false, "0x1f");
+	}
+
+	@Test(expected = IllegalHexadecimalArgumentException.class)
+	public void testIsHexadecimal_Positive_Failure() {
+		ConditionalCheck.isHexadecimal(true, "0x1f");
+	}
+
+	@Test
+	public void testIsHexadecimal_Positive_NoFailure() {
+		ConditionalCheck.isHexadecimal(true, "0a1B2c");
+	}
+
+	@Test
+	public void testIsHexadecimalArgName_Negative() {
+		ConditionalCheck.isHexadecimal(false, "0x1f", "arg");
+	}
+
+	@Test(expected = IllegalHexadecimalArgumentException.class)
+	public void testIsHexadecimalArgName_Positive_Failure() {
+		ConditionalCheck.isHexadecimal(true, "0x1f", "arg");
+	}
+
+	@Test
+	public void testIsHexadecimalArgName_Positive_NoFailure() {
+		ConditionalCheck.isHexadecimal(true, "0a1B2c", "arg");
+	}
+
 	@Test
 	public void testIsNull_Negative() {
 		ConditionalCheck.isNull(false, "Quality-Check");
@@ -679,6 +797,28 @@ public class ConditionalCheckTest {
 		ConditionalCheck.matchesPattern(true, Pattern.compile("PLZ \\d{5}"), "PLZ 83410", "arg");
 	}
 
+	@Test
+	public void testMatchesPatternRegex_Negative() {
+		ConditionalCheck.matchesPattern(false, "PLZ \\d{5}", "Hallo");
+		ConditionalCheck.matchesPattern(false, "PLZ \\d{5}", "Hallo", "arg");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesPatternRegex_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", "Hallo");
+	}
+
+	@Test
+	public void testMatchesPatternRegex_Positive_NoFailure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", "PLZ 83410");
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", "PLZ 83410", "arg");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesPatternRegexArgName_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", "Hallo", "arg");
+	}
+
 	@Test
 	public void testNaNDouble_Negative() {
 		ConditionalCheck.notNaN(false, Double.NaN);
@@ -1438,6 +1578,21 @@ public class ConditionalCheckTest {
 		ConditionalCheck.stateIsTrue(true, 2 < 4, NullPointerException.class);
 	}
 
+	@Test
+	public void testStateFactory_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, ExceptionFactories.of(NullPointerException.class));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testStateFactory_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, ExceptionFactories.of(NullPointerException.class));
+	}
+
+	@Test
+	public void testStateFactory_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, ExceptionFactories.of(NullPointerException.class));
+	}
+
 	@Test
 	public void testStateMessage_Negative() {
 		ConditionalCheck.stateIsTrue(false, 4 < 2, "arg {0}", Long.valueOf(4));
@@ -1460,4 +1615,123 @@ public class ConditionalCheckTest {
 		cls.newInstance(); // exception here
 	}
 
+	@Test
+	public void testInRangeIntArray_Negative() {
+		ConditionalCheck.inRange(false, 0, 9, new int[] { 10 }, "values");
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void testInRangeIntArray_Positive_Failure() {
+		ConditionalCheck.inRange(true, 0, 9, new int[] { 10 }, "values");
+	}
+
+	@Test
+	public void testInRangeIntArray_Positive_NoFailure() {
+		ConditionalCheck.inRange(true, 0, 9, new int[] { 9 }, "values");
+	}
+
+	@Test
+	public void testNaNDoubleArraySlice_Negative() {
+		ConditionalCheck.notNaN(false, new double[] { Double.NaN }, 0, 1, "values");
+	}
+
+	@Test(expected = IllegalNaNArgumentException.class)
+	public void testNaNDoubleArraySlice_Positive_Failure() {
+		ConditionalCheck.notNaN(true, new double[] { Double.NaN }, 0, 1, "values");
+	}
+
+	@Test
+	public void testNaNDoubleArraySlice_Positive_NoFailure() {
+		ConditionalCheck.notNaN(true, new double[] { Double.NaN }, 1, 0, "values");
+	}
+
+	@Test
+	public void testNotNegativeIntBuffer_Negative() {
+		ConditionalCheck.notNegative(false, IntBuffer.wrap(new int[] { -1 }), "values");
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void testNotNegativeIntBuffer_Positive_Failure() {
+		ConditionalCheck.notNegative(true, IntBuffer.wrap(new int[] { -1 }), "values");
+	}
+
+	@Test
+	public void testNotNegativeIntBuffer_Positive_NoFailure() {
+		ConditionalCheck.notNegative(true, IntBuffer.wrap(new int[] { 1 }), "values");
+	}
+
+	@Test
+	public void testFromIndexSize_Negative() {
+		ConditionalCheck.fromIndexSize(false, 5L, 6L, 10L);
+		ConditionalCheck.fromIndexSize(false, 5L, 6L, ByteBuffer.allocate(10));
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void testFromIndexSize_Positive_Failure() {
+		ConditionalCheck.fromIndexSize(true, 5L, 6L, 10L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void testFromIndexSizeBuffer_Positive_Failure() {
+		ConditionalCheck.fromIndexSize(true, 5L, 6L, ByteBuffer.allocate(10));
+	}
+
+	@Test
+	public void testFromIndexSize_Positive_NoFailure() {
+		ConditionalCheck.fromIndexSize(true, 5L, 5L, 10L);
+		ConditionalCheck.fromIndexSize(true, 5L, 5L, ByteBuffer.allocate(10));
+	}
+
+	@Test
+	public void testFromToIndex_Negative() {
+		ConditionalCheck.fromToIndex(false, 5L, 11L, 10L);
+		ConditionalCheck.fromToIndex(false, 5L, 11L, ByteBuffer.allocate(10));
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void testFromToIndex_Positive_Failure() {
+		ConditionalCheck.fromToIndex(true, 5L, 11L, 10L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void testFromToIndexBuffer_Positive_Failure() {
+		ConditionalCheck.fromToIndex(true, 5L, 11L, ByteBuffer.allocate(10));
+	}
+
+	@Test
+	public void testFromToIndex_Positive_NoFailure() {
+		ConditionalCheck.fromToIndex(true, 5L, 10L, 10L);
+		ConditionalCheck.fromToIndex(true, 5L, 10L, ByteBuffer.allocate(10));
+	}
+
+	@Test
+	public void testPositionIndexLong_Negative() {
+		ConditionalCheck.positionIndex(false, 5000000000L, 2L);
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void testPositionIndexLong_Positive_Failure() {
+		ConditionalCheck.positionIndex(true, 5000000000L, 2L);
+	}
+
+	@Test
+	public void testPositionIndexLong_Positive_NoFailure() {
+		ConditionalCheck.positionIndex(true, 2L, 5000000000L);
+	}
+
+	@Test
+	public void testRangeLong_Negative() {
+		ConditionalCheck.range(false, 5L, 4L, 10L);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void testRangeLong_Positive_Failure() {
+		ConditionalCheck.range(true, 5L, 4L, 10L);
+	}
+
+	@Test
+	public void testRangeLong_Positive_NoFailure() {
+		ConditionalCheck.range(true, 4L, 5000000000L, 5000000000L);
+	}
+
 }
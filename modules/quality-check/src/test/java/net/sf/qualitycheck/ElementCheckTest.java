@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ElementCheckTest {
+
+	@Test
+	public void elementName() {
+		Assert.assertEquals("values[3]", ElementCheck.elementName("values", 3L));
+		Assert.assertEquals("[3]", ElementCheck.elementName(null, 3L));
+		Assert.assertEquals("values[5000000000]", ElementCheck.elementName("values", 5000000000L));
+		Assert.assertEquals("values", ElementCheck.elementName("values", -1L));
+		Assert.assertNull(ElementCheck.elementName(null, -1L));
+	}
+
+	@Test
+	public void inRange_pass() {
+		final ElementCheck<Integer> check = ElementCheck.inRange(0, 10);
+		check.check(0, "values", 0L);
+		check.check(10, "values", 1L);
+	}
+
+	@Test
+	public void inRange_tooHigh() {
+		try {
+			ElementCheck.inRange(0, 10).check(11, "values", 2L);
+			Assert.fail();
+		} catch (final IllegalNumberRangeException e) {
+			Assert.assertEquals("Argument 'values[2]' with value '11' must be in the range '0' to '10'.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void inRange_tooLow() {
+		ElementCheck.inRange(0L, 10L).check(-1L, "values", 0L);
+	}
+
+	@Test
+	public void inRange_null() {
+		try {
+			ElementCheck.inRange(0, 10).check(null, "values", 7L);
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertEquals("Argument 'values[7]' must not be null.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void inRange_withNullMax() {
+		ElementCheck.inRange(0, null);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void inRange_withNullMin() {
+		ElementCheck.inRange(null, 0);
+	}
+
+	@Test
+	public void matchesPattern_mismatch() {
+		try {
+			ElementCheck.matchesPattern(Pattern.compile("[a-z]+")).check("a1", "names", 4L);
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertTrue(e.getMessage().startsWith("The passed argument 'names[4]' must match"));
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_null() {
+		ElementCheck.matchesPattern(Pattern.compile("[a-z]+")).check(null, "names", 0L);
+	}
+
+	@Test
+	public void matchesPattern_pass() {
+		ElementCheck.matchesPattern(Pattern.compile("[a-z]+")).check("abc", "names", 0L);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_withNullPattern() {
+		ElementCheck.matchesPattern(null);
+	}
+
+	@Test
+	public void notNull_isShared() {
+		Assert.assertSame(ElementCheck.<String> notNull(), ElementCheck.<Integer> notNull());
+	}
+
+	@Test
+	public void notNull_knownIndex() {
+		try {
+			ElementCheck.notNull().check(null, "values", 5000000000L);
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(5000000000L, e.getIndex());
+		}
+	}
+
+	@Test
+	public void notNull_pass() {
+		ElementCheck.notNull().check("a", "values", 0L);
+	}
+
+	@Test
+	public void notNull_unknownIndex() {
+		try {
+			ElementCheck.notNull().check(null, "values", -1L);
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(IllegalNullElementsException.UNKNOWN_INDEX, e.getIndex());
+			Assert.assertEquals("The passed argument 'values' must not contain elements that are null.", e.getMessage());
+		}
+	}
+
+}
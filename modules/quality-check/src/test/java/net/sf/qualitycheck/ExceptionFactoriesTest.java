@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.RuntimeInstantiationException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExceptionFactoriesTest {
+
+	private static class ConstructorFailsException extends RuntimeException {
+		private static final long serialVersionUID = 6210283945735120112L;
+
+		@SuppressWarnings("unused")
+		public ConstructorFailsException() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	public static class LoadableException extends RuntimeException {
+		private static final long serialVersionUID = 4208113751526931190L;
+	}
+
+	public static class NoDefaultConstructorException extends RuntimeException {
+		private static final long serialVersionUID = -3101752816431925735L;
+
+		public NoDefaultConstructorException(final String message) {
+			super(message);
+		}
+	}
+
+	public static class PrivateConstructorException extends RuntimeException {
+		private static final long serialVersionUID = 1871032784092371562L;
+
+		private PrivateConstructorException() {
+			super();
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void create_constructorFails() {
+		ExceptionFactories.of(ConstructorFailsException.class).create(null);
+	}
+
+	@Test(expected = RuntimeInstantiationException.class)
+	public void create_noDefaultConstructor() {
+		ExceptionFactories.of(NoDefaultConstructorException.class).create(null);
+	}
+
+	@Test(expected = RuntimeInstantiationException.class)
+	public void create_privateConstructor() {
+		ExceptionFactories.of(PrivateConstructorException.class).create(null);
+	}
+
+	@Test
+	public void create_withCause() {
+		final Throwable cause = new Exception();
+		final IllegalStateException e = ExceptionFactories.of(IllegalStateException.class).create(cause);
+		Assert.assertSame(cause, e.getCause());
+	}
+
+	@Test
+	public void create_withCause_noCauseConstructor() {
+		final NullPointerException e = ExceptionFactories.of(NullPointerException.class).create(new Exception());
+		Assert.assertNull(e.getCause());
+	}
+
+	@Test
+	public void create_withoutCause() {
+		final IllegalStateException e = ExceptionFactories.of(IllegalStateException.class).create(null);
+		Assert.assertNull(e.getCause());
+		Assert.assertNotSame(e, ExceptionFactories.of(IllegalStateException.class).create(null));
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<ExceptionFactories> constructor = ExceptionFactories.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void isVisible() {
+		Assert.assertTrue(ExceptionFactories.isVisible(IllegalStateException.class));
+		Assert.assertTrue(ExceptionFactories.isVisible(LoadableException.class));
+	}
+
+	@Test
+	public void of_foreignClassLoader() throws Exception {
+		final URL location = ExceptionFactoriesTest.class.getProtectionDomain().getCodeSource().getLocation();
+		final ClassLoader loader = new URLClassLoader(new URL[] { location }, null);
+		final Class<? extends RuntimeException> foreign = loader.loadClass(LoadableException.class.getName()).asSubclass(
+				RuntimeException.class);
+		Assert.assertFalse(ExceptionFactories.isVisible(foreign));
+
+		final ExceptionFactory<? extends RuntimeException> factory = ExceptionFactories.of(foreign);
+		Assert.assertSame(foreign, factory.create(null).getClass());
+		Assert.assertSame(factory, ExceptionFactories.of(foreign));
+	}
+
+	@Test
+	public void of_foreignClassLoaderCanBeUnloaded() throws Exception {
+		final URL location = ExceptionFactoriesTest.class.getProtectionDomain().getCodeSource().getLocation();
+		ClassLoader loader = new URLClassLoader(new URL[] { location }, null);
+		ExceptionFactories.of(loader.loadClass(LoadableException.class.getName()).asSubclass(RuntimeException.class)).create(null);
+		final WeakReference<ClassLoader> reference = new WeakReference<ClassLoader>(loader);
+		loader = null;
+		for (int i = 0; i < 10 && reference.get() != null; i++) {
+			System.gc();
+		}
+		Assert.assertNull(reference.get());
+	}
+
+	@Test
+	public void of_isCached() {
+		final ExceptionFactory<IllegalStateException> factory = ExceptionFactories.of(IllegalStateException.class);
+		Assert.assertSame(factory, ExceptionFactories.of(IllegalStateException.class));
+		Assert.assertEquals("ExceptionFactory [class=java.lang.IllegalStateException]", factory.toString());
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void of_isNull() {
+		ExceptionFactories.of(null);
+	}
+
+	@Test
+	public void of_survivesGarbageCollection() {
+		final WeakReference<ExceptionFactory<IllegalStateException>> jdk = new WeakReference<ExceptionFactory<IllegalStateException>>(
+				ExceptionFactories.of(IllegalStateException.class));
+		final WeakReference<ExceptionFactory<LoadableException>> library = new WeakReference<ExceptionFactory<LoadableException>>(
+				ExceptionFactories.of(LoadableException.class));
+		System.gc();
+		Assert.assertSame(jdk.get(), ExceptionFactories.of(IllegalStateException.class));
+		Assert.assertSame(library.get(), ExceptionFactories.of(LoadableException.class));
+	}
+
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.RuntimeInstantiationException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FailuresTest {
+
+	private static abstract class AbstractException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+	}
+
+	private static class PrivateException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private PrivateException() {
+			super();
+		}
+	}
+
+	private static String rangeMessage(final Object values) {
+		return Failures.illegalNumberRangeElement(Integer.valueOf(0), Integer.valueOf(1), "values", values, 1).getMessage();
+	}
+
+	@Test
+	public void elementName_withoutName() {
+		Assert.assertEquals("[3]", Failures.elementName(null, 3));
+		Assert.assertEquals("values[3]", Failures.elementName("values", 3));
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<Failures> constructor = Failures.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void illegalNumberArgument_withAndWithoutName() {
+		final NumberFormatException cause = new NumberFormatException();
+		Assert.assertEquals(new IllegalNumberArgumentException("a").getMessage(), Failures.illegalNumberArgument(null, "a")
+				.getMessage());
+		Assert.assertEquals(new IllegalNumberArgumentException("name", "a").getMessage(), Failures.illegalNumberArgument("name", "a")
+				.getMessage());
+		Assert.assertSame(cause, Failures.illegalNumberArgument(null, "a", cause).getCause());
+		Assert.assertSame(cause, Failures.illegalNumberArgument("name", "a", cause).getCause());
+	}
+
+	@Test
+	public void illegalNumberRangeElement_allElementTypes() {
+		final String expected = "Argument 'values[1]' with value '%s' must be in the range '0' to '1'.";
+		Assert.assertEquals(String.format(expected, "2"), rangeMessage(new int[] { 0, 2 }));
+		Assert.assertEquals(String.format(expected, "2"), rangeMessage(new long[] { 0L, 2L }));
+		Assert.assertEquals(String.format(expected, "2.5"), rangeMessage(new float[] { 0.0f, 2.5f }));
+		Assert.assertEquals(String.format(expected, "2.5"), rangeMessage(new double[] { 0.0, 2.5 }));
+		Assert.assertEquals(String.format(expected, "2"), rangeMessage(IntBuffer.wrap(new int[] { 0, 2 })));
+		Assert.assertEquals(String.format(expected, "2"), rangeMessage(LongBuffer.wrap(new long[] { 0L, 2L })));
+		Assert.assertEquals(String.format(expected, "2.5"), rangeMessage(DoubleBuffer.wrap(new double[] { 0.0, 2.5 })));
+	}
+
+	@Test
+	public void illegalNumberType_namesType() {
+		final String value = "Return value is no known subclass of 'java.lang.Number': java.lang.String";
+		Assert.assertEquals(new IllegalNumberArgumentException(value).getMessage(), Failures.illegalNumberType(String.class).getMessage());
+	}
+
+	@Test(expected = RuntimeInstantiationException.class)
+	public void newInstance_abstractClass() {
+		Failures.newInstance(AbstractException.class);
+	}
+
+	@Test(expected = RuntimeInstantiationException.class)
+	public void newInstance_privateConstructor() {
+		Failures.newInstance(PrivateException.class);
+	}
+
+	@Test
+	public void newInstance_publicConstructor() {
+		Assert.assertEquals(IllegalStateException.class, Failures.newInstance(IllegalStateException.class).getClass());
+	}
+
+}
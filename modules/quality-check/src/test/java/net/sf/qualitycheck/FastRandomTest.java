@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FastRandomTest {
+
+	@Test
+	public void current_isPerThread() throws Exception {
+		final FastRandom[] other = new FastRandom[1];
+		final Thread thread = new Thread() {
+			@Override
+			public void run() {
+				other[0] = FastRandom.current();
+			}
+		};
+		thread.start();
+		thread.join();
+		Assert.assertSame(FastRandom.current(), FastRandom.current());
+		Assert.assertNotSame(FastRandom.current(), other[0]);
+	}
+
+	@Test
+	public void nextInt_isUniform() {
+		final FastRandom random = new FastRandom(42L);
+		final int[] counts = new int[10];
+		for (int i = 0; i < 100000; i++) {
+			counts[random.nextInt(counts.length)]++;
+		}
+		for (final int count : counts) {
+			Assert.assertTrue(String.valueOf(count), count > 9000 && count < 11000);
+		}
+		for (int i = 0; i < 1000; i++) {
+			final int value = random.nextInt(Integer.MAX_VALUE);
+			Assert.assertTrue(value >= 0);
+			Assert.assertEquals(0, random.nextInt(1));
+		}
+	}
+
+	@Test
+	public void seed_zeroIsReplaced() {
+		final FastRandom random = new FastRandom(0L);
+		Assert.assertTrue(random.nextLong() != 0L || random.nextLong() != 0L);
+	}
+
+}
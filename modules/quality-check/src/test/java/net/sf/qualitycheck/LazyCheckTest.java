@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LazyCheckTest {
+
+	@Test
+	public void check_iterable_indexRestartsForEveryIterator() {
+		final Iterable<String> iterable = LazyCheck.noNullElements(Arrays.asList("a", null), "values");
+		for (int run = 0; run < 2; run++) {
+			final Iterator<String> iterator = iterable.iterator();
+			Assert.assertEquals("a", iterator.next());
+			try {
+				iterator.next();
+				Assert.fail();
+			} catch (final IllegalNullElementsException e) {
+				Assert.assertEquals(1L, e.getIndex());
+			}
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_iterable_withNullCheck() {
+		LazyCheck.check(Arrays.asList("a"), null, "values");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_iterable_withNullIterable() {
+		LazyCheck.check((Iterable<String>) null, ElementCheck.notNull(), "values");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_iterator_withNullCheck() {
+		LazyCheck.check(Arrays.asList("a").iterator(), null, "values");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_iterator_withNullIterator() {
+		LazyCheck.check((Iterator<String>) null, ElementCheck.notNull(), "values");
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<LazyCheck> constructor = LazyCheck.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void inRange_iterable() {
+		int sum = 0;
+		for (final Integer value : LazyCheck.inRange(0, 10, Arrays.asList(1, 2, 3), "values")) {
+			sum += value;
+		}
+		Assert.assertEquals(6, sum);
+	}
+
+	@Test
+	public void inRange_iterator_failsOnConsumption() {
+		final Iterator<Long> iterator = LazyCheck.inRange(0L, 10L, Arrays.asList(1L, 11L).iterator(), "values");
+		Assert.assertEquals(Long.valueOf(1L), iterator.next());
+		try {
+			iterator.next();
+			Assert.fail();
+		} catch (final IllegalNumberRangeException e) {
+			Assert.assertEquals("Argument 'values[1]' with value '11' must be in the range '0' to '10'.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void matchesPattern_iterable() {
+		final Iterator<String> iterator = LazyCheck.matchesPattern(Pattern.compile("[a-z]+"), Arrays.asList("ab", "cd"), "names")
+				.iterator();
+		Assert.assertEquals("ab", iterator.next());
+		Assert.assertEquals("cd", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void matchesPattern_iterator() {
+		final Iterator<String> iterator = LazyCheck.matchesPattern(Pattern.compile("[a-z]+"), Arrays.asList("a1").iterator(), "names");
+		iterator.next();
+	}
+
+	@Test
+	public void noNullElements_iterator_doesNotTraverseInAdvance() {
+		final Iterator<String> iterator = LazyCheck.noNullElements(Arrays.asList("a", "b", null).iterator(), "values");
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("a", iterator.next());
+		Assert.assertEquals("b", iterator.next());
+		try {
+			iterator.next();
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(2L, e.getIndex());
+			Assert.assertEquals("The passed argument 'values' must not contain elements that are null, but the element at index 2 is null.",
+					e.getMessage());
+		}
+	}
+
+	@Test
+	public void noNullElements_iterator_remove() {
+		final List<String> list = new ArrayList<String>(Arrays.asList("a", "b"));
+		final Iterator<String> iterator = LazyCheck.noNullElements(list.iterator(), "values");
+		iterator.next();
+		iterator.remove();
+		Assert.assertEquals(Arrays.asList("b"), list);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LinearPatternTest {
+
+	private static final String[] SUPPORTED = { "", "a", "abc", "a|b|", "a*", "a+", "a?", "a*?", "a+?b", "a{3}", "a{2,}", "a{1,3}",
+			"a{0,2}?b", "(ab)*", "(a|bc)+d?", "(?:a|b)*c", "(?<name>a+)b", "[abc]+", "[^abc]*", "[a-c]{2}[-x]", "[a-]b", "[-a]",
+			"[\\d.]+", "[\\w&]+", "[^\\s]+", "[a^]", "\\d+\\.\\d*", "\\D\\W\\S", "\\w+@\\w+\\.[a-z]{2,6}", "\\s*", ".*", ".+a.",
+			"\\t\\n\\r\\f\\a\\e", "\\x41\\u0042", "\\.\\\\\\[\\]\\(\\)\\{\\}\\*\\+\\?\\|\\^\\$", "^a+$", "^$", "$", "^", "a\\$",
+			"(a+)+b", "(a|aa)*c", "(x+x+)+y", "((a*)*)*", "(a?){3}a{3}", "[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,6}", "a||b", "()",
+			"(|a)+", "[\\]]", "[\\[a]", "ä+[à-ÿ]" };
+
+	private static final String[] UNSUPPORTED = { "(a)\\1", "(?=a)a", "(?!b)a", "(?<=a)a", "(?<!a)a", "(?>a)", "(?i)a", "a*+",
+			"a++", "a?+", "a{2}+", "\\bfoo", "\\Bfoo", "\\Afoo\\z", "\\Qa.b\\E", "\\p{L}", "\\P{L}", "[a&&b]", "[a[b]]", "a^b",
+			"a$b", "\\0101", "\\cA", "\\x{41}", "\\h", "\\R", "[a-c-e]", "a{1001}", "(a{100}){100}", "😀", "]", "}" };
+
+	private static void assertSameAsJdk(final String regex, final String input) {
+		final LinearPattern linearPattern = LinearPattern.compile(regex);
+		Assert.assertTrue(regex, linearPattern.isSupported());
+		Assert.assertEquals("'" + regex + "' on '" + input + "'", Pattern.matches(regex, input), linearPattern.matches(input));
+	}
+
+	private static String randomInput(final Random random, final String alphabet) {
+		final StringBuilder builder = new StringBuilder();
+		final int length = random.nextInt(8);
+		for (int i = 0; i < length; i++) {
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void compile_supported() {
+		for (final String regex : SUPPORTED) {
+			Assert.assertTrue(regex, LinearPattern.compile(regex).isSupported());
+		}
+	}
+
+	@Test
+	public void compile_unsupported() {
+		for (final String regex : UNSUPPORTED) {
+			Pattern.compile(regex);
+			Assert.assertFalse(regex, LinearPattern.compile(regex).isSupported());
+		}
+		Assert.assertSame(LinearPattern.UNSUPPORTED, LinearPattern.compile("(a)\\1"));
+	}
+
+	@Test
+	public void matches_codePoints() {
+		assertSameAsJdk(".", "😀");
+		assertSameAsJdk("..", "😀");
+		assertSameAsJdk("[^a]", "😀");
+		assertSameAsJdk("\\W", "😀");
+		assertSameAsJdk(".", "\ud83d");
+		assertSameAsJdk(".a", "\ud83da");
+		assertSameAsJdk("..", "\ude00\ud83d");
+		assertSameAsJdk("a.b", "a😀b");
+	}
+
+	@Test
+	public void matches_lineTerminators() {
+		final String[] terminators = { "\n", "\r", "\r\n", "\u0085", " ", " " };
+		for (final String terminator : terminators) {
+			assertSameAsJdk(".", terminator);
+			assertSameAsJdk("a$", "a" + terminator);
+			assertSameAsJdk("\\s", terminator);
+			assertSameAsJdk("[^a]+", terminator);
+		}
+		assertSameAsJdk("\\s+", " \t\n\u000b\f\r");
+	}
+
+	@Test(timeout = 10000)
+	public void matches_pathologicalInputInLinearTime() {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 100000; i++) {
+			builder.append('a');
+		}
+		final String input = builder.append('c').toString();
+		Assert.assertFalse(LinearPattern.compile("(a+)+b").matches(input));
+		Assert.assertFalse(LinearPattern.compile("(a|aa)*b").matches(input));
+		Assert.assertFalse(LinearPattern.compile("(x+x+)+y").matches(input.replace('a', 'x')));
+		Assert.assertTrue(LinearPattern.compile("(a+)+c").matches(input));
+	}
+
+	@Test
+	public void matches_sameAsJdk() {
+		final Random random = new Random(42);
+		for (final String regex : SUPPORTED) {
+			for (int i = 0; i < 300; i++) {
+				assertSameAsJdk(regex, randomInput(random, "abcdx-.@ 1äà"));
+			}
+		}
+	}
+
+	@Test
+	public void matches_sameAsJdk_manyStates() {
+		// needs more states than the DFA caches
+		final String regex = "[ab]*a[ab]{11}";
+		final Random random = new Random(42);
+		final LinearPattern linearPattern = LinearPattern.compile(regex);
+		for (int i = 0; i < 2000; i++) {
+			final StringBuilder builder = new StringBuilder();
+			for (int j = random.nextInt(40); j > 0; j--) {
+				builder.append(random.nextBoolean() ? 'a' : 'b');
+			}
+			Assert.assertEquals(Pattern.matches(regex, builder), linearPattern.matches(builder));
+		}
+	}
+
+}
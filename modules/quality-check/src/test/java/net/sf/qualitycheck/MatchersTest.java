@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MatchersTest {
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<Matchers> constructor = Matchers.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void linearPattern_cachedByIdentity() {
+		final Pattern pattern = Pattern.compile("[a-z]+@[a-z]+");
+		final LinearPattern linearPattern = Matchers.linearPattern(pattern);
+		Assert.assertTrue(linearPattern.isSupported());
+		Assert.assertSame(linearPattern, Matchers.linearPattern(pattern));
+	}
+
+	@Test
+	public void linearPattern_collidingPatternsStayCached() {
+		final Pattern first = Pattern.compile("a+");
+		final List<Pattern> colliding = new ArrayList<Pattern>();
+		colliding.add(first);
+		while (colliding.size() < Matchers.WAYS) {
+			final Pattern pattern = Pattern.compile("a+");
+			if (Matchers.setOf(pattern) == Matchers.setOf(first)) {
+				colliding.add(pattern);
+			}
+		}
+		final List<LinearPattern> linearPatterns = new ArrayList<LinearPattern>();
+		for (final Pattern pattern : colliding) {
+			linearPatterns.add(Matchers.linearPattern(pattern));
+		}
+		for (int run = 0; run < 3; run++) {
+			for (int i = 0; i < colliding.size(); i++) {
+				Assert.assertSame(linearPatterns.get(i), Matchers.linearPattern(colliding.get(i)));
+			}
+		}
+	}
+
+	@Test
+	public void matches_manyPatternsBypassPatternCache() {
+		final PatternCache.Stats before = PatternCache.getShared().getStats();
+		final StringBuilder chars = new StringBuilder();
+		for (int i = 0; i < 2 * PatternCache.DEFAULT_MAXIMUM_SIZE; i++) {
+			Assert.assertTrue(Matchers.matches(Pattern.compile("a{" + i + "}"), chars));
+			chars.append('a');
+		}
+		final PatternCache.Stats after = PatternCache.getShared().getStats();
+		Assert.assertEquals(before.getHitCount(), after.getHitCount());
+		Assert.assertEquals(before.getMissCount(), after.getMissCount());
+	}
+
+	@Test
+	public void matches_linearPattern() {
+		final Pattern pattern = Pattern.compile("(a+)+b");
+		Assert.assertTrue(Matchers.linearPattern(pattern).isSupported());
+		Assert.assertTrue(Matchers.matches(pattern, "aaab"));
+		Assert.assertFalse(Matchers.matches(pattern, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaac"));
+	}
+
+	@Test
+	public void matches_unsupportedPattern() {
+		final Pattern backReference = Pattern.compile("(a+)b\\1");
+		Assert.assertFalse(Matchers.linearPattern(backReference).isSupported());
+		Assert.assertTrue(Matchers.matches(backReference, "aabaa"));
+		Assert.assertFalse(Matchers.matches(backReference, "aaba"));
+
+		final Pattern withFlags = Pattern.compile("a+", Pattern.CASE_INSENSITIVE);
+		Assert.assertFalse(Matchers.linearPattern(withFlags).isSupported());
+		Assert.assertTrue(Matchers.matches(withFlags, "aA"));
+	}
+
+	@Test
+	public void matchesWithMatcher_manyPatterns() {
+		final Pattern[] patterns = new Pattern[100];
+		for (int i = 0; i < patterns.length; i++) {
+			patterns[i] = Pattern.compile("a{" + i + "}");
+		}
+		for (int run = 0; run < 3; run++) {
+			for (int i = 0; i < patterns.length; i++) {
+				final StringBuilder chars = new StringBuilder();
+				for (int j = 0; j < i; j++) {
+					chars.append('a');
+				}
+				Assert.assertTrue(Matchers.matchesWithMatcher(patterns[i], chars));
+				Assert.assertFalse(Matchers.matchesWithMatcher(patterns[i], chars.append('a')));
+			}
+		}
+	}
+
+	@Test
+	public void matchesWithMatcher_nestedCallOfSamePattern() {
+		final Pattern pattern = Pattern.compile("a+");
+		Assert.assertTrue(Matchers.matchesWithMatcher(pattern, "aa"));
+		final CharSequence nested = new CharSequence() {
+			private final String value = "aaa";
+
+			@Override
+			public char charAt(final int index) {
+				Assert.assertFalse(Matchers.matchesWithMatcher(pattern, "b"));
+				return value.charAt(index);
+			}
+
+			@Override
+			public int length() {
+				return value.length();
+			}
+
+			@Override
+			public CharSequence subSequence(final int start, final int end) {
+				return value.subSequence(start, end);
+			}
+
+			@Override
+			public String toString() {
+				return value;
+			}
+		};
+		Assert.assertTrue(Matchers.matchesWithMatcher(pattern, nested));
+		Assert.assertTrue(Matchers.matchesWithMatcher(pattern, "a"));
+	}
+
+}
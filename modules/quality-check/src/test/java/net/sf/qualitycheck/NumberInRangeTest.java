@@ -249,6 +249,75 @@ public class NumberInRangeTest {
 	}
 	
 
+	@Test
+	public void testIsInRange_Long_HugeBounds() {
+		final BigInteger huge = new BigInteger("99999999999999999999");
+		Assert.assertTrue(NumberInRange.isInRange(Long.valueOf(Long.MAX_VALUE), huge.negate(), huge));
+		Assert.assertTrue(NumberInRange.isInRange(Long.valueOf(Long.MIN_VALUE), huge.negate(), huge));
+		Assert.assertFalse(NumberInRange.isInRange(Long.valueOf(Long.MAX_VALUE), huge, huge));
+		Assert.assertFalse(NumberInRange.isInRange(Long.valueOf(Long.MIN_VALUE), huge.negate(), huge.negate()));
+	}
+
+	@Test
+	public void testIsInRange_Long_LongBounds() {
+		Assert.assertTrue(NumberInRange.isInLongRange(Long.valueOf(Long.MAX_VALUE)));
+		Assert.assertTrue(NumberInRange.isInLongRange(Long.valueOf(Long.MIN_VALUE)));
+		Assert.assertFalse(NumberInRange.isInIntegerRange(Long.valueOf(Integer.MAX_VALUE + 1L)));
+		Assert.assertFalse(NumberInRange.isInIntegerRange(Long.valueOf(Integer.MIN_VALUE - 1L)));
+	}
+
+	@Test
+	public void testIsInRange_Double_TruncatedTowardsZero() {
+		Assert.assertTrue(NumberInRange.isInByteRange(Double.valueOf(127.9)));
+		Assert.assertTrue(NumberInRange.isInByteRange(Double.valueOf(-128.9)));
+		Assert.assertFalse(NumberInRange.isInByteRange(Double.valueOf(128.0)));
+		Assert.assertFalse(NumberInRange.isInByteRange(Float.valueOf(-129.0f)));
+	}
+
+	@Test
+	public void testIsInRange_Double_BeyondLong() {
+		Assert.assertFalse(NumberInRange.isInLongRange(Double.valueOf(0x1p63)));
+		Assert.assertTrue(NumberInRange.isInLongRange(Double.valueOf(-0x1p63)));
+		Assert.assertFalse(NumberInRange.isInLongRange(Double.valueOf(-1e19)));
+		Assert.assertTrue(NumberInRange.isInRange(Double.valueOf(1e30), BigInteger.ZERO, BigInteger.TEN.pow(31)));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testIsInRange_Double_NaN_Integer() {
+		NumberInRange.isInIntegerRange(Double.valueOf(Double.NaN));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testIsInRange_Double_Infinite_Decimal() {
+		NumberInRange.isInDoubleRange(Double.valueOf(Double.POSITIVE_INFINITY));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testIsInRange_Float_NaN_Decimal() {
+		NumberInRange.isInFloatRange(Float.valueOf(Float.NaN));
+	}
+
+	@Test
+	public void testIsInRange_FloatingPointBounds() {
+		Assert.assertTrue(NumberInRange.isInFloatRange(Long.valueOf(Long.MIN_VALUE)));
+		Assert.assertTrue(NumberInRange.isInDoubleRange(Integer.valueOf(42)));
+		Assert.assertTrue(NumberInRange.isInFloatRange(Double.valueOf(Float.MAX_VALUE)));
+		Assert.assertTrue(NumberInRange.isInFloatRange(Double.valueOf(-Float.MAX_VALUE)));
+		Assert.assertFalse(NumberInRange.isInFloatRange(Double.valueOf(Math.nextUp((double) Float.MAX_VALUE))));
+		Assert.assertFalse(NumberInRange.isInFloatRange(Double.valueOf(-Math.nextUp((double) Float.MAX_VALUE))));
+		Assert.assertTrue(NumberInRange.isInDoubleRange(Double.valueOf(-Double.MAX_VALUE)));
+		Assert.assertTrue(NumberInRange.isInRange(Float.valueOf(1.5f), NumberInRange.DOUBLE_MIN, NumberInRange.FLOAT_MAX));
+		Assert.assertTrue(NumberInRange.isInRange(Float.valueOf(1.5f), NumberInRange.FLOAT_MIN, NumberInRange.DOUBLE_MAX));
+	}
+
+	@Test
+	public void testIsInRange_CustomDecimalBounds() {
+		Assert.assertTrue(NumberInRange.isInRange(Double.valueOf(1.5), NumberInRange.FLOAT_MIN, new BigDecimal("1.5")));
+		Assert.assertFalse(NumberInRange.isInRange(Double.valueOf(1.5), new BigDecimal("1.6"), NumberInRange.DOUBLE_MAX));
+		Assert.assertFalse(NumberInRange.isInRange(Integer.valueOf(2), new BigDecimal("2.5"), NumberInRange.DOUBLE_MAX));
+		Assert.assertTrue(NumberInRange.isInRange(new BigInteger("2"), NumberInRange.DOUBLE_MIN, NumberInRange.DOUBLE_MAX));
+	}
+
 	@Test
 	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
 		// reduces only some noise in coverage report
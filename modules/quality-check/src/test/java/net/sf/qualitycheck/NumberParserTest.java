@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import net.sf.qualitycheck.NumberParser.Result;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumberParserTest {
+
+	private static final String[] DECIMALS = { "0", "-0", "+0", "0.0", "-0.0", "0e99", "1", "-1", "+1", "1.", ".5", "-.5", "12.1",
+			"0.1", "0.3", "1.25e3", "1.25E+3", "125e-2", "-125E-02", "123456789012345", "1234567890123456789", "0.000001",
+			"1e22", "1e23", "1e-22", "1e-23", "9007199254740993", "3.4028234e38", "1.4e-45", "4.9e-324", "1e-400", "-1e-400",
+			"1e308", "2.2250738585072014E-308", "1234567", "12345678", "1e10", "1e11", "0.1234567", "00000000000000000000001.5" };
+
+	private static final String[] MALFORMED_DECIMALS = { "", "-", "+", ".", "-.", "e5", ".e5", "1e", "1e+", "1e-", "1.2.3", "1x",
+			"1e5x", "1e5.5", " 1", "1 ", "NaN", "Infinity", "1d", "1f", "0x10", "--1", "+-1", "1e+-5" };
+
+	@Test
+	public void checkDecimal_malformed() {
+		for (final String value : MALFORMED_DECIMALS) {
+			Assert.assertEquals(value, Result.MALFORMED, NumberParser.checkDecimal(value));
+		}
+	}
+
+	@Test
+	public void checkDecimal_unsupported() {
+		Assert.assertEquals(Result.UNSUPPORTED, NumberParser.checkDecimal("١.5"));
+		Assert.assertEquals(Result.UNSUPPORTED, NumberParser.checkDecimal("1e١"));
+		Assert.assertEquals(Result.UNSUPPORTED, NumberParser.checkDecimal("1e1234567890"));
+		Assert.assertEquals(Result.VALID, NumberParser.checkDecimal("1e-123456789"));
+	}
+
+	@Test
+	public void checkIntegral_limits() {
+		Assert.assertEquals(Result.VALID, NumberParser.checkIntegral("127", Byte.MIN_VALUE, Byte.MAX_VALUE));
+		Assert.assertEquals(Result.VALID, NumberParser.checkIntegral("-128", Byte.MIN_VALUE, Byte.MAX_VALUE));
+		Assert.assertEquals(Result.VALID, NumberParser.checkIntegral("+0000000000000000000127", Byte.MIN_VALUE, Byte.MAX_VALUE));
+		Assert.assertEquals(Result.OUT_OF_RANGE, NumberParser.checkIntegral("128", Byte.MIN_VALUE, Byte.MAX_VALUE));
+		Assert.assertEquals(Result.OUT_OF_RANGE, NumberParser.checkIntegral("-129", Byte.MIN_VALUE, Byte.MAX_VALUE));
+		Assert.assertEquals(Result.OUT_OF_RANGE, NumberParser.checkIntegral("1000", Byte.MIN_VALUE, Byte.MAX_VALUE));
+		Assert.assertEquals(Result.VALID, NumberParser.checkIntegral("9223372036854775807", Long.MIN_VALUE, Long.MAX_VALUE));
+		Assert.assertEquals(Result.VALID, NumberParser.checkIntegral("-9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE));
+		Assert.assertEquals(Result.OUT_OF_RANGE, NumberParser.checkIntegral("9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE));
+		Assert.assertEquals(Result.OUT_OF_RANGE, NumberParser.checkIntegral("-9223372036854775809", Long.MIN_VALUE, Long.MAX_VALUE));
+		Assert.assertEquals(Result.OUT_OF_RANGE, NumberParser.checkIntegral("99999999999999999999", Long.MIN_VALUE, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void checkIntegral_malformed() {
+		final String[] values = { "", "-", "+", "1.0", "1e3", "--1", " 1", "1 ", "0x10", "99999999999x" };
+		for (final String value : values) {
+			Assert.assertEquals(value, Result.MALFORMED, NumberParser.checkIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+		}
+	}
+
+	@Test
+	public void checkIntegral_unsupported() {
+		Assert.assertEquals(Result.UNSUPPORTED, NumberParser.checkIntegral("١٢", Integer.MIN_VALUE, Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<NumberParser> constructor = NumberParser.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void parseDecimal_sameAsBigDecimal() {
+		for (final String value : DECIMALS) {
+			Assert.assertEquals(value, Result.VALID, NumberParser.checkDecimal(value));
+			final BigDecimal expected = new BigDecimal(value);
+			Assert.assertEquals(value, Double.valueOf(expected.doubleValue()), Double.valueOf(NumberParser.parseDouble(value)));
+			Assert.assertEquals(value, Float.valueOf(expected.floatValue()), Float.valueOf(NumberParser.parseFloat(value)));
+		}
+	}
+
+	@Test
+	public void parseDecimal_sameAsBigDecimal_random() {
+		final Random random = new Random(42);
+		for (int i = 0; i < 100000; i++) {
+			final String value = BigDecimal.valueOf(random.nextLong() % 100000000000000000L, random.nextInt(50) - 25).toString();
+			final BigDecimal expected = new BigDecimal(value);
+			Assert.assertEquals(value, Double.valueOf(expected.doubleValue()), Double.valueOf(NumberParser.parseDouble(value)));
+			Assert.assertEquals(value, Float.valueOf(expected.floatValue()), Float.valueOf(NumberParser.parseFloat(value)));
+		}
+	}
+
+	@Test
+	public void parseDecimal_signedZero() {
+		// a written zero has no sign, like in BigDecimal
+		Assert.assertEquals(Double.valueOf(0.0), Double.valueOf(NumberParser.parseDouble("-0.0")));
+		Assert.assertEquals(Float.valueOf(0.0f), Float.valueOf(NumberParser.parseFloat("-0e5")));
+		// a negative number which underflows keeps its sign, like BigDecimal.doubleValue() and floatValue()
+		Assert.assertEquals(Double.valueOf(-0.0), Double.valueOf(NumberParser.parseDouble("-1e-400")));
+		Assert.assertEquals(Float.valueOf(-0.0f), Float.valueOf(NumberParser.parseFloat("-1e-400")));
+		Assert.assertEquals(Float.valueOf(-0.0f), Float.valueOf(NumberParser.parseFloat("-1e-50")));
+	}
+
+	@Test
+	public void parseIntegral_sameAsBigInteger() {
+		final String[] values = { "0", "-0", "+0", "007", "-128", "127", "2147483647", "-2147483648", "9223372036854775807",
+				"-9223372036854775808" };
+		for (final String value : values) {
+			Assert.assertEquals(value, Result.VALID, NumberParser.checkIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE));
+			Assert.assertEquals(value, new BigInteger(value).longValue(), NumberParser.parseIntegral(value));
+		}
+	}
+
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ParallelCheckTest {
+
+	private static final class FailingList extends AbstractList<Object> implements RandomAccess {
+
+		private final RuntimeException exception;
+
+		private final Error error;
+
+		FailingList(final RuntimeException exception, final Error error) {
+			this.exception = exception;
+			this.error = error;
+		}
+
+		@Override
+		public Object get(final int index) {
+			if (index == SIZE / 2) {
+				if (error != null) {
+					throw error;
+				}
+				throw exception;
+			}
+			return "a";
+		}
+
+		@Override
+		public int size() {
+			return SIZE;
+		}
+
+	}
+
+	private static final int SIZE = 1000000;
+
+	private static ExecutorService executor;
+
+	private static long indexOfNull(final Object[] array) {
+		try {
+			ParallelCheck.noNullElements(executor, array, "array");
+			return -1;
+		} catch (final IllegalNullElementsException e) {
+			return e.getIndex();
+		}
+	}
+
+	@BeforeClass
+	public static void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<ParallelCheck> constructor = ParallelCheck.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void noNullElements_array_reportsFirstIndex() {
+		final Object[] array = new Object[SIZE];
+		Arrays.fill(array, "a");
+		Assert.assertEquals(-1, indexOfNull(array));
+		array[SIZE - 1] = null;
+		Assert.assertEquals(SIZE - 1, indexOfNull(array));
+		for (int i = SIZE - 2; i > 0; i -= 99991) {
+			array[i] = null;
+			Assert.assertEquals(i, indexOfNull(array));
+		}
+		array[0] = null;
+		Assert.assertEquals(0, indexOfNull(array));
+	}
+
+	@Test
+	public void noNullElements_array_withDefaultExecutor() {
+		final Object[] array = new Object[SIZE];
+		Arrays.fill(array, "a");
+		Assert.assertSame(array, ParallelCheck.noNullElements(array, "array"));
+		array[SIZE / 3] = null;
+		array[SIZE / 2] = null;
+		try {
+			ParallelCheck.noNullElements(array, "array");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(SIZE / 3, e.getIndex());
+		}
+	}
+
+	@Test
+	public void noNullElements_collections() {
+		final List<Object> list = new ArrayList<Object>(Collections.nCopies(SIZE, "a"));
+		list.set(SIZE - 10, null);
+		list.set(SIZE - 5, null);
+		final List<Iterable<Object>> iterables = new ArrayList<Iterable<Object>>();
+		iterables.add(list);
+		iterables.add(new LinkedList<Object>(list));
+		iterables.add(new Iterable<Object>() {
+			@Override
+			public Iterator<Object> iterator() {
+				return list.iterator();
+			}
+		});
+		for (final Iterable<Object> iterable : iterables) {
+			try {
+				ParallelCheck.noNullElements(executor, iterable, "iterable");
+				Assert.fail();
+			} catch (final IllegalNullElementsException e) {
+				Assert.assertEquals(SIZE - 10, e.getIndex());
+			}
+		}
+		list.set(SIZE - 10, "a");
+		list.set(SIZE - 5, "a");
+		Assert.assertSame(list, ParallelCheck.noNullElements(list, "list"));
+	}
+
+	@Test
+	public void noNullElements_smallInputIsCheckedSequentially() {
+		final List<String> list = Arrays.asList("a", null);
+		try {
+			ParallelCheck.noNullElements(executor, list, "list");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(1, e.getIndex());
+		}
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void noNullElements_rethrowsException() {
+		ParallelCheck.noNullElements(executor, new FailingList(new ConcurrentModificationException(), null), "list");
+	}
+
+	@Test(expected = AssertionError.class)
+	public void noNullElements_rethrowsError() {
+		ParallelCheck.noNullElements(executor, new FailingList(null, new AssertionError()), "list");
+	}
+
+	@Test
+	public void noNullElements_whenInterrupted() {
+		final Object[] array = new Object[SIZE];
+		Arrays.fill(array, "a");
+		array[SIZE - 1] = null;
+		Thread.currentThread().interrupt();
+		try {
+			Assert.assertEquals(SIZE - 1, indexOfNull(array));
+		} finally {
+			Assert.assertTrue(Thread.interrupted());
+		}
+	}
+
+	@Test
+	public void noNullElements_withinSharedPool() {
+		final Object[] array = new Object[SIZE];
+		Arrays.fill(array, "a");
+		array[SIZE - 1] = null;
+		final long[] nested = { -1 };
+		final class NestingList extends AbstractList<Object> implements RandomAccess {
+			@Override
+			public Object get(final int index) {
+				if (index == 0) {
+					// runs in a thread of the shared pool, so the array is scanned there instead of in the pool
+					try {
+						ParallelCheck.noNullElements(array, "array");
+					} catch (final IllegalNullElementsException e) {
+						nested[0] = e.getIndex();
+					}
+				}
+				return "a";
+			}
+
+			@Override
+			public int size() {
+				return SIZE;
+			}
+		}
+		ParallelCheck.noNullElements(new NestingList(), "list");
+		Assert.assertEquals(SIZE - 1, nested[0]);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void noNullElements_withNullArray() {
+		ParallelCheck.noNullElements((Object[]) null, "array");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void noNullElements_withNullExecutor() {
+		ParallelCheck.noNullElements(null, new Object[0], "array");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void noNullElements_withNullIterable() {
+		ParallelCheck.noNullElements((Iterable<?>) null, "iterable");
+	}
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PatternCacheTest {
+
+	@Test
+	public void clear_keepsStats() {
+		final PatternCache cache = new PatternCache(4);
+		cache.compile("a");
+		cache.clear();
+		Assert.assertEquals(0, cache.getStats().getSize());
+		Assert.assertEquals(1L, cache.getStats().getMissCount());
+		cache.compile("a");
+		Assert.assertEquals(2L, cache.getStats().getMissCount());
+	}
+
+	@Test
+	public void compile_cachesPattern() {
+		final PatternCache cache = new PatternCache(4);
+		final Pattern pattern = cache.compile("\\d+");
+		Assert.assertEquals("\\d+", pattern.pattern());
+		Assert.assertSame(pattern, cache.compile("\\d+"));
+		Assert.assertSame(pattern, cache.compile("\\d+"));
+
+		final PatternCache.Stats stats = cache.getStats();
+		Assert.assertEquals(2L, stats.getHitCount());
+		Assert.assertEquals(1L, stats.getMissCount());
+		Assert.assertEquals(0L, stats.getEvictionCount());
+		Assert.assertEquals(1, stats.getSize());
+		Assert.assertEquals(4, stats.getMaximumSize());
+		Assert.assertEquals(2.0 / 3.0, stats.getHitRate(), 0.0001);
+		Assert.assertEquals("Stats [hitCount=2, missCount=1, evictionCount=0, size=1, maximumSize=4]", stats.toString());
+	}
+
+	@Test
+	public void compile_evictsLeastRecentlyUsed() {
+		final PatternCache cache = new PatternCache(2);
+		final Pattern a = cache.compile("a");
+		final Pattern b = cache.compile("b");
+		Assert.assertSame(a, cache.compile("a"));
+		cache.compile("c");
+		Assert.assertEquals(1L, cache.getStats().getEvictionCount());
+		Assert.assertEquals(2, cache.getStats().getSize());
+		Assert.assertSame(a, cache.compile("a"));
+		Assert.assertNotSame(b, cache.compile("b"));
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void compile_invalidSyntax() {
+		new PatternCache(1).compile("(");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void compile_null() {
+		new PatternCache(1).compile(null);
+	}
+
+	@Test(expected = IllegalNotGreaterThanException.class)
+	public void construct_notPositive() {
+		new PatternCache(0);
+	}
+
+	@Test
+	public void getHitRate_withoutLookups() {
+		Assert.assertEquals(1.0, new PatternCache(1).getStats().getHitRate(), 0.0);
+	}
+
+	@Test
+	public void getShared() {
+		Assert.assertSame(PatternCache.getShared(), PatternCache.getShared());
+		Assert.assertEquals(PatternCache.DEFAULT_MAXIMUM_SIZE, PatternCache.getShared().getStats().getMaximumSize());
+	}
+
+	@Test
+	public void readMaximumSize() {
+		try {
+			System.setProperty(PatternCache.MAXIMUM_SIZE_PROPERTY, "16");
+			Assert.assertEquals(16, PatternCache.readMaximumSize());
+			System.setProperty(PatternCache.MAXIMUM_SIZE_PROPERTY, "0");
+			Assert.assertEquals(PatternCache.DEFAULT_MAXIMUM_SIZE, PatternCache.readMaximumSize());
+			System.setProperty(PatternCache.MAXIMUM_SIZE_PROPERTY, "many");
+			Assert.assertEquals(PatternCache.DEFAULT_MAXIMUM_SIZE, PatternCache.readMaximumSize());
+		} finally {
+			System.clearProperty(PatternCache.MAXIMUM_SIZE_PROPERTY);
+		}
+		Assert.assertEquals(PatternCache.DEFAULT_MAXIMUM_SIZE, PatternCache.readMaximumSize());
+	}
+
+}
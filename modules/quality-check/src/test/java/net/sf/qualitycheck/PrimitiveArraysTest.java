@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrimitiveArraysTest {
+
+	private static final int[] LENGTHS = { 0, 1, 7, 1023, 1024, 1025, 3000 };
+
+	private static int naiveIndexOfNaN(final double[] values, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (Double.isNaN(values[i])) {
+				return i;
+			}
+		}
+		return PrimitiveArrays.NOT_FOUND;
+	}
+
+	private static int naiveIndexOfOutOfRange(final double min, final double max, final double[] values, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (values[i] < min || values[i] > max) {
+				return i;
+			}
+		}
+		return PrimitiveArrays.NOT_FOUND;
+	}
+
+	private static int naiveIndexOfOutOfRange(final long min, final long max, final long[] values, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (values[i] < min || values[i] > max) {
+				return i;
+			}
+		}
+		return PrimitiveArrays.NOT_FOUND;
+	}
+
+	@Test
+	public void bounds_emptyRanges() {
+		Assert.assertTrue(PrimitiveArrays.minGreaterThan(Integer.MAX_VALUE) > PrimitiveArrays.maxGreaterThan(Integer.MAX_VALUE));
+		Assert.assertTrue(PrimitiveArrays.minLesserThan(Integer.MIN_VALUE) > PrimitiveArrays.maxLesserThan(Integer.MIN_VALUE));
+		Assert.assertTrue(PrimitiveArrays.minGreaterThan(Long.MAX_VALUE) > PrimitiveArrays.maxGreaterThan(Long.MAX_VALUE));
+		Assert.assertTrue(PrimitiveArrays.minLesserThan(Long.MIN_VALUE) > PrimitiveArrays.maxLesserThan(Long.MIN_VALUE));
+		Assert.assertTrue(PrimitiveArrays.minGreaterThan(Float.POSITIVE_INFINITY) > PrimitiveArrays
+				.maxGreaterThan(Float.POSITIVE_INFINITY));
+		Assert.assertTrue(PrimitiveArrays.minLesserThan(Float.NEGATIVE_INFINITY) > PrimitiveArrays
+				.maxLesserThan(Float.NEGATIVE_INFINITY));
+		Assert.assertTrue(PrimitiveArrays.minGreaterThan(Double.POSITIVE_INFINITY) > PrimitiveArrays
+				.maxGreaterThan(Double.POSITIVE_INFINITY));
+		Assert.assertTrue(PrimitiveArrays.minLesserThan(Double.NEGATIVE_INFINITY) > PrimitiveArrays
+				.maxLesserThan(Double.NEGATIVE_INFINITY));
+	}
+
+	@Test
+	public void bounds_neighbours() {
+		Assert.assertEquals(6, PrimitiveArrays.maxLesserThan(7));
+		Assert.assertEquals(8, PrimitiveArrays.minGreaterThan(7));
+		Assert.assertEquals(6L, PrimitiveArrays.maxLesserThan(7L));
+		Assert.assertEquals(8L, PrimitiveArrays.minGreaterThan(7L));
+		Assert.assertEquals(Float.MIN_VALUE, PrimitiveArrays.minGreaterThan(0.0f), 0.0f);
+		Assert.assertEquals(-Float.MIN_VALUE, PrimitiveArrays.maxLesserThan(0.0f), 0.0f);
+		Assert.assertEquals(Double.MIN_VALUE, PrimitiveArrays.minGreaterThan(0.0), 0.0);
+		Assert.assertEquals(-Double.MIN_VALUE, PrimitiveArrays.maxLesserThan(0.0), 0.0);
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<PrimitiveArrays> constructor = PrimitiveArrays.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void indexOfNaN_sameAsNaiveLoop() {
+		final Random random = new Random(42);
+		for (final int length : LENGTHS) {
+			for (int run = 0; run < 20; run++) {
+				final double[] values = new double[length];
+				final float[] floats = new float[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = random.nextInt(2000) == 0 ? Double.NaN : random.nextGaussian();
+					floats[i] = (float) values[i];
+				}
+				final int from = length == 0 ? 0 : random.nextInt(length);
+				final int expected = naiveIndexOfNaN(values, from, length);
+				Assert.assertEquals(expected, PrimitiveArrays.indexOfNaN(values, from, length));
+				Assert.assertEquals(expected, PrimitiveArrays.indexOfNaN(floats, from, length));
+
+				final DoubleBuffer doubleBuffer = DoubleBuffer.wrap(values);
+				doubleBuffer.position(from);
+				Assert.assertEquals(expected, PrimitiveArrays.indexOfNaN(doubleBuffer));
+				Assert.assertEquals(expected, PrimitiveArrays.indexOfNaN(doubleBuffer.asReadOnlyBuffer()));
+				Assert.assertEquals(from, doubleBuffer.position());
+			}
+		}
+	}
+
+	@Test
+	public void indexOfNaN_slicedBuffer() {
+		final double[] values = { 1.0, Double.NaN, 2.0, 3.0, Double.NaN };
+		DoubleBuffer buffer = DoubleBuffer.wrap(values, 2, 3).slice();
+		Assert.assertEquals(2, PrimitiveArrays.indexOfNaN(buffer));
+		buffer.limit(2);
+		Assert.assertEquals(PrimitiveArrays.NOT_FOUND, PrimitiveArrays.indexOfNaN(buffer));
+
+		buffer = ByteBuffer.allocateDirect(8 * 5).asDoubleBuffer().put(values);
+		buffer.position(2);
+		Assert.assertEquals(4, PrimitiveArrays.indexOfNaN(buffer));
+	}
+
+	@Test
+	public void indexOfOutOfRange_double_sameAsNaiveLoop() {
+		final Random random = new Random(42);
+		final double[] bounds = { Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, 1.0, Double.POSITIVE_INFINITY };
+		for (final int length : LENGTHS) {
+			final double[] values = new double[length];
+			final float[] floats = new float[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = random.nextInt(100) == 0 ? Double.NaN : random.nextInt(1000) - 1;
+				floats[i] = (float) values[i];
+			}
+			for (final double min : bounds) {
+				for (final double max : bounds) {
+					final int from = length == 0 ? 0 : random.nextInt(length);
+					final int expected = naiveIndexOfOutOfRange(min, max, values, from, length);
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange(min, max, values, from, length));
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange((float) min, (float) max, floats, from, length));
+
+					final DoubleBuffer doubleBuffer = DoubleBuffer.wrap(values);
+					doubleBuffer.position(from);
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange(min, max, doubleBuffer));
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange(min, max, doubleBuffer.asReadOnlyBuffer()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void indexOfOutOfRange_long_sameAsNaiveLoop() {
+		final Random random = new Random(42);
+		final long[] bounds = { Integer.MIN_VALUE, -1L, 0L, 1L, 500L, Integer.MAX_VALUE };
+		for (final int length : LENGTHS) {
+			final long[] values = new long[length];
+			final int[] ints = new int[length];
+			for (int i = 0; i < length; i++) {
+				ints[i] = random.nextInt(100) == 0 ? random.nextInt() : random.nextInt(1000) - 1;
+				values[i] = ints[i];
+			}
+			for (final long min : bounds) {
+				for (final long max : bounds) {
+					final int from = length == 0 ? 0 : random.nextInt(length);
+					final int expected = naiveIndexOfOutOfRange(min, max, values, from, length);
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange(min, max, values, from, length));
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange((int) min, (int) max, ints, from, length));
+
+					final LongBuffer longBuffer = LongBuffer.wrap(values);
+					longBuffer.position(from);
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange(min, max, longBuffer));
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange(min, max, longBuffer.asReadOnlyBuffer()));
+
+					final IntBuffer intBuffer = IntBuffer.wrap(ints);
+					intBuffer.position(from);
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange((int) min, (int) max, intBuffer));
+					Assert.assertEquals(expected, PrimitiveArrays.indexOfOutOfRange((int) min, (int) max, intBuffer.asReadOnlyBuffer()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void indexOfOutOfRange_slicedBuffer() {
+		final int[] values = { -1, 5, 1, 2, -3 };
+		final IntBuffer buffer = IntBuffer.wrap(values, 2, 3).slice();
+		Assert.assertEquals(2, PrimitiveArrays.indexOfOutOfRange(0, Integer.MAX_VALUE, buffer));
+
+		final LongBuffer longBuffer = LongBuffer.wrap(new long[] { -1L, 5L, -2L }, 1, 2).slice();
+		Assert.assertEquals(1, PrimitiveArrays.indexOfOutOfRange(0L, Long.MAX_VALUE, longBuffer));
+
+		final DoubleBuffer doubleBuffer = DoubleBuffer.wrap(new double[] { -1.0, 5.0, -2.0 }, 1, 2).slice();
+		Assert.assertEquals(1, PrimitiveArrays.indexOfOutOfRange(0.0, Double.POSITIVE_INFINITY, doubleBuffer));
+
+		final DoubleBuffer directBuffer = ByteBuffer.allocateDirect(8 * 3).asDoubleBuffer().put(new double[] { -1.0, 5.0, -2.0 });
+		directBuffer.position(1);
+		Assert.assertEquals(2, PrimitiveArrays.indexOfOutOfRange(0.0, Double.POSITIVE_INFINITY, directBuffer));
+	}
+
+}
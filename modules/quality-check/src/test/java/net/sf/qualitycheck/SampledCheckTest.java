@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SampledCheckTest {
+
+	private static final int RUNS = 10000;
+
+	private static Object[] withNullAt(final int size, final int index) {
+		final Object[] array = new Object[size];
+		Arrays.fill(array, "a");
+		array[index] = null;
+		return array;
+	}
+
+	@After
+	public void after() {
+		for (final SampledCheck.Kind kind : SampledCheck.Kind.values()) {
+			SampledCheck.setPolicy(kind, SamplingPolicy.always());
+		}
+	}
+
+	@Test
+	public void contains_always() {
+		Assert.assertEquals("a", SampledCheck.contains(Arrays.asList("a", "b"), "a", "needle"));
+		try {
+			SampledCheck.contains(Arrays.asList("a", "b"), "c", "needle");
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void contains_oneIn() {
+		SampledCheck.setPolicy(SampledCheck.Kind.CONTAINS, SamplingPolicy.oneIn(10));
+		int failures = 0;
+		for (int i = 0; i < RUNS; i++) {
+			try {
+				SampledCheck.contains(Arrays.asList("a", "b"), "c", "needle");
+			} catch (final IllegalNotContainedArgumentException e) {
+				failures++;
+			}
+		}
+		Assert.assertTrue(String.valueOf(failures), failures > RUNS / 20 && failures < RUNS / 5);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void contains_withNullHaystack() {
+		SampledCheck.setPolicy(SampledCheck.Kind.CONTAINS, SamplingPolicy.oneIn(Integer.MAX_VALUE));
+		SampledCheck.contains(null, "a", "needle");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void contains_withNullNeedle() {
+		SampledCheck.setPolicy(SampledCheck.Kind.CONTAINS, SamplingPolicy.oneIn(Integer.MAX_VALUE));
+		SampledCheck.contains(Arrays.asList("a", "b"), null, "needle");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void getPolicy_withNullKind() {
+		SampledCheck.getPolicy(null);
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<SampledCheck> constructor = SampledCheck.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void matchesPattern_oneIn() {
+		SampledCheck.setPolicy(SampledCheck.Kind.MATCHES_PATTERN, SamplingPolicy.oneIn(10));
+		int failures = 0;
+		for (int i = 0; i < RUNS; i++) {
+			try {
+				Assert.assertEquals("abc", SampledCheck.matchesPattern(Pattern.compile("\\d+"), "abc", "chars"));
+			} catch (final IllegalPatternArgumentException e) {
+				failures++;
+			}
+		}
+		Assert.assertTrue(String.valueOf(failures), failures > RUNS / 20 && failures < RUNS / 5);
+		Assert.assertSame(SamplingPolicy.always(), SampledCheck.getPolicy(SampledCheck.Kind.CONTAINS));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_withNullChars() {
+		SampledCheck.matchesPattern(Pattern.compile("\\d+"), null, "chars");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_withNullPattern() {
+		SampledCheck.matchesPattern(null, "1", "chars");
+	}
+
+	@Test
+	public void noNullElements_array_always() {
+		try {
+			SampledCheck.noNullElements(withNullAt(1000, 999), "array");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(999, e.getIndex());
+		}
+	}
+
+	@Test
+	public void noNullElements_array_randomElements() {
+		SampledCheck.setPolicy(SampledCheck.Kind.NO_NULL_ELEMENTS, SamplingPolicy.randomElements(10));
+		final Object[] small = withNullAt(10, 9);
+		try {
+			SampledCheck.noNullElements(small, "small");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(9, e.getIndex());
+		}
+
+		final Object[] large = withNullAt(100, 42);
+		int failures = 0;
+		for (int i = 0; i < RUNS; i++) {
+			try {
+				Assert.assertSame(large, SampledCheck.noNullElements(large, "large"));
+			} catch (final IllegalNullElementsException e) {
+				Assert.assertEquals(42, e.getIndex());
+				failures++;
+			}
+		}
+		// 10 samples out of 100 elements find the single null with a probability of about 10 %
+		Assert.assertTrue(String.valueOf(failures), failures > RUNS / 20 && failures < RUNS / 5);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void noNullElements_array_withNull() {
+		SampledCheck.noNullElements((Object[]) null, "array");
+	}
+
+	@Test
+	public void noNullElements_iterable_oneIn() {
+		SampledCheck.setPolicy(SampledCheck.Kind.NO_NULL_ELEMENTS, SamplingPolicy.oneIn(10).withRandomElements(10));
+		final List<Object> linked = new LinkedList<Object>(Arrays.asList(withNullAt(100, 42)));
+		int failures = 0;
+		for (int i = 0; i < RUNS; i++) {
+			try {
+				Assert.assertSame(linked, SampledCheck.noNullElements(linked, "linked"));
+			} catch (final IllegalNullElementsException e) {
+				Assert.assertEquals(42, e.getIndex());
+				failures++;
+			}
+		}
+		Assert.assertTrue(String.valueOf(failures), failures > RUNS / 20 && failures < RUNS / 5);
+	}
+
+	@Test
+	public void noNullElements_iterable_randomElements() {
+		SampledCheck.setPolicy(SampledCheck.Kind.NO_NULL_ELEMENTS, SamplingPolicy.randomElements(10));
+		final List<Object> list = new ArrayList<Object>(Arrays.asList(withNullAt(100, 42)));
+		int failures = 0;
+		for (int i = 0; i < RUNS; i++) {
+			try {
+				SampledCheck.noNullElements(list, "list");
+			} catch (final IllegalNullElementsException e) {
+				Assert.assertEquals(42, e.getIndex());
+				failures++;
+			}
+		}
+		Assert.assertTrue(String.valueOf(failures), failures > RUNS / 20 && failures < RUNS / 5);
+
+		try {
+			SampledCheck.noNullElements(Arrays.asList(withNullAt(5, 4)), "small");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(4, e.getIndex());
+		}
+		try {
+			SampledCheck.noNullElements(Collections.unmodifiableCollection(list), "collection");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(42, e.getIndex());
+		}
+		Assert.assertTrue(SampledCheck.noNullElements(Collections.nCopies(1000, "a"), "copies").size() == 1000);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void noNullElements_iterable_withNull() {
+		SampledCheck.noNullElements((List<?>) null, "iterable");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void setPolicy_withNullKind() {
+		SampledCheck.setPolicy(null, SamplingPolicy.always());
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void setPolicy_withNullPolicy() {
+		SampledCheck.setPolicy(SampledCheck.Kind.CONTAINS, null);
+	}
+
+}
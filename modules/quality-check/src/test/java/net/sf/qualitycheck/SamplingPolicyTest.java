@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SamplingPolicyTest {
+
+	@Test
+	public void always() {
+		final SamplingPolicy policy = SamplingPolicy.always();
+		Assert.assertEquals(1, policy.getInvocations());
+		Assert.assertEquals(0, policy.getElements());
+		Assert.assertTrue(policy.isComplete(Integer.MAX_VALUE));
+		for (int i = 0; i < 100; i++) {
+			Assert.assertTrue(policy.isSampled());
+		}
+	}
+
+	@Test
+	public void oneIn() {
+		final SamplingPolicy policy = SamplingPolicy.oneIn(4);
+		Assert.assertEquals(4, policy.getInvocations());
+		Assert.assertTrue(policy.isComplete(Integer.MAX_VALUE));
+		int sampled = 0;
+		for (int i = 0; i < 40000; i++) {
+			if (policy.isSampled()) {
+				sampled++;
+			}
+		}
+		Assert.assertTrue(String.valueOf(sampled), sampled > 9000 && sampled < 11000);
+	}
+
+	@Test(expected = IllegalNotGreaterThanException.class)
+	public void oneIn_zero() {
+		SamplingPolicy.oneIn(0);
+	}
+
+	@Test
+	public void randomElements() {
+		final SamplingPolicy policy = SamplingPolicy.randomElements(8);
+		Assert.assertEquals(1, policy.getInvocations());
+		Assert.assertEquals(8, policy.getElements());
+		Assert.assertTrue(policy.isComplete(8));
+		Assert.assertFalse(policy.isComplete(9));
+	}
+
+	@Test(expected = IllegalNotGreaterThanException.class)
+	public void randomElements_negative() {
+		SamplingPolicy.randomElements(-1);
+	}
+
+	@Test
+	public void toString_containsSettings() {
+		Assert.assertEquals("SamplingPolicy [invocations=3, elements=5]", SamplingPolicy.oneIn(3).withRandomElements(5).toString());
+	}
+
+}
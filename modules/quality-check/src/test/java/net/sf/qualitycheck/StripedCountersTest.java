@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StripedCountersTest {
+
+	@Test
+	public void increment_concurrently() throws Exception {
+		final StripedCounters counters = new StripedCounters(3);
+		final List<Thread> threads = new ArrayList<Thread>();
+		for (int t = 0; t < 8; t++) {
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 10000; i++) {
+						counters.increment(1);
+					}
+				}
+			});
+		}
+		for (final Thread thread : threads) {
+			thread.start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(0L, counters.sum(0));
+		Assert.assertEquals(80000L, counters.sum(1));
+		Assert.assertEquals(0L, counters.sum(2));
+	}
+
+	@Test
+	public void reset_setsAllCountersToZero() {
+		final StripedCounters counters = new StripedCounters(2);
+		counters.increment(0);
+		counters.increment(1);
+		counters.increment(1);
+		Assert.assertEquals(1L, counters.sum(0));
+		Assert.assertEquals(2L, counters.sum(1));
+		counters.reset();
+		Assert.assertEquals(0L, counters.sum(0));
+		Assert.assertEquals(0L, counters.sum(1));
+	}
+
+}
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.IllegalAlphanumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalArgumentsException;
+import net.sf.qualitycheck.exception.IllegalAsciiArgumentException;
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalHexadecimalArgumentException;
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+import net.sf.qualitycheck.exception.IllegalPositiveArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ValidationTest {
+
+	private static void assertFailure(final Validation validation, final Class<? extends RuntimeException> type, final String message) {
+		Assert.assertFalse(validation.isValid());
+		Assert.assertEquals(1, validation.getFailureCount());
+		final RuntimeException e = validation.getFailures().get(0);
+		Assert.assertEquals(type, e.getClass());
+		Assert.assertEquals(message, e.getMessage());
+	}
+
+	private static void assertFailure(final Validation validation, final Class<? extends RuntimeException> type) {
+		Assert.assertFalse(validation.isValid());
+		Assert.assertEquals(1, validation.getFailureCount());
+		Assert.assertEquals(type, validation.getFailures().get(0).getClass());
+	}
+
+	private static void assertValid(final Validation validation) {
+		Assert.assertTrue(validation.isValid());
+		Assert.assertEquals(0, validation.getFailureCount());
+		Assert.assertEquals(1, validation.getCheckCount());
+		validation.throwIfInvalid();
+	}
+
+	@Test
+	public void contains() {
+		final List<String> haystack = Arrays.asList("a", "b");
+		assertValid(new Validation().contains(haystack, "a", "x"));
+		assertFailure(new Validation().contains(haystack, "c", "x"), IllegalNotContainedArgumentException.class);
+		assertFailure(new Validation().contains(haystack, null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void contains_nullHaystack() {
+		new Validation().contains(null, "a", "x");
+	}
+
+	@Test
+	public void failures_areCreatedOnce() {
+		final Validation validation = new Validation().notNull(null, "x");
+		Assert.assertSame(validation.getFailures().get(0), validation.getFailures().get(0));
+	}
+
+	@Test
+	public void forCurrentThread_isReusedAndReset() {
+		final Validation validation = Validation.forCurrentThread().notNull(null, "x");
+		Assert.assertFalse(validation.isValid());
+		Assert.assertSame(validation, Validation.forCurrentThread());
+		Assert.assertTrue(validation.isValid());
+		Assert.assertEquals(0, validation.getCheckCount());
+		Assert.assertFalse(validation.hasFailed(0));
+	}
+
+	@Test
+	public void hasFailed_manyChecks() {
+		final Validation validation = new Validation();
+		for (int i = 0; i < 200; i++) {
+			validation.notNegative(i % 3 == 0 ? -i : i, "value" + i);
+		}
+		Assert.assertEquals(200, validation.getCheckCount());
+		Assert.assertEquals(66, validation.getFailureCount());
+		for (int i = 1; i < 200; i++) {
+			Assert.assertEquals(Integer.toString(i), i % 3 == 0, validation.hasFailed(i));
+		}
+		Assert.assertFalse(validation.hasFailed(0));
+		Assert.assertFalse(validation.hasFailed(10000));
+
+		validation.reset();
+		Assert.assertEquals(0, validation.getCheckCount());
+		for (int i = 0; i < 200; i++) {
+			Assert.assertFalse(validation.hasFailed(i));
+		}
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void hasFailed_negativeIndex() {
+		new Validation().hasFailed(-1);
+	}
+
+	@Test
+	public void instanceOf() {
+		assertValid(new Validation().instanceOf(CharSequence.class, "a", "x"));
+		assertFailure(new Validation().instanceOf(Integer.class, "a", "x"), IllegalInstanceOfArgumentException.class,
+				"The passed argument 'x' is a member of an unexpected type (expected type: java.lang.Integer, actual: java.lang.String).");
+		assertFailure(new Validation().instanceOf(Integer.class, null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void instanceOf_nullType() {
+		new Validation().instanceOf(null, "a", "x");
+	}
+
+	@Test
+	public void isAlphanumeric() {
+		assertValid(new Validation().isAlphanumeric("a1", "x"));
+		assertFailure(new Validation().isAlphanumeric("a-1", "x"), IllegalAlphanumericArgumentException.class);
+		assertFailure(new Validation().isAlphanumeric("", "x"), IllegalAlphanumericArgumentException.class);
+		assertFailure(new Validation().isAlphanumeric(null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test
+	public void isAscii() {
+		assertValid(new Validation().isAscii("", "x"));
+		assertFailure(new Validation().isAscii("ä", "x"), IllegalAsciiArgumentException.class);
+		assertFailure(new Validation().isAscii(null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test
+	public void isHexadecimal() {
+		assertValid(new Validation().isHexadecimal("cafe", "x"));
+		assertFailure(new Validation().isHexadecimal("cafg", "x"), IllegalHexadecimalArgumentException.class);
+		assertFailure(new Validation().isHexadecimal("", "x"), IllegalHexadecimalArgumentException.class);
+		assertFailure(new Validation().isHexadecimal(null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test
+	public void isNull() {
+		assertValid(new Validation().isNull(null, "x"));
+		assertFailure(new Validation().isNull("a", "x"), IllegalNotNullArgumentException.class);
+	}
+
+	@Test
+	public void isNumber() {
+		assertValid(new Validation().isNumber("123", "x"));
+		assertValid(new Validation().isNumber("1.5", "x", BigDecimal.class));
+		assertFailure(new Validation().isNumber("12a", "x"), IllegalNumberArgumentException.class,
+				"The passed argument 'x' must be a number.");
+		assertFailure(new Validation().isNumber("12a", "x", BigDecimal.class), IllegalNumberArgumentException.class);
+		assertFailure(new Validation().isNumber("99999999999", "x"), IllegalNumberRangeException.class);
+		assertFailure(new Validation().isNumber(null, "x"), IllegalNullArgumentException.class);
+		Assert.assertNotNull(new Validation().isNumber("12a", "x", BigDecimal.class).getFailures().get(0).getCause());
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void isNumber_nullType() {
+		new Validation().isNumber("1", "x", null);
+	}
+
+	@Test
+	public void isNumeric() {
+		assertValid(new Validation().isNumeric("0123", "x"));
+		assertFailure(new Validation().isNumeric("1.5", "x"), IllegalNumericArgumentException.class);
+		assertFailure(new Validation().isNumeric("", "x"), IllegalNumericArgumentException.class);
+		assertFailure(new Validation().isNumeric(null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test
+	public void matchesPattern() {
+		final Pattern pattern = Pattern.compile("[a-z]+");
+		assertValid(new Validation().matchesPattern(pattern, "abc", "x"));
+		assertFailure(new Validation().matchesPattern(pattern, "ABC", "x"), IllegalPatternArgumentException.class);
+		assertFailure(new Validation().matchesPattern(pattern, null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_nullPattern() {
+		new Validation().matchesPattern(null, "a", "x");
+	}
+
+	@Test
+	public void noNullElements() {
+		assertValid(new Validation().noNullElements(Arrays.asList("a"), "x"));
+		assertValid(new Validation().noNullElements(new Object[] { "a" }, "x"));
+		assertFailure(new Validation().noNullElements(Arrays.asList("a", null), "x"), IllegalNullElementsException.class);
+		assertFailure(new Validation().noNullElements(new Object[] { "a", null }, "x"), IllegalNullElementsException.class);
+		assertFailure(new Validation().noNullElements((Iterable<?>) null, "x"), IllegalNullArgumentException.class);
+		assertFailure(new Validation().noNullElements((Object[]) null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test
+	public void notEmpty() {
+		assertValid(new Validation().notEmpty(false, "x"));
+		assertValid(new Validation().notEmpty("a", "x"));
+		assertValid(new Validation().notEmpty(Arrays.asList("a"), "x"));
+		assertValid(new Validation().notEmpty((Iterable<?>) Arrays.asList("a"), "x"));
+		assertValid(new Validation().notEmpty(Collections.singletonMap("a", "b"), "x"));
+		assertValid(new Validation().notEmpty(new Object[] { "a" }, "x"));
+		assertFailure(new Validation().notEmpty(true, "x"), IllegalEmptyArgumentException.class);
+		assertFailure(new Validation().notEmpty("", "x"), IllegalEmptyArgumentException.class);
+		assertFailure(new Validation().notEmpty(new ArrayList<String>(), "x"), IllegalEmptyArgumentException.class);
+		assertFailure(new Validation().notEmpty((Iterable<?>) new ArrayList<String>(), "x"), IllegalEmptyArgumentException.class);
+		assertFailure(new Validation().notEmpty(new HashMap<String, String>(), "x"), IllegalEmptyArgumentException.class);
+		assertFailure(new Validation().notEmpty(new Object[0], "x"), IllegalEmptyArgumentException.class);
+		assertFailure(new Validation().notEmpty((CharSequence) null, "x"), IllegalNullArgumentException.class);
+		assertFailure(new Validation().notEmpty((List<?>) null, "x"), IllegalNullArgumentException.class);
+		assertFailure(new Validation().notEmpty((Iterable<?>) null, "x"), IllegalNullArgumentException.class);
+		assertFailure(new Validation().notEmpty((HashMap<?, ?>) null, "x"), IllegalNullArgumentException.class);
+		assertFailure(new Validation().notEmpty((Object[]) null, "x"), IllegalNullArgumentException.class);
+	}
+
+	@Test
+	public void notNaN() {
+		assertValid(new Validation().notNaN(1.0, "x"));
+		assertFailure(new Validation().notNaN(Double.NaN, "x"), IllegalNaNArgumentException.class);
+		assertFailure(new Validation().notNaN(Float.NaN, "x"), IllegalNaNArgumentException.class);
+	}
+
+	@Test
+	public void notNegative() {
+		assertValid(new Validation().notNegative(0, "x"));
+		assertValid(new Validation().notNegative(0L, "x"));
+		assertValid(new Validation().notNegative(0.0, "x"));
+		assertFailure(new Validation().notNegative(-1, "x"), IllegalNegativeArgumentException.class);
+		assertFailure(new Validation().notNegative(-1L, "x"), IllegalNegativeArgumentException.class);
+		assertFailure(new Validation().notNegative(-0.5, "x"), IllegalNegativeArgumentException.class);
+	}
+
+	@Test
+	public void notNull() {
+		assertValid(new Validation().notNull("a", "x"));
+		assertFailure(new Validation().notNull(null, "x"), IllegalNullArgumentException.class, "Argument 'x' must not be null.");
+	}
+
+	@Test
+	public void notPositive() {
+		assertValid(new Validation().notPositive(0, "x"));
+		assertValid(new Validation().notPositive(0L, "x"));
+		assertValid(new Validation().notPositive(0.0, "x"));
+		assertFailure(new Validation().notPositive(1, "x"), IllegalPositiveArgumentException.class);
+		assertFailure(new Validation().notPositive(1L, "x"), IllegalPositiveArgumentException.class);
+		assertFailure(new Validation().notPositive(0.5, "x"), IllegalPositiveArgumentException.class);
+	}
+
+	@Test
+	public void positionIndex() {
+		assertValid(new Validation().positionIndex(0, 1));
+		assertFailure(new Validation().positionIndex(1, 1), IllegalPositionIndexException.class);
+		assertFailure(new Validation().positionIndex(-1, 1), IllegalPositionIndexException.class);
+		assertFailure(new Validation().positionIndex(0, -1), IllegalPositionIndexException.class);
+	}
+
+	@Test
+	public void range() {
+		assertValid(new Validation().range(0, 1, 1));
+		assertFailure(new Validation().range(0, 2, 1), IllegalRangeException.class);
+		assertFailure(new Validation().range(2, 1, 2), IllegalRangeException.class);
+		assertFailure(new Validation().range(2, 2, 1), IllegalRangeException.class);
+		assertFailure(new Validation().range(-1, 0, 1), IllegalRangeException.class);
+		assertFailure(new Validation().range(0, -1, 1), IllegalRangeException.class);
+	}
+
+	@Test
+	public void stateIsTrue() {
+		assertValid(new Validation().stateIsTrue(true, "state"));
+		assertValid(new Validation().stateIsTrue(true, "state %s", "a"));
+		assertFailure(new Validation().stateIsTrue(false, "state"), IllegalStateOfArgumentException.class,
+				"The passed arguments have caused an invalid state: state");
+		assertFailure(new Validation().stateIsTrue(false, "state %s", "a"), IllegalStateOfArgumentException.class, "state a");
+	}
+
+	@Test
+	public void throwIfInvalid_reportsAllFailures() {
+		final Validation validation = new Validation().notNull(null, "a").notEmpty("b", "b").isNumber("c", "c");
+		Assert.assertEquals(3, validation.getCheckCount());
+		Assert.assertTrue(validation.hasFailed(0));
+		Assert.assertFalse(validation.hasFailed(1));
+		Assert.assertTrue(validation.hasFailed(2));
+		try {
+			validation.throwIfInvalid();
+			Assert.fail();
+		} catch (final IllegalArgumentsException e) {
+			Assert.assertEquals(2, e.getFailures().size());
+			Assert.assertEquals(IllegalNullArgumentException.class, e.getFailures().get(0).getClass());
+			Assert.assertEquals(IllegalNumberArgumentException.class, e.getFailures().get(1).getClass());
+			Assert.assertSame(e.getFailures().get(0), e.getCause());
+			Assert.assertTrue(e.getMessage().startsWith("The passed arguments have failed 2 of 3 checks: "));
+		}
+	}
+
+}
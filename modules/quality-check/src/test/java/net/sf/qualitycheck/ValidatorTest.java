@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ValidatorTest {
+
+	private static final Validator<String[]> ARRAY = Validator.forArray("values").notEmpty().noNullElements().maxLength(3).build();
+
+	private static final Validator<String> CHARS = Validator.forCharSequence("code").notEmpty().maxLength(8)
+			.matchesPattern("[A-Z]+[0-9]*").build();
+
+	private static final Validator<List<String>> CODES = Validator.forCollection("codes").notEmpty().noNullElements()
+			.maxSize(3).build();
+
+	private static final Validator<Object> OBJECT = Validator.forObject("unit").instanceOf(String.class)
+			.contains(AllowedValues.of(Arrays.asList("kg", "m", "s"))).build();
+
+	@Test
+	public void array_valid() {
+		final String[] values = { "a", "b" };
+		Assert.assertSame(values, ARRAY.validate(values));
+	}
+
+	@Test(expected = IllegalEmptyArgumentException.class)
+	public void array_empty() {
+		ARRAY.validate(new String[0]);
+	}
+
+	@Test
+	public void array_tooLong() {
+		try {
+			ARRAY.validate(new String[] { "a", null, "c", "d" });
+			Assert.fail();
+		} catch (final IllegalNotLesserThanException e) {
+			Assert.assertEquals("The passed argument 'values' must not have more than 3 elements.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void array_nullElement() {
+		try {
+			ARRAY.validate(new String[] { "a", null });
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(new IllegalNullElementsException("values", 1).getMessage(), e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void array_null() {
+		ARRAY.validate(null);
+	}
+
+	@Test
+	public void charSequence_valid() {
+		Assert.assertEquals("AB12", CHARS.validate("AB12"));
+		Assert.assertEquals("X", Validator.forCharSequence("code").build().validate("X"));
+	}
+
+	@Test(expected = IllegalEmptyArgumentException.class)
+	public void charSequence_empty() {
+		CHARS.validate("");
+	}
+
+	@Test(expected = IllegalNotLesserThanException.class)
+	public void charSequence_tooLong() {
+		CHARS.validate("ABCDEFGH1");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void charSequence_notMatching() {
+		CHARS.validate("ab12");
+	}
+
+	@Test
+	public void charSequence_patternWithFlags() {
+		final Validator<String> validator = Validator.forCharSequence("code")
+				.matchesPattern(Pattern.compile("[a-z]+", Pattern.CASE_INSENSITIVE)).build();
+		Assert.assertEquals("AbC", validator.validate("AbC"));
+		try {
+			validator.validate("A1");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertEquals(new IllegalPatternArgumentException("code", Pattern.compile("[a-z]+", Pattern.CASE_INSENSITIVE), "A1")
+					.getMessage(), e.getMessage());
+		}
+	}
+
+	@Test
+	public void collection_valid() {
+		final List<String> codes = Arrays.asList("a", "b", "c");
+		Assert.assertSame(codes, CODES.validate(codes));
+	}
+
+	@Test(expected = IllegalEmptyArgumentException.class)
+	public void collection_empty() {
+		CODES.validate(Collections.<String> emptyList());
+	}
+
+	@Test
+	public void collection_emptyAllowed() {
+		final Validator<Collection<?>> validator = Validator.forCollection("codes").noNullElements().maxSize(0).build();
+		final List<String> codes = new ArrayList<String>();
+		Assert.assertSame(codes, validator.validate(codes));
+	}
+
+	@Test
+	public void collection_tooLarge() {
+		try {
+			CODES.validate(Arrays.asList("a", "b", "c", "d"));
+			Assert.fail();
+		} catch (final IllegalNotLesserThanException e) {
+			Assert.assertEquals("The passed argument 'codes' must not have more than 3 elements.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void collection_nullElement() {
+		try {
+			CODES.validate(Arrays.asList("a", "b", null));
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(new IllegalNullElementsException("codes", 2).getMessage(), e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void forCollection_negativeMaxSize() {
+		Validator.forCollection("codes").maxSize(-1);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void forObject_nullName() {
+		Validator.forObject(null);
+	}
+
+	@Test
+	public void getName() {
+		Assert.assertEquals("codes", CODES.getName());
+	}
+
+	@Test
+	public void nullable() {
+		Assert.assertNull(Validator.forCollection("codes").notEmpty().nullable().build().validate(null));
+		Assert.assertNull(Validator.forCharSequence("code").notEmpty().nullable().build().validate(null));
+		Assert.assertNull(Validator.forArray("values").notEmpty().nullable().build().validate(null));
+		Assert.assertNull(Validator.forObject("unit").instanceOf(String.class).nullable().build().validate(null));
+	}
+
+	@Test
+	public void object_valid() {
+		Assert.assertEquals("kg", OBJECT.validate("kg"));
+	}
+
+	@Test(expected = IllegalInstanceOfArgumentException.class)
+	public void object_wrongType() {
+		OBJECT.validate(Integer.valueOf(1));
+	}
+
+	@Test(expected = IllegalNotContainedArgumentException.class)
+	public void object_notAllowed() {
+		OBJECT.validate("lb");
+	}
+
+	@Test
+	public void toString_describesChecks() {
+		Assert.assertEquals("Validator [name=codes, nullable=false, checks=[notEmpty, maxSize=3, noNullElements]]", CODES.toString());
+		Assert.assertEquals("Validator [name=unit, nullable=true, checks=[]]", Validator.forObject("unit").nullable().build()
+				.toString());
+	}
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IllegalArgumentsExceptionTest {
+
+	@Test
+	public void construct_withEmptyFailures() {
+		final IllegalArgumentsException e = new IllegalArgumentsException(0, new ArrayList<RuntimeException>());
+		Assert.assertNull(e.getCause());
+		Assert.assertEquals("The passed arguments have failed 0 of 0 checks: []", e.getMessage());
+	}
+
+	@Test
+	public void construct_withFailures() {
+		final RuntimeException first = new IllegalNullArgumentException("a");
+		final List<RuntimeException> failures = new ArrayList<RuntimeException>(Arrays.asList(first));
+		final IllegalArgumentsException e = new IllegalArgumentsException(2, failures);
+		failures.clear();
+		Assert.assertSame(first, e.getCause());
+		Assert.assertEquals(1, e.getFailures().size());
+		Assert.assertEquals("The passed arguments have failed 1 of 2 checks: [" + first + "]", e.getMessage());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void construct_withFailures_unmodifiable() {
+		new IllegalArgumentsException(1, Arrays.asList(new IllegalNullArgumentException())).getFailures().clear();
+	}
+
+	@Test
+	public void construct_withFilledCause() {
+		final IllegalArgumentsException e = new IllegalArgumentsException(new NumberFormatException());
+		Assert.assertEquals("The passed arguments are invalid.", e.getMessage());
+		Assert.assertTrue(e.getFailures().isEmpty());
+	}
+
+	@Test
+	public void construct_withNullCause() {
+		new IllegalArgumentsException((Throwable) null);
+	}
+
+	@Test
+	public void construct_withoutArgs_successful() {
+		final IllegalArgumentsException e = new IllegalArgumentsException();
+		Assert.assertEquals("The passed arguments are invalid.", e.getMessage());
+		Assert.assertTrue(e.getFailures().isEmpty());
+	}
+
+}
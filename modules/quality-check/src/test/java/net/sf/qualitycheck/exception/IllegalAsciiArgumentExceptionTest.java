@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IllegalAsciiArgumentExceptionTest {
+
+	@Test
+	public void construct_withArgName_successful() {
+		new IllegalAsciiArgumentException("argName", "42\u00e4");
+	}
+
+	@Test
+	public void construct_withEmptyArgName_successful() {
+		new IllegalAsciiArgumentException("", "42\u00e4");
+	}
+
+	@Test
+	public void construct_withEmptyArgNameAndNullCause() {
+		new IllegalAsciiArgumentException("", "42\u00e4", null);
+	}
+
+	@Test
+	public void construct_withFilledArgNameAndFilledCause() {
+		new IllegalAsciiArgumentException("argName", "42\u00e4", new NumberFormatException());
+	}
+
+	@Test
+	public void construct_withFilledArgNameAndNullCause() {
+		final IllegalAsciiArgumentException e = new IllegalAsciiArgumentException("argName", "42\u00e4", null);
+		Assert.assertEquals("The passed argument 'argName' must contain only ASCII characters.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withFilledCause() {
+		new IllegalAsciiArgumentException("42\u00e4", new NumberFormatException());
+	}
+
+	@Test
+	public void construct_withNullArgName() {
+		new IllegalAsciiArgumentException((String) null, "42\u00e4");
+	}
+
+	@Test
+	public void construct_withNullArgNameAndNullCause() {
+		new IllegalAsciiArgumentException((String) null, null, null);
+	}
+
+	@Test
+	public void construct_withNullCause() {
+		new IllegalAsciiArgumentException(null, (Throwable) null);
+	}
+
+	@Test
+	public void construct_withoutArgs_successful() {
+		new IllegalAsciiArgumentException("42\u00e4");
+	}
+
+	@Test
+	public void testGetIllegalArgument() {
+		final IllegalArgumentHolder<CharSequence> iah = new IllegalAsciiArgumentException("42\u00e4");
+		Assert.assertEquals("42\u00e4", iah.getIllegalArgument());
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IllegalHexadecimalArgumentExceptionTest {
+
+	@Test
+	public void construct_withArgName_successful() {
+		new IllegalHexadecimalArgumentException("argName", "42g");
+	}
+
+	@Test
+	public void construct_withEmptyArgName_successful() {
+		new IllegalHexadecimalArgumentException("", "42g");
+	}
+
+	@Test
+	public void construct_withEmptyArgNameAndNullCause() {
+		new IllegalHexadecimalArgumentException("", "42g", null);
+	}
+
+	@Test
+	public void construct_withFilledArgNameAndFilledCause() {
+		new IllegalHexadecimalArgumentException("argName", "42g", new NumberFormatException());
+	}
+
+	@Test
+	public void construct_withFilledArgNameAndNullCause() {
+		final IllegalHexadecimalArgumentException e = new IllegalHexadecimalArgumentException("argName", "42g", null);
+		Assert.assertEquals("The passed argument 'argName' must be hexadecimal.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withFilledCause() {
+		new IllegalHexadecimalArgumentException("42g", new NumberFormatException());
+	}
+
+	@Test
+	public void construct_withNullArgName() {
+		new IllegalHexadecimalArgumentException((String) null, "42g");
+	}
+
+	@Test
+	public void construct_withNullArgNameAndNullCause() {
+		new IllegalHexadecimalArgumentException((String) null, null, null);
+	}
+
+	@Test
+	public void construct_withNullCause() {
+		new IllegalHexadecimalArgumentException(null, (Throwable) null);
+	}
+
+	@Test
+	public void construct_withoutArgs_successful() {
+		new IllegalHexadecimalArgumentException("42g");
+	}
+
+	@Test
+	public void testGetIllegalArgument() {
+		final IllegalArgumentHolder<CharSequence> iah = new IllegalHexadecimalArgumentException("42g");
+		Assert.assertEquals("42g", iah.getIllegalArgument());
+	}
+}
@@ -36,6 +36,13 @@ public class IllegalNotGreaterThanExceptionTest {
 		Assert.assertEquals("a != b", e.getMessage());
 	}
 
+	@Test
+	public void construct_forElement() {
+		final IllegalNotGreaterThanException e = new IllegalNotGreaterThanException("values", 2, Integer.valueOf(42), Integer.valueOf(7));
+		Assert.assertEquals("The passed argument 'values[2]' must be greater than 42.", e.getMessage());
+		Assert.assertEquals(Integer.valueOf(7), e.getIllegalArgument());
+	}
+
 	@Test
 	public void construct_withFilledCause() {
 		new IllegalNotGreaterThanException(2, new NumberFormatException());
@@ -97,4 +97,24 @@ public class IllegalNullElementsExceptionTest {
 		Assert.assertEquals(expected, e.getMessage());
 	}
 
+	@Test
+	public void construct_withArgNameAndIndex() {
+		final IllegalNullElementsException e = new IllegalNullElementsException("argName", 3);
+		Assert.assertEquals(3, e.getIndex());
+		Assert.assertEquals("The passed argument 'argName' must not contain elements that are null, but the element at index 3 is null.",
+				e.getMessage());
+	}
+
+	@Test
+	public void construct_withEmptyArgNameAndIndex() {
+		final IllegalNullElementsException e = new IllegalNullElementsException("", 3);
+		Assert.assertEquals("The passed argument must not contain elements that are null, but the element at index 3 is null.", e.getMessage());
+		Assert.assertEquals(e.getMessage(), new IllegalNullElementsException(null, 3).getMessage());
+	}
+
+	@Test
+	public void getIndex_unknown() {
+		Assert.assertEquals(IllegalNullElementsException.UNKNOWN_INDEX, new IllegalNullElementsException("argName").getIndex());
+	}
+
 }
@@ -50,6 +50,19 @@ public class IllegalNumberRangeExceptionTest {
 		Assert.assertEquals("Argument value '2' must be in the range '4' to '3'.", e.getMessage());
 	}
 
+	@Test
+	public void construct_withNameAndValues() {
+		final IllegalNumberRangeException e = new IllegalNumberRangeException("values[3]", "10", Integer.valueOf(0), Integer.valueOf(9));
+		Assert.assertEquals("Argument 'values[3]' with value '10' must be in the range '0' to '9'.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withNullNameAndValues() {
+		final IllegalNumberRangeException e = new IllegalNumberRangeException(null, "10", Integer.valueOf(0), Integer.valueOf(9));
+		Assert.assertEquals("Argument value '10' must be in the range '0' to '9'.", e.getMessage());
+		Assert.assertEquals(e.getMessage(), new IllegalNumberRangeException("", "10", Integer.valueOf(0), Integer.valueOf(9)).getMessage());
+	}
+
 	@Test
 	public void construct_withFilledCause() {
 		new IllegalNumberRangeException(new NumberFormatException());
@@ -66,4 +66,11 @@ public class IllegalPositionIndexExceptionTest {
 		final IllegalPositionIndexException e = new IllegalPositionIndexException();
 		Assert.assertEquals("Position index must be within the defined bounds.", e.getMessage());
 	}
+
+	@Test
+	public void construct_withLongArgs() {
+		final IllegalPositionIndexException e = new IllegalPositionIndexException(5000000000L, 4L);
+		Assert.assertEquals("Position index '5000000000' must be within the defined bounds [0,4].", e.getMessage());
+	}
+
 }
@@ -66,4 +66,11 @@ public class IllegalRangeExceptionTest {
 		final IllegalRangeException e = new IllegalRangeException();
 		Assert.assertEquals("Arguments must be a valid range.", e.getMessage());
 	}
+
+	@Test
+	public void construct_withLongArgs() {
+		final IllegalRangeException e = new IllegalRangeException(1L, 5000000000L, 4L);
+		Assert.assertEquals("Arguments start='1', end='5000000000' and size='4' must be a valid range.", e.getMessage());
+	}
+
 }
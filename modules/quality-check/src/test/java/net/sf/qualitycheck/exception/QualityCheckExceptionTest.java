@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.NumberInRange;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QualityCheckExceptionTest {
+
+	@Test
+	public void getMessage_isRenderedOnlyOnce() {
+		final IllegalNullArgumentException e = new IllegalNullArgumentException("argName");
+		final String message = e.getMessage();
+		Assert.assertEquals("Argument 'argName' must not be null.", message);
+		Assert.assertSame(message, e.getMessage());
+	}
+
+	@Test
+	public void getMessage_withCause() {
+		final NumberFormatException cause = new NumberFormatException();
+		final IllegalNumberArgumentException e = new IllegalNumberArgumentException("argName", "a", cause);
+		Assert.assertSame(cause, e.getCause());
+		Assert.assertEquals("The passed argument 'argName' must be a number.", e.getMessage());
+	}
+
+	@Test
+	public void getMessage_withPercentInArgument() {
+		final IllegalPatternArgumentException e = new IllegalPatternArgumentException("argName", Pattern.compile("\\d+%"), "a");
+		Assert.assertEquals("The passed argument 'argName' must match against the specified pattern: \\d+% (flags: 0)", e.getMessage());
+	}
+
+	@Test
+	public void getMessage_withPercentInMessageWithoutArguments() {
+		final IllegalEqualException e = new IllegalEqualException("100% equal", "a");
+		Assert.assertEquals("100% equal", e.getMessage());
+	}
+
+	@Test
+	public void getMessage_withPercentInStateDescription() {
+		final IllegalStateOfArgumentException e = new IllegalStateOfArgumentException("100%% done: %s", "yes");
+		Assert.assertEquals("100% done: yes", e.getMessage());
+		Assert.assertEquals("The passed arguments have caused an invalid state: 100%",
+				new IllegalStateOfArgumentException("100%").getMessage());
+	}
+
+	@Test
+	public void serialize_keepsRenderedMessage() throws Exception {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(new IllegalPositionIndexException(3, 2));
+		out.close();
+
+		final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		final IllegalPositionIndexException e = (IllegalPositionIndexException) in.readObject();
+		in.close();
+		Assert.assertEquals(new IllegalPositionIndexException(3, 2).getMessage(), e.getMessage());
+	}
+
+	@Test
+	public void setStackless_disabled() {
+		Assert.assertFalse(QualityCheckException.isStackless());
+		Assert.assertTrue(new IllegalNullArgumentException("argName").getStackTrace().length > 0);
+	}
+
+	@Test
+	public void setStackless_enabled() {
+		QualityCheckException.setStackless(true);
+		try {
+			Assert.assertTrue(QualityCheckException.isStackless());
+			try {
+				Check.notNull(null, "argName");
+				Assert.fail();
+			} catch (final IllegalNullArgumentException e) {
+				Assert.assertEquals(0, e.getStackTrace().length);
+				Assert.assertEquals("Argument 'argName' must not be null.", e.getMessage());
+			}
+			try {
+				NumberInRange.checkByte(Integer.valueOf(128));
+				Assert.fail();
+			} catch (final IllegalNumberRangeException e) {
+				Assert.assertEquals(0, e.getStackTrace().length);
+			}
+		} finally {
+			QualityCheckException.setStackless(false);
+		}
+		Assert.assertTrue(new IllegalNullArgumentException("argName").getStackTrace().length > 0);
+	}
+
+}
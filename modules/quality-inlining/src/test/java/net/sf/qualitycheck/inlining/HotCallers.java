@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.inlining;
+
+import net.sf.qualitycheck.Check;
+
+/**
+ * Representative callers of the hot checks of {@link Check}. The main method calls every caller often enough that the
+ * JIT compiler compiles it and decides whether the checks are inlined into it.
+ * 
+ * <p>
+ * All arguments are valid, so the callers never throw and the failure paths of the checks stay cold.
+ */
+final class HotCallers {
+
+	/**
+	 * Number of calls of every caller, which is well above the compile threshold of C2
+	 */
+	private static final int ITERATIONS = 200000;
+
+	public static void main(final String[] args) {
+		long sum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sum += notNull(args);
+			sum += notNegative(i);
+			sum += positionIndex(i & 0xff, 0x100);
+			sum += range(i & 0x7f, 0x80 + (i & 0x7f), 0x100);
+			sum += stateIsTrue(i);
+		}
+		// prints the sum, so that the compiler cannot remove the calls
+		System.out.println(sum);
+	}
+
+	static int notNegative(final int value) {
+		return Check.notNegative(value, "value") + (int) Check.notNegative((long) value, "value");
+	}
+
+	static int notNull(final Object reference) {
+		return Check.notNull(reference, "reference") == Check.notNull(reference) ? 1 : 0;
+	}
+
+	static long positionIndex(final int index, final int size) {
+		return Check.positionIndex(index, size) + Check.positionIndex((long) index, (long) size);
+	}
+
+	static int range(final int start, final int end, final int size) {
+		Check.range(start, end, size);
+		Check.range((long) start, (long) end, (long) size);
+		return end - start;
+	}
+
+	static int stateIsTrue(final int value) {
+		Check.stateIsTrue(value >= 0);
+		Check.stateIsTrue(value >= 0, "value must not be negative");
+		Check.stateIsTrue(value >= 0, IllegalStateException.class);
+		return value & 1;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private HotCallers() {
+		// This class is not intended to create objects from it.
+	}
+
+}
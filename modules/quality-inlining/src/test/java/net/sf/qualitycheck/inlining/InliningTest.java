@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.inlining;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.Check;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Runs {@link HotCallers} in a separate JVM and checks the inlining decisions which HotSpot prints with
+ * {@code -XX:+PrintInlining}.
+ */
+public class InliningTest {
+
+	/**
+	 * Methods of {@link Check} which must always be inlined into hot callers
+	 */
+	private static final List<String> HOT_CHECKS = Arrays.asList("notNegative", "notNull", "positionIndex", "range", "stateIsTrue");
+
+	/**
+	 * Matches an inlining decision, e.g. {@code @ 3   net.sf.qualitycheck.Check::notNull (17 bytes)   inline (hot)}
+	 */
+	private static final Pattern DECISION = Pattern.compile("@ \\d+\\s+(\\S+)::(\\S+) \\((\\d+) bytes\\)\\s+(.*)");
+
+	/**
+	 * Message of a JVM which does not support one of the {@link #VM_OPTIONS}, e.g. a JVM other than HotSpot
+	 */
+	private static final String UNRECOGNIZED_OPTION = "Unrecognized VM option";
+
+	/**
+	 * Options of HotSpot which print the inlining decisions of C2 for every compiled method
+	 */
+	private static final List<String> VM_OPTIONS = Arrays.asList("-XX:+UnlockDiagnosticVMOptions", "-XX:+PrintInlining", "-Xbatch",
+			"-XX:-TieredCompilation");
+
+	/**
+	 * Collects the problems of the inlining decisions about the hot checks.
+	 * 
+	 * @param output
+	 *            lines printed by a JVM with {@code -XX:+PrintInlining}
+	 * @return descriptions of all checks which were rejected or never inlined
+	 */
+	static List<String> findProblems(final List<String> output) {
+		final String owner = Check.class.getName();
+		final List<String> problems = new ArrayList<String>();
+		final Set<String> inlined = new HashSet<String>();
+		for (final String line : output) {
+			final Matcher matcher = DECISION.matcher(line);
+			if (matcher.find() && matcher.group(1).equals(owner) && HOT_CHECKS.contains(matcher.group(2))) {
+				final String decision = matcher.group(4);
+				if (decision.contains("too big") || decision.contains("too large")) {
+					problems.add(line.trim());
+				} else if (decision.startsWith("inline")) {
+					inlined.add(matcher.group(2));
+				}
+			}
+		}
+		for (final String check : HOT_CHECKS) {
+			if (!inlined.contains(check)) {
+				problems.add(owner + "::" + check + " was never inlined");
+			}
+		}
+		return problems;
+	}
+
+	private static List<String> runHotCallers() throws IOException, InterruptedException {
+		final String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+		final List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.addAll(VM_OPTIONS);
+		command.add("-cp");
+		command.add(classPath);
+		command.add(HotCallers.class.getName());
+
+		final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		final List<String> output = new ArrayList<String>();
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+		try {
+			String line = reader.readLine();
+			while (line != null) {
+				output.add(line);
+				line = reader.readLine();
+			}
+		} finally {
+			reader.close();
+		}
+		final int exitValue = process.waitFor();
+		Assume.assumeTrue(exitValue == 0 || !output.toString().contains(UNRECOGNIZED_OPTION));
+		Assert.assertEquals("Output of the JVM: " + output, 0, exitValue);
+		return output;
+	}
+
+	@Test
+	public void findProblems_acceptsInlinedChecks() {
+		final List<String> output = new ArrayList<String>();
+		for (final String check : HOT_CHECKS) {
+			output.add("                @ 3   net.sf.qualitycheck.Check::" + check + " (20 bytes)   inline (hot)");
+		}
+		output.add("                @ 9   net.sf.qualitycheck.Failures::illegalNullArgument (8 bytes)   too big");
+		Assert.assertEquals(new ArrayList<String>(), findProblems(output));
+	}
+
+	@Test
+	public void findProblems_rejectsMissingChecks() {
+		final List<String> output = Arrays.asList("                @ 3   net.sf.qualitycheck.Check::notNull (20 bytes)   inline (hot)");
+		Assert.assertEquals(HOT_CHECKS.size() - 1, findProblems(output).size());
+	}
+
+	@Test
+	public void findProblems_rejectsTooBigChecks() {
+		final List<String> output = new ArrayList<String>();
+		for (final String check : HOT_CHECKS) {
+			output.add("                @ 3   net.sf.qualitycheck.Check::" + check + " (20 bytes)   inline (hot)");
+		}
+		output.add("                @ 12   net.sf.qualitycheck.Check::range (400 bytes)   hot method too big");
+		output.add("                @ 12   net.sf.qualitycheck.Check::notNull (40 bytes)   callee is too large");
+		Assert.assertEquals(Arrays.asList("@ 12   net.sf.qualitycheck.Check::range (400 bytes)   hot method too big",
+				"@ 12   net.sf.qualitycheck.Check::notNull (40 bytes)   callee is too large"), findProblems(output));
+	}
+
+	@Test
+	public void hotChecksAreInlined() throws Exception {
+		final List<String> output = runHotCallers();
+		Assert.assertTrue("The JVM printed no inlining decisions: " + output, output.toString().contains("inline"));
+		final List<String> problems = findProblems(output);
+		Assert.assertTrue(problems.toString(), problems.isEmpty());
+	}
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.invoke;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Handler of the proxies of {@link ParameterChecks#proxy(Class, Object)}, which checks the arguments of interface
+ * methods before it delegates to the target.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+final class CheckingInvocationHandler implements InvocationHandler {
+
+	/**
+	 * Arguments of methods without parameters
+	 */
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+
+	/**
+	 * Returns the target of a proxy of this class, otherwise the passed object.
+	 */
+	@Nonnull
+	private static Object unwrap(@Nonnull final Object object) {
+		if (Proxy.isProxyClass(object.getClass())) {
+			final InvocationHandler handler = Proxy.getInvocationHandler(object);
+			if (handler instanceof CheckingInvocationHandler) {
+				return ((CheckingInvocationHandler) handler).target;
+			}
+		}
+		return object;
+	}
+
+	/**
+	 * Implementation to delegate to
+	 */
+	@Nonnull
+	private final Object target;
+
+	CheckingInvocationHandler(@Nonnull final Object target) {
+		this.target = target;
+	}
+
+	@Override
+	public Object invoke(@Nonnull final Object proxy, @Nonnull final Method method, @Nullable final Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			return invokeObjectMethod(proxy, method, args);
+		}
+		final Object[] arguments = args == null ? NO_ARGUMENTS : args;
+		return (Object) ParameterChecks.checks(method).invoker(method).invokeExact(target, arguments);
+	}
+
+	/**
+	 * Delegates {@code equals}, {@code hashCode} and {@code toString} to the target. A proxy equals another proxy of the
+	 * same target.
+	 */
+	@Nullable
+	private Object invokeObjectMethod(@Nonnull final Object proxy, @Nonnull final Method method, @Nullable final Object[] args)
+			throws Throwable {
+		if ("equals".equals(method.getName())) {
+			return Boolean.valueOf(proxy == args[0] || args[0] != null && target.equals(unwrap(args[0])));
+		}
+		try {
+			return method.invoke(target, args);
+		} catch (final InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+}
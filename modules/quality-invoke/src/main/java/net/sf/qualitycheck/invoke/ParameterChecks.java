@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import net.sf.qualitycheck.ArgumentsChecked;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.Throws;
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+/**
+ * This class checks the arguments of methods and constructors against the JSR-305 annotations of their parameters.
+ * 
+ * <p>
+ * The annotations of a method are read once, on its first use. Every annotated parameter gets a check, which is composed
+ * into a {@code MethodHandle} chain in front of the method and cached per declaring class in a {@code ClassValue}.
+ * Afterwards a call costs as much as the checks themselves, without any reflection. The following annotations are
+ * checked, if they apply always ({@code When.ALWAYS}):
+ * <ul>
+ * <li>{@code Nonnull} on parameters of a reference type, like {@link Check#notNull(Object, String)}</li>
+ * <li>{@code Nonnegative} on parameters of a number type, like {@link Check#notNegative(long, String)}</li>
+ * </ul>
+ * 
+ * <p>
+ * There are two ways to use the checks. A handle of {@link #checked(MethodHandles.Lookup, Method)} or
+ * {@link #checked(MethodHandles.Lookup, Constructor)} is best stored in a {@code static final} field, so that the JIT
+ * compiler can inline it completely:
+ * 
+ * <pre>
+ * private static final MethodHandle CREATE = ParameterChecks.checked(MethodHandles.lookup(),
+ * 		Order.class.getConstructor(String.class, int.class));
+ * 
+ * final Order order = (Order) CREATE.invokeExact(&quot;A-1&quot;, 3);
+ * </pre>
+ * 
+ * An implementation of an interface can also be wrapped with {@link #proxy(Class, Object)}, whose methods check the
+ * annotations of the interface before they delegate.
+ * 
+ * <p>
+ * The messages name the parameters as they are reported by {@link Parameter#getName()}, so classes should be compiled
+ * with the option {@code -parameters}. Otherwise they are named {@code arg0}, {@code arg1} and so on.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+public final class ParameterChecks {
+
+	/**
+	 * The checks of the parameters of one method or constructor
+	 */
+	@ThreadSafe
+	static final class ExecutableChecks {
+
+		/**
+		 * Checks of all parameters or {@code null} if no parameter must be checked
+		 */
+		@Nullable
+		private final MethodHandle[] filters;
+
+		/**
+		 * Adapted handle for proxies, which is created on the first call
+		 */
+		@Nullable
+		private volatile MethodHandle invoker;
+
+		ExecutableChecks(@Nonnull final Executable executable) {
+			final Parameter[] parameters = executable.getParameters();
+			final MethodHandle[] result = new MethodHandle[parameters.length];
+			boolean any = false;
+			for (int i = 0; i < parameters.length; i++) {
+				result[i] = ParameterFilters.of(parameters[i]);
+				any |= result[i] != null;
+			}
+			filters = any ? result : null;
+		}
+
+		/**
+		 * Puts the checks in front of the parameters of a handle.
+		 * 
+		 * @param handle
+		 *            handle of the method or constructor
+		 * @param offset
+		 *            position of the first parameter, which is {@code 1} for instance methods
+		 * @return the checked handle
+		 */
+		@Nonnull
+		MethodHandle filter(@Nonnull final MethodHandle handle, final int offset) {
+			return filters == null ? handle : MethodHandles.filterArguments(handle, offset, filters);
+		}
+
+		/**
+		 * Returns the checked handle of an interface method in the form which is called by proxies.
+		 * 
+		 * @param method
+		 *            a public method of a public interface
+		 * @return a handle of the type {@code (Object, Object[])Object}
+		 */
+		@Nonnull
+		MethodHandle invoker(@Nonnull final Method method) {
+			MethodHandle result = invoker;
+			if (result == null) {
+				try {
+					result = filter(MethodHandles.publicLookup().unreflect(method), 1);
+				} catch (final IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				}
+				result = result.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+				invoker = result;
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * Type of the handles which are called by proxies
+	 */
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	/**
+	 * Checks of all methods and constructors of a class, which are created on first use
+	 */
+	private static final ClassValue<ConcurrentMap<Executable, ExecutableChecks>> CHECKS = new ClassValue<ConcurrentMap<Executable, ExecutableChecks>>() {
+		@Override
+		protected ConcurrentMap<Executable, ExecutableChecks> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<Executable, ExecutableChecks>();
+		}
+	};
+
+	/**
+	 * Returns a handle of a constructor, which checks the annotated parameters before it creates an object.
+	 * 
+	 * @param lookup
+	 *            lookup object with access to the constructor, usually {@code MethodHandles.lookup()} of the caller
+	 * @param constructor
+	 *            the constructor to call
+	 * @return a handle of the same type as {@code lookup.unreflectConstructor(constructor)}
+	 * @throws IllegalAccessException
+	 *             if the lookup object has no access to the constructor
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments is {@code null}
+	 * @throws IllegalStateOfArgumentException
+	 *             if {@code Nonnegative} annotates a parameter which is not a number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalStateOfArgumentException.class })
+	@Nonnull
+	public static MethodHandle checked(@Nonnull final MethodHandles.Lookup lookup, @Nonnull final Constructor<?> constructor)
+			throws IllegalAccessException {
+		Check.notNull(lookup, "lookup");
+		Check.notNull(constructor, "constructor");
+		return checks(constructor).filter(lookup.unreflectConstructor(constructor), 0);
+	}
+
+	/**
+	 * Returns a handle of a method, which checks the annotated parameters before it calls the method. The handle of an
+	 * instance method takes the receiver as first argument, which is not checked.
+	 * 
+	 * @param lookup
+	 *            lookup object with access to the method, usually {@code MethodHandles.lookup()} of the caller
+	 * @param method
+	 *            the method to call
+	 * @return a handle of the same type as {@code lookup.unreflect(method)}
+	 * @throws IllegalAccessException
+	 *             if the lookup object has no access to the method
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments is {@code null}
+	 * @throws IllegalStateOfArgumentException
+	 *             if {@code Nonnegative} annotates a parameter which is not a number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalStateOfArgumentException.class })
+	@Nonnull
+	public static MethodHandle checked(@Nonnull final MethodHandles.Lookup lookup, @Nonnull final Method method)
+			throws IllegalAccessException {
+		Check.notNull(lookup, "lookup");
+		Check.notNull(method, "method");
+		final MethodHandle handle = lookup.unreflect(method);
+		return checks(method).filter(handle, handle.type().parameterCount() - method.getParameterCount());
+	}
+
+	/**
+	 * Returns the cached checks of a method or constructor, which are created on the first call.
+	 * 
+	 * @param executable
+	 *            a method or constructor
+	 * @return the checks of its parameters
+	 */
+	@Nonnull
+	static ExecutableChecks checks(@Nonnull final Executable executable) {
+		final ConcurrentMap<Executable, ExecutableChecks> checks = CHECKS.get(executable.getDeclaringClass());
+		ExecutableChecks result = checks.get(executable);
+		if (result == null) {
+			result = new ExecutableChecks(executable);
+			final ExecutableChecks previous = checks.putIfAbsent(executable, result);
+			if (previous != null) {
+				result = previous;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Wraps an implementation of an interface, so that every call of an interface method checks the annotated
+	 * parameters of the interface method before it is delegated. The interface and its methods must be public.
+	 * 
+	 * @param type
+	 *            the public interface to implement
+	 * @param target
+	 *            the implementation to delegate to
+	 * @return a proxy which implements the interface
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments is {@code null}
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the target does not implement the interface
+	 * @throws IllegalStateOfArgumentException
+	 *             if the type is not a public interface
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class, IllegalStateOfArgumentException.class })
+	@Nonnull
+	public static <T> T proxy(@Nonnull final Class<T> type, @Nonnull final T target) {
+		Check.notNull(type, "type");
+		Check.instanceOf(type, target, "target");
+		Check.stateIsTrue(type.isInterface() && Modifier.isPublic(type.getModifiers()),
+				"The type %s must be a public interface", type.getName());
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new CheckingInvocationHandler(target)));
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private ParameterChecks() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Parameter;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.meta.When;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+/**
+ * Creates the check of a single parameter from its JSR-305 annotations.
+ * 
+ * <p>
+ * A check is a {@code MethodHandle} of the type {@code (P)P}, where {@code P} is the type of the parameter, which
+ * returns its argument if it is valid. The handles call the methods of {@link Check}, so they obey the
+ * {@link net.sf.qualitycheck.CheckMode} like every other check.
+ * 
+ * @author André Rouél
+ */
+final class ParameterFilters {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/**
+	 * Handle of {@link Check#notNull(Object, String)}
+	 */
+	private static final MethodHandle NOT_NULL = findStatic(Check.class, "notNull", Object.class, Object.class);
+
+	/**
+	 * Finds a static method of the type {@code (T, String)R}, which is expected to exist.
+	 */
+	@Nonnull
+	private static MethodHandle findStatic(@Nonnull final Class<?> owner, @Nonnull final String name,
+			@Nonnull final Class<?> returnType, @Nonnull final Class<?> type) {
+		try {
+			return LOOKUP.findStatic(owner, name, MethodType.methodType(returnType, type, String.class));
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Creates the check of a parameter.
+	 * 
+	 * @param parameter
+	 *            a parameter of a method or constructor
+	 * @return a handle of the type {@code (P)P} or {@code null} if the parameter has no annotations to check
+	 * @throws IllegalStateOfArgumentException
+	 *             if {@code Nonnegative} annotates a parameter which is not a number
+	 */
+	@Nullable
+	static MethodHandle of(@Nonnull final Parameter parameter) {
+		final Class<?> type = parameter.getType();
+		final String name = parameter.getName();
+		MethodHandle filter = null;
+		final Nonnull nonnull = parameter.getAnnotation(Nonnull.class);
+		if (nonnull != null && nonnull.when() == When.ALWAYS && !type.isPrimitive()) {
+			filter = MethodHandles.insertArguments(NOT_NULL, 1, name).asType(MethodType.methodType(type, type));
+		}
+		final Nonnegative nonnegative = parameter.getAnnotation(Nonnegative.class);
+		if (nonnegative != null && nonnegative.when() == When.ALWAYS) {
+			final MethodHandle notNegative = notNegative(type, name);
+			if (notNegative != null) {
+				filter = filter == null ? notNegative : MethodHandles.filterReturnValue(filter, notNegative);
+			}
+		}
+		return filter;
+	}
+
+	/**
+	 * Creates the check of a number parameter which must not be negative.
+	 * 
+	 * @return a handle of the type {@code (P)P} or {@code null} if a parameter of the type can never be negative
+	 */
+	@Nullable
+	private static MethodHandle notNegative(@Nonnull final Class<?> type, @Nonnull final String name) {
+		final MethodHandle check;
+		if (type == int.class || type == long.class || type == short.class || type == float.class || type == double.class) {
+			check = findStatic(Check.class, "notNegative", type, type);
+		} else if (type == byte.class) {
+			check = MethodHandles.explicitCastArguments(findStatic(Check.class, "notNegative", int.class, int.class),
+					MethodType.methodType(byte.class, byte.class, String.class));
+		} else if (type == char.class || type == Character.class) {
+			return null;
+		} else if (Number.class.isAssignableFrom(type)) {
+			check = MethodHandles.explicitCastArguments(findStatic(ParameterFilters.class, "notNegative", Number.class, Number.class),
+					MethodType.methodType(type, type, String.class));
+		} else {
+			Check.stateIsTrue(false, "Nonnegative cannot be checked on the parameter '%s' of type %s", name, type.getName());
+			return null;
+		}
+		return MethodHandles.insertArguments(check, 1, name);
+	}
+
+	/**
+	 * Ensures that a boxed number is not negative. A {@code null} reference is accepted, because {@code Nonnull} is
+	 * checked separately.
+	 * 
+	 * @param value
+	 *            a number or {@code null}
+	 * @param name
+	 *            name of the parameter
+	 * @return the passed number
+	 * @throws IllegalNegativeArgumentException
+	 *             if the number is negative
+	 */
+	@Nullable
+	private static Number notNegative(@Nullable final Number value, @Nonnull final String name) {
+		if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			Check.notNegative(value.intValue(), name);
+		} else if (value instanceof Long) {
+			Check.notNegative(value.longValue(), name);
+		} else if (value instanceof Float) {
+			Check.notNegative(value.floatValue(), name);
+		} else if (value != null) {
+			Check.notNegative(value.doubleValue(), name);
+		}
+		return value;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private ParameterFilters() {
+		// This class is not intended to create objects from it.
+	}
+
+}
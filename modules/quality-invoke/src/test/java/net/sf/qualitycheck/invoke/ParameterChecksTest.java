@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.meta.When;
+
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParameterChecksTest {
+
+	public interface Orders {
+
+		String describe(@Nonnull String code, @Nonnegative int quantity, @Nullable String comment);
+
+		int sum(@Nonnegative Integer first, @Nonnegative long second, @Nonnull(when = When.MAYBE) String unchecked);
+
+		void touch();
+
+	}
+
+	public static final class Order {
+
+		private final String code;
+
+		private final double weight;
+
+		public Order(@Nonnull final String code, @Nonnegative final double weight) {
+			this.code = code;
+			this.weight = weight;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public static byte lowByte(@Nonnegative final byte value, @Nonnegative final Short other, @Nonnegative final char c,
+				@Nonnegative final BigDecimal amount) {
+			return value;
+		}
+
+		public double getWeight() {
+			return weight;
+		}
+
+		public static void invalid(@Nonnegative final String value) {
+			// never called
+		}
+
+		public static String unchecked(final String value) {
+			return value;
+		}
+
+	}
+
+	private static final class SimpleOrders implements Orders {
+
+		private int touched;
+
+		@Override
+		public String describe(final String code, final int quantity, final String comment) {
+			return quantity + "x" + code;
+		}
+
+		@Override
+		public int sum(final Integer first, final long second, final String unchecked) {
+			return (first == null ? 0 : first.intValue()) + (int) second;
+		}
+
+		@Override
+		public void touch() {
+			touched++;
+		}
+
+		@Override
+		public String toString() {
+			return "SimpleOrders";
+		}
+
+	}
+
+	private static MethodHandle lowByte() throws Exception {
+		return ParameterChecks.checked(MethodHandles.lookup(),
+				Order.class.getMethod("lowByte", byte.class, Short.class, char.class, BigDecimal.class));
+	}
+
+	@Test
+	public void checked_constructor() throws Throwable {
+		final MethodHandle create = ParameterChecks.checked(MethodHandles.lookup(),
+				Order.class.getConstructor(String.class, double.class));
+		final Order order = (Order) create.invokeExact("A-1", 2.5);
+		Assert.assertEquals("A-1", order.getCode());
+		try {
+			final Order invalid = (Order) create.invokeExact("A-1", -1.0);
+			Assert.fail(String.valueOf(invalid));
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals(new IllegalNegativeArgumentException("weight", -1.0).getMessage(), e.getMessage());
+		}
+	}
+
+	@Test
+	public void checked_constructor_nullCode() throws Throwable {
+		final MethodHandle create = ParameterChecks.checked(MethodHandles.lookup(),
+				Order.class.getConstructor(String.class, double.class));
+		try {
+			final Order invalid = (Order) create.invokeExact((String) null, 1.0);
+			Assert.fail(String.valueOf(invalid));
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertEquals(new IllegalNullArgumentException("code").getMessage(), e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void checked_nonnegativeOnString() throws Exception {
+		ParameterChecks.checked(MethodHandles.lookup(), Order.class.getMethod("invalid", String.class));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void checked_nullMethod() throws Exception {
+		ParameterChecks.checked(MethodHandles.lookup(), (java.lang.reflect.Method) null);
+	}
+
+	@Test
+	public void checked_numberTypes() throws Throwable {
+		final MethodHandle lowByte = lowByte();
+		Assert.assertEquals(1, (byte) lowByte.invokeExact((byte) 1, (Short) null, (char) 0, BigDecimal.ONE));
+		try {
+			final byte invalid = (byte) lowByte.invokeExact((byte) -1, (Short) null, (char) 0, BigDecimal.ONE);
+			Assert.fail(String.valueOf(invalid));
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals(new IllegalNegativeArgumentException("value", -1).getMessage(), e.getMessage());
+		}
+		try {
+			final byte invalid = (byte) lowByte.invokeExact((byte) 1, Short.valueOf((short) -2), (char) 0, BigDecimal.ONE);
+			Assert.fail(String.valueOf(invalid));
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals(new IllegalNegativeArgumentException("other", -2).getMessage(), e.getMessage());
+		}
+		try {
+			final byte invalid = (byte) lowByte.invokeExact((byte) 1, (Short) null, (char) 0, BigDecimal.ONE.negate());
+			Assert.fail(String.valueOf(invalid));
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals(new IllegalNegativeArgumentException("amount", -1.0).getMessage(), e.getMessage());
+		}
+	}
+
+	@Test
+	public void checked_withoutAnnotations() throws Throwable {
+		final MethodHandle unchecked = ParameterChecks.checked(MethodHandles.lookup(), Order.class.getMethod("unchecked", String.class));
+		Assert.assertNull((String) unchecked.invokeExact((String) null));
+	}
+
+	@Test
+	public void checks_areCached() throws Exception {
+		final Constructor<Order> constructor = Order.class.getConstructor(String.class, double.class);
+		Assert.assertSame(ParameterChecks.checks(constructor), ParameterChecks.checks(Order.class.getConstructor(String.class, double.class)));
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<ParameterChecks> constructor = ParameterChecks.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+
+		final Constructor<ParameterFilters> filters = ParameterFilters.class.getDeclaredConstructor();
+		filters.setAccessible(true);
+		filters.newInstance();
+	}
+
+	@Test
+	public void proxy() {
+		final SimpleOrders target = new SimpleOrders();
+		final Orders orders = ParameterChecks.proxy(Orders.class, target);
+		Assert.assertEquals("3xA-1", orders.describe("A-1", 3, null));
+		Assert.assertEquals(5, orders.sum(null, 5L, null));
+		orders.touch();
+		Assert.assertEquals(1, target.touched);
+	}
+
+	@Test
+	public void proxy_failedChecks() {
+		final Orders orders = ParameterChecks.proxy(Orders.class, new SimpleOrders());
+		try {
+			orders.describe(null, 3, null);
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertEquals(new IllegalNullArgumentException("code").getMessage(), e.getMessage());
+		}
+		try {
+			orders.describe("A-1", -3, null);
+			Assert.fail();
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals(new IllegalNegativeArgumentException("quantity", -3).getMessage(), e.getMessage());
+		}
+		try {
+			orders.sum(Integer.valueOf(-1), 0L, null);
+			Assert.fail();
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals(new IllegalNegativeArgumentException("first", -1).getMessage(), e.getMessage());
+		}
+	}
+
+	@Test
+	public void proxy_objectMethods() {
+		final SimpleOrders target = new SimpleOrders();
+		final Orders orders = ParameterChecks.proxy(Orders.class, target);
+		Assert.assertEquals("SimpleOrders", orders.toString());
+		Assert.assertEquals(target.hashCode(), orders.hashCode());
+		Assert.assertEquals(orders, ParameterChecks.proxy(Orders.class, target));
+		Assert.assertNotEquals(orders, ParameterChecks.proxy(Orders.class, new SimpleOrders()));
+		Assert.assertNotEquals(orders, null);
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void proxy_ofClass() {
+		ParameterChecks.proxy(SimpleOrders.class, new SimpleOrders());
+	}
+
+	@Test(expected = IllegalInstanceOfArgumentException.class)
+	public void proxy_wrongTarget() {
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		final Class<Object> type = (Class) Orders.class;
+		ParameterChecks.proxy(type, "no orders");
+	}
+
+}
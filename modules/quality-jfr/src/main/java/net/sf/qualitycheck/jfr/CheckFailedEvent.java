@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of a failed check. The event is recorded with the stack trace of the failure, so that a recording shows which
+ * callers pass invalid arguments.
+ * 
+ * @author André Rouél
+ */
+@Name(CheckFailedEvent.NAME)
+@Label("Check Failed")
+@Category("Quality-Check")
+@Description("A check of Quality-Check has failed")
+@StackTrace(true)
+final class CheckFailedEvent extends jdk.jfr.Event {
+
+	/**
+	 * Name of the event type
+	 */
+	static final String NAME = "net.sf.qualitycheck.CheckFailed";
+
+	@Label("Argument Name")
+	@Description("Name of the checked argument, if it was passed to the check")
+	String argumentName;
+
+	@Label("Check")
+	@Description("Name of the check method, e.g. notNull")
+	String check;
+
+	@Label("Exception Type")
+	@Description("Type of the thrown exception")
+	Class<?> exceptionType;
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.jfr;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import jdk.jfr.EventType;
+import net.sf.qualitycheck.CheckListener;
+
+/**
+ * Listener which emits the Java Flight Recorder events {@code net.sf.qualitycheck.CheckFailed} and
+ * {@code net.sf.qualitycheck.SlowCheck}.
+ * 
+ * <p>
+ * The listener is installed automatically as service when this module is on the class path. Events which are disabled
+ * in the running recordings are neither filled nor committed. While no recording enables
+ * {@code net.sf.qualitycheck.CheckFailed}, failed checks do not look up the check method at all.
+ * 
+ * @author André Rouél
+ */
+@ThreadSafe
+public final class JfrCheckListener implements CheckListener {
+
+	/**
+	 * Type of the event of failed checks, which tells whether a running recording enables it
+	 */
+	private static final EventType CHECK_FAILED = EventType.getEventType(CheckFailedEvent.class);
+
+	@Override
+	public void expensiveCheckFinished(@Nonnull final Object context) {
+		final SlowCheckEvent event = (SlowCheckEvent) context;
+		event.end();
+		if (event.shouldCommit()) {
+			event.commit();
+		}
+	}
+
+	@Override
+	@Nullable
+	public Object expensiveCheckStarted(@Nonnull final String check, @Nonnegative final long size) {
+		final SlowCheckEvent event = new SlowCheckEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.check = check;
+		event.size = size;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void failed(@Nonnull final String check, @Nullable final String argumentName, @Nonnull final RuntimeException exception) {
+		final CheckFailedEvent event = new CheckFailedEvent();
+		if (event.isEnabled()) {
+			event.check = check;
+			event.argumentName = argumentName;
+			event.exceptionType = exception.getClass();
+			event.commit();
+		}
+	}
+
+	@Override
+	public boolean isFailedEnabled() {
+		return CHECK_FAILED.isEnabled();
+	}
+
+}
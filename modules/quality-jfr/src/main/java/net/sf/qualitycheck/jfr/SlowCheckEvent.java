@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Event of an expensive check of a long input, like {@code matchesPattern}, {@code noNullElements}, {@code contains}
+ * or {@code isNumber}. The event is only recorded if the check took longer than the threshold of the recording, which
+ * is 1 ms by default and can be changed with the setting {@code net.sf.qualitycheck.SlowCheck#threshold}.
+ * 
+ * @author André Rouél
+ */
+@Name(SlowCheckEvent.NAME)
+@Label("Slow Check")
+@Category("Quality-Check")
+@Description("An expensive check of a long input has exceeded the threshold")
+@StackTrace(true)
+@Threshold("1 ms")
+final class SlowCheckEvent extends jdk.jfr.Event {
+
+	/**
+	 * Name of the event type
+	 */
+	static final String NAME = "net.sf.qualitycheck.SlowCheck";
+
+	@Label("Check")
+	@Description("Name of the check method, e.g. matchesPattern")
+	String check;
+
+	@Label("Size")
+	@Description("Number of elements or characters of the checked input")
+	long size;
+
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JfrCheckListenerTest {
+
+	private static List<RecordedEvent> events(final Recording recording, final String name) throws IOException {
+		final Path file = Files.createTempFile("quality-jfr", ".jfr");
+		try {
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream().filter(e -> e.getEventType().getName().equals(name))
+					.collect(Collectors.toList());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void checkFailed_isRecorded() throws IOException {
+		try (final Recording recording = new Recording()) {
+			recording.enable(CheckFailedEvent.NAME);
+			recording.start();
+			try {
+				Check.notNull(null, "reference");
+				Assert.fail();
+			} catch (final IllegalNullArgumentException e) {
+				// expected
+			}
+			recording.stop();
+
+			final List<RecordedEvent> events = events(recording, CheckFailedEvent.NAME);
+			Assert.assertEquals(1, events.size());
+			final RecordedEvent event = events.get(0);
+			Assert.assertEquals("notNull", event.getString("check"));
+			Assert.assertEquals("reference", event.getString("argumentName"));
+			Assert.assertEquals(IllegalNullArgumentException.class.getName(), event.getClass("exceptionType").getName());
+			Assert.assertTrue(event.getStackTrace().getFrames().stream()
+					.anyMatch(f -> f.getMethod().getType().getName().equals(getClass().getName())));
+		}
+	}
+
+	@Test
+	public void checkFailed_isEnabledByRecording() {
+		final JfrCheckListener listener = new JfrCheckListener();
+		Assert.assertFalse(listener.isFailedEnabled());
+		try (final Recording recording = new Recording()) {
+			recording.enable(CheckFailedEvent.NAME);
+			recording.start();
+			Assert.assertTrue(listener.isFailedEnabled());
+		}
+		Assert.assertFalse(listener.isFailedEnabled());
+	}
+
+	@Test
+	public void disabledEvents_areNotCreated() {
+		final JfrCheckListener listener = new JfrCheckListener();
+		Assert.assertNull(listener.expensiveCheckStarted("matchesPattern", 1000));
+		listener.failed("notNull", "reference", new IllegalNullArgumentException("reference"));
+	}
+
+	@Test
+	public void slowCheck_isRecordedAboveThreshold() throws IOException {
+		final char[] chars = new char[100000];
+		Arrays.fill(chars, 'a');
+		final String value = new String(chars);
+		try (final Recording recording = new Recording()) {
+			recording.enable(SlowCheckEvent.NAME).withThreshold(Duration.ZERO);
+			recording.start();
+			Check.matchesPattern(Pattern.compile("a*"), value, "value");
+			Check.matchesPattern(Pattern.compile("a*"), "aaa", "value");
+			recording.stop();
+
+			final List<RecordedEvent> events = events(recording, SlowCheckEvent.NAME);
+			Assert.assertEquals(1, events.size());
+			final RecordedEvent event = events.get(0);
+			Assert.assertEquals("matchesPattern", event.getString("check"));
+			Assert.assertEquals(value.length(), event.getLong("size"));
+			Assert.assertFalse(event.getDuration().isNegative());
+		}
+	}
+
+	@Test
+	public void slowCheck_isSkippedBelowThreshold() throws IOException {
+		final Object[] array = new Object[1000];
+		Arrays.fill(array, "a");
+		try (final Recording recording = new Recording()) {
+			recording.enable(SlowCheckEvent.NAME).withThreshold(Duration.ofDays(1));
+			recording.start();
+			Check.noNullElements(array, "array");
+			recording.stop();
+			Assert.assertTrue(events(recording, SlowCheckEvent.NAME).isEmpty());
+		}
+	}
+
+}
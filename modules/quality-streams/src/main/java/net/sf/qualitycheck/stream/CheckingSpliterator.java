@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.stream;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import net.sf.qualitycheck.ElementCheck;
+
+/**
+ * Spliterator which checks every element of its source before it is passed to the action of the consumer.
+ * 
+ * <p>
+ * The characteristics, the size estimation and the splitting are delegated to the source, so that a parallel stream
+ * splits the wrapped source in the same way as the source itself. The index of an element is only known as long as the
+ * source reports exact sizes for its splits, which is the case for {@link Spliterator#SUBSIZED} sources like arrays and
+ * array lists. Otherwise failures are reported without an index.
+ * 
+ * @param <T>
+ *            type of the elements
+ * 
+ * @author André Rouél
+ */
+@NotThreadSafe
+final class CheckingSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+	/**
+	 * Marker of an unknown index
+	 */
+	static final long UNKNOWN_INDEX = -1L;
+
+	/**
+	 * Action which receives the checked elements during a traversal
+	 */
+	@Nullable
+	private Consumer<? super T> action;
+
+	@Nonnull
+	private final ElementCheck<? super T> check;
+
+	/**
+	 * Index of the next element or {@link #UNKNOWN_INDEX}
+	 */
+	private long index;
+
+	@Nullable
+	private final String name;
+
+	@Nonnull
+	private final Spliterator<T> source;
+
+	CheckingSpliterator(@Nonnull final Spliterator<T> source, @Nonnull final ElementCheck<? super T> check, @Nullable final String name,
+			final long index) {
+		this.source = source;
+		this.check = check;
+		this.name = name;
+		this.index = index;
+	}
+
+	/**
+	 * Checks an element of the source and passes it to the action of the current traversal.
+	 * 
+	 * @param element
+	 *            element of the source
+	 */
+	@Override
+	public void accept(@Nullable final T element) {
+		if (index < 0) {
+			check.check(element, name, UNKNOWN_INDEX);
+		} else {
+			check.check(element, name, index++);
+		}
+		action.accept(element);
+	}
+
+	@Override
+	public int characteristics() {
+		return source.characteristics();
+	}
+
+	@Override
+	public long estimateSize() {
+		return source.estimateSize();
+	}
+
+	@Override
+	public void forEachRemaining(@Nonnull final Consumer<? super T> action) {
+		this.action = action;
+		try {
+			source.forEachRemaining(this);
+		} finally {
+			this.action = null;
+		}
+	}
+
+	@Override
+	public Comparator<? super T> getComparator() {
+		return source.getComparator();
+	}
+
+	@Override
+	public long getExactSizeIfKnown() {
+		return source.getExactSizeIfKnown();
+	}
+
+	@Override
+	public boolean hasCharacteristics(final int characteristics) {
+		return source.hasCharacteristics(characteristics);
+	}
+
+	@Override
+	public boolean tryAdvance(@Nonnull final Consumer<? super T> action) {
+		this.action = action;
+		try {
+			return source.tryAdvance(this);
+		} finally {
+			this.action = null;
+		}
+	}
+
+	/**
+	 * Splits the source. The prefix keeps the current index and the index of this spliterator is advanced by the exact
+	 * size of the prefix, or becomes unknown if the source cannot report it.
+	 * 
+	 * @return a checking spliterator which covers the prefix of the elements or {@code null} if the source cannot be
+	 *         split
+	 */
+	@Override
+	@Nullable
+	public Spliterator<T> trySplit() {
+		final Spliterator<T> prefix = source.trySplit();
+		if (prefix == null) {
+			return null;
+		}
+		final long start = index;
+		if (index >= 0) {
+			final long size = prefix.getExactSizeIfKnown();
+			index = size < 0 ? UNKNOWN_INDEX : index + size;
+		}
+		return new CheckingSpliterator<T>(prefix, check, name, start);
+	}
+
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.stream;
+
+import java.util.Spliterator;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.ArgumentsChecked;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ElementCheck;
+import net.sf.qualitycheck.Throws;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+/**
+ * This class offers wrappers of {@code Spliterator} and {@code Stream}, which check every element when it is consumed.
+ * 
+ * <p>
+ * The wrappers are the counterpart of {@link net.sf.qualitycheck.LazyCheck} for Java 8. They keep the characteristics of
+ * the source, so that a parallel stream is split as before, and a check adds no further traversal and no buffering to
+ * the pipeline. Failures are reported with the index of the element as long as the source knows the exact sizes of its
+ * splits. Be aware that a parallel stream may rethrow a failure of another thread as a new exception of the same type,
+ * whose cause is the original exception with the index.
+ * 
+ * <pre>
+ * final long total = StreamCheck.inRange(0L, 1000L, amounts, &quot;amounts&quot;).mapToLong(Long::longValue).sum();
+ * </pre>
+ * 
+ * @author André Rouél
+ */
+public final class StreamCheck {
+
+	/**
+	 * Wraps a {@code Spliterator}, so that every element is checked when it is consumed.
+	 * 
+	 * @param spliterator
+	 *            the spliterator whose elements should be checked
+	 * @param check
+	 *            check of a single element
+	 * @param name
+	 *            name of the spliterator reference (in source code)
+	 * @return a spliterator with the characteristics of the passed one, which checks every element it passes on
+	 * @throws IllegalNullArgumentException
+	 *             if the given spliterator or check is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T> Spliterator<T> check(@Nonnull final Spliterator<T> spliterator, @Nonnull final ElementCheck<? super T> check,
+			@Nullable final String name) {
+		Check.notNull(spliterator, "spliterator");
+		Check.notNull(check, "check");
+		return new CheckingSpliterator<T>(spliterator, check, name, 0L);
+	}
+
+	/**
+	 * Wraps a {@code Stream}, so that every element is checked when it is consumed. The returned stream is parallel if the
+	 * passed one is and closing it closes the passed stream.
+	 * 
+	 * @param stream
+	 *            the stream whose elements should be checked
+	 * @param check
+	 *            check of a single element
+	 * @param name
+	 *            name of the stream reference (in source code)
+	 * @return a stream which checks every element it passes on
+	 * @throws IllegalNullArgumentException
+	 *             if the given stream or check is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T> Stream<T> check(@Nonnull final Stream<T> stream, @Nonnull final ElementCheck<? super T> check,
+			@Nullable final String name) {
+		Check.notNull(stream, "stream");
+		Check.notNull(check, "check");
+		final Spliterator<T> spliterator = new CheckingSpliterator<T>(stream.spliterator(), check, name, 0L);
+		return StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close);
+	}
+
+	/**
+	 * Wraps a {@code Spliterator}, so that every element is checked to be a number within the range from {@code min} to
+	 * {@code max} (both inclusive) when it is consumed.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param spliterator
+	 *            the spliterator whose elements should be checked
+	 * @param name
+	 *            name of the spliterator reference (in source code)
+	 * @return a spliterator which throws an {@link IllegalNumberRangeException} for an element out of range
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments except the name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends Number & Comparable<T>> Spliterator<T> inRange(@Nonnull final T min, @Nonnull final T max,
+			@Nonnull final Spliterator<T> spliterator, @Nullable final String name) {
+		return check(spliterator, ElementCheck.inRange(min, max), name);
+	}
+
+	/**
+	 * Wraps a {@code Stream}, so that every element is checked to be a number within the range from {@code min} to
+	 * {@code max} (both inclusive) when it is consumed.
+	 * 
+	 * @param min
+	 *            lowest allowed value
+	 * @param max
+	 *            highest allowed value
+	 * @param stream
+	 *            the stream whose elements should be checked
+	 * @param name
+	 *            name of the stream reference (in source code)
+	 * @return a stream which throws an {@link IllegalNumberRangeException} for an element out of range
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments except the name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends Number & Comparable<T>> Stream<T> inRange(@Nonnull final T min, @Nonnull final T max,
+			@Nonnull final Stream<T> stream, @Nullable final String name) {
+		return check(stream, ElementCheck.inRange(min, max), name);
+	}
+
+	/**
+	 * Wraps a {@code Spliterator}, so that every element is checked to match the passed pattern when it is consumed.
+	 * 
+	 * @param pattern
+	 *            pattern, that the elements must correspond to
+	 * @param spliterator
+	 *            the spliterator whose elements should be checked
+	 * @param name
+	 *            name of the spliterator reference (in source code)
+	 * @return a spliterator which throws an {@link IllegalPatternArgumentException} for a mismatching element
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments except the name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends CharSequence> Spliterator<T> matchesPattern(@Nonnull final Pattern pattern,
+			@Nonnull final Spliterator<T> spliterator, @Nullable final String name) {
+		return check(spliterator, ElementCheck.<T> matchesPattern(pattern), name);
+	}
+
+	/**
+	 * Wraps a {@code Stream}, so that every element is checked to match the passed pattern when it is consumed.
+	 * 
+	 * @param pattern
+	 *            pattern, that the elements must correspond to
+	 * @param stream
+	 *            the stream whose elements should be checked
+	 * @param name
+	 *            name of the stream reference (in source code)
+	 * @return a stream which throws an {@link IllegalPatternArgumentException} for a mismatching element
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments except the name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T extends CharSequence> Stream<T> matchesPattern(@Nonnull final Pattern pattern, @Nonnull final Stream<T> stream,
+			@Nullable final String name) {
+		return check(stream, ElementCheck.<T> matchesPattern(pattern), name);
+	}
+
+	/**
+	 * Wraps a {@code Spliterator}, so that every element is checked not to be {@code null} when it is consumed.
+	 * 
+	 * @param spliterator
+	 *            the spliterator whose elements should be checked
+	 * @param name
+	 *            name of the spliterator reference (in source code)
+	 * @return a spliterator which throws an {@link IllegalNullElementsException} for an element that is {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given spliterator is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T> Spliterator<T> noNullElements(@Nonnull final Spliterator<T> spliterator, @Nullable final String name) {
+		return check(spliterator, ElementCheck.<T> notNull(), name);
+	}
+
+	/**
+	 * Wraps a {@code Stream}, so that every element is checked not to be {@code null} when it is consumed.
+	 * 
+	 * @param stream
+	 *            the stream whose elements should be checked
+	 * @param name
+	 *            name of the stream reference (in source code)
+	 * @return a stream which throws an {@link IllegalNullElementsException} for an element that is {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given stream is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nonnull
+	public static <T> Stream<T> noNullElements(@Nonnull final Stream<T> stream, @Nullable final String name) {
+		return check(stream, ElementCheck.<T> notNull(), name);
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private StreamCheck() {
+		// This class is not intended to create objects from it.
+	}
+
+}
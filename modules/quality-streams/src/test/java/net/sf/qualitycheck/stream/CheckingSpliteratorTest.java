@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import net.sf.qualitycheck.ElementCheck;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckingSpliteratorTest {
+
+	private static <T> CheckingSpliterator<T> wrap(final Spliterator<T> source) {
+		return new CheckingSpliterator<T>(source, ElementCheck.<T> notNull(), "values", 0L);
+	}
+
+	@Test
+	public void characteristics_areKept() {
+		final Spliterator<String> source = Arrays.asList("a", "b").spliterator();
+		final Spliterator<String> spliterator = wrap(source);
+		Assert.assertEquals(source.characteristics(), spliterator.characteristics());
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+		Assert.assertEquals(2L, spliterator.estimateSize());
+		Assert.assertEquals(2L, spliterator.getExactSizeIfKnown());
+	}
+
+	@Test
+	public void getComparator_isDelegated() {
+		final TreeSet<String> set = new TreeSet<String>(Comparator.reverseOrder());
+		set.add("a");
+		Assert.assertSame(set.comparator(), wrap(set.spliterator()).getComparator());
+	}
+
+	@Test
+	public void trySplit_indexOfPrefixAndRemainder() {
+		final List<String> values = new ArrayList<String>();
+		for (int i = 0; i < 100; i++) {
+			values.add(i == 10 || i == 90 ? null : "a");
+		}
+		final Spliterator<String> remainder = wrap(values.spliterator());
+		final Spliterator<String> prefix = remainder.trySplit();
+		try {
+			prefix.forEachRemaining(e -> {
+			});
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(10L, e.getIndex());
+		}
+		try {
+			remainder.forEachRemaining(e -> {
+			});
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(90L, e.getIndex());
+		}
+	}
+
+	@Test
+	public void trySplit_notSplittable() {
+		final Spliterator<String> spliterator = wrap(Spliterators.<String> emptySpliterator());
+		Assert.assertNull(spliterator.trySplit());
+	}
+
+	@Test
+	public void trySplit_unknownSizes() {
+		final LinkedHashSet<String> values = new LinkedHashSet<String>(Arrays.asList("a", "b", null));
+		final Spliterator<String> remainder = wrap(Spliterators.spliteratorUnknownSize(values.iterator(), 0));
+		final Spliterator<String> prefix = remainder.trySplit();
+		Assert.assertNotNull(prefix);
+		try {
+			prefix.forEachRemaining(e -> {
+			});
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(2L, e.getIndex());
+		}
+		Assert.assertFalse(remainder.tryAdvance(e -> {
+		}));
+	}
+
+	@Test
+	public void trySplit_unknownSizeOfPrefix() {
+		final Spliterator<String> source = new Spliterators.AbstractSpliterator<String>(Long.MAX_VALUE, 0) {
+			@Override
+			public boolean tryAdvance(final Consumer<? super String> action) {
+				action.accept(null);
+				return true;
+			}
+
+			@Override
+			public Spliterator<String> trySplit() {
+				return Spliterators.spliteratorUnknownSize(Arrays.asList("a").iterator(), 0);
+			}
+		};
+		final Spliterator<String> remainder = wrap(source);
+		Assert.assertEquals(-1L, remainder.trySplit().getExactSizeIfKnown());
+		Assert.assertNotNull(remainder.trySplit());
+		try {
+			remainder.tryAdvance(e -> {
+			});
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(IllegalNullElementsException.UNKNOWN_INDEX, e.getIndex());
+			Assert.assertEquals("The passed argument 'values' must not contain elements that are null.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void trySplit_unknownSizeOfSource() {
+		final List<String> values = new ArrayList<String>();
+		for (int i = 0; i < 5000; i++) {
+			values.add("a");
+		}
+		values.add(null);
+		final Spliterator<String> remainder = wrap(Spliterators.spliteratorUnknownSize(values.iterator(), 0));
+		Assert.assertEquals(1024L, remainder.trySplit().estimateSize());
+		try {
+			remainder.forEachRemaining(e -> {
+			});
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(5000L, e.getIndex());
+		}
+	}
+
+	@Test
+	public void tryAdvance_checksEveryElement() {
+		final Spliterator<String> spliterator = wrap(Arrays.asList("a", null).spliterator());
+		final List<String> consumed = new ArrayList<String>();
+		Assert.assertTrue(spliterator.tryAdvance(consumed::add));
+		try {
+			spliterator.tryAdvance(consumed::add);
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(1L, e.getIndex());
+		}
+		Assert.assertEquals(Arrays.asList("a"), consumed);
+	}
+
+}
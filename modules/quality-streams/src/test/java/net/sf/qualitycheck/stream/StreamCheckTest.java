@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.stream;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import net.sf.qualitycheck.ElementCheck;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamCheckTest {
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_spliterator_withNullCheck() {
+		StreamCheck.check(Arrays.asList("a").spliterator(), null, "values");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_spliterator_withNullSpliterator() {
+		StreamCheck.check((Spliterator<String>) null, ElementCheck.notNull(), "values");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_stream_withNullCheck() {
+		StreamCheck.check(Stream.of("a"), null, "values");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_stream_withNullStream() {
+		StreamCheck.check((Stream<String>) null, ElementCheck.notNull(), "values");
+	}
+
+	@Test
+	public void check_stream_closesSource() {
+		final AtomicBoolean closed = new AtomicBoolean();
+		final Stream<String> stream = StreamCheck.noNullElements(Stream.of("a").onClose(() -> closed.set(true)), "values");
+		stream.close();
+		Assert.assertTrue(closed.get());
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<StreamCheck> constructor = StreamCheck.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void inRange_spliterator() {
+		final Spliterator<Integer> spliterator = StreamCheck.inRange(0, 10, Arrays.asList(1, 11).spliterator(), "values");
+		Assert.assertTrue(spliterator.tryAdvance(e -> {
+		}));
+		try {
+			spliterator.tryAdvance(e -> {
+			});
+			Assert.fail();
+		} catch (final IllegalNumberRangeException e) {
+			Assert.assertEquals("Argument 'values[1]' with value '11' must be in the range '0' to '10'.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void inRange_stream() {
+		Assert.assertEquals(6, StreamCheck.inRange(0, 10, Stream.of(1, 2, 3), "values").mapToInt(Integer::intValue).sum());
+	}
+
+	@Test
+	public void matchesPattern_spliterator() {
+		final Spliterator<String> spliterator = StreamCheck.matchesPattern(Pattern.compile("[a-z]+"), Arrays.asList("ab")
+				.spliterator(), "names");
+		Assert.assertTrue(spliterator.tryAdvance(e -> {
+		}));
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void matchesPattern_stream() {
+		StreamCheck.matchesPattern(Pattern.compile("[a-z]+"), Stream.of("ab", "a1"), "names").count();
+	}
+
+	@Test
+	public void noNullElements_parallelStream_reportsIndex() {
+		final List<String> values = new ArrayList<String>();
+		for (int i = 0; i < 100000; i++) {
+			values.add(i == 77777 ? null : "a");
+		}
+		final Stream<String> stream = StreamCheck.noNullElements(values.parallelStream(), "values");
+		Assert.assertTrue(stream.isParallel());
+		try {
+			stream.forEach(e -> {
+			});
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			// the fork/join framework may rethrow a copy of the exception whose cause is the original
+			final IllegalNullElementsException original = e.getCause() instanceof IllegalNullElementsException ? (IllegalNullElementsException) e
+					.getCause() : e;
+			Assert.assertEquals(77777L, original.getIndex());
+		}
+	}
+
+	@Test
+	public void noNullElements_parallelStream_pass() {
+		final List<Integer> values = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+		Assert.assertEquals(values, StreamCheck.noNullElements(values.parallelStream(), "values").collect(Collectors.toList()));
+	}
+
+	@Test
+	public void noNullElements_spliterator() {
+		final Spliterator<String> spliterator = StreamCheck.noNullElements(Arrays.asList("a", "b").spliterator(), "values");
+		final List<String> consumed = new ArrayList<String>();
+		spliterator.forEachRemaining(consumed::add);
+		Assert.assertEquals(Arrays.asList("a", "b"), consumed);
+	}
+
+	@Test
+	public void noNullElements_stream_isLazy() {
+		final Stream<String> stream = StreamCheck.noNullElements(Stream.of("a", null), "values");
+		try {
+			stream.forEach(e -> {
+			});
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals(1L, e.getIndex());
+			Assert.assertFalse(StreamCheck.noNullElements(Stream.of("a", null), "values").isParallel());
+		}
+		Assert.assertEquals("a", StreamCheck.noNullElements(Stream.of("a", null), "values").findFirst().get());
+	}
+
+}
@@ -15,15 +15,14 @@
  ******************************************************************************/
 package net.sf.qualitytest.blueprint;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-
 import javax.annotation.Nonnull;
 
 import net.sf.qualitycheck.ArgumentsChecked;
 import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.ExceptionFactories;
 import net.sf.qualitycheck.Throws;
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.RuntimeInstantiationException;
 import net.sf.qualitytest.exception.BlueprintException;
 
 /**
@@ -55,8 +54,8 @@ public final class SafeInvoke {
 	private static RuntimeException createException(final Throwable e, final Class<? extends RuntimeException> exceptionClass) {
 		if (!exceptionClass.isInstance(e)) {
 			try {
-				return createExceptionInternal(e, exceptionClass);
-			} catch (final Exception exception) {
+				return ExceptionFactories.of(exceptionClass).create(e);
+			} catch (final RuntimeInstantiationException exception) {
 				throw new BlueprintException(exception);
 			}
 		} else {
@@ -64,19 +63,6 @@ public final class SafeInvoke {
 		}
 	}
 
-	private static RuntimeException createExceptionInternal(final Throwable e, final Class<? extends RuntimeException> exceptionClass)
-			throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		final Constructor<?>[] constructors = exceptionClass.getDeclaredConstructors();
-		for (final Constructor<?> c : constructors) {
-			final Class<?>[] parameterTypes = c.getParameterTypes();
-			if (parameterTypes.length == 1 && parameterTypes[0] == Throwable.class) {
-				return (RuntimeException) c.newInstance(e);
-			}
-		}
-
-		return exceptionClass.newInstance();
-	}
-
 	/**
 	 * Safely invoke a method on an object without having to care about checked exceptions. The runnable is executed and
 	 * every exception is converted into a {@code BlueprintException}.